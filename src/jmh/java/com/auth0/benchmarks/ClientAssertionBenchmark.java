@@ -0,0 +1,63 @@
+package com.auth0.benchmarks;
+
+import com.auth0.client.auth.PresignedClientAssertionSigner;
+import com.auth0.client.auth.RSAClientAssertionSigner;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.RSAPrivateKey;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Latency of obtaining an RS256 client assertion on the request path, signed on the calling thread or taken from the
+ * pool of a {@link PresignedClientAssertionSigner}. The pool is large enough for the background thread to keep up
+ * with a single benchmark thread on a multi-core host.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ClientAssertionBenchmark {
+    private static final String CLIENT_ID = "client-id";
+    private static final String AUDIENCE = "https://tenant.auth0.com/";
+
+    private RSAClientAssertionSigner rsaSigner;
+    private PresignedClientAssertionSigner presignedSigner;
+
+    @Setup
+    public void setup() throws NoSuchAlgorithmException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        rsaSigner = new RSAClientAssertionSigner(
+                (RSAPrivateKey) generator.generateKeyPair().getPrivate());
+        presignedSigner = new PresignedClientAssertionSigner(rsaSigner, 256, Duration.ofSeconds(60));
+    }
+
+    @TearDown
+    public void tearDown() {
+        presignedSigner.close();
+    }
+
+    @Benchmark
+    public String signOnCallingThread() {
+        return rsaSigner.createSignedClientAssertion(CLIENT_ID, AUDIENCE, CLIENT_ID);
+    }
+
+    @Benchmark
+    public String takePresigned() {
+        return presignedSigner.createSignedClientAssertion(CLIENT_ID, AUDIENCE, CLIENT_ID);
+    }
+}
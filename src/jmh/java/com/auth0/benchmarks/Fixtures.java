@@ -0,0 +1,53 @@
+package com.auth0.benchmarks;
+
+/**
+ * Response payloads shared by the benchmarks, shaped like real Management API responses.
+ */
+final class Fixtures {
+    static final int PAGE_SIZE = 50;
+
+    private Fixtures() {}
+
+    static String user(int index) {
+        return "{\"user_id\":\"auth0|" + index + "\","
+                + "\"email\":\"user" + index + "@example.com\","
+                + "\"email_verified\":true,"
+                + "\"username\":\"user" + index + "\","
+                + "\"name\":\"User " + index + "\","
+                + "\"nickname\":\"user" + index + "\","
+                + "\"picture\":\"https://s.gravatar.com/avatar/" + index + ".png\","
+                + "\"created_at\":\"2024-01-01T00:00:00.000Z\","
+                + "\"updated_at\":\"2024-06-01T12:30:00.000Z\","
+                + "\"last_login\":\"2024-06-01T12:30:00.000Z\","
+                + "\"last_ip\":\"192.0.2.1\","
+                + "\"logins_count\":" + index + ","
+                + "\"identities\":[{\"connection\":\"Username-Password-Authentication\",\"user_id\":\"" + index
+                + "\",\"provider\":\"auth0\",\"isSocial\":false}],"
+                + "\"app_metadata\":{\"plan\":\"enterprise\",\"roles\":[\"admin\",\"billing\"]},"
+                + "\"user_metadata\":{\"locale\":\"en-US\",\"theme\":\"dark\"}}";
+    }
+
+    static String userPage(int start) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("{\"start\":")
+                .append(start)
+                .append(",\"limit\":")
+                .append(PAGE_SIZE)
+                .append(",\"length\":")
+                .append(PAGE_SIZE)
+                .append(",\"total\":")
+                .append(start + PAGE_SIZE)
+                .append(",\"users\":[");
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(user(start + i));
+        }
+        return sb.append("]}").toString();
+    }
+
+    static String userInfo() {
+        return "{\"sub\":\"auth0|1\",\"name\":\"User 1\",\"email\":\"user1@example.com\",\"email_verified\":true}";
+    }
+}
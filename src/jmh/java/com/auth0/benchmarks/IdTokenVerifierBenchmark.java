@@ -0,0 +1,143 @@
+package com.auth0.benchmarks;
+
+import com.auth0.exception.IdTokenValidationException;
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.utils.tokens.IdTokenVerifier;
+import com.auth0.utils.tokens.SignatureVerifier;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Verification of RS256 and HS256 signed ID tokens, including the signature check and all claim checks, one at a
+ * time, with the signature of an already verified token served from a cache, and in batches of {@value #BATCH_SIZE} RS256 tokens, sequentially and with {@link IdTokenVerifier#verifyAll}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IdTokenVerifierBenchmark {
+    private static final String ISSUER = "https://tenant.auth0.com/";
+    private static final String AUDIENCE = "client-id";
+    private static final String NONCE = "nonce";
+    private static final String SECRET = "a-secret-that-is-long-enough-for-hs256";
+    private static final String ORGANIZATION = "Acme";
+    static final int BATCH_SIZE = 64;
+
+    private IdTokenVerifier rs256Verifier;
+    private IdTokenVerifier hs256Verifier;
+    private IdTokenVerifier cachingRs256Verifier;
+    private String rs256Token;
+    private String hs256Token;
+    private IdTokenVerifier orgVerifier;
+    private String orgToken;
+    private List<String> rs256Batch;
+
+    @Setup
+    public void setup() throws NoSuchAlgorithmException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        KeyPair keyPair = generator.generateKeyPair();
+        RSAPublicKey publicKey = (RSAPublicKey) keyPair.getPublic();
+
+        rs256Token = token(Algorithm.RSA256(publicKey, (RSAPrivateKey) keyPair.getPrivate()));
+        hs256Token = token(Algorithm.HMAC256(SECRET));
+        rs256Verifier = IdTokenVerifier.init(ISSUER, AUDIENCE, SignatureVerifier.forRS256(keyId -> publicKey))
+                .build();
+        hs256Verifier = IdTokenVerifier.init(ISSUER, AUDIENCE, SignatureVerifier.forHS256(SECRET))
+                .build();
+        cachingRs256Verifier = IdTokenVerifier.init(ISSUER, AUDIENCE, SignatureVerifier.forRS256(keyId -> publicKey))
+                .withVerifiedTokenCache(1000, Duration.ofMinutes(5))
+                .build();
+        orgVerifier = IdTokenVerifier.init(ISSUER, AUDIENCE, SignatureVerifier.forHS256(SECRET))
+                .withOrganization(ORGANIZATION)
+                .build();
+        orgToken = JWT.create()
+                .withIssuer(ISSUER)
+                .withSubject("auth0|1")
+                .withAudience(AUDIENCE)
+                .withIssuedAt(new Date())
+                .withExpiresAt(new Date(System.currentTimeMillis() + TimeUnit.DAYS.toMillis(1)))
+                .withClaim("org_name", ORGANIZATION.toLowerCase())
+                .sign(Algorithm.HMAC256(SECRET));
+
+        Algorithm rs256 = Algorithm.RSA256(publicKey, (RSAPrivateKey) keyPair.getPrivate());
+        rs256Batch = new ArrayList<>();
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            rs256Batch.add(token(rs256, "auth0|" + i));
+        }
+    }
+
+    private static String token(Algorithm algorithm) {
+        return token(algorithm, "auth0|1");
+    }
+
+    private static String token(Algorithm algorithm, String subject) {
+        long now = System.currentTimeMillis();
+        return JWT.create()
+                .withKeyId("key-id")
+                .withIssuer(ISSUER)
+                .withSubject(subject)
+                .withAudience(AUDIENCE)
+                .withIssuedAt(new Date(now))
+                .withExpiresAt(new Date(now + TimeUnit.DAYS.toMillis(1)))
+                .withClaim("nonce", NONCE)
+                .sign(algorithm);
+    }
+
+    @Benchmark
+    public void verifyRs256() throws IdTokenValidationException {
+        rs256Verifier.verify(rs256Token, NONCE);
+    }
+
+    @Benchmark
+    public void verifyRs256Cached() throws IdTokenValidationException {
+        cachingRs256Verifier.verify(rs256Token, NONCE);
+    }
+
+    @Benchmark
+    public void verifyHs256() throws IdTokenValidationException {
+        hs256Verifier.verify(hs256Token, NONCE);
+    }
+
+    @Benchmark
+    public void verifyHs256WithOrganization() throws IdTokenValidationException {
+        orgVerifier.verify(orgToken);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void verifyRs256BatchSequentially() throws IdTokenValidationException {
+        for (String token : rs256Batch) {
+            rs256Verifier.verify(token);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public Map<String, IdTokenValidationException> verifyRs256BatchWithVerifyAll() {
+        return rs256Verifier.verifyAll(rs256Batch);
+    }
+}
@@ -0,0 +1,58 @@
+package com.auth0.benchmarks;
+
+import com.auth0.client.mgmt.core.ObjectMappers;
+import com.auth0.client.mgmt.types.ListUsersOffsetPaginatedResponseContent;
+import com.auth0.client.mgmt.types.UserResponseSchema;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import okhttp3.MediaType;
+import okhttp3.ResponseBody;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Deserialization of a page of users and serialization of a single user with the Management API object mapper.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonBenchmark {
+    private static final MediaType JSON = MediaType.get("application/json");
+
+    private byte[] userPage;
+    private UserResponseSchema user;
+
+    @Setup
+    public void setup() throws IOException {
+        userPage = Fixtures.userPage(0).getBytes(StandardCharsets.UTF_8);
+        user = ObjectMappers.JSON_MAPPER.readValue(Fixtures.user(1), UserResponseSchema.class);
+    }
+
+    @Benchmark
+    public ListUsersOffsetPaginatedResponseContent deserializeUserList() throws IOException {
+        return ObjectMappers.JSON_MAPPER.readValue(userPage, ListUsersOffsetPaginatedResponseContent.class);
+    }
+
+    @Benchmark
+    public ListUsersOffsetPaginatedResponseContent deserializeUserListFromResponseBody() throws IOException {
+        return ObjectMappers.readValue(
+                ResponseBody.create(userPage, JSON), ListUsersOffsetPaginatedResponseContent.class);
+    }
+
+    @Benchmark
+    public byte[] serializeUser() throws IOException {
+        return ObjectMappers.JSON_MAPPER.writeValueAsBytes(user);
+    }
+}
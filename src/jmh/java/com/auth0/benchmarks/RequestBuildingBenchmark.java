@@ -0,0 +1,120 @@
+package com.auth0.benchmarks;
+
+import com.auth0.client.mgmt.core.ClientOptions;
+import com.auth0.client.mgmt.core.Environment;
+import com.auth0.client.mgmt.core.QueryStringMapper;
+import com.auth0.client.mgmt.core.RequestOptions;
+import com.auth0.client.mgmt.types.ActionBuildStatusEnum;
+import com.auth0.exception.Auth0Exception;
+import com.auth0.net.BaseRequest;
+import com.auth0.net.client.Auth0HttpRequest;
+import com.auth0.net.client.HttpMethod;
+import com.fasterxml.jackson.core.type.TypeReference;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import okhttp3.Headers;
+import okhttp3.HttpUrl;
+import okhttp3.Request;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Building a request with headers and query parameters, the way the generated Management API clients and the
+ * legacy {@link BaseRequest} do it, without sending it.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RequestBuildingBenchmark {
+    private ClientOptions clientOptions;
+    private RequestOptions requestOptions;
+    private Map<String, Object> filter;
+
+    @Setup
+    public void setup() {
+        clientOptions = ClientOptions.builder()
+                .environment(Environment.custom("https://tenant.auth0.com/api/v2"))
+                .addHeader("Authorization", "Bearer token")
+                .addHeader("X-Request-Id", () -> "request-id")
+                .build();
+        requestOptions =
+                RequestOptions.builder().addHeader("X-Tenant", "tenant").build();
+        filter = new LinkedHashMap<>();
+        filter.put("connection", "Username-Password-Authentication");
+        filter.put("roles", Arrays.asList("admin", "billing"));
+        filter.put("blocked", false);
+    }
+
+    @Benchmark
+    public Request generatedClientRequest() {
+        HttpUrl.Builder httpUrl =
+                HttpUrl.parse(clientOptions.environment().getUrl()).newBuilder().addPathSegments("users");
+        QueryStringMapper.addQueryParameter(httpUrl, "page", 3, false);
+        QueryStringMapper.addQueryParameter(httpUrl, "per_page", 50, false);
+        QueryStringMapper.addQueryParameter(httpUrl, "include_totals", true, false);
+        QueryStringMapper.addQueryParameter(httpUrl, "sort", "created_at:1", false);
+        QueryStringMapper.addQueryParameter(httpUrl, "q", "email:\"user@example.com\"", false);
+        return new Request.Builder()
+                .url(httpUrl.build())
+                .method("GET", null)
+                .headers(Headers.of(clientOptions.headers(requestOptions)))
+                .addHeader("Accept", "application/json")
+                .build();
+    }
+
+    @Benchmark
+    public HttpUrl scalarQueryParameters() {
+        HttpUrl.Builder httpUrl =
+                HttpUrl.parse("https://tenant.auth0.com/api/v2/users").newBuilder();
+        QueryStringMapper.addQueryParameter(httpUrl, "page", 3, false);
+        QueryStringMapper.addQueryParameter(httpUrl, "per_page", 50, false);
+        QueryStringMapper.addQueryParameter(httpUrl, "include_totals", true, false);
+        QueryStringMapper.addQueryParameter(httpUrl, "sort", "created_at:1", false);
+        QueryStringMapper.addQueryParameter(httpUrl, "status", ActionBuildStatusEnum.BUILT, false);
+        return httpUrl.build();
+    }
+
+    @Benchmark
+    public HttpUrl objectQueryParameter() {
+        HttpUrl.Builder httpUrl =
+                HttpUrl.parse("https://tenant.auth0.com/api/v2/users").newBuilder();
+        QueryStringMapper.addQueryParameter(httpUrl, "filter", filter, false);
+        return httpUrl.build();
+    }
+
+    @Benchmark
+    public Auth0HttpRequest legacyRequest() throws Auth0Exception {
+        PreparedRequest request = new PreparedRequest("https://tenant.auth0.com/api/v2/users");
+        request.addHeader("X-Tenant", "tenant");
+        request.addParameter("page", 3);
+        request.addParameter("per_page", 50);
+        request.addParameter("include_totals", true);
+        return request.prepare("token");
+    }
+
+    /**
+     * Exposes {@link BaseRequest#createRequest(String)}, which builds the request without executing it.
+     */
+    private static final class PreparedRequest extends BaseRequest<Map<String, Object>> {
+        PreparedRequest(String url) {
+            super(null, null, url, HttpMethod.POST, new TypeReference<Map<String, Object>>() {});
+        }
+
+        Auth0HttpRequest prepare(String apiToken) throws Auth0Exception {
+            return createRequest(apiToken);
+        }
+    }
+}
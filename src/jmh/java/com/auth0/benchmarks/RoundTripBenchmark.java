@@ -0,0 +1,120 @@
+package com.auth0.benchmarks;
+
+import com.auth0.client.auth.AuthAPI;
+import com.auth0.client.mgmt.ManagementApi;
+import com.auth0.client.mgmt.core.SyncPagingIterable;
+import com.auth0.client.mgmt.types.ListUsersRequestParameters;
+import com.auth0.client.mgmt.types.UserResponseSchema;
+import com.auth0.exception.Auth0Exception;
+import com.auth0.json.auth.UserInfo;
+import com.auth0.net.client.DefaultHttpClient;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Full round trips against a local {@link MockWebServer}: request building, the interceptor chain, the HTTP
+ * exchange and response parsing, for both the generated Management API client and the legacy
+ * {@link DefaultHttpClient} stack. The in-memory variant answers from the end of the interceptor chain instead of
+ * a socket, which keeps loopback latency out of the score and isolates the SDK's own cost per request.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RoundTripBenchmark {
+    private MockWebServer server;
+    private ManagementApi managementApi;
+    private ManagementApi inMemoryManagementApi;
+    private AuthAPI authApi;
+    private ListUsersRequestParameters listUsers;
+
+    @Setup
+    public void setup() throws IOException {
+        String userPage = Fixtures.userPage(0);
+        String userInfo = Fixtures.userInfo();
+        server = new MockWebServer();
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                String body = request.getPath().startsWith("/userinfo") ? userInfo : userPage;
+                return new MockResponse()
+                        .setResponseCode(200)
+                        .setHeader("Content-Type", "application/json")
+                        .setBody(body);
+            }
+        });
+        server.start();
+
+        managementApi = ManagementApi.builder()
+                .url(server.url("/api/v2").toString())
+                .token("token")
+                .build();
+        byte[] userPageBytes = userPage.getBytes(StandardCharsets.UTF_8);
+        MediaType json = MediaType.get("application/json");
+        OkHttpClient inMemoryClient = new OkHttpClient.Builder()
+                .addInterceptor(chain -> new Response.Builder()
+                        .request(chain.request())
+                        .protocol(Protocol.HTTP_1_1)
+                        .code(200)
+                        .message("OK")
+                        .body(ResponseBody.create(userPageBytes, json))
+                        .build())
+                .build();
+        inMemoryManagementApi = ManagementApi.builder()
+                .url("https://tenant.auth0.com/api/v2")
+                .token("token")
+                .httpClient(inMemoryClient)
+                .build();
+        authApi = AuthAPI.newBuilder(server.url("/").toString(), "client-id")
+                .withHttpClient(DefaultHttpClient.newBuilder().build())
+                .build();
+        listUsers = ListUsersRequestParameters.builder()
+                .page(0)
+                .perPage(Fixtures.PAGE_SIZE)
+                .includeTotals(true)
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        server.shutdown();
+    }
+
+    @Benchmark
+    public SyncPagingIterable<UserResponseSchema> generatedClientListUsers() {
+        return managementApi.users().list(listUsers);
+    }
+
+    @Benchmark
+    public SyncPagingIterable<UserResponseSchema> generatedClientListUsersInMemory() {
+        return inMemoryManagementApi.users().list(listUsers);
+    }
+
+    @Benchmark
+    public UserInfo defaultHttpClientUserInfo() throws Auth0Exception {
+        return authApi.userInfo("token").execute().getBody();
+    }
+}
@@ -0,0 +1,275 @@
+package com.auth0.client;
+
+import com.auth0.client.mgmt.core.ClientOptions;
+import com.auth0.net.client.DefaultHttpClient;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Connection pool, concurrency and protocol settings for the HTTP clients of the Authentication and Management
+ * APIs.
+ * <p>
+ * An instance owns one connection pool and one dispatcher. Every client configured with the same instance, through
+ * {@link DefaultHttpClient.Builder#withConnectionOptions(ConnectionOptions)} or
+ * {@link com.auth0.client.mgmt.ManagementApiBuilder#connectionOptions(ConnectionOptions)}, shares them: connections
+ * to the tenant domain are reused across clients, and the concurrency limits apply to all of them together.
+ * </p>
+ * <pre>{@code
+ * ConnectionOptions connections = ConnectionOptions.builder()
+ *         .maxRequestsPerHost(32)
+ *         .maxIdleConnections(16)
+ *         .prewarmConnections(4)
+ *         .build();
+ * }</pre>
+ * <p>
+ * Defaults:
+ * </p>
+ * <ul>
+ *   <li>maxRequests: 64</li>
+ *   <li>maxRequestsPerHost: 64</li>
+ *   <li>maxIdleConnections: 5</li>
+ *   <li>keepAlive: 5 minutes</li>
+ *   <li>preferHttp2: {@code true}</li>
+ *   <li>prewarmConnections: 0, no connections are opened ahead of the first request</li>
+ * </ul>
+ */
+public final class ConnectionOptions {
+
+    private final ConnectionPool connectionPool;
+    private final Dispatcher dispatcher;
+    private final List<Protocol> protocols;
+    private final int prewarmConnections;
+    private final List<String> prewarmUrls;
+    private final Set<String> prewarmedOrigins = ConcurrentHashMap.newKeySet();
+
+    private ConnectionOptions(Builder builder) {
+        this.connectionPool =
+                new ConnectionPool(builder.maxIdleConnections, builder.keepAlive.toMillis(), TimeUnit.MILLISECONDS);
+        this.dispatcher = new Dispatcher();
+        this.dispatcher.setMaxRequests(builder.maxRequests);
+        this.dispatcher.setMaxRequestsPerHost(builder.maxRequestsPerHost);
+        this.protocols = builder.preferHttp2
+                ? Collections.unmodifiableList(Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1))
+                : Collections.singletonList(Protocol.HTTP_1_1);
+        this.prewarmConnections = builder.prewarmConnections;
+        this.prewarmUrls = Collections.unmodifiableList(new ArrayList<>(builder.prewarmUrls));
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return the connection pool shared by the clients using these options.
+     */
+    public ConnectionPool getConnectionPool() {
+        return connectionPool;
+    }
+
+    /**
+     * @return the dispatcher shared by the clients using these options.
+     */
+    public Dispatcher getDispatcher() {
+        return dispatcher;
+    }
+
+    /**
+     * Applies the shared connection pool, dispatcher and protocols to an OkHttp client being built.
+     * <p>
+     * <strong>Note: This method is used by {@link DefaultHttpClient} and {@link ClientOptions}, and is not intended
+     * for general use.</strong>
+     * </p>
+     *
+     * @param builder the builder of the OkHttp client.
+     */
+    public void configure(OkHttpClient.Builder builder) {
+        builder.connectionPool(connectionPool).dispatcher(dispatcher).protocols(protocols);
+    }
+
+    /**
+     * Opens the configured number of connections to every pre-warm URL and to {@code defaultUrl}, in the
+     * background, unless connections to the same origin were already pre-warmed through these options. Each
+     * connection is opened by a {@code HEAD} request sent without the interceptors of {@code client}; its
+     * response is discarded.
+     * <p>
+     * <strong>Note: This method is used by {@link DefaultHttpClient} and {@link ClientOptions}, and is not intended
+     * for general use.</strong>
+     * </p>
+     *
+     * @param client     the client whose connection settings, such as its proxy, are used.
+     * @param defaultUrl the base URL of the client, or {@code null}.
+     */
+    public void prewarm(OkHttpClient client, String defaultUrl) {
+        if (prewarmConnections == 0) {
+            return;
+        }
+        List<String> urls = new ArrayList<>(prewarmUrls);
+        if (defaultUrl != null) {
+            urls.add(defaultUrl);
+        }
+        OkHttpClient bare = null;
+        for (String url : urls) {
+            HttpUrl httpUrl = HttpUrl.parse(url);
+            if (httpUrl == null
+                    || !prewarmedOrigins.add(httpUrl.scheme() + "://" + httpUrl.host() + ":" + httpUrl.port())) {
+                continue;
+            }
+            if (bare == null) {
+                OkHttpClient.Builder builder = client.newBuilder();
+                builder.interceptors().clear();
+                builder.networkInterceptors().clear();
+                bare = builder.build();
+            }
+            for (int i = 0; i < prewarmConnections; i++) {
+                bare.newCall(new Request.Builder().url(httpUrl).head().build()).enqueue(DISCARD);
+            }
+        }
+    }
+
+    private static final Callback DISCARD = new Callback() {
+        @Override
+        public void onFailure(@NotNull Call call, @NotNull IOException e) {
+            // pre-warming is best effort; the first real request connects instead
+        }
+
+        @Override
+        public void onResponse(@NotNull Call call, @NotNull Response response) {
+            response.close();
+        }
+    };
+
+    /**
+     * Builder for {@link ConnectionOptions} instances.
+     */
+    public static final class Builder {
+        private int maxRequests = 64;
+        private int maxRequestsPerHost = 64;
+        private int maxIdleConnections = 5;
+        private Duration keepAlive = Duration.ofMinutes(5);
+        private boolean preferHttp2 = true;
+        private int prewarmConnections = 0;
+        private final List<String> prewarmUrls = new ArrayList<>();
+
+        private Builder() {}
+
+        /**
+         * Sets the maximum number of requests executed concurrently across all hosts.
+         *
+         * @param maxRequests the maximum number of concurrent requests. Must be one or greater.
+         * @return this builder instance.
+         */
+        public Builder maxRequests(int maxRequests) {
+            this.maxRequests = maxRequests;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of requests executed concurrently to a single host, such as the tenant domain.
+         *
+         * @param maxRequestsPerHost the maximum number of concurrent requests per host. Must be one or greater.
+         * @return this builder instance.
+         */
+        public Builder maxRequestsPerHost(int maxRequestsPerHost) {
+            this.maxRequestsPerHost = maxRequestsPerHost;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of idle connections kept in the pool.
+         *
+         * @param maxIdleConnections the maximum number of idle connections. Must not be negative.
+         * @return this builder instance.
+         */
+        public Builder maxIdleConnections(int maxIdleConnections) {
+            this.maxIdleConnections = maxIdleConnections;
+            return this;
+        }
+
+        /**
+         * Sets how long an idle connection is kept in the pool before it is closed.
+         *
+         * @param keepAlive the keep-alive duration. Must be positive.
+         * @return this builder instance.
+         */
+        public Builder keepAlive(Duration keepAlive) {
+            this.keepAlive = keepAlive;
+            return this;
+        }
+
+        /**
+         * Sets whether HTTP/2 is negotiated when the server supports it, multiplexing concurrent requests over a
+         * single connection. When {@code false}, only HTTP/1.1 is used and every concurrent request needs its
+         * own connection.
+         *
+         * @param preferHttp2 whether to prefer HTTP/2.
+         * @return this builder instance.
+         */
+        public Builder preferHttp2(boolean preferHttp2) {
+            this.preferHttp2 = preferHttp2;
+            return this;
+        }
+
+        /**
+         * Sets the number of connections opened in the background when a client is built, so that the first
+         * requests do not pay for the TCP and TLS handshakes. Connections are opened to the base URL of the
+         * Management API clients and to the URLs added with {@link #addPrewarmUrl(String)}.
+         *
+         * @param prewarmConnections the number of connections to open per URL. Must not be negative.
+         * @return this builder instance.
+         */
+        public Builder prewarmConnections(int prewarmConnections) {
+            this.prewarmConnections = prewarmConnections;
+            return this;
+        }
+
+        /**
+         * Adds a URL to pre-warm connections to, such as {@code https://{YOUR_DOMAIN}} for the Authentication API.
+         *
+         * @param url the URL.
+         * @return this builder instance.
+         */
+        public Builder addPrewarmUrl(String url) {
+            if (HttpUrl.parse(url) == null) {
+                throw new IllegalArgumentException("url must be a valid HTTP or HTTPS URL.");
+            }
+            this.prewarmUrls.add(url);
+            return this;
+        }
+
+        public ConnectionOptions build() {
+            if (maxRequests < 1) {
+                throw new IllegalArgumentException("maxRequests must be one or greater.");
+            }
+            if (maxRequestsPerHost < 1) {
+                throw new IllegalArgumentException("maxRequestsPerHost must be one or greater.");
+            }
+            if (maxIdleConnections < 0) {
+                throw new IllegalArgumentException("maxIdleConnections must not be negative.");
+            }
+            if (keepAlive == null || keepAlive.isNegative() || keepAlive.isZero()) {
+                throw new IllegalArgumentException("keepAlive must be positive.");
+            }
+            if (prewarmConnections < 0) {
+                throw new IllegalArgumentException("prewarmConnections must not be negative.");
+            }
+            return new ConnectionOptions(this);
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.auth0.client.auth;
+
+import com.auth0.jwt.JWT;
+import com.auth0.utils.Asserts;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A {@linkplain ClientAssertionSigner} that signs client assertions ahead of time, in the background, so that
+ * requests authenticating with {@code private_key_jwt} do not wait for an RSA signature.
+ * <p>
+ * For every issuer, audience and subject it is asked for, it keeps a pool of up to {@code poolSize} assertions
+ * signed by the wrapped signer, and refills the pool on a background thread as assertions are taken. Each
+ * assertion, and so each {@code jti}, is returned once. Assertions are only returned while more than
+ * {@code minRemainingLifetime} is left before they expire, leaving time for the request to reach the
+ * Authentication API; older assertions are discarded. When the pool is empty, the assertion is signed on the
+ * calling thread.
+ * </p>
+ * <pre>{@code
+ * ClientAssertionSigner signer = new PresignedClientAssertionSigner(new RSAClientAssertionSigner(privateKey));
+ * AuthAPI auth = AuthAPI.newBuilder("{YOUR_DOMAIN}", "{YOUR_CLIENT_ID}", signer).build();
+ * }</pre>
+ * <p>
+ * Defaults:
+ * </p>
+ * <ul>
+ *   <li>poolSize: 8</li>
+ *   <li>minRemainingLifetime: 60 seconds</li>
+ * </ul>
+ * <p>
+ * This class is thread-safe. Call {@link #close()} to stop its background thread.
+ * </p>
+ */
+public class PresignedClientAssertionSigner implements ClientAssertionSigner, AutoCloseable {
+
+    private final ClientAssertionSigner delegate;
+    private final int poolSize;
+    private final long minRemainingLifetimeMillis;
+    private final ExecutorService executor;
+    private final ConcurrentMap<String, Pool> pools = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new instance keeping 8 assertions per issuer, audience and subject, each returned while more than
+     * 60 seconds are left before it expires.
+     *
+     * @param delegate the signer creating the assertions. Must not be null.
+     *
+     * @see #PresignedClientAssertionSigner(ClientAssertionSigner, int, Duration)
+     */
+    public PresignedClientAssertionSigner(ClientAssertionSigner delegate) {
+        this(delegate, 8, Duration.ofSeconds(60));
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param delegate the signer creating the assertions. Must not be null.
+     * @param poolSize the number of assertions signed ahead of time per issuer, audience and subject. Must be one
+     *                 or greater.
+     * @param minRemainingLifetime the time that must be left before an assertion expires for it to be returned.
+     *                             Must not be negative.
+     */
+    public PresignedClientAssertionSigner(ClientAssertionSigner delegate, int poolSize, Duration minRemainingLifetime) {
+        this(delegate, poolSize, minRemainingLifetime, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "auth0-client-assertion-signer");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    PresignedClientAssertionSigner(
+            ClientAssertionSigner delegate, int poolSize, Duration minRemainingLifetime, ExecutorService executor) {
+        Asserts.assertNotNull(delegate, "delegate");
+        Asserts.assertNotNull(minRemainingLifetime, "min remaining lifetime");
+        if (poolSize < 1) {
+            throw new IllegalArgumentException("poolSize must be one or greater.");
+        }
+        if (minRemainingLifetime.isNegative()) {
+            throw new IllegalArgumentException("minRemainingLifetime must not be negative.");
+        }
+        this.delegate = delegate;
+        this.poolSize = poolSize;
+        this.minRemainingLifetimeMillis = minRemainingLifetime.toMillis();
+        this.executor = executor;
+    }
+
+    @Override
+    public String createSignedClientAssertion(String issuer, String audience, String subject) {
+        Pool pool = pools.computeIfAbsent(
+                issuer + '\n' + audience + '\n' + subject, key -> new Pool(issuer, audience, subject));
+        long now = System.currentTimeMillis();
+        Presigned presigned;
+        while ((presigned = pool.assertions.poll()) != null) {
+            pool.reserved.decrementAndGet();
+            if (presigned.expiresAt - minRemainingLifetimeMillis > now) {
+                break;
+            }
+        }
+        refill(pool);
+        return presigned != null
+                ? presigned.assertion
+                : delegate.createSignedClientAssertion(issuer, audience, subject);
+    }
+
+    /**
+     * Stops the background thread signing assertions. Assertions are signed on the calling thread afterwards.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Schedules the signing of as many assertions as the pool lacks. A slot is reserved before an assertion is
+     * scheduled, and released once the assertion is taken from the pool or could not be signed.
+     */
+    private void refill(Pool pool) {
+        while (true) {
+            int reserved = pool.reserved.get();
+            if (reserved >= poolSize) {
+                return;
+            }
+            if (!pool.reserved.compareAndSet(reserved, reserved + 1)) {
+                continue;
+            }
+            try {
+                executor.execute(() -> {
+                    try {
+                        String assertion =
+                                delegate.createSignedClientAssertion(pool.issuer, pool.audience, pool.subject);
+                        pool.assertions.add(new Presigned(assertion, expiresAt(assertion)));
+                    } catch (RuntimeException ignored) {
+                        // the failure is reported by the next assertion signed on the calling thread
+                        pool.reserved.decrementAndGet();
+                    }
+                });
+            } catch (RejectedExecutionException closed) {
+                pool.reserved.decrementAndGet();
+                return;
+            }
+        }
+    }
+
+    private static long expiresAt(String assertion) {
+        Instant expiresAt = JWT.decode(assertion).getExpiresAtAsInstant();
+        // assertions without an expiration are never discarded
+        return expiresAt != null ? expiresAt.toEpochMilli() : Long.MAX_VALUE;
+    }
+
+    private static final class Pool {
+        final String issuer;
+        final String audience;
+        final String subject;
+        final Queue<Presigned> assertions = new ConcurrentLinkedQueue<>();
+        // assertions in the pool or being signed for it
+        final AtomicInteger reserved = new AtomicInteger();
+
+        Pool(String issuer, String audience, String subject) {
+            this.issuer = issuer;
+            this.audience = audience;
+            this.subject = subject;
+        }
+    }
+
+    private static final class Presigned {
+        final String assertion;
+        final long expiresAt;
+
+        Presigned(String assertion, long expiresAt) {
+            this.assertion = assertion;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -16,8 +16,8 @@ import org.jetbrains.annotations.TestOnly;
  */
 public class RSAClientAssertionSigner implements ClientAssertionSigner {
 
-    private final RSAPrivateKey assertionSigningKey;
     private final RSASigningAlgorithm assertionSigningAlgorithm;
+    private final Algorithm algorithm;
 
     /**
      * Creates a new instance.
@@ -31,8 +31,18 @@ public class RSAClientAssertionSigner implements ClientAssertionSigner {
         Asserts.assertNotNull(assertionSigningKey, "assertion signing key");
         Asserts.assertNotNull(assertionSigningAlgorithm, "assertion signing algorithm");
 
-        this.assertionSigningKey = assertionSigningKey;
         this.assertionSigningAlgorithm = assertionSigningAlgorithm;
+        // the algorithm is immutable and thread-safe, so it is created once rather than for every assertion
+        switch (assertionSigningAlgorithm) {
+            case RSA256:
+                this.algorithm = Algorithm.RSA256(null, assertionSigningKey);
+                break;
+            case RSA384:
+                this.algorithm = Algorithm.RSA384(null, assertionSigningKey);
+                break;
+            default:
+                this.algorithm = null;
+        }
     }
 
     /**
@@ -48,6 +58,10 @@ public class RSAClientAssertionSigner implements ClientAssertionSigner {
 
     @Override
     public String createSignedClientAssertion(String issuer, String audience, String subject) {
+        if (algorithm == null) {
+            throw new ClientAssertionSigningException(
+                    "Error creating the JWT used for client assertion. Unknown algorithm.");
+        }
         Instant now = Instant.now();
         JWTCreator.Builder builder = JWT.create()
                 .withIssuer(issuer)
@@ -57,26 +71,14 @@ public class RSAClientAssertionSigner implements ClientAssertionSigner {
                 .withExpiresAt(now.plusSeconds(180))
                 .withClaim("jti", UUID.randomUUID().toString());
 
-        switch (assertionSigningAlgorithm) {
-            case RSA256:
-                try {
-                    return builder.sign(Algorithm.RSA256(null, assertionSigningKey));
-                } catch (JWTCreationException exception) {
-                    throw new ClientAssertionSigningException(
-                            "Error creating the JWT used for client assertion using the RSA256 signing algorithm",
-                            exception);
-                }
-            case RSA384:
-                try {
-                    return builder.sign(Algorithm.RSA384(null, assertionSigningKey));
-                } catch (JWTCreationException exception) {
-                    throw new ClientAssertionSigningException(
-                            "Error creating the JWT used for client assertion using the RSA384 signing algorithm",
-                            exception);
-                }
-            default:
-                throw new ClientAssertionSigningException(
-                        "Error creating the JWT used for client assertion. Unknown algorithm.");
+        try {
+            return builder.sign(algorithm);
+        } catch (JWTCreationException exception) {
+            throw new ClientAssertionSigningException(
+                    String.format(
+                            "Error creating the JWT used for client assertion using the %s signing algorithm",
+                            assertionSigningAlgorithm),
+                    exception);
         }
     }
 
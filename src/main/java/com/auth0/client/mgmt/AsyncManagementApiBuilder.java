@@ -3,12 +3,20 @@
  */
 package com.auth0.client.mgmt;
 
+import com.auth0.client.ConnectionOptions;
 import com.auth0.client.mgmt.core.ClientOptions;
 import com.auth0.client.mgmt.core.Environment;
 import com.auth0.client.mgmt.core.LogConfig;
+import com.auth0.client.mgmt.core.OAuthTokenSupplier;
+import com.auth0.client.mgmt.core.ResponseCache;
+import com.auth0.client.mgmt.core.SingleFlightInterceptor;
+import com.auth0.client.mgmt.core.TokenRefreshConfig;
+import com.auth0.net.AdaptiveRateLimitInterceptor;
+import com.auth0.net.HttpMetrics;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ScheduledExecutorService;
 import okhttp3.OkHttpClient;
 
 public class AsyncManagementApiBuilder {
@@ -16,6 +24,8 @@ public class AsyncManagementApiBuilder {
 
     private Optional<Integer> maxRetries = Optional.empty();
 
+    private ScheduledExecutorService retryScheduler = null;
+
     private final Map<String, String> customHeaders = new HashMap<>();
 
     private String token = null;
@@ -28,6 +38,25 @@ public class AsyncManagementApiBuilder {
 
     private String tenantDomain;
 
+    private String clientId = null;
+
+    private String clientSecret = null;
+
+    private String audience = null;
+
+    private AdaptiveRateLimitInterceptor rateLimiter = null;
+
+    private HttpMetrics metrics = null;
+
+    private ConnectionOptions connectionOptions = null;
+
+    private boolean coalesceGetRequests = false;
+
+    private ResponseCache responseCache = null;
+
+    private OAuthTokenSupplier tokenSupplier = null;
+    private OAuthTokenSupplier activeTokenSupplier = null;
+
     /**
      * Sets token
      */
@@ -36,6 +65,48 @@ public class AsyncManagementApiBuilder {
         return this;
     }
 
+    /**
+     * Sets OAuth client credentials for automatic token management. Tokens are fetched and cached like
+     * {@link ManagementApiBuilder#clientCredentials(String, String)} does, but without blocking: when the cached
+     * token has expired, requests wait for the new one asynchronously before they are sent.
+     *
+     * @param clientId The OAuth client ID
+     * @param clientSecret The OAuth client secret
+     * @return This builder for method chaining
+     */
+    public AsyncManagementApiBuilder clientCredentials(String clientId, String clientSecret) {
+        this.clientId = clientId;
+        this.clientSecret = clientSecret;
+        return this;
+    }
+
+    /**
+     * Sets a custom audience for the OAuth token request.
+     * If not specified, defaults to the API URL's base followed by /api/v2/
+     *
+     * @param audience The API audience for the token request
+     * @return This builder for method chaining
+     */
+    public AsyncManagementApiBuilder audience(String audience) {
+        this.audience = audience;
+        return this;
+    }
+
+    /**
+     * Authenticates with the given client credentials token supplier instead of one created from
+     * {@link #clientCredentials(String, String)}. The supplier belongs to the caller: it is not closed with the
+     * client, and can be shared by several clients. Use it to refresh tokens in the background with a
+     * {@link TokenRefreshConfig}, and call {@link OAuthTokenSupplier#close()} once the clients are no longer used
+     * to stop the refresh.
+     *
+     * @param tokenSupplier The caller-owned token supplier
+     * @return This builder for method chaining
+     */
+    public AsyncManagementApiBuilder tokenSupplier(OAuthTokenSupplier tokenSupplier) {
+        this.tokenSupplier = tokenSupplier;
+        return this;
+    }
+
     public AsyncManagementApiBuilder environment(Environment environment) {
         this.environment = environment;
         return this;
@@ -62,6 +133,87 @@ public class AsyncManagementApiBuilder {
         return this;
     }
 
+    /**
+     * Paces requests so that they stay within the rate limits reported by the Management API, rather than only
+     * retrying once a request was rejected with a 429. Requests are held back on the {@link
+     * #retryScheduler(ScheduledExecutorService) retry scheduler} if one is set, and on an OkHttp dispatcher thread
+     * otherwise. Not enabled by default.
+     *
+     * @param rateLimiter The rate limiter to install. Can be shared with other clients to share its learned limits.
+     * @return This builder for method chaining
+     */
+    public AsyncManagementApiBuilder rateLimiter(AdaptiveRateLimitInterceptor rateLimiter) {
+        this.rateLimiter = rateLimiter;
+        return this;
+    }
+
+    /**
+     * Configures the connection pool size and keep-alive, the concurrency limits, HTTP/2 and connection
+     * pre-warming. Clients configured with the same options, including the Authentication API client, share their
+     * connections. Not set by default, in which case OkHttp allows 5 concurrent requests to the tenant domain.
+     *
+     * @param connectionOptions The connection options
+     * @return This builder for method chaining
+     */
+    public AsyncManagementApiBuilder connectionOptions(ConnectionOptions connectionOptions) {
+        this.connectionOptions = connectionOptions;
+        return this;
+    }
+
+    /**
+     * Coalesces concurrent identical GET requests, such as lookups of the same user from many threads, into a
+     * single request whose response is shared by all of them. Off by default.
+     *
+     * @param coalesceGetRequests Whether to coalesce concurrent identical GET requests
+     * @return This builder for method chaining
+     * @see SingleFlightInterceptor
+     */
+    public AsyncManagementApiBuilder coalesceGetRequests(boolean coalesceGetRequests) {
+        this.coalesceGetRequests = coalesceGetRequests;
+        return this;
+    }
+
+    /**
+     * Caches the responses of read-mostly resources, such as tenant settings, roles or connections, for the time
+     * to live configured per resource. Updates and deletes made through this client invalidate the cached
+     * responses of the resource they modify. Not enabled by default.
+     *
+     * @param responseCache The cache to serve GET requests from
+     * @return This builder for method chaining
+     * @see ResponseCache
+     */
+    public AsyncManagementApiBuilder responseCache(ResponseCache responseCache) {
+        this.responseCache = responseCache;
+        return this;
+    }
+
+    /**
+     * Reports request latencies, retries, rate limits and token fetch latencies to the given metrics. Not enabled
+     * by default.
+     *
+     * @param metrics The metrics to report to. Can be shared with other clients.
+     * @return This builder for method chaining
+     */
+    public AsyncManagementApiBuilder metrics(HttpMetrics metrics) {
+        this.metrics = metrics;
+        return this;
+    }
+
+    /**
+     * Schedules retries, and the delays of the {@link #rateLimiter(AdaptiveRateLimitInterceptor) rate limiter}, on
+     * the given executor instead of waiting inside the OkHttp interceptor chain, so that no dispatcher thread is
+     * held during the backoff. Each attempt is then reported to the {@link #metrics(HttpMetrics) metrics} as a
+     * separate request. Not enabled by default.
+     *
+     * @param retryScheduler The scheduler that resubmits retried requests
+     * @return This builder for method chaining
+     * @see ClientOptions.Builder#asyncRetryScheduler(ScheduledExecutorService)
+     */
+    public AsyncManagementApiBuilder retryScheduler(ScheduledExecutorService retryScheduler) {
+        this.retryScheduler = retryScheduler;
+        return this;
+    }
+
     /**
      * Sets the underlying OkHttp client
      */
@@ -104,11 +256,30 @@ public class AsyncManagementApiBuilder {
         setTimeouts(builder);
         setRetries(builder);
         setLogging(builder);
+        if (this.rateLimiter != null) {
+            builder.addInterceptor(this.rateLimiter);
+        }
+        if (this.metrics != null) {
+            builder.metrics(this.metrics);
+        }
+        if (this.connectionOptions != null) {
+            builder.connectionOptions(this.connectionOptions);
+        }
+        builder.coalesceGetRequests(this.coalesceGetRequests);
+        if (this.responseCache != null) {
+            builder.responseCache(this.responseCache);
+        }
         for (Map.Entry<String, String> header : this.customHeaders.entrySet()) {
             builder.addHeader(header.getKey(), header.getValue());
         }
         setAdditional(builder);
-        return builder.build();
+        ClientOptions clientOptions = builder.build();
+        if (this.activeTokenSupplier != null) {
+            // token requests share the connections, but not the interceptors, of the API client
+            this.activeTokenSupplier.useHttpClient(clientOptions.httpClient());
+            this.activeTokenSupplier.useMetrics(this.metrics);
+        }
+        return clientOptions;
     }
 
     /**
@@ -142,11 +313,23 @@ public class AsyncManagementApiBuilder {
      * }</pre>
      */
     protected void setAuthentication(ClientOptions.Builder builder) {
-        if (this.token != null) {
+        if (this.tokenSupplier != null || (this.clientId != null && this.clientSecret != null)) {
+            OAuthTokenSupplier tokenSupplier = this.tokenSupplier != null ? this.tokenSupplier : createTokenSupplier();
+            this.activeTokenSupplier = tokenSupplier;
+
+            builder.addAsyncHeader(
+                    "Authorization", () -> tokenSupplier.getAsync().thenApply(token -> "Bearer " + token));
+        } else if (this.token != null) {
             builder.addHeader("Authorization", "Bearer " + this.token);
         }
     }
 
+    private OAuthTokenSupplier createTokenSupplier() {
+        String envUrl = this.environment.getUrl();
+        String baseUrl = envUrl.endsWith("/api/v2") ? envUrl.substring(0, envUrl.length() - 7) : envUrl;
+        return new OAuthTokenSupplier(this.clientId, this.clientSecret, baseUrl, this.audience);
+    }
+
     /**
      * Sets the request timeout configuration.
      * Override this method to customize timeout behavior.
@@ -169,6 +352,9 @@ public class AsyncManagementApiBuilder {
         if (this.maxRetries.isPresent()) {
             builder.maxRetries(this.maxRetries.get());
         }
+        if (this.retryScheduler != null) {
+            builder.asyncRetryScheduler(this.retryScheduler);
+        }
     }
 
     /**
@@ -232,8 +418,8 @@ public class AsyncManagementApiBuilder {
     protected void validateConfiguration() {}
 
     public AsyncManagementApi build() {
-        if (token == null) {
-            throw new RuntimeException("Please provide token");
+        if (token == null && tokenSupplier == null && (clientId == null || clientSecret == null)) {
+            throw new RuntimeException("Please provide token or client credentials");
         }
         validateConfiguration();
         return new AsyncManagementApi(buildClientOptions());
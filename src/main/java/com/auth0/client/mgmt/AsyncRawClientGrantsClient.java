@@ -36,7 +36,6 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import okhttp3.Call;
 import okhttp3.Callback;
-import okhttp3.Headers;
 import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
@@ -118,11 +117,8 @@ public class AsyncRawClientGrantsClient {
                 httpUrl.addQueryParameter(_key, _value);
             });
         }
-        Request.Builder _requestBuilder = new Request.Builder()
-                .url(httpUrl.build())
-                .method("GET", null)
-                .headers(Headers.of(clientOptions.headers(requestOptions)))
-                .addHeader("Accept", "application/json");
+        Request.Builder _requestBuilder =
+                new Request.Builder().url(httpUrl.build()).method("GET", null).addHeader("Accept", "application/json");
         Request okhttpRequest = _requestBuilder.build();
         OkHttpClient client = clientOptions.httpClient();
         if (requestOptions != null && requestOptions.getTimeout().isPresent()) {
@@ -139,14 +135,13 @@ public class AsyncRawClientGrantsClient {
         }
         CompletableFuture<ManagementApiHttpResponse<SyncPagingIterable<ClientGrantResponseContent>>> future =
                 new CompletableFuture<>();
-        client.newCall(okhttpRequest).enqueue(new Callback() {
+        clientOptions.enqueue(client, okhttpRequest, requestOptions, future, new Callback() {
             @Override
             public void onResponse(@NotNull Call call, @NotNull Response response) throws IOException {
                 try (ResponseBody responseBody = response.body()) {
-                    String responseBodyString = responseBody != null ? responseBody.string() : "{}";
                     if (response.isSuccessful()) {
-                        ListClientGrantPaginatedResponseContent parsedResponse = ObjectMappers.JSON_MAPPER.readValue(
-                                responseBodyString, ListClientGrantPaginatedResponseContent.class);
+                        ListClientGrantPaginatedResponseContent parsedResponse =
+                                ObjectMappers.readValue(responseBody, ListClientGrantPaginatedResponseContent.class);
                         Optional<String> startingAfter = parsedResponse.getNext();
                         ListClientGrantsRequestParameters nextRequest = ListClientGrantsRequestParameters.builder()
                                 .from(request)
@@ -168,6 +163,7 @@ public class AsyncRawClientGrantsClient {
                                 response));
                         return;
                     }
+                    String responseBodyString = responseBody != null ? responseBody.string() : "{}";
                     try {
                         switch (response.code()) {
                             case 401:
@@ -240,7 +236,6 @@ public class AsyncRawClientGrantsClient {
         Request okhttpRequest = new Request.Builder()
                 .url(httpUrl.build())
                 .method("POST", body)
-                .headers(Headers.of(clientOptions.headers(requestOptions)))
                 .addHeader("Content-Type", "application/json")
                 .addHeader("Accept", "application/json")
                 .build();
@@ -259,18 +254,17 @@ public class AsyncRawClientGrantsClient {
         }
         CompletableFuture<ManagementApiHttpResponse<CreateClientGrantResponseContent>> future =
                 new CompletableFuture<>();
-        client.newCall(okhttpRequest).enqueue(new Callback() {
+        clientOptions.enqueue(client, okhttpRequest, requestOptions, future, new Callback() {
             @Override
             public void onResponse(@NotNull Call call, @NotNull Response response) throws IOException {
                 try (ResponseBody responseBody = response.body()) {
-                    String responseBodyString = responseBody != null ? responseBody.string() : "{}";
                     if (response.isSuccessful()) {
                         future.complete(new ManagementApiHttpResponse<>(
-                                ObjectMappers.JSON_MAPPER.readValue(
-                                        responseBodyString, CreateClientGrantResponseContent.class),
+                                ObjectMappers.readValue(responseBody, CreateClientGrantResponseContent.class),
                                 response));
                         return;
                     }
+                    String responseBodyString = responseBody != null ? responseBody.string() : "{}";
                     try {
                         switch (response.code()) {
                             case 400:
@@ -353,7 +347,6 @@ public class AsyncRawClientGrantsClient {
         Request okhttpRequest = new Request.Builder()
                 .url(httpUrl.build())
                 .method("GET", null)
-                .headers(Headers.of(clientOptions.headers(requestOptions)))
                 .addHeader("Accept", "application/json")
                 .build();
         OkHttpClient client = clientOptions.httpClient();
@@ -370,18 +363,16 @@ public class AsyncRawClientGrantsClient {
                     .build();
         }
         CompletableFuture<ManagementApiHttpResponse<GetClientGrantResponseContent>> future = new CompletableFuture<>();
-        client.newCall(okhttpRequest).enqueue(new Callback() {
+        clientOptions.enqueue(client, okhttpRequest, requestOptions, future, new Callback() {
             @Override
             public void onResponse(@NotNull Call call, @NotNull Response response) throws IOException {
                 try (ResponseBody responseBody = response.body()) {
-                    String responseBodyString = responseBody != null ? responseBody.string() : "{}";
                     if (response.isSuccessful()) {
                         future.complete(new ManagementApiHttpResponse<>(
-                                ObjectMappers.JSON_MAPPER.readValue(
-                                        responseBodyString, GetClientGrantResponseContent.class),
-                                response));
+                                ObjectMappers.readValue(responseBody, GetClientGrantResponseContent.class), response));
                         return;
                     }
+                    String responseBodyString = responseBody != null ? responseBody.string() : "{}";
                     try {
                         switch (response.code()) {
                             case 401:
@@ -451,7 +442,6 @@ public class AsyncRawClientGrantsClient {
         Request okhttpRequest = new Request.Builder()
                 .url(httpUrl.build())
                 .method("DELETE", null)
-                .headers(Headers.of(clientOptions.headers(requestOptions)))
                 .addHeader("Accept", "application/json")
                 .build();
         OkHttpClient client = clientOptions.httpClient();
@@ -468,7 +458,7 @@ public class AsyncRawClientGrantsClient {
                     .build();
         }
         CompletableFuture<ManagementApiHttpResponse<Void>> future = new CompletableFuture<>();
-        client.newCall(okhttpRequest).enqueue(new Callback() {
+        clientOptions.enqueue(client, okhttpRequest, requestOptions, future, new Callback() {
             @Override
             public void onResponse(@NotNull Call call, @NotNull Response response) throws IOException {
                 try (ResponseBody responseBody = response.body()) {
@@ -570,7 +560,6 @@ public class AsyncRawClientGrantsClient {
         Request okhttpRequest = new Request.Builder()
                 .url(httpUrl.build())
                 .method("PATCH", body)
-                .headers(Headers.of(clientOptions.headers(requestOptions)))
                 .addHeader("Content-Type", "application/json")
                 .addHeader("Accept", "application/json")
                 .build();
@@ -589,18 +578,17 @@ public class AsyncRawClientGrantsClient {
         }
         CompletableFuture<ManagementApiHttpResponse<UpdateClientGrantResponseContent>> future =
                 new CompletableFuture<>();
-        client.newCall(okhttpRequest).enqueue(new Callback() {
+        clientOptions.enqueue(client, okhttpRequest, requestOptions, future, new Callback() {
             @Override
             public void onResponse(@NotNull Call call, @NotNull Response response) throws IOException {
                 try (ResponseBody responseBody = response.body()) {
-                    String responseBodyString = responseBody != null ? responseBody.string() : "{}";
                     if (response.isSuccessful()) {
                         future.complete(new ManagementApiHttpResponse<>(
-                                ObjectMappers.JSON_MAPPER.readValue(
-                                        responseBodyString, UpdateClientGrantResponseContent.class),
+                                ObjectMappers.readValue(responseBody, UpdateClientGrantResponseContent.class),
                                 response));
                         return;
                     }
+                    String responseBodyString = responseBody != null ? responseBody.string() : "{}";
                     try {
                         switch (response.code()) {
                             case 400:
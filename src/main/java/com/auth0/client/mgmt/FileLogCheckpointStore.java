@@ -0,0 +1,45 @@
+package com.auth0.client.mgmt;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * A {@link LogCheckpointStore} backed by a file. The checkpoint is written to a sibling temporary file first and
+ * moved into place, so a crash never leaves a partially written checkpoint behind.
+ */
+final class FileLogCheckpointStore implements LogCheckpointStore {
+    private final Path file;
+
+    FileLogCheckpointStore(Path file) {
+        if (file == null) {
+            throw new IllegalArgumentException("file must not be null.");
+        }
+        this.file = file.toAbsolutePath();
+    }
+
+    @Override
+    public String load() throws IOException {
+        try {
+            String logId = new String(Files.readAllBytes(file), StandardCharsets.UTF_8).trim();
+            return logId.isEmpty() ? null : logId;
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public void save(String logId) throws IOException {
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.write(temp, logId.getBytes(StandardCharsets.UTF_8));
+        try {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.auth0.client.mgmt;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Persists the ID of the last log event a {@link LogTailer} delivered, so that tailing resumes where it left off
+ * after a restart.
+ */
+public interface LogCheckpointStore {
+
+    /**
+     * @return the last saved log event ID, or {@code null} if none was saved yet.
+     * @throws IOException if the checkpoint cannot be read.
+     */
+    String load() throws IOException;
+
+    /**
+     * Saves the ID of the last log event delivered.
+     *
+     * @param logId the log event ID.
+     * @throws IOException if the checkpoint cannot be written.
+     */
+    void save(String logId) throws IOException;
+
+    /**
+     * Creates a store that keeps the checkpoint in a file, replacing it atomically on every save.
+     *
+     * @param file the file holding the checkpoint. Its parent directory must exist.
+     * @return the store.
+     */
+    static LogCheckpointStore file(Path file) {
+        return new FileLogCheckpointStore(file);
+    }
+}
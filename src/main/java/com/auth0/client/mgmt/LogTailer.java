@@ -0,0 +1,282 @@
+package com.auth0.client.mgmt;
+
+import com.auth0.client.mgmt.core.ClientOptions;
+import com.auth0.client.mgmt.core.ManagementApiException;
+import com.auth0.client.mgmt.core.ManagementException;
+import com.auth0.client.mgmt.core.ObjectMappers;
+import com.auth0.client.mgmt.core.RequestOptions;
+import com.auth0.client.mgmt.types.Log;
+import com.fasterxml.jackson.core.type.TypeReference;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Consumer;
+import okhttp3.Headers;
+import okhttp3.HttpUrl;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+/**
+ * Follows the log events of a tenant using checkpoint pagination ({@code from} and {@code take}), which, unlike
+ * paging by page number, is not limited to the first 1,000 results.
+ *
+ * <p>Every poll fetches the events after the last delivered log event ID and hands them to the consumer as one
+ * batch. Only once the consumer returns is the ID of the last event in the batch saved to the
+ * {@link LogCheckpointStore}, so every event is delivered at least once, including across restarts. Without a saved
+ * checkpoint, tailing starts at the configured log event ID, or at the oldest event the tenant still retains.
+ *
+ * <p>The time between polls follows how full the batches are: a full batch means more events are waiting and is
+ * followed by the next poll right away, a partially filled batch by a wait that grows as the batch gets emptier,
+ * and every empty batch doubles the wait, up to the maximum poll interval.
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * LogTailer tailer = LogTailer.builder(client.logs())
+ *         .checkpointStore(LogCheckpointStore.file(Paths.get("/var/lib/shipper/auth0.checkpoint")))
+ *         .build();
+ *
+ * tailer.run(logs -> siem.send(logs));
+ * }</pre>
+ *
+ * <p>Defaults:
+ * <ul>
+ *   <li>take: 100, the most the API returns per request</li>
+ *   <li>minPollInterval: 1 second</li>
+ *   <li>maxPollInterval: 30 seconds</li>
+ *   <li>checkpointStore: a file named {@code auth0-logs.checkpoint} in the working directory</li>
+ * </ul>
+ */
+public final class LogTailer {
+    static final int MAX_TAKE = 100;
+
+    private static final TypeReference<List<Log>> LOGS = new TypeReference<List<Log>>() {};
+
+    private final ClientOptions clientOptions;
+    private final LogCheckpointStore checkpointStore;
+    private final String initialLogId;
+    private final int take;
+    private final long minPollMillis;
+    private final long maxPollMillis;
+    private final Object lock = new Object();
+
+    private volatile boolean stopped;
+    private volatile String checkpoint;
+    private volatile boolean checkpointLoaded;
+    private long delay;
+
+    private LogTailer(Builder builder) {
+        this.clientOptions = builder.logs.clientOptions;
+        this.checkpointStore = builder.checkpointStore;
+        this.initialLogId = builder.from;
+        this.take = builder.take;
+        this.minPollMillis = builder.minPollInterval.toMillis();
+        this.maxPollMillis = builder.maxPollInterval.toMillis();
+    }
+
+    public static Builder builder(LogsClient logs) {
+        return new Builder(logs);
+    }
+
+    /**
+     * Polls and delivers batches until {@link #stop()} is called or the thread is interrupted. An exception thrown
+     * by the consumer or while fetching stops tailing; the batch is fetched again by the next run.
+     *
+     * @param consumer receives every non-empty batch, in order.
+     * @throws ManagementException if the logs or the checkpoint cannot be read.
+     */
+    public void run(Consumer<List<Log>> consumer) {
+        stopped = false;
+        while (!stopped) {
+            int size = poll(consumer);
+            delay = nextDelay(size);
+            if (delay > 0) {
+                synchronized (lock) {
+                    if (stopped) {
+                        return;
+                    }
+                    try {
+                        lock.wait(delay);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Fetches the next batch once and delivers it if it is not empty.
+     *
+     * @param consumer receives the batch.
+     * @return the number of log events delivered.
+     * @throws ManagementException if the logs or the checkpoint cannot be read or written.
+     */
+    public int poll(Consumer<List<Log>> consumer) {
+        String from = checkpoint();
+        List<Log> logs = fetch(from);
+        if (logs.isEmpty()) {
+            return 0;
+        }
+        consumer.accept(logs);
+        String last = logs.get(logs.size() - 1).getLogId().orElse(null);
+        if (last != null) {
+            checkpoint = last;
+            try {
+                checkpointStore.save(last);
+            } catch (IOException e) {
+                throw new ManagementException("Failed to save log checkpoint", e);
+            }
+        }
+        return logs.size();
+    }
+
+    /**
+     * Makes {@link #run(Consumer)} return once the batch being delivered, if any, is done.
+     */
+    public void stop() {
+        stopped = true;
+        synchronized (lock) {
+            lock.notifyAll();
+        }
+    }
+
+    /**
+     * @return the ID of the last delivered log event, or {@code null} if tailing has not started from one yet.
+     */
+    public String checkpoint() {
+        if (!checkpointLoaded) {
+            try {
+                String saved = checkpointStore.load();
+                checkpoint = saved != null ? saved : initialLogId;
+            } catch (IOException e) {
+                throw new ManagementException("Failed to load log checkpoint", e);
+            }
+            checkpointLoaded = true;
+        }
+        return checkpoint;
+    }
+
+    /**
+     * Visible for testing purposes only.
+     * @return the time to wait after a batch of the given size, in milliseconds.
+     */
+    long nextDelay(int batchSize) {
+        if (batchSize >= take) {
+            return 0;
+        }
+        if (batchSize == 0) {
+            return Math.min(maxPollMillis, Math.max(minPollMillis, delay * 2));
+        }
+        long scaled = maxPollMillis * (take - batchSize) / take;
+        return Math.max(minPollMillis, Math.min(maxPollMillis, scaled));
+    }
+
+    /**
+     * The generated list method always asks for totals and expects the paginated envelope, while checkpoint
+     * requests return a plain array, so the request is built here.
+     */
+    private List<Log> fetch(String from) {
+        HttpUrl.Builder httpUrl =
+                HttpUrl.parse(clientOptions.environment().getUrl()).newBuilder().addPathSegments("logs");
+        if (from != null) {
+            httpUrl.addQueryParameter("from", from);
+        }
+        httpUrl.addQueryParameter("take", Integer.toString(take));
+        Request okhttpRequest = new Request.Builder()
+                .url(httpUrl.build())
+                .method("GET", null)
+                .headers(Headers.of(clientOptions.headers((RequestOptions) null)))
+                .addHeader("Accept", "application/json")
+                .build();
+        try (Response response =
+                clientOptions.httpClient().newCall(okhttpRequest).execute()) {
+            ResponseBody responseBody = response.body();
+            if (response.isSuccessful()) {
+                return ObjectMappers.readValue(responseBody, LOGS);
+            }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
+            throw new ManagementApiException(
+                    "Error with status code " + response.code(),
+                    response.code(),
+                    ObjectMappers.parseErrorBody(responseBodyString),
+                    response);
+        } catch (IOException e) {
+            throw new ManagementException("Network error executing HTTP request", e);
+        }
+    }
+
+    public static final class Builder {
+        private final LogsClient logs;
+        private LogCheckpointStore checkpointStore;
+        private String from;
+        private int take = MAX_TAKE;
+        private Duration minPollInterval = Duration.ofSeconds(1);
+        private Duration maxPollInterval = Duration.ofSeconds(30);
+
+        private Builder(LogsClient logs) {
+            if (logs == null) {
+                throw new IllegalArgumentException("logs must not be null.");
+            }
+            this.logs = logs;
+        }
+
+        /**
+         * Sets where the last delivered log event ID is kept.
+         */
+        public Builder checkpointStore(LogCheckpointStore checkpointStore) {
+            this.checkpointStore = checkpointStore;
+            return this;
+        }
+
+        /**
+         * Sets the log event ID to start after when the checkpoint store holds none yet.
+         */
+        public Builder from(String logId) {
+            this.from = logId;
+            return this;
+        }
+
+        /**
+         * Sets the most log events fetched per poll, at most 100.
+         */
+        public Builder take(int take) {
+            this.take = take;
+            return this;
+        }
+
+        /**
+         * Sets the shortest time to wait after a batch that was not full.
+         */
+        public Builder minPollInterval(Duration minPollInterval) {
+            this.minPollInterval = minPollInterval;
+            return this;
+        }
+
+        /**
+         * Sets the longest time to wait between two polls.
+         */
+        public Builder maxPollInterval(Duration maxPollInterval) {
+            this.maxPollInterval = maxPollInterval;
+            return this;
+        }
+
+        public LogTailer build() {
+            if (take < 1 || take > MAX_TAKE) {
+                throw new IllegalArgumentException("take must be between 1 and " + MAX_TAKE + ".");
+            }
+            if (minPollInterval == null || minPollInterval.isNegative() || minPollInterval.isZero()) {
+                throw new IllegalArgumentException("minPollInterval must be positive.");
+            }
+            if (maxPollInterval == null || maxPollInterval.compareTo(minPollInterval) < 0) {
+                throw new IllegalArgumentException("maxPollInterval must not be shorter than minPollInterval.");
+            }
+            if (checkpointStore == null) {
+                checkpointStore = LogCheckpointStore.file(Paths.get("auth0-logs.checkpoint"));
+            }
+            return new LogTailer(this);
+        }
+    }
+}
@@ -3,7 +3,10 @@
  */
 package com.auth0.client.mgmt;
 
+import com.auth0.client.ConnectionOptions;
 import com.auth0.client.mgmt.core.*;
+import com.auth0.net.AdaptiveRateLimitInterceptor;
+import com.auth0.net.HttpMetrics;
 import com.auth0.net.Telemetry;
 import com.auth0.utils.Asserts;
 import java.util.HashMap;
@@ -36,6 +39,13 @@ public class ManagementApiBuilder {
     private String clientId = null;
     private String clientSecret = null;
     private String audience = null;
+    private AdaptiveRateLimitInterceptor rateLimiter = null;
+    private HttpMetrics metrics = null;
+    private ConnectionOptions connectionOptions = null;
+    private boolean coalesceGetRequests = false;
+    private ResponseCache responseCache = null;
+    private OAuthTokenSupplier tokenSupplier = null;
+    private OAuthTokenSupplier activeTokenSupplier = null;
 
     /**
      * Sets token
@@ -113,6 +123,21 @@ public class ManagementApiBuilder {
         return this;
     }
 
+    /**
+     * Authenticates with the given client credentials token supplier instead of one created from
+     * {@link #clientCredentials(String, String)}. The supplier belongs to the caller: it is not closed with the
+     * client, and can be shared by several clients. Use it to refresh tokens in the background with a
+     * {@link TokenRefreshConfig}, and call {@link OAuthTokenSupplier#close()} once the clients are no longer used
+     * to stop the refresh.
+     *
+     * @param tokenSupplier The caller-owned token supplier
+     * @return This builder for method chaining
+     */
+    public ManagementApiBuilder tokenSupplier(OAuthTokenSupplier tokenSupplier) {
+        this.tokenSupplier = tokenSupplier;
+        return this;
+    }
+
     /**
      * Sets the custom domain for the Auth0-Custom-Domain header.
      * When configured, the header is automatically sent on whitelisted API endpoints
@@ -163,6 +188,70 @@ public class ManagementApiBuilder {
         return this;
     }
 
+    /**
+     * Paces requests so that they stay within the rate limits reported by the Management API, rather than only
+     * retrying once a request was rejected with a 429. Not enabled by default.
+     *
+     * @param rateLimiter The rate limiter to install. Can be shared with other clients to share its learned limits.
+     * @return This builder for method chaining
+     */
+    public ManagementApiBuilder rateLimiter(AdaptiveRateLimitInterceptor rateLimiter) {
+        this.rateLimiter = rateLimiter;
+        return this;
+    }
+
+    /**
+     * Configures the connection pool size and keep-alive, the concurrency limits, HTTP/2 and connection
+     * pre-warming. Clients configured with the same options, including the Authentication API client, share their
+     * connections. Not set by default, in which case OkHttp allows 5 concurrent requests to the tenant domain.
+     *
+     * @param connectionOptions The connection options
+     * @return This builder for method chaining
+     */
+    public ManagementApiBuilder connectionOptions(ConnectionOptions connectionOptions) {
+        this.connectionOptions = connectionOptions;
+        return this;
+    }
+
+    /**
+     * Coalesces concurrent identical GET requests, such as lookups of the same user from many threads, into a
+     * single request whose response is shared by all of them. Off by default.
+     *
+     * @param coalesceGetRequests Whether to coalesce concurrent identical GET requests
+     * @return This builder for method chaining
+     * @see SingleFlightInterceptor
+     */
+    public ManagementApiBuilder coalesceGetRequests(boolean coalesceGetRequests) {
+        this.coalesceGetRequests = coalesceGetRequests;
+        return this;
+    }
+
+    /**
+     * Caches the responses of read-mostly resources, such as tenant settings, roles or connections, for the time
+     * to live configured per resource. Updates and deletes made through this client invalidate the cached
+     * responses of the resource they modify. Not enabled by default.
+     *
+     * @param responseCache The cache to serve GET requests from
+     * @return This builder for method chaining
+     * @see ResponseCache
+     */
+    public ManagementApiBuilder responseCache(ResponseCache responseCache) {
+        this.responseCache = responseCache;
+        return this;
+    }
+
+    /**
+     * Reports request latencies, retries, rate limits and token fetch latencies to the given metrics. Not enabled
+     * by default.
+     *
+     * @param metrics The metrics to report to. Can be shared with other clients.
+     * @return This builder for method chaining
+     */
+    public ManagementApiBuilder metrics(HttpMetrics metrics) {
+        this.metrics = metrics;
+        return this;
+    }
+
     /**
      * Sets the underlying OkHttp client
      */
@@ -218,6 +307,19 @@ public class ManagementApiBuilder {
         setTimeouts(builder);
         setRetries(builder);
         setLogging(builder);
+        if (this.rateLimiter != null) {
+            builder.addInterceptor(this.rateLimiter);
+        }
+        if (this.metrics != null) {
+            builder.metrics(this.metrics);
+        }
+        if (this.connectionOptions != null) {
+            builder.connectionOptions(this.connectionOptions);
+        }
+        builder.coalesceGetRequests(this.coalesceGetRequests);
+        if (this.responseCache != null) {
+            builder.responseCache(this.responseCache);
+        }
         for (Map.Entry<String, String> header : this.customHeaders.entrySet()) {
             builder.addHeader(header.getKey(), header.getValue());
         }
@@ -229,7 +331,13 @@ public class ManagementApiBuilder {
             builder.telemetry(this.telemetry);
         }
         setAdditional(builder);
-        return builder.build();
+        ClientOptions clientOptions = builder.build();
+        if (this.activeTokenSupplier != null) {
+            // token requests share the connections, but not the interceptors, of the API client
+            this.activeTokenSupplier.useHttpClient(clientOptions.httpClient());
+            this.activeTokenSupplier.useMetrics(this.metrics);
+        }
+        return clientOptions;
     }
 
     /**
@@ -272,16 +380,15 @@ public class ManagementApiBuilder {
      *
      * <p>When client credentials are configured, creates an OAuthTokenSupplier that
      * automatically fetches and caches access tokens, refreshing them before expiry.
+     * A supplier set with {@link #tokenSupplier(OAuthTokenSupplier)} is used as is.
      *
      * @param builder The ClientOptions.Builder to configure
      */
     protected void setAuthentication(ClientOptions.Builder builder) {
-        if (this.clientId != null && this.clientSecret != null) {
+        if (this.tokenSupplier != null || (this.clientId != null && this.clientSecret != null)) {
             // OAuth client credentials flow with automatic token management
-            String baseUrl = getBaseUrl();
-            String aud = this.audience != null ? this.audience : baseUrl + "/api/v2/";
-
-            OAuthTokenSupplier tokenSupplier = new OAuthTokenSupplier(this.clientId, this.clientSecret, baseUrl, aud);
+            OAuthTokenSupplier tokenSupplier = this.tokenSupplier != null ? this.tokenSupplier : createTokenSupplier();
+            this.activeTokenSupplier = tokenSupplier;
 
             builder.addHeader("Authorization", (Supplier<String>) () -> "Bearer " + tokenSupplier.get());
         } else if (this.token != null) {
@@ -290,6 +397,12 @@ public class ManagementApiBuilder {
         }
     }
 
+    private OAuthTokenSupplier createTokenSupplier() {
+        String baseUrl = getBaseUrl();
+        String aud = this.audience != null ? this.audience : baseUrl + "/api/v2/";
+        return new OAuthTokenSupplier(this.clientId, this.clientSecret, baseUrl, aud);
+    }
+
     /**
      * Sets the request timeout configuration.
      * Override this method to customize timeout behavior.
@@ -394,13 +507,14 @@ public class ManagementApiBuilder {
      * @throws RuntimeException if authentication is not configured
      */
     public ManagementApi build() {
-        // Validate authentication: require either token OR clientCredentials
+        // Validate authentication: require either token OR clientCredentials OR a token supplier
         boolean hasToken = this.token != null;
-        boolean hasClientCredentials = this.clientId != null && this.clientSecret != null;
+        boolean hasClientCredentials =
+                (this.clientId != null && this.clientSecret != null) || this.tokenSupplier != null;
 
         if (!hasToken && !hasClientCredentials) {
-            throw new RuntimeException(
-                    "Please provide authentication: either token() or clientCredentials(clientId, clientSecret)");
+            throw new RuntimeException("Please provide authentication: either token(), "
+                    + "clientCredentials(clientId, clientSecret) or tokenSupplier(tokenSupplier)");
         }
 
         // Validate that if clientId is provided, clientSecret is also provided
@@ -104,10 +104,9 @@ public class RawAgentsClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
                 ListAgentsResponseContent parsedResponse =
-                        ObjectMappers.JSON_MAPPER.readValue(responseBodyString, ListAgentsResponseContent.class);
+                        ObjectMappers.readValue(responseBody, ListAgentsResponseContent.class);
                 Optional<String> startingAfter = parsedResponse.getNext();
                 ListAgentsRequestParameters nextRequest = ListAgentsRequestParameters.builder()
                         .from(request)
@@ -121,6 +120,7 @@ public class RawAgentsClient {
                                         .body()),
                         response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -198,11 +198,11 @@ public class RawAgentsClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
                 return new ManagementApiHttpResponse<>(
-                        ObjectMappers.JSON_MAPPER.readValue(responseBodyString, AgentResponseContent.class), response);
+                        ObjectMappers.readValue(responseBody, AgentResponseContent.class), response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -275,11 +275,11 @@ public class RawAgentsClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
                 return new ManagementApiHttpResponse<>(
-                        ObjectMappers.JSON_MAPPER.readValue(responseBodyString, AgentResponseContent.class), response);
+                        ObjectMappers.readValue(responseBody, AgentResponseContent.class), response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 401:
@@ -445,11 +445,11 @@ public class RawAgentsClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
                 return new ManagementApiHttpResponse<>(
-                        ObjectMappers.JSON_MAPPER.readValue(responseBodyString, AgentResponseContent.class), response);
+                        ObjectMappers.readValue(responseBody, AgentResponseContent.class), response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
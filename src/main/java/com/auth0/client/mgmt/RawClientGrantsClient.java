@@ -134,10 +134,9 @@ public class RawClientGrantsClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
-                ListClientGrantPaginatedResponseContent parsedResponse = ObjectMappers.JSON_MAPPER.readValue(
-                        responseBodyString, ListClientGrantPaginatedResponseContent.class);
+                ListClientGrantPaginatedResponseContent parsedResponse =
+                        ObjectMappers.readValue(responseBody, ListClientGrantPaginatedResponseContent.class);
                 Optional<String> startingAfter = parsedResponse.getNext();
                 ListClientGrantsRequestParameters nextRequest = ListClientGrantsRequestParameters.builder()
                         .from(request)
@@ -152,6 +151,7 @@ public class RawClientGrantsClient {
                                         .body()),
                         response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 401:
@@ -226,12 +226,11 @@ public class RawClientGrantsClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
                 return new ManagementApiHttpResponse<>(
-                        ObjectMappers.JSON_MAPPER.readValue(responseBodyString, CreateClientGrantResponseContent.class),
-                        response);
+                        ObjectMappers.readValue(responseBody, CreateClientGrantResponseContent.class), response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -309,12 +308,11 @@ public class RawClientGrantsClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
                 return new ManagementApiHttpResponse<>(
-                        ObjectMappers.JSON_MAPPER.readValue(responseBodyString, GetClientGrantResponseContent.class),
-                        response);
+                        ObjectMappers.readValue(responseBody, GetClientGrantResponseContent.class), response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 401:
@@ -482,12 +480,11 @@ public class RawClientGrantsClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
                 return new ManagementApiHttpResponse<>(
-                        ObjectMappers.JSON_MAPPER.readValue(responseBodyString, UpdateClientGrantResponseContent.class),
-                        response);
+                        ObjectMappers.readValue(responseBody, UpdateClientGrantResponseContent.class), response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
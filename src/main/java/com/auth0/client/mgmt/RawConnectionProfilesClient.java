@@ -110,10 +110,9 @@ public class RawConnectionProfilesClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
-                ListConnectionProfilesPaginatedResponseContent parsedResponse = ObjectMappers.JSON_MAPPER.readValue(
-                        responseBodyString, ListConnectionProfilesPaginatedResponseContent.class);
+                ListConnectionProfilesPaginatedResponseContent parsedResponse =
+                        ObjectMappers.readValue(responseBody, ListConnectionProfilesPaginatedResponseContent.class);
                 Optional<String> startingAfter = parsedResponse.getNext();
                 ListConnectionProfileRequestParameters nextRequest = ListConnectionProfileRequestParameters.builder()
                         .from(request)
@@ -128,6 +127,7 @@ public class RawConnectionProfilesClient {
                                         .body()),
                         response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -206,13 +206,11 @@ public class RawConnectionProfilesClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
                 return new ManagementApiHttpResponse<>(
-                        ObjectMappers.JSON_MAPPER.readValue(
-                                responseBodyString, CreateConnectionProfileResponseContent.class),
-                        response);
+                        ObjectMappers.readValue(responseBody, CreateConnectionProfileResponseContent.class), response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -285,13 +283,12 @@ public class RawConnectionProfilesClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
                 return new ManagementApiHttpResponse<>(
-                        ObjectMappers.JSON_MAPPER.readValue(
-                                responseBodyString, ListConnectionProfileTemplateResponseContent.class),
+                        ObjectMappers.readValue(responseBody, ListConnectionProfileTemplateResponseContent.class),
                         response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 401:
@@ -359,13 +356,12 @@ public class RawConnectionProfilesClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
                 return new ManagementApiHttpResponse<>(
-                        ObjectMappers.JSON_MAPPER.readValue(
-                                responseBodyString, GetConnectionProfileTemplateResponseContent.class),
+                        ObjectMappers.readValue(responseBody, GetConnectionProfileTemplateResponseContent.class),
                         response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 401:
@@ -436,13 +432,11 @@ public class RawConnectionProfilesClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
                 return new ManagementApiHttpResponse<>(
-                        ObjectMappers.JSON_MAPPER.readValue(
-                                responseBodyString, GetConnectionProfileResponseContent.class),
-                        response);
+                        ObjectMappers.readValue(responseBody, GetConnectionProfileResponseContent.class), response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 401:
@@ -607,13 +601,11 @@ public class RawConnectionProfilesClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
                 return new ManagementApiHttpResponse<>(
-                        ObjectMappers.JSON_MAPPER.readValue(
-                                responseBodyString, UpdateConnectionProfileResponseContent.class),
-                        response);
+                        ObjectMappers.readValue(responseBody, UpdateConnectionProfileResponseContent.class), response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
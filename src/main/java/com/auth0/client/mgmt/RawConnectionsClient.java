@@ -179,10 +179,9 @@ public class RawConnectionsClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
-                ListConnectionsCheckpointPaginatedResponseContent parsedResponse = ObjectMappers.JSON_MAPPER.readValue(
-                        responseBodyString, ListConnectionsCheckpointPaginatedResponseContent.class);
+                ListConnectionsCheckpointPaginatedResponseContent parsedResponse =
+                        ObjectMappers.readValue(responseBody, ListConnectionsCheckpointPaginatedResponseContent.class);
                 Optional<String> startingAfter = parsedResponse.getNext();
                 ListConnectionsQueryParameters nextRequest = ListConnectionsQueryParameters.builder()
                         .from(request)
@@ -196,6 +195,7 @@ public class RawConnectionsClient {
                                         .body()),
                         response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -275,12 +275,11 @@ public class RawConnectionsClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
                 return new ManagementApiHttpResponse<>(
-                        ObjectMappers.JSON_MAPPER.readValue(responseBodyString, CreateConnectionResponseContent.class),
-                        response);
+                        ObjectMappers.readValue(responseBody, CreateConnectionResponseContent.class), response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -377,12 +376,11 @@ public class RawConnectionsClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
                 return new ManagementApiHttpResponse<>(
-                        ObjectMappers.JSON_MAPPER.readValue(responseBodyString, GetConnectionResponseContent.class),
-                        response);
+                        ObjectMappers.readValue(responseBody, GetConnectionResponseContent.class), response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -558,12 +556,11 @@ public class RawConnectionsClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
                 return new ManagementApiHttpResponse<>(
-                        ObjectMappers.JSON_MAPPER.readValue(responseBodyString, UpdateConnectionResponseContent.class),
-                        response);
+                        ObjectMappers.readValue(responseBody, UpdateConnectionResponseContent.class), response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
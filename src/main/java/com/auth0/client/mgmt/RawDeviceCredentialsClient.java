@@ -123,11 +123,9 @@ public class RawDeviceCredentialsClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
-                ListDeviceCredentialsOffsetPaginatedResponseContent parsedResponse =
-                        ObjectMappers.JSON_MAPPER.readValue(
-                                responseBodyString, ListDeviceCredentialsOffsetPaginatedResponseContent.class);
+                ListDeviceCredentialsOffsetPaginatedResponseContent parsedResponse = ObjectMappers.readValue(
+                        responseBody, ListDeviceCredentialsOffsetPaginatedResponseContent.class);
                 int newPageNumber =
                         request.getPage().map((Integer page) -> page + 1).orElse(1);
                 ListDeviceCredentialsRequestParameters nextRequest = ListDeviceCredentialsRequestParameters.builder()
@@ -142,6 +140,7 @@ public class RawDeviceCredentialsClient {
                                         .body()),
                         response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -222,13 +221,12 @@ public class RawDeviceCredentialsClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
                 return new ManagementApiHttpResponse<>(
-                        ObjectMappers.JSON_MAPPER.readValue(
-                                responseBodyString, CreatePublicKeyDeviceCredentialResponseContent.class),
+                        ObjectMappers.readValue(responseBody, CreatePublicKeyDeviceCredentialResponseContent.class),
                         response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -99,10 +99,9 @@ public class RawEventStreamsClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
                 ListEventStreamsResponseContent parsedResponse =
-                        ObjectMappers.JSON_MAPPER.readValue(responseBodyString, ListEventStreamsResponseContent.class);
+                        ObjectMappers.readValue(responseBody, ListEventStreamsResponseContent.class);
                 Optional<String> startingAfter = parsedResponse.getNext();
                 ListEventStreamsRequestParameters nextRequest = ListEventStreamsRequestParameters.builder()
                         .from(request)
@@ -117,6 +116,7 @@ public class RawEventStreamsClient {
                                         .body()),
                         response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -188,12 +188,11 @@ public class RawEventStreamsClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
                 return new ManagementApiHttpResponse<>(
-                        ObjectMappers.JSON_MAPPER.readValue(responseBodyString, CreateEventStreamResponseContent.class),
-                        response);
+                        ObjectMappers.readValue(responseBody, CreateEventStreamResponseContent.class), response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -260,12 +259,11 @@ public class RawEventStreamsClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
                 return new ManagementApiHttpResponse<>(
-                        ObjectMappers.JSON_MAPPER.readValue(responseBodyString, GetEventStreamResponseContent.class),
-                        response);
+                        ObjectMappers.readValue(responseBody, GetEventStreamResponseContent.class), response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 401:
@@ -415,12 +413,11 @@ public class RawEventStreamsClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
                 return new ManagementApiHttpResponse<>(
-                        ObjectMappers.JSON_MAPPER.readValue(responseBodyString, UpdateEventStreamResponseContent.class),
-                        response);
+                        ObjectMappers.readValue(responseBody, UpdateEventStreamResponseContent.class), response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -495,13 +492,12 @@ public class RawEventStreamsClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
                 return new ManagementApiHttpResponse<>(
-                        ObjectMappers.JSON_MAPPER.readValue(
-                                responseBodyString, CreateEventStreamTestEventResponseContent.class),
+                        ObjectMappers.readValue(responseBody, CreateEventStreamTestEventResponseContent.class),
                         response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 401:
@@ -125,10 +125,9 @@ public class RawGroupsClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
-                ListGroupsPaginatedResponseContent parsedResponse = ObjectMappers.JSON_MAPPER.readValue(
-                        responseBodyString, ListGroupsPaginatedResponseContent.class);
+                ListGroupsPaginatedResponseContent parsedResponse =
+                        ObjectMappers.readValue(responseBody, ListGroupsPaginatedResponseContent.class);
                 Optional<String> startingAfter = parsedResponse.getNext();
                 ListGroupsRequestParameters nextRequest = ListGroupsRequestParameters.builder()
                         .from(request)
@@ -141,6 +140,7 @@ public class RawGroupsClient {
                                 .body()),
                         response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -210,12 +210,11 @@ public class RawGroupsClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
                 return new ManagementApiHttpResponse<>(
-                        ObjectMappers.JSON_MAPPER.readValue(responseBodyString, GetGroupResponseContent.class),
-                        response);
+                        ObjectMappers.readValue(responseBody, GetGroupResponseContent.class), response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
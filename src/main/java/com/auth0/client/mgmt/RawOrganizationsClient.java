@@ -174,10 +174,9 @@ public class RawOrganizationsClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
-                ListOrganizationsPaginatedResponseContent parsedResponse = ObjectMappers.JSON_MAPPER.readValue(
-                        responseBodyString, ListOrganizationsPaginatedResponseContent.class);
+                ListOrganizationsPaginatedResponseContent parsedResponse =
+                        ObjectMappers.readValue(responseBody, ListOrganizationsPaginatedResponseContent.class);
                 Optional<String> startingAfter = parsedResponse.getNext();
                 ListOrganizationsRequestParameters nextRequest = ListOrganizationsRequestParameters.builder()
                         .from(request)
@@ -191,6 +190,7 @@ public class RawOrganizationsClient {
                                         .body()),
                         response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -269,13 +269,11 @@ public class RawOrganizationsClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
                 return new ManagementApiHttpResponse<>(
-                        ObjectMappers.JSON_MAPPER.readValue(
-                                responseBodyString, CreateOrganizationResponseContent.class),
-                        response);
+                        ObjectMappers.readValue(responseBody, CreateOrganizationResponseContent.class), response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -349,13 +347,11 @@ public class RawOrganizationsClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
                 return new ManagementApiHttpResponse<>(
-                        ObjectMappers.JSON_MAPPER.readValue(
-                                responseBodyString, GetOrganizationByNameResponseContent.class),
-                        response);
+                        ObjectMappers.readValue(responseBody, GetOrganizationByNameResponseContent.class), response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -428,12 +424,11 @@ public class RawOrganizationsClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
                 return new ManagementApiHttpResponse<>(
-                        ObjectMappers.JSON_MAPPER.readValue(responseBodyString, GetOrganizationResponseContent.class),
-                        response);
+                        ObjectMappers.readValue(responseBody, GetOrganizationResponseContent.class), response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -609,13 +604,11 @@ public class RawOrganizationsClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
                 return new ManagementApiHttpResponse<>(
-                        ObjectMappers.JSON_MAPPER.readValue(
-                                responseBodyString, UpdateOrganizationResponseContent.class),
-                        response);
+                        ObjectMappers.readValue(responseBody, UpdateOrganizationResponseContent.class), response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
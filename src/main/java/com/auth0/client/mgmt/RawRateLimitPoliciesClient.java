@@ -108,10 +108,9 @@ public class RawRateLimitPoliciesClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
-                ListRateLimitPoliciesPaginatedResponseContent parsedResponse = ObjectMappers.JSON_MAPPER.readValue(
-                        responseBodyString, ListRateLimitPoliciesPaginatedResponseContent.class);
+                ListRateLimitPoliciesPaginatedResponseContent parsedResponse =
+                        ObjectMappers.readValue(responseBody, ListRateLimitPoliciesPaginatedResponseContent.class);
                 Optional<String> startingAfter = parsedResponse.getNext();
                 ListRateLimitPoliciesRequestParameters nextRequest = ListRateLimitPoliciesRequestParameters.builder()
                         .from(request)
@@ -126,6 +125,7 @@ public class RawRateLimitPoliciesClient {
                                         .body()),
                         response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -198,13 +198,11 @@ public class RawRateLimitPoliciesClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
                 return new ManagementApiHttpResponse<>(
-                        ObjectMappers.JSON_MAPPER.readValue(
-                                responseBodyString, CreateRateLimitPolicyResponseContent.class),
-                        response);
+                        ObjectMappers.readValue(responseBody, CreateRateLimitPolicyResponseContent.class), response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -271,13 +269,11 @@ public class RawRateLimitPoliciesClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
                 return new ManagementApiHttpResponse<>(
-                        ObjectMappers.JSON_MAPPER.readValue(
-                                responseBodyString, GetRateLimitPolicyResponseContent.class),
-                        response);
+                        ObjectMappers.readValue(responseBody, GetRateLimitPolicyResponseContent.class), response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 401:
@@ -418,13 +414,11 @@ public class RawRateLimitPoliciesClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
                 return new ManagementApiHttpResponse<>(
-                        ObjectMappers.JSON_MAPPER.readValue(
-                                responseBodyString, UpdateRateLimitPolicyResponseContent.class),
-                        response);
+                        ObjectMappers.readValue(responseBody, UpdateRateLimitPolicyResponseContent.class), response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
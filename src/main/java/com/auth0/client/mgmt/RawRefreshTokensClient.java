@@ -105,10 +105,9 @@ public class RawRefreshTokensClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
-                GetRefreshTokensPaginatedResponseContent parsedResponse = ObjectMappers.JSON_MAPPER.readValue(
-                        responseBodyString, GetRefreshTokensPaginatedResponseContent.class);
+                GetRefreshTokensPaginatedResponseContent parsedResponse =
+                        ObjectMappers.readValue(responseBody, GetRefreshTokensPaginatedResponseContent.class);
                 Optional<String> startingAfter = parsedResponse.getNext();
                 GetRefreshTokensRequestParameters nextRequest = GetRefreshTokensRequestParameters.builder()
                         .from(request)
@@ -123,6 +122,7 @@ public class RawRefreshTokensClient {
                                         .body()),
                         response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -290,12 +290,11 @@ public class RawRefreshTokensClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
                 return new ManagementApiHttpResponse<>(
-                        ObjectMappers.JSON_MAPPER.readValue(responseBodyString, GetRefreshTokenResponseContent.class),
-                        response);
+                        ObjectMappers.readValue(responseBody, GetRefreshTokenResponseContent.class), response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -466,13 +465,11 @@ public class RawRefreshTokensClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
                 return new ManagementApiHttpResponse<>(
-                        ObjectMappers.JSON_MAPPER.readValue(
-                                responseBodyString, UpdateRefreshTokenResponseContent.class),
-                        response);
+                        ObjectMappers.readValue(responseBody, UpdateRefreshTokenResponseContent.class), response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -108,10 +108,9 @@ public class RawSelfServiceProfilesClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
-                ListSelfServiceProfilesPaginatedResponseContent parsedResponse = ObjectMappers.JSON_MAPPER.readValue(
-                        responseBodyString, ListSelfServiceProfilesPaginatedResponseContent.class);
+                ListSelfServiceProfilesPaginatedResponseContent parsedResponse =
+                        ObjectMappers.readValue(responseBody, ListSelfServiceProfilesPaginatedResponseContent.class);
                 int newPageNumber =
                         request.getPage().map((Integer page) -> page + 1).orElse(1);
                 ListSelfServiceProfilesRequestParameters nextRequest =
@@ -127,6 +126,7 @@ public class RawSelfServiceProfilesClient {
                                         .body()),
                         response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 401:
@@ -205,13 +205,11 @@ public class RawSelfServiceProfilesClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
                 return new ManagementApiHttpResponse<>(
-                        ObjectMappers.JSON_MAPPER.readValue(
-                                responseBodyString, CreateSelfServiceProfileResponseContent.class),
-                        response);
+                        ObjectMappers.readValue(responseBody, CreateSelfServiceProfileResponseContent.class), response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -288,13 +286,11 @@ public class RawSelfServiceProfilesClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
                 return new ManagementApiHttpResponse<>(
-                        ObjectMappers.JSON_MAPPER.readValue(
-                                responseBodyString, GetSelfServiceProfileResponseContent.class),
-                        response);
+                        ObjectMappers.readValue(responseBody, GetSelfServiceProfileResponseContent.class), response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -471,13 +467,11 @@ public class RawSelfServiceProfilesClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
                 return new ManagementApiHttpResponse<>(
-                        ObjectMappers.JSON_MAPPER.readValue(
-                                responseBodyString, UpdateSelfServiceProfileResponseContent.class),
-                        response);
+                        ObjectMappers.readValue(responseBody, UpdateSelfServiceProfileResponseContent.class), response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -136,10 +136,9 @@ public class RawTokenExchangeProfilesClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
-                ListTokenExchangeProfileResponseContent parsedResponse = ObjectMappers.JSON_MAPPER.readValue(
-                        responseBodyString, ListTokenExchangeProfileResponseContent.class);
+                ListTokenExchangeProfileResponseContent parsedResponse =
+                        ObjectMappers.readValue(responseBody, ListTokenExchangeProfileResponseContent.class);
                 Optional<String> startingAfter = parsedResponse.getNext();
                 TokenExchangeProfilesListRequest nextRequest = TokenExchangeProfilesListRequest.builder()
                         .from(request)
@@ -154,6 +153,7 @@ public class RawTokenExchangeProfilesClient {
                                         .body()),
                         response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -234,13 +234,12 @@ public class RawTokenExchangeProfilesClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
                 return new ManagementApiHttpResponse<>(
-                        ObjectMappers.JSON_MAPPER.readValue(
-                                responseBodyString, CreateTokenExchangeProfileResponseContent.class),
+                        ObjectMappers.readValue(responseBody, CreateTokenExchangeProfileResponseContent.class),
                         response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -316,13 +315,11 @@ public class RawTokenExchangeProfilesClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
                 return new ManagementApiHttpResponse<>(
-                        ObjectMappers.JSON_MAPPER.readValue(
-                                responseBodyString, GetTokenExchangeProfileResponseContent.class),
-                        response);
+                        ObjectMappers.readValue(responseBody, GetTokenExchangeProfileResponseContent.class), response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
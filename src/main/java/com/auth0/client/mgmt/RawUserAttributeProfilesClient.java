@@ -110,10 +110,9 @@ public class RawUserAttributeProfilesClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
-                ListUserAttributeProfilesPaginatedResponseContent parsedResponse = ObjectMappers.JSON_MAPPER.readValue(
-                        responseBodyString, ListUserAttributeProfilesPaginatedResponseContent.class);
+                ListUserAttributeProfilesPaginatedResponseContent parsedResponse =
+                        ObjectMappers.readValue(responseBody, ListUserAttributeProfilesPaginatedResponseContent.class);
                 Optional<String> startingAfter = parsedResponse.getNext();
                 ListUserAttributeProfileRequestParameters nextRequest =
                         ListUserAttributeProfileRequestParameters.builder()
@@ -129,6 +128,7 @@ public class RawUserAttributeProfilesClient {
                                         .body()),
                         response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -207,13 +207,12 @@ public class RawUserAttributeProfilesClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
                 return new ManagementApiHttpResponse<>(
-                        ObjectMappers.JSON_MAPPER.readValue(
-                                responseBodyString, CreateUserAttributeProfileResponseContent.class),
+                        ObjectMappers.readValue(responseBody, CreateUserAttributeProfileResponseContent.class),
                         response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -286,13 +285,12 @@ public class RawUserAttributeProfilesClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
                 return new ManagementApiHttpResponse<>(
-                        ObjectMappers.JSON_MAPPER.readValue(
-                                responseBodyString, ListUserAttributeProfileTemplateResponseContent.class),
+                        ObjectMappers.readValue(responseBody, ListUserAttributeProfileTemplateResponseContent.class),
                         response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 401:
@@ -360,13 +358,12 @@ public class RawUserAttributeProfilesClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
                 return new ManagementApiHttpResponse<>(
-                        ObjectMappers.JSON_MAPPER.readValue(
-                                responseBodyString, GetUserAttributeProfileTemplateResponseContent.class),
+                        ObjectMappers.readValue(responseBody, GetUserAttributeProfileTemplateResponseContent.class),
                         response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 401:
@@ -437,13 +434,11 @@ public class RawUserAttributeProfilesClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
                 return new ManagementApiHttpResponse<>(
-                        ObjectMappers.JSON_MAPPER.readValue(
-                                responseBodyString, GetUserAttributeProfileResponseContent.class),
-                        response);
+                        ObjectMappers.readValue(responseBody, GetUserAttributeProfileResponseContent.class), response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 401:
@@ -608,13 +603,12 @@ public class RawUserAttributeProfilesClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
                 return new ManagementApiHttpResponse<>(
-                        ObjectMappers.JSON_MAPPER.readValue(
-                                responseBodyString, UpdateUserAttributeProfileResponseContent.class),
+                        ObjectMappers.readValue(responseBody, UpdateUserAttributeProfileResponseContent.class),
                         response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -109,10 +109,9 @@ public class RawUserGrantsClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
-                ListUserGrantsOffsetPaginatedResponseContent parsedResponse = ObjectMappers.JSON_MAPPER.readValue(
-                        responseBodyString, ListUserGrantsOffsetPaginatedResponseContent.class);
+                ListUserGrantsOffsetPaginatedResponseContent parsedResponse =
+                        ObjectMappers.readValue(responseBody, ListUserGrantsOffsetPaginatedResponseContent.class);
                 int newPageNumber =
                         request.getPage().map((Integer page) -> page + 1).orElse(1);
                 ListUserGrantsRequestParameters nextRequest = ListUserGrantsRequestParameters.builder()
@@ -126,6 +125,7 @@ public class RawUserGrantsClient {
                                         .body()),
                         response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 401:
@@ -0,0 +1,218 @@
+package com.auth0.client.mgmt;
+
+import com.auth0.client.mgmt.core.ManagementException;
+import com.auth0.client.mgmt.core.ObjectMappers;
+import com.auth0.client.mgmt.types.JobFileFormatEnum;
+import com.auth0.client.mgmt.types.UserResponseSchema;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Reads the users of a user export file one at a time, so that memory use does not grow with the size of the
+ * export.
+ *
+ * <p>Files in the {@code json} format hold one user object per line. Files in the {@code csv} format start with a
+ * header row naming the exported fields; each following row is mapped onto those names, so columns exported under
+ * their default name populate the matching {@link UserResponseSchema} properties and any other column is available
+ * through {@link UserResponseSchema#getAdditionalProperties()}. Gzip-compressed input, as produced by export jobs,
+ * is decompressed on the fly.
+ *
+ * <p>Readers are not thread-safe and must be closed to release the underlying stream.
+ *
+ * @see UserExportRunner
+ */
+public final class UserExportReader implements Iterator<UserResponseSchema>, Closeable {
+    private final BufferedReader reader;
+    private final boolean csv;
+    private List<String> columns;
+    private UserResponseSchema next;
+    private boolean done;
+
+    private UserExportReader(BufferedReader reader, boolean csv) {
+        this.reader = reader;
+        this.csv = csv;
+    }
+
+    /**
+     * Creates a reader over an export file. The stream is closed when the reader is closed.
+     *
+     * @param input the contents of the export file, gzip-compressed or not.
+     * @param format the format the export was requested in.
+     * @return a reader positioned before the first user.
+     * @throws IOException if the start of the stream cannot be read.
+     */
+    public static UserExportReader open(InputStream input, JobFileFormatEnum format) throws IOException {
+        InputStream buffered = new BufferedInputStream(input);
+        buffered.mark(2);
+        int first = buffered.read();
+        int second = buffered.read();
+        buffered.reset();
+        InputStream decoded = first == 0x1f && second == 0x8b ? new GZIPInputStream(buffered) : buffered;
+        BufferedReader reader = new BufferedReader(new InputStreamReader(decoded, StandardCharsets.UTF_8));
+        return new UserExportReader(reader, !JobFileFormatEnum.JSON.equals(format));
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !done) {
+            try {
+                next = csv ? readCsvUser() : readJsonUser();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read user export", e);
+            }
+            done = next == null;
+        }
+        return next != null;
+    }
+
+    @Override
+    public UserResponseSchema next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        UserResponseSchema user = next;
+        next = null;
+        return user;
+    }
+
+    /**
+     * @return a sequential stream over the remaining users, which closes this reader when it is closed.
+     */
+    public Stream<UserResponseSchema> stream() {
+        return StreamSupport.stream(
+                        Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(this::closeQuietly);
+    }
+
+    @Override
+    public void close() throws IOException {
+        done = true;
+        next = null;
+        reader.close();
+    }
+
+    private void closeQuietly() {
+        try {
+            close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private UserResponseSchema readJsonUser() throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (!line.trim().isEmpty()) {
+                return ObjectMappers.JSON_MAPPER.readValue(line, UserResponseSchema.class);
+            }
+        }
+        return null;
+    }
+
+    private UserResponseSchema readCsvUser() throws IOException {
+        if (columns == null) {
+            columns = readRecord(reader);
+            if (columns == null) {
+                return null;
+            }
+            if (!columns.isEmpty() && columns.get(0).startsWith("\uFEFF")) {
+                columns.set(0, columns.get(0).substring(1));
+            }
+        }
+        List<String> values;
+        do {
+            values = readRecord(reader);
+            if (values == null) {
+                return null;
+            }
+        } while (values.size() == 1 && values.get(0).isEmpty());
+        if (values.size() > columns.size()) {
+            throw new ManagementException("User export row has " + values.size() + " values but the header names "
+                    + columns.size() + " columns");
+        }
+
+        ObjectNode user = ObjectMappers.JSON_MAPPER.createObjectNode();
+        for (int i = 0; i < values.size(); i++) {
+            String value = values.get(i);
+            if (!value.isEmpty()) {
+                user.set(columns.get(i), toNode(value));
+            }
+        }
+        return ObjectMappers.JSON_MAPPER.treeToValue(user, UserResponseSchema.class);
+    }
+
+    /**
+     * Nested values such as metadata and identities are exported as JSON text; parse those so they bind to the
+     * typed properties, and keep everything else as text for Jackson to coerce.
+     */
+    private static JsonNode toNode(String value) {
+        char first = value.charAt(0);
+        if (first == '{' || first == '[') {
+            try {
+                return ObjectMappers.JSON_MAPPER.readTree(value);
+            } catch (IOException e) {
+                // not JSON after all
+            }
+        }
+        return ObjectMappers.JSON_MAPPER.getNodeFactory().textNode(value);
+    }
+
+    /**
+     * Reads one RFC 4180 record. Quoted fields may contain separators, line breaks and doubled quotes.
+     *
+     * @return the fields of the record, or {@code null} at the end of the input.
+     */
+    static List<String> readRecord(Reader reader) throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new ManagementException("User export ends inside a quoted value");
+                }
+                if (c == '"') {
+                    c = reader.read();
+                    if (c != '"') {
+                        quoted = false;
+                        continue;
+                    }
+                }
+                field.append((char) c);
+            } else if (c == -1 || c == '\n') {
+                fields.add(field.toString());
+                return fields;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package com.auth0.client.mgmt;
+
+import com.auth0.client.mgmt.core.ManagementException;
+import com.auth0.client.mgmt.jobs.types.CreateExportUsersRequestContent;
+import com.auth0.client.mgmt.types.CreateExportUsersResponseContent;
+import com.auth0.client.mgmt.types.GetJobResponseContent;
+import com.auth0.client.mgmt.types.JobFileFormatEnum;
+import com.auth0.client.mgmt.types.UserResponseSchema;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.stream.Stream;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * Runs a user export job from start to finish: submits it, waits for it to complete and streams the users in the
+ * resulting file.
+ *
+ * <p>While the job runs, its status is polled with a delay derived from the progress the job reports: half of the
+ * reported time left, or when that is missing, half of the time left extrapolated from the completed percentage.
+ * Without either, the delay doubles after every poll. The delay always stays between the minimum and maximum poll
+ * interval.
+ *
+ * <p>The export file is downloaded over the connections of the {@link JobsClient}, but without its interceptors or
+ * the Management API credentials, so the download is not retried, logged, cached or rate limited as an API request.
+ * It is read one user at a time through a {@link UserExportReader}, so memory use does not depend on the
+ * size of the tenant.
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * UserExportRunner runner = UserExportRunner.builder(client.jobs())
+ *         .request(CreateExportUsersRequestContent.builder()
+ *                 .format(JobFileFormatEnum.JSON)
+ *                 .build())
+ *         .build();
+ *
+ * try (Stream<UserResponseSchema> users = runner.stream()) {
+ *     users.forEach(user -> System.out.println(user.getEmail()));
+ * }
+ * }</pre>
+ *
+ * <p>Defaults:
+ * <ul>
+ *   <li>request: all users of all connections, in the csv format</li>
+ *   <li>minPollInterval: 1 second</li>
+ *   <li>maxPollInterval: 30 seconds</li>
+ *   <li>timeout: 1 hour</li>
+ * </ul>
+ */
+public final class UserExportRunner {
+    private static final String STATUS_COMPLETED = "completed";
+    private static final String STATUS_FAILED = "failed";
+
+    private final JobsClient jobs;
+    private final CreateExportUsersRequestContent request;
+    private final long minPollMillis;
+    private final long maxPollMillis;
+    private final long timeoutMillis;
+
+    private UserExportRunner(Builder builder) {
+        this.jobs = builder.jobs;
+        this.request = builder.request;
+        this.minPollMillis = builder.minPollInterval.toMillis();
+        this.maxPollMillis = builder.maxPollInterval.toMillis();
+        this.timeoutMillis = builder.timeout.toMillis();
+    }
+
+    public static Builder builder(JobsClient jobs) {
+        return new Builder(jobs);
+    }
+
+    /**
+     * Submits the export job and streams the users it exported. The stream must be closed to release the download.
+     *
+     * @return the exported users, in file order.
+     * @throws ManagementException if the job fails, does not complete in time or its file cannot be downloaded.
+     */
+    public Stream<UserResponseSchema> stream() {
+        return open(awaitCompletion()).stream();
+    }
+
+    /**
+     * Submits the export job and waits for it to complete.
+     *
+     * @return the completed job, whose location points at the export file.
+     * @throws ManagementException if the job fails or does not complete in time.
+     */
+    public GetJobResponseContent awaitCompletion() {
+        CreateExportUsersResponseContent created = jobs.usersExports().create(request);
+        return awaitCompletion(created.getId());
+    }
+
+    /**
+     * Waits for an already submitted export job to complete.
+     *
+     * @param jobId the id of the export job.
+     * @return the completed job, whose location points at the export file.
+     * @throws ManagementException if the job fails or does not complete in time.
+     */
+    public GetJobResponseContent awaitCompletion(String jobId) {
+        long start = System.nanoTime();
+        long delay = minPollMillis;
+        while (true) {
+            GetJobResponseContent job = jobs.get(jobId);
+            if (STATUS_COMPLETED.equals(job.getStatus())) {
+                return job;
+            }
+            if (STATUS_FAILED.equals(job.getStatus())) {
+                throw new ManagementException("User export job " + jobId + " failed: "
+                        + job.getStatusDetails().orElse("no details provided"));
+            }
+
+            long elapsed = (System.nanoTime() - start) / 1_000_000;
+            delay = nextDelay(job, delay, elapsed);
+            if (elapsed + delay > timeoutMillis) {
+                throw new ManagementException(
+                        "User export job " + jobId + " did not complete within " + Duration.ofMillis(timeoutMillis));
+            }
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ManagementException("Interrupted while waiting for user export job " + jobId, e);
+            }
+        }
+    }
+
+    /**
+     * Downloads the file of a completed export job and opens a reader over it.
+     *
+     * @param job the completed export job.
+     * @return a reader over the exported users, which must be closed to release the download.
+     * @throws ManagementException if the job has no file or it cannot be downloaded.
+     */
+    public UserExportReader open(GetJobResponseContent job) {
+        String location = job.getLocation()
+                .orElseThrow(() -> new ManagementException("User export job " + job.getId() + " has no file location"));
+        JobFileFormatEnum format = job.getFormat().orElse(request.getFormat().orElse(JobFileFormatEnum.CSV));
+
+        // the file is served from a presigned URL, so none of the API interceptors apply, and it can take longer to
+        // download than an API call is allowed to take
+        OkHttpClient apiClient = jobs.clientOptions.httpClient();
+        OkHttpClient client = new OkHttpClient.Builder()
+                .connectionPool(apiClient.connectionPool())
+                .dispatcher(apiClient.dispatcher())
+                .protocols(apiClient.protocols())
+                .build();
+        Response response = null;
+        try {
+            response =
+                    client.newCall(new Request.Builder().url(location).build()).execute();
+            if (!response.isSuccessful()) {
+                throw new ManagementException("Failed to download user export, status code " + response.code());
+            }
+            return UserExportReader.open(response.body().byteStream(), format);
+        } catch (IOException | RuntimeException e) {
+            if (response != null) {
+                response.close();
+            }
+            if (e instanceof ManagementException) {
+                throw (ManagementException) e;
+            }
+            throw new ManagementException("Failed to download user export", e);
+        }
+    }
+
+    /**
+     * @return the delay before the next poll, in milliseconds.
+     */
+    private long nextDelay(GetJobResponseContent job, long previousDelay, long elapsedMillis) {
+        long delay;
+        int timeLeft = job.getTimeLeftSeconds().orElse(0);
+        int percentageDone = job.getPercentageDone().orElse(0);
+        if (timeLeft > 0) {
+            delay = timeLeft * 1000L / 2;
+        } else if (percentageDone > 0 && percentageDone < 100) {
+            delay = elapsedMillis * (100 - percentageDone) / percentageDone / 2;
+        } else {
+            delay = previousDelay * 2;
+        }
+        return Math.max(minPollMillis, Math.min(maxPollMillis, delay));
+    }
+
+    public static final class Builder {
+        private final JobsClient jobs;
+        private CreateExportUsersRequestContent request =
+                CreateExportUsersRequestContent.builder().build();
+        private Duration minPollInterval = Duration.ofSeconds(1);
+        private Duration maxPollInterval = Duration.ofSeconds(30);
+        private Duration timeout = Duration.ofHours(1);
+
+        private Builder(JobsClient jobs) {
+            if (jobs == null) {
+                throw new IllegalArgumentException("jobs must not be null.");
+            }
+            this.jobs = jobs;
+        }
+
+        /**
+         * Sets the export job to submit, including its connection, format, limit and fields.
+         */
+        public Builder request(CreateExportUsersRequestContent request) {
+            if (request == null) {
+                throw new IllegalArgumentException("request must not be null.");
+            }
+            this.request = request;
+            return this;
+        }
+
+        /**
+         * Sets the shortest time to wait between two job status polls.
+         */
+        public Builder minPollInterval(Duration minPollInterval) {
+            this.minPollInterval = minPollInterval;
+            return this;
+        }
+
+        /**
+         * Sets the longest time to wait between two job status polls.
+         */
+        public Builder maxPollInterval(Duration maxPollInterval) {
+            this.maxPollInterval = maxPollInterval;
+            return this;
+        }
+
+        /**
+         * Sets how long to wait for the job to complete before giving up.
+         */
+        public Builder timeout(Duration timeout) {
+            this.timeout = timeout;
+            return this;
+        }
+
+        public UserExportRunner build() {
+            if (minPollInterval == null || minPollInterval.isNegative() || minPollInterval.isZero()) {
+                throw new IllegalArgumentException("minPollInterval must be positive.");
+            }
+            if (maxPollInterval == null || maxPollInterval.compareTo(minPollInterval) < 0) {
+                throw new IllegalArgumentException("maxPollInterval must not be shorter than minPollInterval.");
+            }
+            if (timeout == null || timeout.isNegative()) {
+                throw new IllegalArgumentException("timeout must not be negative.");
+            }
+            return new UserExportRunner(this);
+        }
+    }
+}
@@ -0,0 +1,467 @@
+package com.auth0.client.mgmt;
+
+import com.auth0.client.mgmt.core.ClientOptions;
+import com.auth0.client.mgmt.core.ManagementApiException;
+import com.auth0.client.mgmt.core.ManagementException;
+import com.auth0.client.mgmt.core.ObjectMappers;
+import com.auth0.client.mgmt.core.RequestOptions;
+import com.auth0.client.mgmt.jobs.types.CreateImportUsersRequestContent;
+import com.auth0.client.mgmt.jobs.types.ErrorsGetResponse;
+import com.auth0.client.mgmt.types.CreateImportUsersResponseContent;
+import com.auth0.client.mgmt.types.GetJobErrorResponseContent;
+import com.auth0.client.mgmt.types.GetJobGenericErrorResponseContent;
+import com.auth0.client.mgmt.types.GetJobResponseContent;
+import com.auth0.client.mgmt.types.GetJobSummary;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import okhttp3.Headers;
+import okhttp3.HttpUrl;
+import okhttp3.MediaType;
+import okhttp3.MultipartBody;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+/**
+ * Imports any number of users into a database connection by splitting them into import jobs that each stay
+ * within the size Auth0 accepts for an import file.
+ *
+ * <p>Users are read one at a time from an iterator and appended to a chunk, written to a temporary file or, if
+ * configured, an in-memory buffer. Once the next user would push the chunk over the maximum size, the chunk is
+ * submitted as an import job and a new one is started, so at most one chunk exists at a time. Submission waits
+ * while the maximum number of jobs is still running, polling their status; a submission rejected with a 429
+ * because other jobs occupy the tenant is retried once a slot frees up.
+ *
+ * <p>When a job finishes, its summary and the users it rejected are collected from the {@link JobsClient} into a
+ * single {@link UserImportReport}.
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * UserImportReport report = UserImportEngine.builder(
+ *                 client.jobs(),
+ *                 CreateImportUsersRequestContent.builder()
+ *                         .connectionId("con_0000000000000001")
+ *                         .upsert(true)
+ *                         .build())
+ *         .build()
+ *         .run(users);
+ * }</pre>
+ *
+ * <p>Defaults:
+ * <ul>
+ *   <li>maxChunkBytes: 500 KB, the largest import file Auth0 accepts</li>
+ *   <li>maxConcurrentJobs: 2</li>
+ *   <li>pollInterval: 5 seconds</li>
+ *   <li>jobTimeout: 1 hour</li>
+ *   <li>chunks are written to temporary files in the default temporary-file directory</li>
+ * </ul>
+ */
+public final class UserImportEngine {
+    static final long DEFAULT_MAX_CHUNK_BYTES = 500 * 1024;
+
+    private static final String STATUS_COMPLETED = "completed";
+    private static final String STATUS_FAILED = "failed";
+    private static final MediaType JSON = MediaType.parse("application/json");
+
+    private final JobsClient jobs;
+    private final CreateImportUsersRequestContent request;
+    private final long maxChunkBytes;
+    private final int maxConcurrentJobs;
+    private final long pollMillis;
+    private final long jobTimeoutMillis;
+    private final Path chunkDirectory;
+    private final boolean inMemory;
+
+    private UserImportEngine(Builder builder) {
+        this.jobs = builder.jobs;
+        this.request = builder.request;
+        this.maxChunkBytes = builder.maxChunkBytes;
+        this.maxConcurrentJobs = builder.maxConcurrentJobs;
+        this.pollMillis = builder.pollInterval.toMillis();
+        this.jobTimeoutMillis = builder.jobTimeout.toMillis();
+        this.chunkDirectory = builder.chunkDirectory;
+        this.inMemory = builder.inMemory;
+    }
+
+    /**
+     * @param jobs the client used to submit and poll the import jobs.
+     * @param request the connection to import into and the options applied to every job.
+     */
+    public static Builder builder(JobsClient jobs, CreateImportUsersRequestContent request) {
+        return new Builder(jobs, request);
+    }
+
+    /**
+     * Imports the given users and waits for all jobs to finish.
+     *
+     * @param users the users to import, in the <a href="https://auth0.com/docs/users/references/bulk-import-database-schema-examples">bulk
+     *              import schema</a>. Each element is serialized to a JSON object, except strings, which are taken to
+     *              already be one.
+     * @return the aggregated outcome of all jobs.
+     * @throws IllegalArgumentException if a single user does not fit into a chunk.
+     * @throws ManagementException if a chunk cannot be written or a job cannot be submitted.
+     */
+    public UserImportReport run(Iterator<?> users) {
+        UserImportReport report = new UserImportReport();
+        List<ActiveJob> active = new ArrayList<>();
+        Chunk chunk = null;
+        try {
+            long index = 0;
+            while (users.hasNext()) {
+                byte[] user = serialize(users.next());
+                if (user.length + 2 > maxChunkBytes) {
+                    throw new IllegalArgumentException(
+                            "User " + index + " is larger than the maximum chunk size of " + maxChunkBytes + " bytes");
+                }
+                if (chunk != null && !chunk.fits(user)) {
+                    submit(chunk, active, report);
+                    chunk = null;
+                }
+                if (chunk == null) {
+                    chunk = new Chunk();
+                }
+                chunk.add(user);
+                index++;
+            }
+            if (chunk != null) {
+                submit(chunk, active, report);
+                chunk = null;
+            }
+            while (!active.isEmpty()) {
+                poll(active, report);
+            }
+            return report;
+        } catch (IOException e) {
+            throw new ManagementException("Failed to write import chunk", e);
+        } finally {
+            if (chunk != null) {
+                chunk.discard();
+            }
+        }
+    }
+
+    private static byte[] serialize(Object user) throws IOException {
+        if (user instanceof String) {
+            return ((String) user).trim().getBytes(StandardCharsets.UTF_8);
+        }
+        return ObjectMappers.JSON_MAPPER.writeValueAsBytes(user);
+    }
+
+    private void submit(Chunk chunk, List<ActiveJob> active, UserImportReport report) throws IOException {
+        chunk.finish();
+        try {
+            long deadline = System.nanoTime() + jobTimeoutMillis * 1_000_000;
+            while (true) {
+                while (active.size() >= maxConcurrentJobs) {
+                    poll(active, report);
+                }
+                try {
+                    String jobId = chunk.upload();
+                    report.jobSubmitted(jobId, chunk.users);
+                    active.add(new ActiveJob(jobId));
+                    return;
+                } catch (ManagementApiException e) {
+                    if (e.statusCode() != 429) {
+                        throw e;
+                    }
+                    // jobs started elsewhere count against the tenant's limit too; wait for one of ours to finish
+                    if (System.nanoTime() - deadline > 0) {
+                        throw e;
+                    }
+                    if (active.isEmpty()) {
+                        sleep();
+                    } else {
+                        poll(active, report);
+                    }
+                }
+            }
+        } finally {
+            chunk.discard();
+        }
+    }
+
+    /**
+     * Polls every running job once, collecting the outcome of those that finished. Waits for the poll interval
+     * if none did.
+     */
+    private void poll(List<ActiveJob> active, UserImportReport report) {
+        boolean finished = false;
+        for (Iterator<ActiveJob> it = active.iterator(); it.hasNext(); ) {
+            ActiveJob job = it.next();
+            GetJobResponseContent status = jobs.get(job.id);
+            if (STATUS_COMPLETED.equals(status.getStatus())) {
+                Optional<GetJobSummary> summary = status.getSummary();
+                summary.ifPresent(report::jobCompleted);
+                if (!summary.isPresent() || summary.get().getFailed().orElse(0) > 0) {
+                    collectRowFailures(job.id, report);
+                }
+            } else if (STATUS_FAILED.equals(status.getStatus())) {
+                report.jobFailed(job.id, status.getStatusDetails().orElse("Job failed"));
+                collectRowFailures(job.id, report);
+            } else if ((System.nanoTime() - job.submittedAt) / 1_000_000 > jobTimeoutMillis) {
+                report.jobFailed(job.id, "Job did not complete within " + Duration.ofMillis(jobTimeoutMillis));
+            } else {
+                continue;
+            }
+            it.remove();
+            finished = true;
+        }
+        if (!finished) {
+            sleep();
+        }
+    }
+
+    private void collectRowFailures(String jobId, UserImportReport report) {
+        jobs.errors()
+                .get(jobId)
+                .ifPresent(errors -> errors.visit(new ErrorsGetResponse.Visitor<Void>() {
+                    @Override
+                    public Void visit(List<GetJobErrorResponseContent> rows) {
+                        for (GetJobErrorResponseContent row : rows) {
+                            report.rowFailed(new UserImportReport.RowFailure(
+                                    jobId,
+                                    row.getUser().orElse(Collections.emptyMap()),
+                                    row.getErrors().orElse(Collections.emptyList())));
+                        }
+                        return null;
+                    }
+
+                    @Override
+                    public Void visit(GetJobGenericErrorResponseContent job) {
+                        // no rows were rejected; a failure of the job as a whole is already reported from its status
+                        return null;
+                    }
+                }));
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(pollMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ManagementException("Interrupted while waiting for user import jobs", e);
+        }
+    }
+
+    /**
+     * Submits a chunk held in memory. The generated client only accepts a file along with the job options, so the
+     * multipart request is built the same way here.
+     */
+    private String upload(byte[] users) {
+        ClientOptions clientOptions = jobs.clientOptions;
+        MultipartBody.Builder multipartBodyBuilder = new MultipartBody.Builder()
+                .setType(MultipartBody.FORM)
+                .addFormDataPart("users", "users.json", RequestBody.create(users, JSON))
+                .addFormDataPart("connection_id", request.getConnectionId());
+        if (request.getUpsert().isPresent()) {
+            multipartBodyBuilder.addFormDataPart(
+                    "upsert", request.getUpsert().get().toString());
+        }
+        if (request.getExternalId().isPresent()) {
+            multipartBodyBuilder.addFormDataPart(
+                    "external_id", request.getExternalId().get());
+        }
+        if (request.getSendCompletionEmail().isPresent()) {
+            multipartBodyBuilder.addFormDataPart(
+                    "send_completion_email",
+                    request.getSendCompletionEmail().get().toString());
+        }
+        Request okhttpRequest = new Request.Builder()
+                .url(HttpUrl.parse(clientOptions.environment().getUrl())
+                        .newBuilder()
+                        .addPathSegments("jobs/users-imports")
+                        .build())
+                .post(multipartBodyBuilder.build())
+                .headers(Headers.of(clientOptions.headers((RequestOptions) null)))
+                .addHeader("Accept", "application/json")
+                .build();
+        try (Response response =
+                clientOptions.httpClient().newCall(okhttpRequest).execute()) {
+            ResponseBody responseBody = response.body();
+            if (response.isSuccessful()) {
+                return ObjectMappers.readValue(responseBody, CreateImportUsersResponseContent.class)
+                        .getId();
+            }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
+            throw new ManagementApiException(
+                    "Error with status code " + response.code(),
+                    response.code(),
+                    ObjectMappers.parseErrorBody(responseBodyString),
+                    response);
+        } catch (IOException e) {
+            throw new ManagementException("Network error executing HTTP request", e);
+        }
+    }
+
+    /**
+     * A JSON array of users being written to a file or buffer.
+     */
+    private final class Chunk {
+        private final File file;
+        private final ByteArrayOutputStream buffer;
+        private final OutputStream out;
+        private long size;
+        private int users;
+
+        Chunk() throws IOException {
+            if (inMemory) {
+                file = null;
+                buffer = new ByteArrayOutputStream();
+                out = buffer;
+            } else {
+                Path path = chunkDirectory != null
+                        ? Files.createTempFile(chunkDirectory, "users-import-", ".json")
+                        : Files.createTempFile("users-import-", ".json");
+                file = path.toFile();
+                buffer = null;
+                out = new BufferedOutputStream(new FileOutputStream(file));
+            }
+            out.write('[');
+            size = 1;
+        }
+
+        boolean fits(byte[] user) {
+            // separator and closing bracket included
+            return size + user.length + 2 <= maxChunkBytes;
+        }
+
+        void add(byte[] user) throws IOException {
+            if (users > 0) {
+                out.write(',');
+                size++;
+            }
+            out.write(user);
+            size += user.length;
+            users++;
+        }
+
+        void finish() throws IOException {
+            out.write(']');
+            out.close();
+        }
+
+        String upload() {
+            if (file != null) {
+                return jobs.usersImports().create(file, request).getId();
+            }
+            return UserImportEngine.this.upload(buffer.toByteArray());
+        }
+
+        void discard() {
+            try {
+                out.close();
+            } catch (IOException e) {
+                // nothing left to flush that matters
+            }
+            if (file != null && !file.delete()) {
+                file.deleteOnExit();
+            }
+        }
+    }
+
+    private static final class ActiveJob {
+        private final String id;
+        private final long submittedAt = System.nanoTime();
+
+        ActiveJob(String id) {
+            this.id = id;
+        }
+    }
+
+    public static final class Builder {
+        private final JobsClient jobs;
+        private final CreateImportUsersRequestContent request;
+        private long maxChunkBytes = DEFAULT_MAX_CHUNK_BYTES;
+        private int maxConcurrentJobs = 2;
+        private Duration pollInterval = Duration.ofSeconds(5);
+        private Duration jobTimeout = Duration.ofHours(1);
+        private Path chunkDirectory;
+        private boolean inMemory;
+
+        private Builder(JobsClient jobs, CreateImportUsersRequestContent request) {
+            if (jobs == null || request == null) {
+                throw new IllegalArgumentException("jobs and request must not be null.");
+            }
+            this.jobs = jobs;
+            this.request = request;
+        }
+
+        /**
+         * Sets the largest size of a single import file, in bytes.
+         */
+        public Builder maxChunkBytes(long maxChunkBytes) {
+            this.maxChunkBytes = maxChunkBytes;
+            return this;
+        }
+
+        /**
+         * Sets how many import jobs may run at the same time. Should not exceed the limit of the tenant.
+         */
+        public Builder maxConcurrentJobs(int maxConcurrentJobs) {
+            this.maxConcurrentJobs = maxConcurrentJobs;
+            return this;
+        }
+
+        /**
+         * Sets how long to wait between two rounds of job status polls.
+         */
+        public Builder pollInterval(Duration pollInterval) {
+            this.pollInterval = pollInterval;
+            return this;
+        }
+
+        /**
+         * Sets how long to wait for a single job before reporting it as failed.
+         */
+        public Builder jobTimeout(Duration jobTimeout) {
+            this.jobTimeout = jobTimeout;
+            return this;
+        }
+
+        /**
+         * Sets the directory chunk files are written to.
+         */
+        public Builder chunkDirectory(Path chunkDirectory) {
+            this.chunkDirectory = chunkDirectory;
+            return this;
+        }
+
+        /**
+         * Sets whether chunks are buffered in memory instead of written to files.
+         */
+        public Builder inMemory(boolean inMemory) {
+            this.inMemory = inMemory;
+            return this;
+        }
+
+        public UserImportEngine build() {
+            if (maxChunkBytes < 3) {
+                throw new IllegalArgumentException("maxChunkBytes is too small to hold a user.");
+            }
+            if (maxConcurrentJobs < 1) {
+                throw new IllegalArgumentException("maxConcurrentJobs must be at least 1.");
+            }
+            if (pollInterval == null || pollInterval.isNegative()) {
+                throw new IllegalArgumentException("pollInterval must not be negative.");
+            }
+            if (jobTimeout == null || jobTimeout.isNegative()) {
+                throw new IllegalArgumentException("jobTimeout must not be negative.");
+            }
+            return new UserImportEngine(this);
+        }
+    }
+}
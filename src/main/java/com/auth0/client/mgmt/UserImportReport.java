@@ -0,0 +1,143 @@
+package com.auth0.client.mgmt;
+
+import com.auth0.client.mgmt.types.GetJobImportUserError;
+import com.auth0.client.mgmt.types.GetJobSummary;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The aggregated outcome of all import jobs submitted by a {@link UserImportEngine}.
+ */
+public final class UserImportReport {
+    private final List<String> jobIds = new ArrayList<>();
+    private final Map<String, String> failedJobs = new LinkedHashMap<>();
+    private final List<RowFailure> rowFailures = new ArrayList<>();
+    private long submitted;
+    private long inserted;
+    private long updated;
+    private long failed;
+
+    UserImportReport() {}
+
+    /**
+     * @return the ids of the submitted import jobs, in submission order.
+     */
+    public List<String> getJobIds() {
+        return Collections.unmodifiableList(jobIds);
+    }
+
+    /**
+     * @return the jobs that failed or did not complete as a whole, mapped to the reason reported for them.
+     */
+    public Map<String, String> getFailedJobs() {
+        return Collections.unmodifiableMap(failedJobs);
+    }
+
+    /**
+     * @return the users that were rejected, across all jobs.
+     */
+    public List<RowFailure> getRowFailures() {
+        return Collections.unmodifiableList(rowFailures);
+    }
+
+    /**
+     * @return the number of users submitted for import.
+     */
+    public long getSubmitted() {
+        return submitted;
+    }
+
+    /**
+     * @return the number of users created, as summarized by the completed jobs.
+     */
+    public long getInserted() {
+        return inserted;
+    }
+
+    /**
+     * @return the number of existing users updated, as summarized by the completed jobs.
+     */
+    public long getUpdated() {
+        return updated;
+    }
+
+    /**
+     * @return the number of users rejected, as summarized by the completed jobs.
+     */
+    public long getFailed() {
+        return failed;
+    }
+
+    /**
+     * @return whether every job completed and no user was rejected.
+     */
+    public boolean isSuccessful() {
+        return failedJobs.isEmpty() && rowFailures.isEmpty() && failed == 0;
+    }
+
+    void jobSubmitted(String jobId, int users) {
+        jobIds.add(jobId);
+        submitted += users;
+    }
+
+    void jobCompleted(GetJobSummary summary) {
+        inserted += summary.getInserted().orElse(0);
+        updated += summary.getUpdated().orElse(0);
+        failed += summary.getFailed().orElse(0);
+    }
+
+    void jobFailed(String jobId, String reason) {
+        failedJobs.put(jobId, reason);
+    }
+
+    void rowFailed(RowFailure failure) {
+        rowFailures.add(failure);
+    }
+
+    @Override
+    public String toString() {
+        return "UserImportReport{jobs: " + jobIds.size() + ", submitted: " + submitted + ", inserted: " + inserted
+                + ", updated: " + updated + ", failed: " + failed + ", failedJobs: " + failedJobs.size() + "}";
+    }
+
+    /**
+     * A user rejected by an import job, along with the reasons it was rejected.
+     */
+    public static final class RowFailure {
+        private final String jobId;
+        private final Map<String, Object> user;
+        private final List<GetJobImportUserError> errors;
+
+        RowFailure(String jobId, Map<String, Object> user, List<GetJobImportUserError> errors) {
+            this.jobId = jobId;
+            this.user = user;
+            this.errors = errors;
+        }
+
+        /**
+         * @return the id of the job the user was imported with.
+         */
+        public String getJobId() {
+            return jobId;
+        }
+
+        /**
+         * @return the user as reported by the job, which may omit sensitive fields.
+         */
+        public Map<String, Object> getUser() {
+            return user;
+        }
+
+        public List<GetJobImportUserError> getErrors() {
+            return errors;
+        }
+
+        @Override
+        public String toString() {
+            return "RowFailure{jobId: " + jobId + ", user: " + user + ", errors: " + errors + "}";
+        }
+    }
+}
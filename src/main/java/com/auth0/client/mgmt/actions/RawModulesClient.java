@@ -111,10 +111,9 @@ public class RawModulesClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
                 GetActionModulesResponseContent parsedResponse =
-                        ObjectMappers.JSON_MAPPER.readValue(responseBodyString, GetActionModulesResponseContent.class);
+                        ObjectMappers.readValue(responseBody, GetActionModulesResponseContent.class);
                 int newPageNumber =
                         request.getPage().map((Integer page) -> page + 1).orElse(1);
                 GetActionModulesRequestParameters nextRequest = GetActionModulesRequestParameters.builder()
@@ -128,6 +127,7 @@ public class RawModulesClient {
                                         .body()),
                         response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -206,13 +206,11 @@ public class RawModulesClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
                 return new ManagementApiHttpResponse<>(
-                        ObjectMappers.JSON_MAPPER.readValue(
-                                responseBodyString, CreateActionModuleResponseContent.class),
-                        response);
+                        ObjectMappers.readValue(responseBody, CreateActionModuleResponseContent.class), response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -285,12 +283,11 @@ public class RawModulesClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
                 return new ManagementApiHttpResponse<>(
-                        ObjectMappers.JSON_MAPPER.readValue(responseBodyString, GetActionModuleResponseContent.class),
-                        response);
+                        ObjectMappers.readValue(responseBody, GetActionModuleResponseContent.class), response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -467,13 +464,11 @@ public class RawModulesClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
                 return new ManagementApiHttpResponse<>(
-                        ObjectMappers.JSON_MAPPER.readValue(
-                                responseBodyString, UpdateActionModuleResponseContent.class),
-                        response);
+                        ObjectMappers.readValue(responseBody, UpdateActionModuleResponseContent.class), response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -570,10 +565,9 @@ public class RawModulesClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
-                GetActionModuleActionsResponseContent parsedResponse = ObjectMappers.JSON_MAPPER.readValue(
-                        responseBodyString, GetActionModuleActionsResponseContent.class);
+                GetActionModuleActionsResponseContent parsedResponse =
+                        ObjectMappers.readValue(responseBody, GetActionModuleActionsResponseContent.class);
                 int newPageNumber =
                         request.getPage().map((Integer page) -> page + 1).orElse(1);
                 GetActionModuleActionsRequestParameters nextRequest = GetActionModuleActionsRequestParameters.builder()
@@ -587,6 +581,7 @@ public class RawModulesClient {
                                         .body()),
                         response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -670,13 +665,11 @@ public class RawModulesClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
                 return new ManagementApiHttpResponse<>(
-                        ObjectMappers.JSON_MAPPER.readValue(
-                                responseBodyString, RollbackActionModuleResponseContent.class),
-                        response);
+                        ObjectMappers.readValue(responseBody, RollbackActionModuleResponseContent.class), response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -76,13 +76,12 @@ public class RawSuspiciousIpThrottlingClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
                 return new ManagementApiHttpResponse<>(
-                        ObjectMappers.JSON_MAPPER.readValue(
-                                responseBodyString, GetSuspiciousIpThrottlingSettingsResponseContent.class),
+                        ObjectMappers.readValue(responseBody, GetSuspiciousIpThrottlingSettingsResponseContent.class),
                         response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 401:
@@ -175,13 +174,13 @@ public class RawSuspiciousIpThrottlingClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
                 return new ManagementApiHttpResponse<>(
-                        ObjectMappers.JSON_MAPPER.readValue(
-                                responseBodyString, UpdateSuspiciousIpThrottlingSettingsResponseContent.class),
+                        ObjectMappers.readValue(
+                                responseBody, UpdateSuspiciousIpThrottlingSettingsResponseContent.class),
                         response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -92,11 +92,9 @@ public class RawOrganizationsClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
-                ListClientGrantOrganizationsPaginatedResponseContent parsedResponse =
-                        ObjectMappers.JSON_MAPPER.readValue(
-                                responseBodyString, ListClientGrantOrganizationsPaginatedResponseContent.class);
+                ListClientGrantOrganizationsPaginatedResponseContent parsedResponse = ObjectMappers.readValue(
+                        responseBody, ListClientGrantOrganizationsPaginatedResponseContent.class);
                 Optional<String> startingAfter = parsedResponse.getNext();
                 ListClientGrantOrganizationsRequestParameters nextRequest =
                         ListClientGrantOrganizationsRequestParameters.builder()
@@ -111,6 +109,7 @@ public class RawOrganizationsClient {
                                         .body()),
                         response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -130,10 +130,9 @@ public class RawConnectionsClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
-                ListClientConnectionsResponseContent parsedResponse = ObjectMappers.JSON_MAPPER.readValue(
-                        responseBodyString, ListClientConnectionsResponseContent.class);
+                ListClientConnectionsResponseContent parsedResponse =
+                        ObjectMappers.readValue(responseBody, ListClientConnectionsResponseContent.class);
                 Optional<String> startingAfter = parsedResponse.getNext();
                 ConnectionsGetRequest nextRequest = ConnectionsGetRequest.builder()
                         .from(request)
@@ -147,6 +146,7 @@ public class RawConnectionsClient {
                                         .body()),
                         response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -109,10 +109,9 @@ public class RawClientsClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
-                GetConnectionEnabledClientsResponseContent parsedResponse = ObjectMappers.JSON_MAPPER.readValue(
-                        responseBodyString, GetConnectionEnabledClientsResponseContent.class);
+                GetConnectionEnabledClientsResponseContent parsedResponse =
+                        ObjectMappers.readValue(responseBody, GetConnectionEnabledClientsResponseContent.class);
                 Optional<String> startingAfter = parsedResponse.getNext();
                 GetConnectionEnabledClientsRequestParameters nextRequest =
                         GetConnectionEnabledClientsRequestParameters.builder()
@@ -127,6 +126,7 @@ public class RawClientsClient {
                                         .body()),
                         response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
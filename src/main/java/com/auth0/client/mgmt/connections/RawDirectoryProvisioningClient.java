@@ -115,10 +115,9 @@ public class RawDirectoryProvisioningClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
-                ListDirectoryProvisioningsResponseContent parsedResponse = ObjectMappers.JSON_MAPPER.readValue(
-                        responseBodyString, ListDirectoryProvisioningsResponseContent.class);
+                ListDirectoryProvisioningsResponseContent parsedResponse =
+                        ObjectMappers.readValue(responseBody, ListDirectoryProvisioningsResponseContent.class);
                 Optional<String> startingAfter = parsedResponse.getNext();
                 ListDirectoryProvisioningsRequestParameters nextRequest =
                         ListDirectoryProvisioningsRequestParameters.builder()
@@ -133,6 +132,7 @@ public class RawDirectoryProvisioningClient {
                                         .body()),
                         response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -204,13 +204,11 @@ public class RawDirectoryProvisioningClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
                 return new ManagementApiHttpResponse<>(
-                        ObjectMappers.JSON_MAPPER.readValue(
-                                responseBodyString, GetDirectoryProvisioningResponseContent.class),
-                        response);
+                        ObjectMappers.readValue(responseBody, GetDirectoryProvisioningResponseContent.class), response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -314,13 +312,12 @@ public class RawDirectoryProvisioningClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
                 return new ManagementApiHttpResponse<>(
-                        ObjectMappers.JSON_MAPPER.readValue(
-                                responseBodyString, CreateDirectoryProvisioningResponseContent.class),
+                        ObjectMappers.readValue(responseBody, CreateDirectoryProvisioningResponseContent.class),
                         response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -504,13 +501,12 @@ public class RawDirectoryProvisioningClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
                 return new ManagementApiHttpResponse<>(
-                        ObjectMappers.JSON_MAPPER.readValue(
-                                responseBodyString, UpdateDirectoryProvisioningResponseContent.class),
+                        ObjectMappers.readValue(responseBody, UpdateDirectoryProvisioningResponseContent.class),
                         response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -587,13 +583,13 @@ public class RawDirectoryProvisioningClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
                 return new ManagementApiHttpResponse<>(
-                        ObjectMappers.JSON_MAPPER.readValue(
-                                responseBodyString, GetDirectoryProvisioningDefaultMappingResponseContent.class),
+                        ObjectMappers.readValue(
+                                responseBody, GetDirectoryProvisioningDefaultMappingResponseContent.class),
                         response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -695,10 +691,9 @@ public class RawDirectoryProvisioningClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
-                ListSynchronizedGroupsResponseContent parsedResponse = ObjectMappers.JSON_MAPPER.readValue(
-                        responseBodyString, ListSynchronizedGroupsResponseContent.class);
+                ListSynchronizedGroupsResponseContent parsedResponse =
+                        ObjectMappers.readValue(responseBody, ListSynchronizedGroupsResponseContent.class);
                 Optional<String> startingAfter = parsedResponse.getNext();
                 ListSynchronizedGroupsRequestParameters nextRequest = ListSynchronizedGroupsRequestParameters.builder()
                         .from(request)
@@ -712,6 +707,7 @@ public class RawDirectoryProvisioningClient {
                                         .body()),
                         response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -108,10 +108,9 @@ public class RawScimConfigurationClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
-                ListScimConfigurationsResponseContent parsedResponse = ObjectMappers.JSON_MAPPER.readValue(
-                        responseBodyString, ListScimConfigurationsResponseContent.class);
+                ListScimConfigurationsResponseContent parsedResponse =
+                        ObjectMappers.readValue(responseBody, ListScimConfigurationsResponseContent.class);
                 Optional<String> startingAfter = parsedResponse.getNext();
                 ListScimConfigurationsRequestParameters nextRequest = ListScimConfigurationsRequestParameters.builder()
                         .from(request)
@@ -125,6 +124,7 @@ public class RawScimConfigurationClient {
                                         .body()),
                         response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -196,13 +196,11 @@ public class RawScimConfigurationClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
                 return new ManagementApiHttpResponse<>(
-                        ObjectMappers.JSON_MAPPER.readValue(
-                                responseBodyString, GetScimConfigurationResponseContent.class),
-                        response);
+                        ObjectMappers.readValue(responseBody, GetScimConfigurationResponseContent.class), response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -295,13 +293,11 @@ public class RawScimConfigurationClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
                 return new ManagementApiHttpResponse<>(
-                        ObjectMappers.JSON_MAPPER.readValue(
-                                responseBodyString, CreateScimConfigurationResponseContent.class),
-                        response);
+                        ObjectMappers.readValue(responseBody, CreateScimConfigurationResponseContent.class), response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -444,13 +440,11 @@ public class RawScimConfigurationClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
                 return new ManagementApiHttpResponse<>(
-                        ObjectMappers.JSON_MAPPER.readValue(
-                                responseBodyString, UpdateScimConfigurationResponseContent.class),
-                        response);
+                        ObjectMappers.readValue(responseBody, UpdateScimConfigurationResponseContent.class), response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -517,13 +511,12 @@ public class RawScimConfigurationClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
                 return new ManagementApiHttpResponse<>(
-                        ObjectMappers.JSON_MAPPER.readValue(
-                                responseBodyString, GetScimConfigurationDefaultMappingResponseContent.class),
+                        ObjectMappers.readValue(responseBody, GetScimConfigurationDefaultMappingResponseContent.class),
                         response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -0,0 +1,237 @@
+package com.auth0.client.mgmt.core;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A page of results of an asynchronous list endpoint.
+ *
+ * <p>The async clients keep returning {@link SyncPagingIterable}, whose following pages are fetched by blocking on
+ * the page future. {@link #offset(IntFunction)} and {@link #cursor(Function, Function)} page through the same
+ * endpoints by chaining futures instead:
+ *
+ * <pre>{@code
+ * CompletableFuture<AsyncPagingIterable<UserResponseSchema>> users = AsyncPagingIterable.offset(
+ *         page -> asyncClient.users().list(ListUsersRequestParameters.builder()
+ *                 .page(page)
+ *                 .perPage(100)
+ *                 .build()));
+ * }</pre>
+ *
+ * <p>The next page is obtained with {@link #nextPageAsync()}, which returns a {@link CompletableFuture} and never
+ * parks the calling thread. {@link #forEachAsync(Consumer)} and {@link #forEachPageAsync(Consumer)} walk the
+ * remaining pages by chaining those futures, so an entire collection can be consumed without blocking.
+ *
+ * <p>Iterating this object through {@link Iterable} or {@link #streamItems()} is still supported for
+ * compatibility, but waits for each page boundary on the calling thread.
+ */
+public class AsyncPagingIterable<T> extends SyncPagingIterable<T> {
+    private final Supplier<? extends CompletableFuture<? extends AsyncPagingIterable<T>>> nextAsyncSupplier;
+
+    public AsyncPagingIterable(
+            boolean hasNext,
+            List<T> items,
+            Object response,
+            Supplier<? extends CompletableFuture<? extends AsyncPagingIterable<T>>> getNextAsync) {
+        super(hasNext, items, response, () -> join(getNextAsync.get()));
+        this.nextAsyncSupplier = getNextAsync;
+    }
+
+    public AsyncPagingIterable(
+            boolean hasNext,
+            Optional<List<T>> items,
+            Object response,
+            Supplier<? extends CompletableFuture<? extends AsyncPagingIterable<T>>> getNextAsync) {
+        this(hasNext, items.orElse(new ArrayList<>()), response, getNextAsync);
+    }
+
+    /**
+     * Pages through an offset-paginated endpoint, starting with page 0. Each following page is requested with the
+     * next page number once the previous one has arrived.
+     *
+     * @param pageFetcher requests the given zero-based page number
+     */
+    public static <T> CompletableFuture<AsyncPagingIterable<T>> offset(
+            IntFunction<? extends CompletableFuture<? extends BasePage<T>>> pageFetcher) {
+        return offsetPage(pageFetcher, 0);
+    }
+
+    /**
+     * Pages through an endpoint paginated with checkpoint cursors, starting with the first page. Each following page
+     * is requested with the cursor returned by the previous one.
+     *
+     * @param pageFetcher requests the page at the given cursor, {@code null} for the first page
+     * @param nextCursor reads the cursor of the following page from a page's response envelope, empty on the last
+     *                   page
+     */
+    public static <T, R> CompletableFuture<AsyncPagingIterable<T>> cursor(
+            Function<String, ? extends CompletableFuture<? extends BasePage<T>>> pageFetcher,
+            Function<R, Optional<String>> nextCursor) {
+        return cursorPage(pageFetcher, nextCursor, null);
+    }
+
+    private static <T> CompletableFuture<AsyncPagingIterable<T>> offsetPage(
+            IntFunction<? extends CompletableFuture<? extends BasePage<T>>> pageFetcher, int page) {
+        return pageFetcher
+                .apply(page)
+                .thenApply(fetched -> new AsyncPagingIterable<>(
+                        fetched.hasNext(),
+                        fetched.getItems(),
+                        fetched.getResponse().orElse(null),
+                        () -> offsetPage(pageFetcher, page + 1)));
+    }
+
+    private static <T, R> CompletableFuture<AsyncPagingIterable<T>> cursorPage(
+            Function<String, ? extends CompletableFuture<? extends BasePage<T>>> pageFetcher,
+            Function<R, Optional<String>> nextCursor,
+            String cursor) {
+        return pageFetcher.apply(cursor).thenApply(fetched -> {
+            Optional<String> next = fetched.<R>getResponse().flatMap(nextCursor);
+            return new AsyncPagingIterable<>(
+                    fetched.hasNext() && next.isPresent(),
+                    fetched.getItems(),
+                    fetched.getResponse().orElse(null),
+                    () -> cursorPage(pageFetcher, nextCursor, next.get()));
+        });
+    }
+
+    @Override
+    public AsyncPagingIterable<T> nextPage() {
+        return (AsyncPagingIterable<T>) super.nextPage();
+    }
+
+    /**
+     * Requests the next page without blocking.
+     *
+     * @return a future completed with the next page, or completed exceptionally with
+     *     {@link NoSuchElementException} when this is the last page
+     */
+    public CompletableFuture<AsyncPagingIterable<T>> nextPageAsync() {
+        CompletableFuture<AsyncPagingIterable<T>> future = new CompletableFuture<>();
+        if (!hasNext()) {
+            future.completeExceptionally(new NoSuchElementException());
+            return future;
+        }
+        nextAsyncSupplier.get().whenComplete((page, throwable) -> {
+            if (throwable != null) {
+                future.completeExceptionally(unwrap(throwable));
+            } else {
+                future.complete(page);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Returns an iterator over all items that keeps up to {@code depth} following pages in flight while the
+     * current page is being consumed. Pages are requested through {@link #nextPageAsync()}, so prefetching runs
+     * on the OkHttp dispatcher and at most {@code depth} pages are buffered ahead of the caller.
+     *
+     * @param depth number of pages to keep in flight ahead of the current page, at least 1
+     */
+    public Iterator<T> prefetchingIterator(int depth) {
+        return new PrefetchingPageIterator<>(this, depth, page -> ((AsyncPagingIterable<T>) page).nextPageAsync());
+    }
+
+    /**
+     * Streams all items like {@link #streamItems()}, with following pages prefetched as described in
+     * {@link #prefetchingIterator(int)}.
+     */
+    public Stream<T> streamItems(int prefetchDepth) {
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(
+                        prefetchingIterator(prefetchDepth), Spliterator.ORDERED | Spliterator.NONNULL),
+                false);
+    }
+
+    /**
+     * Invokes {@code action} for every item on this and all following pages. Pages are fetched as the previous
+     * one has been consumed, and the returned future completes once the last page has been processed.
+     */
+    public CompletableFuture<Void> forEachAsync(Consumer<? super T> action) {
+        return forEachPageAsync(page -> page.getItems().forEach(action));
+    }
+
+    /**
+     * Invokes {@code action} once per page, starting with this one. The returned future completes once the
+     * last page has been processed, or exceptionally if fetching a page or the action fails.
+     */
+    public CompletableFuture<Void> forEachPageAsync(Consumer<? super AsyncPagingIterable<T>> action) {
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        consumePages(this, action, result);
+        return result;
+    }
+
+    private static <T> void consumePages(
+            AsyncPagingIterable<T> page,
+            Consumer<? super AsyncPagingIterable<T>> action,
+            CompletableFuture<Void> result) {
+        AsyncPagingIterable<T> current = page;
+        // Loop while pages are already available so that long runs of completed futures do not grow the stack.
+        while (true) {
+            try {
+                action.accept(current);
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+                return;
+            }
+            if (!current.hasNext()) {
+                result.complete(null);
+                return;
+            }
+            CompletableFuture<AsyncPagingIterable<T>> next = current.nextPageAsync();
+            if (next.isDone() && !next.isCompletedExceptionally()) {
+                current = next.join();
+                continue;
+            }
+            next.whenComplete((nextPage, throwable) -> {
+                if (throwable != null) {
+                    result.completeExceptionally(unwrap(throwable));
+                } else {
+                    consumePages(nextPage, action, result);
+                }
+            });
+            return;
+        }
+    }
+
+    private static <P> P join(CompletableFuture<? extends P> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ManagementException("Interrupted while fetching the next page", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new ManagementException("Failed to fetch the next page", (Exception) cause);
+        }
+    }
+
+    private static Throwable unwrap(Throwable throwable) {
+        if ((throwable instanceof CompletionException || throwable instanceof ExecutionException)
+                && throwable.getCause() != null) {
+            return throwable.getCause();
+        }
+        return throwable;
+    }
+}
@@ -0,0 +1,98 @@
+package com.auth0.client.mgmt.core;
+
+import com.auth0.net.AdaptiveRateLimitInterceptor;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Retries an enqueued call without holding a thread during the backoff. Retryable responses are closed and the
+ * call is resubmitted from a {@link ScheduledExecutorService} once the delay has passed, so neither a dispatcher
+ * thread nor a slot counted against the dispatcher's {@code maxRequests} is taken while waiting. The retry
+ * conditions and delays are those of {@link RetryInterceptor}; the final response or failure is handed to the
+ * delegate callback. With an {@link AdaptiveRateLimitInterceptor} in the client, each attempt is held back on the
+ * same scheduler for as long as the rate limit requires, rather than inside the interceptor.
+ */
+final class AsyncRetryCallback implements Callback {
+
+    private final OkHttpClient client;
+    private final Request request;
+    private final Callback delegate;
+    private final ScheduledExecutorService scheduler;
+    private final RetryInterceptor.ExponentialBackoff backoff;
+    private final AdaptiveRateLimitInterceptor rateLimiter;
+
+    AsyncRetryCallback(
+            OkHttpClient client,
+            Request request,
+            Callback delegate,
+            ScheduledExecutorService scheduler,
+            RetryInterceptor.ExponentialBackoff backoff,
+            AdaptiveRateLimitInterceptor rateLimiter) {
+        this.client = client;
+        this.request = request;
+        this.delegate = delegate;
+        this.scheduler = scheduler;
+        this.backoff = backoff;
+        this.rateLimiter = rateLimiter;
+    }
+
+    void enqueue() {
+        int retryCount = backoff.retryNumber();
+        Request attempt = retryCount > 0 ? RetryInterceptor.RetryCount.tag(request, retryCount) : request;
+        if (rateLimiter != null) {
+            AdaptiveRateLimitInterceptor.Reservation reservation = rateLimiter.reserve(attempt);
+            Request paced = reservation.request();
+            if (reservation.delayMillis() > 0) {
+                try {
+                    scheduler.schedule(
+                            () -> client.newCall(paced).enqueue(this),
+                            reservation.delayMillis(),
+                            TimeUnit.MILLISECONDS);
+                    return;
+                } catch (RejectedExecutionException e) {
+                    // the scheduler is shutting down; send the request straight away
+                }
+            }
+            attempt = paced;
+        }
+        client.newCall(attempt).enqueue(this);
+    }
+
+    @Override
+    public void onResponse(@NotNull Call call, @NotNull Response response) throws IOException {
+        if (RetryInterceptor.shouldRetry(response.code())) {
+            Optional<Duration> delay = backoff.nextBackoff(response);
+            if (delay.isPresent()) {
+                try {
+                    scheduler.schedule(this::enqueue, delay.get().toMillis(), TimeUnit.MILLISECONDS);
+                    response.close();
+                    return;
+                } catch (RejectedExecutionException e) {
+                    // the scheduler is shutting down; report the response as if retries were exhausted
+                }
+            }
+        }
+        delegate.onResponse(call, response);
+    }
+
+    @Override
+    public void onFailure(@NotNull Call call, @NotNull IOException e) {
+        // the call may have failed before reaching the rate limiter, which would have ended its reservation
+        AdaptiveRateLimitInterceptor.Reservation reservation =
+                call.request().tag(AdaptiveRateLimitInterceptor.Reservation.class);
+        if (reservation != null) {
+            reservation.release();
+        }
+        delegate.onFailure(call, e);
+    }
+}
@@ -3,24 +3,43 @@
  */
 package com.auth0.client.mgmt.core;
 
+import com.auth0.client.ConnectionOptions;
+import com.auth0.net.AdaptiveRateLimitInterceptor;
+import com.auth0.net.HttpMetrics;
+import com.auth0.net.MetricsInterceptor;
 import com.auth0.net.Telemetry;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
+import okhttp3.Callback;
 import okhttp3.Interceptor;
 import okhttp3.OkHttpClient;
+import okhttp3.Request;
 
 public final class ClientOptions {
+    /**
+     * Upper bound on the number of distinct per-request timeouts whose derived clients are kept. Requests beyond
+     * it still work, they just get a freshly built client.
+     */
+    private static final int MAX_CACHED_TIMEOUT_CLIENTS = 16;
+
     private final Environment environment;
 
     private final Map<String, String> headers;
 
     private final Map<String, Supplier<String>> headerSuppliers;
 
+    private final Map<String, Supplier<CompletableFuture<String>>> asyncHeaderSuppliers;
+
     private final OkHttpClient httpClient;
 
     private final int timeout;
@@ -29,14 +48,27 @@ public final class ClientOptions {
 
     private final Telemetry telemetry;
 
+    private final ScheduledExecutorService asyncRetryScheduler;
+
+    private final RetryInterceptor asyncRetries;
+
+    private final AdaptiveRateLimitInterceptor asyncRateLimiter;
+
+    private final HttpMetrics metrics;
+
+    private final ConcurrentMap<Long, OkHttpClient> timeoutClients = new ConcurrentHashMap<>();
+
     private ClientOptions(
             Environment environment,
             Map<String, String> headers,
             Map<String, Supplier<String>> headerSuppliers,
+            Map<String, Supplier<CompletableFuture<String>>> asyncHeaderSuppliers,
             OkHttpClient httpClient,
             int timeout,
             int maxRetries,
-            Telemetry telemetry) {
+            Telemetry telemetry,
+            ScheduledExecutorService asyncRetryScheduler,
+            HttpMetrics metrics) {
         this.environment = environment;
         this.headers = new HashMap<>();
         this.headers.putAll(headers);
@@ -48,10 +80,21 @@ public final class ClientOptions {
             this.headers.put("Auth0-Client", resolvedTelemetry.getValue());
         }
         this.headerSuppliers = headerSuppliers;
+        this.asyncHeaderSuppliers = asyncHeaderSuppliers;
         this.httpClient = httpClient;
         this.timeout = timeout;
         this.maxRetries = maxRetries;
         this.telemetry = telemetry;
+        this.asyncRetryScheduler = asyncRetryScheduler;
+        this.metrics = metrics;
+        this.asyncRetries = asyncRetryScheduler != null ? new RetryInterceptor(maxRetries, metrics) : null;
+        this.asyncRateLimiter = asyncRetryScheduler != null
+                ? httpClient.interceptors().stream()
+                        .filter(AdaptiveRateLimitInterceptor.class::isInstance)
+                        .map(AdaptiveRateLimitInterceptor.class::cast)
+                        .findFirst()
+                        .orElse(null)
+                : null;
     }
 
     public Environment environment() {
@@ -63,12 +106,93 @@ public final class ClientOptions {
         headerSuppliers.forEach((key, supplier) -> {
             values.put(key, supplier.get());
         });
+        asyncHeaderSuppliers.forEach((key, supplier) -> {
+            try {
+                values.put(key, supplier.get().join());
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+            }
+        });
         if (requestOptions != null) {
             values.putAll(requestOptions.getHeaders());
         }
         return values;
     }
 
+    /**
+     * Resolves the same headers as {@link #headers(RequestOptions)} without blocking on asynchronous header
+     * suppliers or per-request OAuth credentials. When every value is already available, the returned future is
+     * already completed.
+     */
+    public CompletableFuture<Map<String, String>> headersAsync(RequestOptions requestOptions) {
+        Map<String, String> values = new HashMap<>(this.headers);
+        headerSuppliers.forEach((key, supplier) -> {
+            values.put(key, supplier.get());
+        });
+        CompletableFuture<Map<String, String>> result = CompletableFuture.completedFuture(values);
+        for (Map.Entry<String, Supplier<CompletableFuture<String>>> entry : asyncHeaderSuppliers.entrySet()) {
+            String key = entry.getKey();
+            result = result.thenCombine(entry.getValue().get(), (map, value) -> {
+                map.put(key, value);
+                return map;
+            });
+        }
+        if (requestOptions != null) {
+            result = result.thenCombine(requestOptions.getHeadersAsync(), (map, requestHeaders) -> {
+                map.putAll(requestHeaders);
+                return map;
+            });
+        }
+        return result;
+    }
+
+    /**
+     * Adds the headers resolved by {@link #headersAsync(RequestOptions)} to {@code request} and enqueues it on
+     * {@code client}. If the headers cannot be resolved, for instance because fetching an access token failed, or
+     * are not valid header values, {@code future} is completed exceptionally and the request is not sent.
+     *
+     * <p>With an {@linkplain Builder#asyncRetryScheduler(ScheduledExecutorService) async retry scheduler}, retries
+     * are scheduled on it instead of waiting inside {@link RetryInterceptor}, and so are the delays of an
+     * {@link AdaptiveRateLimitInterceptor} added to the client.
+     */
+    public void enqueue(
+            OkHttpClient client,
+            Request request,
+            RequestOptions requestOptions,
+            CompletableFuture<?> future,
+            Callback callback) {
+        CompletableFuture<Map<String, String>> headers;
+        try {
+            headers = headersAsync(requestOptions);
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            return;
+        }
+        headers.whenComplete((values, error) -> {
+            if (error != null) {
+                future.completeExceptionally(error instanceof CompletionException ? error.getCause() : error);
+                return;
+            }
+            // runs on whichever thread resolved the headers, so failures must reach the caller through future
+            try {
+                Request.Builder builder = request.newBuilder();
+                values.forEach(builder::addHeader);
+                if (asyncRetryScheduler == null) {
+                    client.newCall(builder.build()).enqueue(callback);
+                    return;
+                }
+                RetryInterceptor.ExponentialBackoff backoff = asyncRetries.newBackoff(request);
+                // the interceptor in the client must not retry as well
+                builder.tag(RetryInterceptor.MaxRetriesOverride.class, new RetryInterceptor.MaxRetriesOverride(0));
+                new AsyncRetryCallback(
+                                client, builder.build(), callback, asyncRetryScheduler, backoff, asyncRateLimiter)
+                        .enqueue();
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        });
+    }
+
     public int timeout(RequestOptions requestOptions) {
         if (requestOptions == null) {
             return this.timeout;
@@ -84,13 +208,27 @@ public final class ClientOptions {
         if (requestOptions == null) {
             return this.httpClient;
         }
-        return this.httpClient
+        long timeoutMillis = requestOptions
+                .getTimeoutTimeUnit()
+                .toMillis(requestOptions.getTimeout().get());
+        OkHttpClient cached = timeoutClients.get(timeoutMillis);
+        if (cached != null) {
+            return cached;
+        }
+        // Derived clients share the connection pool and dispatcher of httpClient, so caching them per timeout
+        // avoids rebuilding the client and its interceptor lists on every request that sets a timeout.
+        OkHttpClient derived = this.httpClient
                 .newBuilder()
-                .callTimeout(requestOptions.getTimeout().get(), requestOptions.getTimeoutTimeUnit())
+                .callTimeout(timeoutMillis, TimeUnit.MILLISECONDS)
                 .connectTimeout(0, TimeUnit.SECONDS)
                 .writeTimeout(0, TimeUnit.SECONDS)
                 .readTimeout(0, TimeUnit.SECONDS)
                 .build();
+        if (timeoutClients.size() >= MAX_CACHED_TIMEOUT_CLIENTS) {
+            return derived;
+        }
+        OkHttpClient existing = timeoutClients.putIfAbsent(timeoutMillis, derived);
+        return existing != null ? existing : derived;
     }
 
     public int maxRetries() {
@@ -106,6 +244,23 @@ public final class ClientOptions {
         return this.telemetry;
     }
 
+    /**
+     * The scheduler used for retries of async requests, or {@code null} if they are retried by
+     * {@link RetryInterceptor}. Package-private so {@link Builder#from(ClientOptions)} can carry it over; not
+     * part of the public API.
+     */
+    ScheduledExecutorService asyncRetryScheduler() {
+        return this.asyncRetryScheduler;
+    }
+
+    /**
+     * The metrics configured on this instance, or {@code null} if none were. Package-private so
+     * {@link Builder#from(ClientOptions)} can carry them over; not part of the public API.
+     */
+    HttpMetrics metrics() {
+        return this.metrics;
+    }
+
     /**
      * The static headers configured on this instance, including the resolved {@code Auth0-Client}
      * header. Package-private so {@link Builder#from(ClientOptions)} can carry them over; not part
@@ -123,6 +278,14 @@ public final class ClientOptions {
         return this.headerSuppliers;
     }
 
+    /**
+     * The asynchronous header suppliers configured on this instance. Package-private so
+     * {@link Builder#from(ClientOptions)} can carry them over; not part of the public API.
+     */
+    Map<String, Supplier<CompletableFuture<String>>> asyncHeaderSuppliers() {
+        return this.asyncHeaderSuppliers;
+    }
+
     public static Builder builder() {
         return new Builder();
     }
@@ -134,6 +297,8 @@ public final class ClientOptions {
 
         private final Map<String, Supplier<String>> headerSuppliers = new HashMap<>();
 
+        private final Map<String, Supplier<CompletableFuture<String>>> asyncHeaderSuppliers = new HashMap<>();
+
         private final List<Interceptor> interceptors = new ArrayList<>();
 
         private int maxRetries = 2;
@@ -146,6 +311,16 @@ public final class ClientOptions {
 
         private Telemetry telemetry = null;
 
+        private ScheduledExecutorService asyncRetryScheduler = null;
+
+        private HttpMetrics metrics = null;
+
+        private ConnectionOptions connectionOptions = null;
+
+        private boolean coalesceGetRequests = false;
+
+        private ResponseCache responseCache = null;
+
         public Builder environment(Environment environment) {
             this.environment = environment;
             return this;
@@ -161,6 +336,16 @@ public final class ClientOptions {
             return this;
         }
 
+        /**
+         * Add a header whose value is computed asynchronously, such as an access token fetched over the network.
+         * The async clients wait on the future without blocking a thread before sending each request; the
+         * blocking clients join it.
+         */
+        public Builder addAsyncHeader(String key, Supplier<CompletableFuture<String>> value) {
+            this.asyncHeaderSuppliers.put(key, value);
+            return this;
+        }
+
         /**
          * Override the timeout in seconds. Defaults to 60 seconds.
          */
@@ -198,6 +383,56 @@ public final class ClientOptions {
             return this;
         }
 
+        /**
+         * Schedule the retries of async requests on {@code scheduler} instead of waiting inside
+         * {@link RetryInterceptor}. During the backoff, no OkHttp dispatcher thread is held and the waiting
+         * request does not count against the dispatcher's {@code maxRequests}, so a burst of 429 responses
+         * cannot starve the dispatcher. Retry conditions and delays are unchanged, and blocking requests keep
+         * retrying in the interceptor. The delays of an {@link AdaptiveRateLimitInterceptor} added to the client
+         * are scheduled the same way. With {@link #metrics(HttpMetrics)}, each attempt of such a request is
+         * reported as a separate request. Off by default.
+         */
+        public Builder asyncRetryScheduler(ScheduledExecutorService scheduler) {
+            this.asyncRetryScheduler = scheduler;
+            return this;
+        }
+
+        /**
+         * Use the connection pool, dispatcher and protocols of {@code connectionOptions}, shared with the other
+         * clients configured with them, and pre-warm connections to the environment URL if they ask for it. They
+         * override those of a client set with {@link #httpClient(OkHttpClient)}.
+         */
+        public Builder connectionOptions(ConnectionOptions connectionOptions) {
+            this.connectionOptions = connectionOptions;
+            return this;
+        }
+
+        /**
+         * Coalesce concurrent identical GET requests into a single call whose response is shared, see
+         * {@link SingleFlightInterceptor}. Off by default.
+         */
+        public Builder coalesceGetRequests(boolean coalesceGetRequests) {
+            this.coalesceGetRequests = coalesceGetRequests;
+            return this;
+        }
+
+        /**
+         * Serve GET requests for read-mostly resources from {@code responseCache}, see {@link ResponseCache}. Not
+         * enabled by default.
+         */
+        public Builder responseCache(ResponseCache responseCache) {
+            this.responseCache = responseCache;
+            return this;
+        }
+
+        /**
+         * Report request latencies, retries and rate limits to {@code metrics}. Not enabled by default.
+         */
+        public Builder metrics(HttpMetrics metrics) {
+            this.metrics = metrics;
+            return this;
+        }
+
         /**
          * Add an OkHttp interceptor to the client.
          */
@@ -233,7 +468,31 @@ public final class ClientOptions {
                         .connectTimeout(0, TimeUnit.SECONDS)
                         .writeTimeout(0, TimeUnit.SECONDS)
                         .readTimeout(0, TimeUnit.SECONDS)
-                        .addInterceptor(new RetryInterceptor(this.maxRetries));
+                        .addInterceptor(new RetryInterceptor(this.maxRetries, this.metrics));
+            }
+
+            // outside the retry interceptor, so that waiting requests share the retries of the shared one
+            if (this.coalesceGetRequests
+                    && httpClientBuilder.interceptors().stream().noneMatch(SingleFlightInterceptor.class::isInstance)) {
+                httpClientBuilder.interceptors().add(0, new SingleFlightInterceptor());
+            }
+
+            // outside the coalescing interceptor, so that cache hits are served without waiting for a flight
+            if (this.responseCache != null
+                    && httpClientBuilder.interceptors().stream()
+                            .noneMatch(ResponseCacheInterceptor.class::isInstance)) {
+                httpClientBuilder.interceptors().add(0, new ResponseCacheInterceptor(this.responseCache));
+            }
+
+            // outermost, so that the reported latency includes the retries made inside the chain (async retries
+            // on the retry scheduler go through it once per attempt); a client carried over by from() has it
+            if (this.metrics != null
+                    && httpClientBuilder.interceptors().stream().noneMatch(MetricsInterceptor.class::isInstance)) {
+                httpClientBuilder.interceptors().add(0, new MetricsInterceptor(this.metrics));
+            }
+
+            if (this.connectionOptions != null) {
+                this.connectionOptions.configure(httpClientBuilder);
             }
 
             for (Interceptor interceptor : this.interceptors) {
@@ -242,20 +501,27 @@ public final class ClientOptions {
 
             if (this.logging != null && !this.logging.silent()) {
                 httpClientBuilder.addInterceptor(new LoggingInterceptor(
-                        new Logger(this.logging.level(), this.logging.logger(), this.logging.silent())));
+                        new Logger(this.logging.level(), this.logging.logger(), this.logging.silent()),
+                        this.logging.sampleRate()));
             }
 
             this.httpClient = httpClientBuilder.build();
             this.timeout = Optional.of(httpClient.callTimeoutMillis() / 1000);
+            if (this.connectionOptions != null) {
+                this.connectionOptions.prewarm(httpClient, environment != null ? environment.getUrl() : null);
+            }
 
             return new ClientOptions(
                     environment,
                     headers,
                     headerSuppliers,
+                    asyncHeaderSuppliers,
                     httpClient,
                     this.timeout.get(),
                     this.maxRetries,
-                    this.telemetry);
+                    this.telemetry,
+                    this.asyncRetryScheduler,
+                    this.metrics);
         }
 
         /**
@@ -273,8 +539,11 @@ public final class ClientOptions {
             builder.httpClient = clientOptions.httpClient();
             builder.maxRetries = clientOptions.maxRetries();
             builder.telemetry = clientOptions.telemetry();
+            builder.asyncRetryScheduler = clientOptions.asyncRetryScheduler();
+            builder.metrics = clientOptions.metrics();
             builder.headers.putAll(clientOptions.headers());
             builder.headerSuppliers.putAll(clientOptions.headerSuppliers());
+            builder.asyncHeaderSuppliers.putAll(clientOptions.asyncHeaderSuppliers());
             return builder;
         }
     }
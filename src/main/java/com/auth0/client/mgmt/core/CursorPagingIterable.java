@@ -0,0 +1,293 @@
+package com.auth0.client.mgmt.core;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Iterates over every item of an endpoint paginated with checkpoint cursors ({@code from} and {@code take}), such
+ * as connections, organization members or refresh tokens.
+ *
+ * <p>Each page is requested with the cursor returned by the previous one. The iterator exposes the cursor to resume
+ * from through {@link CursorIterator#cursor()}, so a caller that persists it can restart after a crash with
+ * {@link Builder#from(String)} without skipping items. An optional executor prefetches the next page while the
+ * current one is consumed.
+ *
+ * <pre>{@code
+ * CursorPagingIterable<ConnectionForList> connections = CursorPagingIterable.builder(
+ *                 (cursor, take) -> client.connections().list(ListConnectionsQueryParameters.builder()
+ *                         .from(Optional.ofNullable(cursor))
+ *                         .take(take)
+ *                         .build()),
+ *                 ListConnectionsCheckpointPaginatedResponseContent::getNext)
+ *         .from(savedCursor)
+ *         .adaptiveTake(10, 100, Duration.ofMillis(500))
+ *         .build();
+ * }</pre>
+ *
+ * <p>With {@link Builder#adaptiveTake(int, int, Duration)} the page size follows the observed latency: it doubles
+ * while pages arrive in less than half the target latency and halves when a page takes longer than the target.
+ *
+ * <p>Defaults:
+ * <ul>
+ *   <li>take: 50</li>
+ *   <li>from: {@code null}, the first page</li>
+ *   <li>prefetch: disabled</li>
+ * </ul>
+ */
+public final class CursorPagingIterable<T> implements Iterable<T> {
+    private final PageFetcher<T> pageFetcher;
+    private final Function<Object, Optional<String>> nextCursor;
+    private final String from;
+    private final int take;
+    private final int minTake;
+    private final int maxTake;
+    private final long targetLatencyNanos;
+    private final Executor prefetchExecutor;
+
+    private CursorPagingIterable(Builder<T> builder) {
+        this.pageFetcher = builder.pageFetcher;
+        this.nextCursor = builder.nextCursor;
+        this.from = builder.from;
+        this.take = builder.take;
+        this.minTake = builder.minTake;
+        this.maxTake = builder.maxTake;
+        this.targetLatencyNanos = builder.targetLatency != null ? builder.targetLatency.toNanos() : 0;
+        this.prefetchExecutor = builder.prefetchExecutor;
+    }
+
+    /**
+     * @param pageFetcher requests the page at the given cursor ({@code null} for the first page) with the given
+     *                    page size
+     * @param nextCursor reads the cursor of the following page from a page's response envelope, empty on the last
+     *                   page
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, R> Builder<T> builder(PageFetcher<T> pageFetcher, Function<R, Optional<String>> nextCursor) {
+        return new Builder<>(pageFetcher, (Function<Object, Optional<String>>) (Function<?, ?>) nextCursor);
+    }
+
+    @Override
+    public CursorIterator<T> iterator() {
+        return new CursorIterator<>(this);
+    }
+
+    public Stream<T> streamItems() {
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(iterator(), Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * Requests one page of a cursor-paginated endpoint.
+     */
+    @FunctionalInterface
+    public interface PageFetcher<T> {
+        BasePage<T> fetch(String cursor, int take);
+    }
+
+    /**
+     * Item iterator that keeps track of the cursor to resume from. Not thread-safe.
+     */
+    public static final class CursorIterator<T> implements Iterator<T> {
+        private final CursorPagingIterable<T> pages;
+        private Iterator<T> items = Collections.emptyIterator();
+        private String pageCursor;
+        private String nextCursor;
+        private boolean started;
+        private volatile int take;
+        private CompletableFuture<Page<T>> prefetched;
+
+        private CursorIterator(CursorPagingIterable<T> pages) {
+            this.pages = pages;
+            this.pageCursor = pages.from;
+            this.take = pages.take;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!items.hasNext()) {
+                if (started && nextCursor == null) {
+                    return false;
+                }
+                advance();
+            }
+            return true;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return items.next();
+        }
+
+        /**
+         * Returns the cursor to pass to {@link Builder#from(String)} to resume without skipping items: the cursor of
+         * the current page while it still has unconsumed items, otherwise the cursor of the following page. Items
+         * of a partially consumed page are returned again on resume.
+         *
+         * @return the cursor, or {@code null} when resuming starts at the first page or all items were consumed.
+         */
+        public String cursor() {
+            if (!started || items.hasNext()) {
+                return pageCursor;
+            }
+            return nextCursor;
+        }
+
+        /**
+         * @return the page size the next request will use.
+         */
+        public int take() {
+            return take;
+        }
+
+        private void advance() {
+            Page<T> page;
+            if (prefetched != null) {
+                page = await(prefetched);
+                prefetched = null;
+            } else {
+                page = fetch(started ? nextCursor : pageCursor);
+            }
+            started = true;
+            pageCursor = page.cursor;
+            nextCursor = page.next;
+            items = page.items.iterator();
+            if (pages.prefetchExecutor != null && nextCursor != null) {
+                String cursor = nextCursor;
+                prefetched = CompletableFuture.supplyAsync(() -> fetch(cursor), pages.prefetchExecutor);
+            }
+        }
+
+        private Page<T> fetch(String cursor) {
+            int pageSize = take;
+            long start = System.nanoTime();
+            BasePage<T> page = pages.pageFetcher.fetch(cursor, pageSize);
+            adaptTake(pageSize, System.nanoTime() - start);
+            String next = page.getResponse().flatMap(pages.nextCursor).orElse(null);
+            return new Page<>(cursor, next, page.getItems());
+        }
+
+        private synchronized void adaptTake(int pageSize, long latencyNanos) {
+            if (pages.targetLatencyNanos <= 0) {
+                return;
+            }
+            if (latencyNanos > pages.targetLatencyNanos) {
+                take = Math.max(pages.minTake, pageSize / 2);
+            } else if (latencyNanos < pages.targetLatencyNanos / 2) {
+                take = Math.min(pages.maxTake, pageSize * 2);
+            }
+        }
+
+        private static <P> P await(CompletableFuture<P> future) {
+            try {
+                return future.join();
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw e;
+            }
+        }
+    }
+
+    private static final class Page<T> {
+        private final String cursor;
+        private final String next;
+        private final List<T> items;
+
+        private Page(String cursor, String next, List<T> items) {
+            this.cursor = cursor;
+            this.next = next;
+            this.items = items;
+        }
+    }
+
+    public static final class Builder<T> {
+        private final PageFetcher<T> pageFetcher;
+        private final Function<Object, Optional<String>> nextCursor;
+        private String from;
+        private int take = 50;
+        private int minTake;
+        private int maxTake;
+        private Duration targetLatency;
+        private Executor prefetchExecutor;
+
+        private Builder(PageFetcher<T> pageFetcher, Function<Object, Optional<String>> nextCursor) {
+            if (pageFetcher == null || nextCursor == null) {
+                throw new IllegalArgumentException("pageFetcher and nextCursor must not be null.");
+            }
+            this.pageFetcher = pageFetcher;
+            this.nextCursor = nextCursor;
+        }
+
+        /**
+         * Sets the cursor to start from, as returned by {@link CursorIterator#cursor()}.
+         */
+        public Builder<T> from(String cursor) {
+            this.from = cursor;
+            return this;
+        }
+
+        /**
+         * Sets the page size, or the initial page size when adaptive.
+         */
+        public Builder<T> take(int take) {
+            this.take = take;
+            return this;
+        }
+
+        /**
+         * Adapts the page size between {@code minTake} and {@code maxTake} so that pages arrive within
+         * {@code targetLatency}.
+         */
+        public Builder<T> adaptiveTake(int minTake, int maxTake, Duration targetLatency) {
+            this.minTake = minTake;
+            this.maxTake = maxTake;
+            this.targetLatency = targetLatency;
+            return this;
+        }
+
+        /**
+         * Requests the next page on {@code executor} while the current one is consumed. Page requests are blocking
+         * calls, so the executor should allow blocking work.
+         */
+        public Builder<T> prefetch(Executor executor) {
+            this.prefetchExecutor = executor;
+            return this;
+        }
+
+        public CursorPagingIterable<T> build() {
+            if (targetLatency != null) {
+                if (minTake < 1 || maxTake < minTake) {
+                    throw new IllegalArgumentException("minTake must be at least 1 and not exceed maxTake.");
+                }
+                if (targetLatency.isNegative() || targetLatency.isZero()) {
+                    throw new IllegalArgumentException("targetLatency must be positive.");
+                }
+                take = Math.max(minTake, Math.min(maxTake, take));
+            }
+            if (take < 1) {
+                throw new IllegalArgumentException("take must be at least 1.");
+            }
+            return new CursorPagingIterable<>(this);
+        }
+    }
+}
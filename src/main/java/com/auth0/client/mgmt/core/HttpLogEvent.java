@@ -0,0 +1,142 @@
+package com.auth0.client.mgmt.core;
+
+import com.auth0.net.MetricsInterceptor;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import okhttp3.Headers;
+import okhttp3.Request;
+
+/**
+ * An HTTP exchange logged by {@link LoggingInterceptor}, handed to {@link ILogger#log(LogLevel, HttpLogEvent)} as
+ * fields so that structured loggers can record them without parsing a message. Headers, the endpoint template and
+ * the message are only computed when asked for.
+ *
+ * <p>Sensitive headers such as {@code Authorization} are redacted from {@link #requestHeaders()} and
+ * {@link #responseHeaders()}.
+ */
+public final class HttpLogEvent {
+
+    static final String REDACTED = "[REDACTED]";
+
+    private final Request request;
+    private final int statusCode;
+    private final long durationNanos;
+    private final int retryCount;
+    private final String requestId;
+    private final Headers responseHeaders;
+    private final boolean includeHeaders;
+    private final Set<String> sensitiveHeaders;
+
+    HttpLogEvent(
+            Request request,
+            int statusCode,
+            long durationNanos,
+            int retryCount,
+            String requestId,
+            Headers responseHeaders,
+            boolean includeHeaders,
+            Set<String> sensitiveHeaders) {
+        this.request = request;
+        this.statusCode = statusCode;
+        this.durationNanos = durationNanos;
+        this.retryCount = retryCount;
+        this.requestId = requestId;
+        this.responseHeaders = responseHeaders;
+        this.includeHeaders = includeHeaders;
+        this.sensitiveHeaders = sensitiveHeaders;
+    }
+
+    public String method() {
+        return request.method();
+    }
+
+    /**
+     * The path of the request with identifiers replaced by {@code {id}}, such as {@code /api/v2/users/{id}}.
+     */
+    public String endpoint() {
+        return MetricsInterceptor.endpoint(request.url());
+    }
+
+    public String url() {
+        return request.url().toString();
+    }
+
+    /**
+     * The status code of the response, or -1 if the request failed without one.
+     */
+    public int statusCode() {
+        return statusCode;
+    }
+
+    public long durationNanos() {
+        return durationNanos;
+    }
+
+    /**
+     * The number of retries made before this attempt, 0 for the first attempt.
+     */
+    public int retryCount() {
+        return retryCount;
+    }
+
+    /**
+     * The request id assigned by Auth0, or {@code null} if the response did not report one.
+     */
+    public String requestId() {
+        return requestId;
+    }
+
+    /**
+     * The request headers, redacted, or an empty map for error events logged while debug logging is disabled,
+     * which do not carry headers.
+     */
+    public Map<String, String> requestHeaders() {
+        return includeHeaders ? redact(request.headers()) : Collections.emptyMap();
+    }
+
+    /**
+     * The response headers, redacted, or an empty map for requests that failed without a response and for error
+     * events logged while debug logging is disabled, which do not carry headers.
+     */
+    public Map<String, String> responseHeaders() {
+        return includeHeaders && responseHeaders != null ? redact(responseHeaders) : Collections.emptyMap();
+    }
+
+    private Map<String, String> redact(Headers headers) {
+        Map<String, String> values = new LinkedHashMap<>();
+        for (int i = 0; i < headers.size(); i++) {
+            String name = headers.name(i);
+            values.put(name, sensitiveHeaders.contains(name) ? REDACTED : headers.value(i));
+        }
+        return values;
+    }
+
+    /**
+     * Formats this event as a single line, as logged by loggers that only implement the message methods of
+     * {@link ILogger}.
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(128);
+        sb.append(statusCode >= 400 || statusCode < 0 ? "HTTP Error: " : "HTTP Exchange: ");
+        sb.append(method()).append(' ').append(url());
+        sb.append(" status=").append(statusCode);
+        sb.append(" duration_ms=").append(TimeUnit.NANOSECONDS.toMillis(durationNanos));
+        if (retryCount > 0) {
+            sb.append(" retries=").append(retryCount);
+        }
+        if (requestId != null) {
+            sb.append(" request_id=").append(requestId);
+        }
+        if (includeHeaders) {
+            sb.append(" request_headers=").append(requestHeaders());
+            if (responseHeaders != null) {
+                sb.append(" response_headers=").append(responseHeaders());
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -35,4 +35,25 @@ public interface ILogger {
     void warn(String message);
 
     void error(String message);
+
+    /**
+     * Logs an HTTP exchange recorded by {@link LoggingInterceptor}. By default, the event is formatted as a single
+     * line and passed to the method of its level; structured loggers can override this to record the fields of
+     * the event instead, in which case no message is formatted.
+     */
+    default void log(LogLevel level, HttpLogEvent event) {
+        switch (level) {
+            case DEBUG:
+                debug(event.toString());
+                break;
+            case INFO:
+                info(event.toString());
+                break;
+            case WARN:
+                warn(event.toString());
+                break;
+            default:
+                error(event.toString());
+        }
+    }
 }
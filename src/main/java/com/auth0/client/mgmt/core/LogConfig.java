@@ -28,6 +28,7 @@ package com.auth0.client.mgmt.core;
  *   <li>{@code level} — {@link LogLevel#INFO}</li>
  *   <li>{@code logger} — {@link ConsoleLogger} (writes to stderr via java.util.logging)</li>
  *   <li>{@code silent} — {@code true} (no output unless explicitly enabled)</li>
+ *   <li>{@code sampleRate} — {@code 1} (every successful HTTP exchange is logged)</li>
  * </ul>
  */
 public final class LogConfig {
@@ -35,11 +36,13 @@ public final class LogConfig {
     private final LogLevel level;
     private final ILogger logger;
     private final boolean silent;
+    private final int sampleRate;
 
-    private LogConfig(LogLevel level, ILogger logger, boolean silent) {
+    private LogConfig(LogLevel level, ILogger logger, boolean silent, int sampleRate) {
         this.level = level;
         this.logger = logger;
         this.silent = silent;
+        this.sampleRate = sampleRate;
     }
 
     public LogLevel level() {
@@ -54,6 +57,10 @@ public final class LogConfig {
         return silent;
     }
 
+    public int sampleRate() {
+        return sampleRate;
+    }
+
     public static Builder builder() {
         return new Builder();
     }
@@ -62,6 +69,7 @@ public final class LogConfig {
         private LogLevel level = LogLevel.INFO;
         private ILogger logger = new ConsoleLogger();
         private boolean silent = true;
+        private int sampleRate = 1;
 
         private Builder() {}
 
@@ -91,8 +99,20 @@ public final class LogConfig {
             return this;
         }
 
+        /**
+         * Log only one in {@code sampleRate} successful HTTP exchanges at debug level. Error responses and failed
+         * requests are always logged. Defaults to {@code 1}, logging every exchange.
+         */
+        public Builder sampleRate(int sampleRate) {
+            this.sampleRate = sampleRate;
+            return this;
+        }
+
         public LogConfig build() {
-            return new LogConfig(level, logger, silent);
+            if (sampleRate < 1) {
+                throw new IllegalArgumentException("sampleRate must be at least 1.");
+            }
+            return new LogConfig(level, logger, silent, sampleRate);
         }
     }
 }
@@ -94,4 +94,10 @@ public final class Logger {
             logger.error(message);
         }
     }
+
+    public void log(LogLevel level, HttpLogEvent event) {
+        if (shouldLog(level)) {
+            logger.log(level, event);
+        }
+    }
 }
@@ -5,22 +5,25 @@ package com.auth0.client.mgmt.core;
 
 import java.io.IOException;
 import java.util.Arrays;
-import java.util.HashSet;
+import java.util.Collections;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
 import okhttp3.Interceptor;
 import okhttp3.Request;
 import okhttp3.Response;
 
 /**
- * OkHttp interceptor that logs HTTP requests and responses.
+ * OkHttp interceptor that logs HTTP exchanges as {@link HttpLogEvent}s.
  *
- * <p>Logs request method, URL, and headers (with sensitive values redacted) at debug level.
- * Logs response status at debug level, and 4xx/5xx responses at error level.
+ * <p>At debug level, every successful exchange is logged with its headers (sensitive values redacted), or one in
+ * {@code sampleRate} of them. Error responses and failed requests are logged at error level and never sampled.
+ * Events carry their fields unformatted, so no message is built unless the {@link ILogger} asks for one.
  * Does nothing if the logger is silent.
  */
 public final class LoggingInterceptor implements Interceptor {
 
-    private static final Set<String> SENSITIVE_HEADERS = new HashSet<>(Arrays.asList(
+    private static final Set<String> SENSITIVE_HEADERS = caseInsensitive(
             "authorization",
             "www-authenticate",
             "x-api-key",
@@ -36,69 +39,81 @@ public final class LoggingInterceptor implements Interceptor {
             "x-csrf-token",
             "x-xsrf-token",
             "x-session-token",
-            "x-access-token"));
+            "x-access-token");
 
     private final Logger logger;
+    private final int sampleRate;
+    private final AtomicLong exchanges = new AtomicLong();
 
     public LoggingInterceptor(Logger logger) {
+        this(logger, 1);
+    }
+
+    /**
+     * @param sampleRate log one in {@code sampleRate} successful exchanges
+     */
+    public LoggingInterceptor(Logger logger, int sampleRate) {
+        if (sampleRate < 1) {
+            throw new IllegalArgumentException("sampleRate must be at least 1.");
+        }
         this.logger = logger;
+        this.sampleRate = sampleRate;
     }
 
     @Override
     public Response intercept(Chain chain) throws IOException {
         Request request = chain.request();
+        boolean debug = logger.isDebug();
+        if (!debug && !logger.isError()) {
+            return chain.proceed(request);
+        }
 
-        if (logger.isDebug()) {
-            StringBuilder sb = new StringBuilder();
-            sb.append("HTTP Request: ").append(request.method()).append(" ").append(request.url());
-            sb.append(" headers={");
-            boolean first = true;
-            for (String name : request.headers().names()) {
-                if (!first) {
-                    sb.append(", ");
-                }
-                sb.append(name).append("=");
-                if (SENSITIVE_HEADERS.contains(name.toLowerCase())) {
-                    sb.append("[REDACTED]");
-                } else {
-                    sb.append(request.header(name));
-                }
-                first = false;
-            }
-            sb.append("}");
-            sb.append(" has_body=").append(request.body() != null);
-            logger.debug(sb.toString());
+        long start = System.nanoTime();
+        Response response;
+        try {
+            response = chain.proceed(request);
+        } catch (IOException e) {
+            logger.log(LogLevel.ERROR, event(request, null, start, debug));
+            throw e;
         }
 
-        Response response = chain.proceed(request);
+        if (response.code() >= 400) {
+            logger.log(LogLevel.ERROR, event(request, response, start, debug));
+        } else if (debug && sampled()) {
+            logger.log(LogLevel.DEBUG, event(request, response, start, true));
+        }
+        return response;
+    }
+
+    private boolean sampled() {
+        return sampleRate == 1 || exchanges.getAndIncrement() % sampleRate == 0;
+    }
 
-        if (logger.isDebug()) {
-            StringBuilder sb = new StringBuilder();
-            sb.append("HTTP Response: status=").append(response.code());
-            sb.append(" url=").append(response.request().url());
-            sb.append(" headers={");
-            boolean first = true;
-            for (String name : response.headers().names()) {
-                if (!first) {
-                    sb.append(", ");
-                }
-                sb.append(name).append("=");
-                if (SENSITIVE_HEADERS.contains(name.toLowerCase())) {
-                    sb.append("[REDACTED]");
-                } else {
-                    sb.append(response.header(name));
-                }
-                first = false;
+    private static HttpLogEvent event(Request request, Response response, long start, boolean includeHeaders) {
+        String requestId = null;
+        if (response != null) {
+            requestId = response.header("x-auth0-requestid");
+            if (requestId == null) {
+                requestId = response.header("x-request-id");
             }
-            sb.append("}");
-            logger.debug(sb.toString());
         }
-
-        if (response.code() >= 400 && logger.isError()) {
-            logger.error("HTTP Error: status=" + response.code() + " url="
-                    + response.request().url());
+        if (requestId == null) {
+            requestId = request.header("x-request-id");
         }
+        return new HttpLogEvent(
+                request,
+                response != null ? response.code() : -1,
+                System.nanoTime() - start,
+                RetryInterceptor.RetryCount.of(request),
+                requestId,
+                response != null ? response.headers() : null,
+                includeHeaders,
+                SENSITIVE_HEADERS);
+    }
 
-        return response;
+    private static Set<String> caseInsensitive(String... names) {
+        Set<String> set = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        set.addAll(Arrays.asList(names));
+        return Collections.unmodifiableSet(set);
     }
 }
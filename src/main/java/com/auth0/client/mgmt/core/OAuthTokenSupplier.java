@@ -3,19 +3,31 @@
  *
  * This class handles the OAuth 2.0 client credentials flow to obtain access tokens
  * from Auth0. Tokens are cached and automatically refreshed when they expire.
+ * With a {@link TokenRefreshConfig}, tokens are instead refreshed in the background
+ * ahead of expiry, so request threads do not wait on the token endpoint.
+ * {@link #getAsync()} serves the same cache without blocking, for the async clients.
+ * At most one token request is in flight at a time; concurrent callers share it.
  */
 package com.auth0.client.mgmt.core;
 
+import com.auth0.net.HttpMetrics;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import java.io.IOException;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import okhttp3.*;
 
-public class OAuthTokenSupplier implements java.util.function.Supplier<String> {
+public class OAuthTokenSupplier implements java.util.function.Supplier<String>, AutoCloseable {
     private static final MediaType JSON = MediaType.get("application/json; charset=utf-8");
     private static final long BUFFER_SECONDS = 120;
 
@@ -27,10 +39,25 @@ public class OAuthTokenSupplier implements java.util.function.Supplier<String> {
     private final String clientSecret;
     private final String tokenUrl;
     private final String audience;
+    private final TokenRefreshConfig refreshConfig;
 
+    private volatile OkHttpClient httpClient = SHARED_HTTP_CLIENT;
+    private volatile HttpMetrics metrics = HttpMetrics.NONE;
     private volatile String accessToken;
     private volatile Instant expiresAt;
 
+    // Token request in flight, shared by concurrent callers; guarded by this
+    private CompletableFuture<String> pendingToken;
+
+    // Only used with a refresh configuration; guarded by this
+    private ScheduledExecutorService scheduler;
+    private ScheduledFuture<?> refreshTask;
+    private boolean closed;
+    private Instant refreshAt = Instant.MIN;
+    private OAuthTokenException lastFailure;
+    private Instant nextAttemptAt = Instant.MIN;
+    private long failureBackoffMillis;
+
     /**
      * Creates a new OAuth token supplier.
      *
@@ -41,6 +68,21 @@ public class OAuthTokenSupplier implements java.util.function.Supplier<String> {
      * @throws IllegalArgumentException if baseUrl is null or empty
      */
     public OAuthTokenSupplier(String clientId, String clientSecret, String baseUrl, String audience) {
+        this(clientId, clientSecret, baseUrl, audience, null);
+    }
+
+    /**
+     * Creates a new OAuth token supplier that refreshes tokens in the background ahead of expiry.
+     *
+     * @param clientId The OAuth client ID
+     * @param clientSecret The OAuth client secret
+     * @param baseUrl The Auth0 base URL (e.g., "https://your-domain.auth0.com")
+     * @param audience The API audience. If null, defaults to baseUrl + "/api/v2/"
+     * @param refreshConfig The background refresh configuration, or null to refresh on the request path on expiry
+     * @throws IllegalArgumentException if baseUrl is null or empty
+     */
+    public OAuthTokenSupplier(
+            String clientId, String clientSecret, String baseUrl, String audience, TokenRefreshConfig refreshConfig) {
         if (baseUrl == null || baseUrl.trim().isEmpty()) {
             throw new IllegalArgumentException("baseUrl cannot be null or empty");
         }
@@ -51,11 +93,13 @@ public class OAuthTokenSupplier implements java.util.function.Supplier<String> {
         String normalizedBaseUrl = baseUrl.replaceAll("/+$", "");
         this.tokenUrl = normalizedBaseUrl + "/oauth/token";
         this.audience = audience != null ? audience : normalizedBaseUrl + "/api/v2/";
+        this.refreshConfig = refreshConfig;
         this.expiresAt = Instant.now();
     }
 
     /**
-     * Gets an access token, fetching a new one if the cached token has expired.
+     * Gets an access token, fetching a new one if the cached token has expired. If a token request is already in
+     * flight, waits for it instead of issuing another.
      *
      * @return A valid Bearer token string (without "Bearer " prefix)
      * @throws OAuthTokenException if token fetching fails due to network issues,
@@ -63,58 +107,347 @@ public class OAuthTokenSupplier implements java.util.function.Supplier<String> {
      */
     @Override
     public String get() {
-        if (accessToken == null || Instant.now().isAfter(expiresAt)) {
-            synchronized (this) {
-                if (accessToken == null || Instant.now().isAfter(expiresAt)) {
-                    fetchToken();
+        String token = accessToken;
+        if (token != null && !Instant.now().isAfter(expiresAt)) {
+            return token;
+        }
+        CompletableFuture<String> future;
+        boolean fetch = false;
+        synchronized (this) {
+            if (accessToken != null && !Instant.now().isAfter(expiresAt)) {
+                return accessToken;
+            }
+            future = pendingToken;
+            if (future == null) {
+                OAuthTokenException backingOff = backingOff();
+                if (backingOff != null) {
+                    throw backingOff;
                 }
+                future = new CompletableFuture<>();
+                pendingToken = future;
+                fetch = true;
+            }
+        }
+        if (fetch) {
+            fetchToken(future);
+        }
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof OAuthTokenException) {
+                throw (OAuthTokenException) e.getCause();
+            }
+            throw new OAuthTokenException("Failed to fetch OAuth token", e.getCause());
+        }
+    }
+
+    /**
+     * Gets an access token without blocking. A valid cached token is returned as an already completed future;
+     * otherwise a single token request is started and shared by all callers until it completes.
+     *
+     * @return A future completing with a Bearer token string (without "Bearer " prefix), or exceptionally with
+     *         {@link OAuthTokenException} if token fetching fails
+     */
+    public CompletableFuture<String> getAsync() {
+        String token = accessToken;
+        if (token != null && !Instant.now().isAfter(expiresAt)) {
+            return CompletableFuture.completedFuture(token);
+        }
+        CompletableFuture<String> future;
+        synchronized (this) {
+            if (accessToken != null && !Instant.now().isAfter(expiresAt)) {
+                return CompletableFuture.completedFuture(accessToken);
+            }
+            if (pendingToken != null) {
+                return pendingToken;
+            }
+            OAuthTokenException backingOff = backingOff();
+            if (backingOff != null) {
+                CompletableFuture<String> failed = new CompletableFuture<>();
+                failed.completeExceptionally(backingOff);
+                return failed;
             }
+            future = new CompletableFuture<>();
+            pendingToken = future;
         }
-        return accessToken;
+        fetchTokenAsync(future);
+        return future;
     }
 
     /**
-     * Fetches a new access token from Auth0.
+     * Sends token requests over the connections of the given client instead of those of the shared default one.
+     * The supplier builds its own client with a 30 second call timeout, sharing only the connection pool,
+     * dispatcher and protocols of {@code httpClient}. None of its interceptors apply to token requests, so they
+     * are not retried, logged, cached or rate limited as API requests.
      *
-     * @throws OAuthTokenException if token fetching fails
+     * @param httpClient The configured client of the API client using this supplier
+     */
+    public void useHttpClient(OkHttpClient httpClient) {
+        this.httpClient = new OkHttpClient.Builder()
+                .connectionPool(httpClient.connectionPool())
+                .dispatcher(httpClient.dispatcher())
+                .protocols(httpClient.protocols())
+                .callTimeout(30, TimeUnit.SECONDS)
+                .build();
+    }
+
+    /**
+     * Reports the latency and outcome of every token request to the given metrics.
+     *
+     * @param metrics The metrics of the API client using this supplier
+     */
+    public void useMetrics(HttpMetrics metrics) {
+        this.metrics = metrics != null ? metrics : HttpMetrics.NONE;
+    }
+
+    /**
+     * Stops background refreshes and shuts down the refresh thread, unless the scheduler was supplied through
+     * {@link TokenRefreshConfig}. The current token is still served, and fetched on the request path once it
+     * expires.
+     */
+    @Override
+    public synchronized void close() {
+        closed = true;
+        if (refreshTask != null) {
+            refreshTask.cancel(false);
+            refreshTask = null;
+        }
+        if (scheduler != null && refreshConfig.scheduler() == null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * In refresh mode, while a previous failure's backoff is running, returns the exception to report instead of
+     * calling the token endpoint again. Callers must hold the monitor.
+     */
+    private OAuthTokenException backingOff() {
+        if (refreshConfig != null && lastFailure != null && Instant.now().isBefore(nextAttemptAt)) {
+            return new OAuthTokenException(
+                    "Token endpoint unavailable, backing off until " + nextAttemptAt, lastFailure);
+        }
+        return null;
+    }
+
+    private void recordFailure(OAuthTokenException e) {
+        lastFailure = e;
+        failureBackoffMillis = failureBackoffMillis == 0
+                ? refreshConfig.minBackoff().toMillis()
+                : Math.min(failureBackoffMillis * 2, refreshConfig.maxBackoff().toMillis());
+        nextAttemptAt = Instant.now().plusMillis(failureBackoffMillis);
+        schedule(failureBackoffMillis);
+    }
+
+    private void recordSuccess(long expiresInSeconds) {
+        lastFailure = null;
+        failureBackoffMillis = 0;
+        nextAttemptAt = Instant.MIN;
+
+        double jitter = (ThreadLocalRandom.current().nextDouble() * 2 - 1) * refreshConfig.jitterFraction();
+        long refreshInMillis = (long) (expiresInSeconds * 1000 * (refreshConfig.refreshFraction() + jitter));
+        long untilExpiryMillis = expiresAt.toEpochMilli() - System.currentTimeMillis();
+        long delayMillis = Math.max(0, Math.min(refreshInMillis, untilExpiryMillis));
+        refreshAt = Instant.now().plusMillis(delayMillis);
+        schedule(delayMillis);
+    }
+
+    /**
+     * Replaces the scheduled refresh, if any, so a single refresh or retry is pending at any time. Callers must
+     * hold the monitor.
+     */
+    private void schedule(long delayMillis) {
+        if (closed) {
+            return;
+        }
+        if (scheduler == null) {
+            scheduler = refreshConfig.scheduler() != null
+                    ? refreshConfig.scheduler()
+                    : Executors.newSingleThreadScheduledExecutor(runnable -> {
+                        Thread thread = new Thread(runnable, "auth0-token-refresh");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+        }
+        if (refreshTask != null) {
+            refreshTask.cancel(false);
+        }
+        refreshTask = scheduler.schedule(this::backgroundRefresh, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Fetches a token on the scheduler once it is due. The fetch runs outside the monitor, so callers never wait
+     * on it unless they need a token and none is left.
      */
-    private void fetchToken() {
+    private void backgroundRefresh() {
+        CompletableFuture<String> future;
+        synchronized (this) {
+            if (closed || pendingToken != null) {
+                // the token request in flight schedules the next refresh when it completes
+                return;
+            }
+            Instant now = Instant.now();
+            Instant due = lastFailure != null ? nextAttemptAt : refreshAt;
+            if (now.isBefore(due)) {
+                // the token was fetched on the request path since this refresh was scheduled
+                schedule(Duration.between(now, due).toMillis());
+                return;
+            }
+            future = new CompletableFuture<>();
+            pendingToken = future;
+        }
+        // a failure keeps the current token in use and schedules a retry with backoff
+        fetchToken(future);
+    }
+
+    /**
+     * Fetches a new access token from Auth0 on the calling thread and completes {@code future} with it.
+     */
+    private void fetchToken(CompletableFuture<String> future) {
+        long start = System.nanoTime();
+        TokenResponse token;
+        try (Response response = httpClient.newCall(tokenRequest()).execute()) {
+            token = readToken(response);
+        } catch (IOException e) {
+            fail(future, new OAuthTokenException("Failed to fetch OAuth token due to network error", e), start);
+            return;
+        } catch (OAuthTokenException e) {
+            fail(future, e, start);
+            return;
+        } catch (RuntimeException e) {
+            fail(future, new OAuthTokenException("Failed to fetch OAuth token", e), start);
+            return;
+        }
+        succeed(future, token, start);
+    }
+
+    /**
+     * Fetches a new access token from Auth0 on the OkHttp dispatcher and completes {@code future} with it.
+     */
+    private void fetchTokenAsync(CompletableFuture<String> future) {
+        long start = System.nanoTime();
+        Request request;
         try {
-            Map<String, String> requestData = new HashMap<>();
-            requestData.put("client_id", clientId);
-            requestData.put("client_secret", clientSecret);
-            requestData.put("audience", audience);
-            requestData.put("grant_type", "client_credentials");
-
-            String requestBody = ObjectMappers.JSON_MAPPER.writeValueAsString(requestData);
-
-            Request request = new Request.Builder()
-                    .url(tokenUrl)
-                    .post(RequestBody.create(requestBody, JSON))
-                    .addHeader("Content-Type", "application/json")
-                    .build();
-
-            try (Response response = SHARED_HTTP_CLIENT.newCall(request).execute()) {
-                if (!response.isSuccessful()) {
-                    throw new OAuthTokenException(
-                            "Failed to fetch OAuth token: HTTP " + response.code() + " - " + response.message());
+            request = tokenRequest();
+        } catch (IOException e) {
+            fail(future, new OAuthTokenException("Failed to fetch OAuth token due to network error", e), start);
+            return;
+        }
+        httpClient.newCall(request).enqueue(new Callback() {
+            @Override
+            public void onResponse(Call call, Response response) {
+                TokenResponse token;
+                try (Response closeable = response) {
+                    token = readToken(closeable);
+                } catch (IOException e) {
+                    fail(future, new OAuthTokenException("Failed to fetch OAuth token due to network error", e), start);
+                    return;
+                } catch (OAuthTokenException e) {
+                    fail(future, e, start);
+                    return;
+                } catch (RuntimeException e) {
+                    fail(future, new OAuthTokenException("Failed to fetch OAuth token", e), start);
+                    return;
                 }
+                succeed(future, token, start);
+            }
 
-                String responseBody = response.body() != null ? response.body().string() : "{}";
-                TokenResponse tokenResponse = ObjectMappers.JSON_MAPPER.readValue(responseBody, TokenResponse.class);
+            @Override
+            public void onFailure(Call call, IOException e) {
+                fail(future, new OAuthTokenException("Failed to fetch OAuth token due to network error", e), start);
+            }
+        });
+    }
 
-                if (tokenResponse.accessToken == null || tokenResponse.accessToken.isEmpty()) {
-                    throw new OAuthTokenException("OAuth token response did not contain an access token");
+    /**
+     * Publishes a fetched token and, in refresh mode, schedules its refresh.
+     */
+    private void succeed(CompletableFuture<String> future, TokenResponse token, long startNanos) {
+        long durationNanos = System.nanoTime() - startNanos;
+        long expiresIn = token.expiresIn != null ? token.expiresIn : 86400;
+        try {
+            synchronized (this) {
+                this.accessToken = token.accessToken;
+                this.expiresAt = Instant.now().plusSeconds(expiresIn).minusSeconds(BUFFER_SECONDS);
+                if (pendingToken == future) {
+                    pendingToken = null;
+                }
+                if (refreshConfig != null) {
+                    recordSuccess(expiresIn);
                 }
+            }
+        } finally {
+            future.complete(token.accessToken);
+        }
+        recordTokenFetch(durationNanos, true);
+    }
 
-                this.accessToken = tokenResponse.accessToken;
-                this.expiresAt = Instant.now()
-                        .plusSeconds(tokenResponse.expiresIn != null ? tokenResponse.expiresIn : 86400)
-                        .minusSeconds(BUFFER_SECONDS);
+    /**
+     * Reports a failed token request and, in refresh mode, schedules a retry with backoff.
+     */
+    private void fail(CompletableFuture<String> future, OAuthTokenException e, long startNanos) {
+        long durationNanos = System.nanoTime() - startNanos;
+        try {
+            synchronized (this) {
+                if (pendingToken == future) {
+                    pendingToken = null;
+                }
+                if (refreshConfig != null) {
+                    recordFailure(e);
+                }
             }
-        } catch (IOException e) {
-            throw new OAuthTokenException("Failed to fetch OAuth token due to network error", e);
+        } finally {
+            future.completeExceptionally(e);
+        }
+        recordTokenFetch(durationNanos, false);
+    }
+
+    /**
+     * Reports a token request once its future is complete, so that a failing metrics implementation cannot leave
+     * callers waiting for a token.
+     */
+    private void recordTokenFetch(long durationNanos, boolean success) {
+        try {
+            metrics.recordTokenFetch(durationNanos, success);
+        } catch (RuntimeException ignored) {
+            // metrics are best effort and must not affect token requests
+        }
+    }
+
+    private Request tokenRequest() throws IOException {
+        Map<String, String> requestData = new HashMap<>();
+        requestData.put("client_id", clientId);
+        requestData.put("client_secret", clientSecret);
+        requestData.put("audience", audience);
+        requestData.put("grant_type", "client_credentials");
+
+        String requestBody = ObjectMappers.JSON_MAPPER.writeValueAsString(requestData);
+
+        return new Request.Builder()
+                .url(tokenUrl)
+                .post(RequestBody.create(requestBody, JSON))
+                .addHeader("Content-Type", "application/json")
+                .build();
+    }
+
+    /**
+     * Reads a token endpoint response.
+     *
+     * @return The token it contains
+     * @throws OAuthTokenException if the response is an error or does not contain a token
+     */
+    private static TokenResponse readToken(Response response) throws IOException {
+        if (!response.isSuccessful()) {
+            throw new OAuthTokenException(
+                    "Failed to fetch OAuth token: HTTP " + response.code() + " - " + response.message());
+        }
+
+        String responseBody = response.body() != null ? response.body().string() : "{}";
+        TokenResponse tokenResponse = ObjectMappers.JSON_MAPPER.readValue(responseBody, TokenResponse.class);
+
+        if (tokenResponse.accessToken == null || tokenResponse.accessToken.isEmpty()) {
+            throw new OAuthTokenException("OAuth token response did not contain an access token");
         }
+        return tokenResponse;
     }
 
     /**
@@ -5,6 +5,7 @@ package com.auth0.client.mgmt.core;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
@@ -12,6 +13,7 @@ import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import java.io.IOException;
+import okhttp3.ResponseBody;
 
 public final class ObjectMappers {
     public static final ObjectMapper JSON_MAPPER = JsonMapper.builder()
@@ -36,6 +38,28 @@ public final class ObjectMappers {
         }
     }
 
+    /**
+     * Deserializes a response body straight from its byte stream, without first buffering it into a
+     * {@code String}. A missing body is read as an empty JSON object.
+     */
+    public static <T> T readValue(ResponseBody responseBody, Class<T> valueType) throws IOException {
+        if (responseBody == null) {
+            return JSON_MAPPER.readValue("{}", valueType);
+        }
+        return JSON_MAPPER.readValue(responseBody.byteStream(), valueType);
+    }
+
+    /**
+     * Deserializes a response body straight from its byte stream, without first buffering it into a
+     * {@code String}. A missing body is read as an empty JSON object.
+     */
+    public static <T> T readValue(ResponseBody responseBody, TypeReference<T> valueTypeRef) throws IOException {
+        if (responseBody == null) {
+            return JSON_MAPPER.readValue("{}", valueTypeRef);
+        }
+        return JSON_MAPPER.readValue(responseBody.byteStream(), valueTypeRef);
+    }
+
     public static Object parseErrorBody(String responseBodyString) {
         try {
             return JSON_MAPPER.readValue(responseBodyString, Object.class);
@@ -0,0 +1,321 @@
+package com.auth0.client.mgmt.core;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Lists every item of an offset-paginated endpoint by requesting pages concurrently.
+ *
+ * <p>The first page is fetched on its own to learn the total (the request must set {@code include_totals}).
+ * Once the total is known, the remaining page numbers are known as well. Those pages are requested through the
+ * async client with at most {@code maxConcurrency} calls in flight. When a response reports through
+ * {@code x-ratelimit-remaining} that the quota cannot cover the requests already in flight, no new page is
+ * requested until the time given by {@code x-ratelimit-reset}.
+ *
+ * <pre>{@code
+ * ParallelOffsetPager<UserResponseSchema> pager = ParallelOffsetPager.<UserResponseSchema>builder()
+ *         .perPage(100)
+ *         .maxConcurrency(4)
+ *         .build();
+ * Stream<UserResponseSchema> users = pager.stream(
+ *         page -> asyncClient.users().withRawResponse().list(ListUsersRequestParameters.builder()
+ *                 .page(page)
+ *                 .perPage(100)
+ *                 .includeTotals(true)
+ *                 .build()),
+ *         (ListUsersOffsetPaginatedResponseContent response) -> response.getTotal().orElse(0.0));
+ * }</pre>
+ *
+ * <p>Items are emitted in page order by default. With {@code ordered(false)} pages are emitted as soon as they
+ * arrive. In ordered mode at most {@code maxConcurrency} pages are buffered ahead of the consumer.
+ */
+public final class ParallelOffsetPager<T> {
+    private static final String RATE_LIMIT_REMAINING = "x-ratelimit-remaining";
+    private static final String RATE_LIMIT_RESET = "x-ratelimit-reset";
+    private static final long DEFAULT_RESET_DELAY_MILLIS = 1000;
+
+    private final int perPage;
+    private final int maxConcurrency;
+    private final boolean ordered;
+    private final LongSupplier clock;
+    private final Sleeper sleeper;
+
+    private ParallelOffsetPager(Builder<T> builder) {
+        this.perPage = builder.perPage;
+        this.maxConcurrency = builder.maxConcurrency;
+        this.ordered = builder.ordered;
+        this.clock = builder.clock;
+        this.sleeper = builder.sleeper;
+    }
+
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Returns a lazy stream over every item of the endpoint. No request is made until the stream is consumed.
+     *
+     * @param pageFetcher requests the given zero-based page number with the configured page size
+     * @param totalExtractor reads the total item count from the first page's response envelope
+     */
+    public <R> Stream<T> stream(
+            IntFunction<? extends CompletableFuture<? extends ManagementApiHttpResponse<? extends BasePage<T>>>>
+                    pageFetcher,
+            Function<R, ? extends Number> totalExtractor) {
+        int characteristics = Spliterator.NONNULL | (ordered ? Spliterator.ORDERED : 0);
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(new FanOutIterator<>(pageFetcher, totalExtractor), characteristics),
+                false);
+    }
+
+    public static final class Builder<T> {
+        private int perPage = 50;
+        private int maxConcurrency = 4;
+        private boolean ordered = true;
+        private LongSupplier clock = System::currentTimeMillis;
+        private Sleeper sleeper = Thread::sleep;
+
+        private Builder() {}
+
+        /**
+         * The page size used by the page fetcher. Defaults to 50, the API's default page size.
+         */
+        public Builder<T> perPage(int perPage) {
+            this.perPage = perPage;
+            return this;
+        }
+
+        /**
+         * Maximum number of page requests in flight at once. Defaults to 4.
+         */
+        public Builder<T> maxConcurrency(int maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+            return this;
+        }
+
+        /**
+         * Whether items are emitted in page order. Defaults to {@code true}.
+         */
+        public Builder<T> ordered(boolean ordered) {
+            this.ordered = ordered;
+            return this;
+        }
+
+        /**
+         * Visible for testing purposes only.
+         */
+        Builder<T> clock(LongSupplier clock, Sleeper sleeper) {
+            this.clock = clock;
+            this.sleeper = sleeper;
+            return this;
+        }
+
+        public ParallelOffsetPager<T> build() {
+            if (perPage < 1) {
+                throw new IllegalArgumentException("perPage must be at least 1");
+            }
+            if (maxConcurrency < 1) {
+                throw new IllegalArgumentException("maxConcurrency must be at least 1");
+            }
+            return new ParallelOffsetPager<>(this);
+        }
+    }
+
+    private static final class PageResult<T> {
+        private final int page;
+        private final ManagementApiHttpResponse<? extends BasePage<T>> response;
+        private final Throwable error;
+
+        private PageResult(int page, ManagementApiHttpResponse<? extends BasePage<T>> response, Throwable error) {
+            this.page = page;
+            this.response = response;
+            this.error = error;
+        }
+    }
+
+    private final class FanOutIterator<R> implements Iterator<T> {
+        private final IntFunction<
+                        ? extends CompletableFuture<? extends ManagementApiHttpResponse<? extends BasePage<T>>>>
+                pageFetcher;
+        private final Function<R, ? extends Number> totalExtractor;
+        private final BlockingQueue<PageResult<T>> results = new LinkedBlockingQueue<>();
+        private final Map<Integer, List<T>> arrived = new HashMap<>();
+        private Iterator<T> items = Collections.emptyIterator();
+        private boolean started;
+        private int pageCount;
+        private int nextToDispatch;
+        private int nextToEmit;
+        private int emitted;
+        private int inFlight;
+        private long pausedUntilMillis;
+
+        private FanOutIterator(
+                IntFunction<? extends CompletableFuture<? extends ManagementApiHttpResponse<? extends BasePage<T>>>>
+                        pageFetcher,
+                Function<R, ? extends Number> totalExtractor) {
+            this.pageFetcher = pageFetcher;
+            this.totalExtractor = totalExtractor;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (!started) {
+                start();
+            }
+            while (!items.hasNext()) {
+                if (emitted >= pageCount) {
+                    return false;
+                }
+                dispatch();
+                items = (ordered ? takeInOrder() : take().response.body().getItems()).iterator();
+                emitted++;
+            }
+            return true;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return items.next();
+        }
+
+        private void start() {
+            started = true;
+            ManagementApiHttpResponse<? extends BasePage<T>> first = await(pageFetcher.apply(0));
+            observeRateLimit(first);
+            Optional<R> envelope = first.body().getResponse();
+            Number total = envelope.map(totalExtractor).orElse(null);
+            if (total == null) {
+                throw new IllegalStateException("The first page did not report a total; set include_totals=true");
+            }
+            pageCount = Math.max(1, (int) Math.ceil(total.doubleValue() / perPage));
+            items = first.body().getItems().iterator();
+            emitted = 1;
+            nextToDispatch = 1;
+            nextToEmit = 1;
+        }
+
+        private void dispatch() {
+            while (nextToDispatch < pageCount
+                    && inFlight < maxConcurrency
+                    && (!ordered || nextToDispatch < nextToEmit + maxConcurrency)) {
+                long wait = pausedUntilMillis - clock.getAsLong();
+                if (wait > 0) {
+                    if (inFlight > 0) {
+                        return;
+                    }
+                    sleep(wait);
+                    continue;
+                }
+                int page = nextToDispatch++;
+                inFlight++;
+                pageFetcher
+                        .apply(page)
+                        .whenComplete((response, error) -> results.add(new PageResult<>(page, response, error)));
+            }
+        }
+
+        private List<T> takeInOrder() {
+            while (!arrived.containsKey(nextToEmit)) {
+                PageResult<T> result = take();
+                arrived.put(result.page, result.response.body().getItems());
+                dispatch();
+            }
+            return arrived.remove(nextToEmit++);
+        }
+
+        private PageResult<T> take() {
+            PageResult<T> result;
+            try {
+                result = results.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ManagementException("Interrupted while waiting for a page", e);
+            }
+            inFlight--;
+            if (result.error != null) {
+                throw rethrow(result.error);
+            }
+            observeRateLimit(result.response);
+            return result;
+        }
+
+        private void observeRateLimit(ManagementApiHttpResponse<?> response) {
+            Long remaining = longHeader(response, RATE_LIMIT_REMAINING);
+            if (remaining == null || remaining > inFlight) {
+                return;
+            }
+            Long reset = longHeader(response, RATE_LIMIT_RESET);
+            long resumeAt = reset != null ? reset * 1000 : clock.getAsLong() + DEFAULT_RESET_DELAY_MILLIS;
+            pausedUntilMillis = Math.max(pausedUntilMillis, resumeAt);
+        }
+    }
+
+    private static Long longHeader(ManagementApiHttpResponse<?> response, String name) {
+        for (Map.Entry<String, List<String>> header : response.headers().entrySet()) {
+            if (name.equalsIgnoreCase(header.getKey()) && !header.getValue().isEmpty()) {
+                try {
+                    return Long.parseLong(header.getValue().get(0).trim());
+                } catch (NumberFormatException e) {
+                    return null;
+                }
+            }
+        }
+        return null;
+    }
+
+    private void sleep(long millis) {
+        try {
+            sleeper.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ManagementException("Interrupted while waiting for the rate limit to reset", e);
+        }
+    }
+
+    /**
+     * Waits for the given number of milliseconds.
+     */
+    interface Sleeper {
+        void sleep(long millis) throws InterruptedException;
+    }
+
+    private static <P> P await(CompletableFuture<? extends P> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw rethrow(e.getCause() != null ? e.getCause() : e);
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable error) {
+        if (error instanceof CompletionException && error.getCause() != null) {
+            error = error.getCause();
+        }
+        if (error instanceof RuntimeException) {
+            return (RuntimeException) error;
+        }
+        if (error instanceof Error) {
+            throw (Error) error;
+        }
+        return new ManagementException("Failed to fetch page", (Exception) error);
+    }
+}
@@ -0,0 +1,85 @@
+package com.auth0.client.mgmt.core;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * Item iterator over a chain of pages that keeps up to {@code depth} following pages in flight while the
+ * current one is consumed. Page {@code N+1} is requested as soon as page {@code N} has arrived, so network time
+ * overlaps with the caller's processing while the number of buffered pages stays bounded.
+ */
+final class PrefetchingPageIterator<T> implements Iterator<T> {
+    private final int depth;
+    private final Function<SyncPage<T>, CompletableFuture<? extends SyncPage<T>>> fetchNext;
+    private final Deque<CompletableFuture<SyncPage<T>>> pending = new ArrayDeque<>();
+    private CompletableFuture<SyncPage<T>> tail;
+    private Iterator<T> items;
+    private boolean exhausted;
+
+    PrefetchingPageIterator(
+            SyncPage<T> first, int depth, Function<SyncPage<T>, CompletableFuture<? extends SyncPage<T>>> fetchNext) {
+        if (depth < 1) {
+            throw new IllegalArgumentException("Prefetch depth must be at least 1");
+        }
+        this.depth = depth;
+        this.fetchNext = fetchNext;
+        this.items = first.getItems().iterator();
+        this.tail = CompletableFuture.completedFuture(first);
+        fill();
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!items.hasNext()) {
+            if (exhausted) {
+                return false;
+            }
+            SyncPage<T> page = await(pending.pollFirst());
+            if (page == null) {
+                exhausted = true;
+                pending.clear();
+                return false;
+            }
+            items = page.getItems().iterator();
+            fill();
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return items.next();
+    }
+
+    private void fill() {
+        while (pending.size() < depth) {
+            tail = tail.thenCompose(page -> page != null && page.hasNext()
+                    ? fetchNext.apply(page).thenApply(next -> (SyncPage<T>) next)
+                    : CompletableFuture.<SyncPage<T>>completedFuture(null));
+            pending.addLast(tail);
+        }
+    }
+
+    private static <P> P await(CompletableFuture<P> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -3,15 +3,22 @@
  */
 package com.auth0.client.mgmt.core;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonValue;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.lang.reflect.Method;
+import java.math.BigInteger;
 import java.util.AbstractMap;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.function.BiConsumer;
 import okhttp3.HttpUrl;
 import okhttp3.MultipartBody;
 
@@ -19,58 +26,67 @@ public class QueryStringMapper {
 
     private static final ObjectMapper MAPPER = ObjectMappers.JSON_MAPPER;
 
-    public static void addQueryParameter(HttpUrl.Builder httpUrl, String key, Object value, boolean arraysAsRepeats) {
-        JsonNode valueNode = MAPPER.valueToTree(value);
-
-        List<Map.Entry<String, JsonNode>> flat;
-        if (valueNode.isObject()) {
-            flat = flattenObject((ObjectNode) valueNode, arraysAsRepeats);
-        } else if (valueNode.isArray()) {
-            flat = flattenArray((ArrayNode) valueNode, "", arraysAsRepeats);
-        } else {
-            if (valueNode.isTextual()) {
-                httpUrl.addQueryParameter(key, valueNode.textValue());
-            } else {
-                httpUrl.addQueryParameter(key, valueNode.toString());
-            }
-            return;
+    /**
+     * How values of a class are written as a single parameter, decided once per class. Values with no plan, such as
+     * objects, collections and doubles, which have a custom serializer, are converted to a JSON tree and flattened.
+     */
+    private static final ClassValue<ScalarPlan> SCALAR_PLANS = new ClassValue<ScalarPlan>() {
+        @Override
+        protected ScalarPlan computeValue(Class<?> type) {
+            return ScalarPlan.of(type);
         }
+    };
 
-        for (Map.Entry<String, JsonNode> field : flat) {
-            if (field.getValue().isTextual()) {
-                httpUrl.addQueryParameter(key + field.getKey(), field.getValue().textValue());
-            } else {
-                httpUrl.addQueryParameter(key + field.getKey(), field.getValue().toString());
-            }
+    public static void addQueryParameter(HttpUrl.Builder httpUrl, String key, Object value, boolean arraysAsRepeats) {
+        String scalar = scalarValue(value);
+        if (scalar != null) {
+            httpUrl.addQueryParameter(key, scalar);
+            return;
         }
+        flatten(MAPPER.valueToTree(value), new StringBuilder(key), arraysAsRepeats, httpUrl::addQueryParameter);
     }
 
     public static void addFormDataPart(
             MultipartBody.Builder multipartBody, String key, Object value, boolean arraysAsRepeats) {
-        JsonNode valueNode = MAPPER.valueToTree(value);
-
-        List<Map.Entry<String, JsonNode>> flat;
-        if (valueNode.isObject()) {
-            flat = flattenObject((ObjectNode) valueNode, arraysAsRepeats);
-        } else if (valueNode.isArray()) {
-            flat = flattenArray((ArrayNode) valueNode, "", arraysAsRepeats);
-        } else {
-            if (valueNode.isTextual()) {
-                multipartBody.addFormDataPart(key, valueNode.textValue());
-            } else {
-                multipartBody.addFormDataPart(key, valueNode.toString());
-            }
+        String scalar = scalarValue(value);
+        if (scalar != null) {
+            multipartBody.addFormDataPart(key, scalar);
             return;
         }
+        flatten(MAPPER.valueToTree(value), new StringBuilder(key), arraysAsRepeats, multipartBody::addFormDataPart);
+    }
 
-        for (Map.Entry<String, JsonNode> field : flat) {
-            if (field.getValue().isTextual()) {
-                multipartBody.addFormDataPart(
-                        key + field.getKey(), field.getValue().textValue());
-            } else {
-                multipartBody.addFormDataPart(
-                        key + field.getKey(), field.getValue().toString());
+    /**
+     * @return the parameter value of {@code value} when it is a scalar written without building a JSON tree, such as
+     * a string, an integer, a boolean or an enum, or {@code null}.
+     */
+    private static String scalarValue(Object value) {
+        return value != null ? SCALAR_PLANS.get(value.getClass()).apply(value) : null;
+    }
+
+    /**
+     * Writes the leaves of {@code node} under {@code key}, as {@code key[field][0]} or, when {@code arraysAsRepeats}
+     * is set, {@code key[field]} for every element. {@code key} is restored before returning.
+     */
+    private static void flatten(
+            JsonNode node, StringBuilder key, boolean arraysAsRepeats, BiConsumer<String, String> parameters) {
+        int length = key.length();
+        if (node.isObject()) {
+            for (Map.Entry<String, JsonNode> field : node.properties()) {
+                key.append('[').append(field.getKey()).append(']');
+                flatten(field.getValue(), key, arraysAsRepeats, parameters);
+                key.setLength(length);
             }
+        } else if (node.isArray()) {
+            for (int index = 0; index < node.size(); index++) {
+                if (!arraysAsRepeats) {
+                    key.append('[').append(index).append(']');
+                }
+                flatten(node.get(index), key, arraysAsRepeats, parameters);
+                key.setLength(length);
+            }
+        } else {
+            parameters.accept(key.toString(), node.isTextual() ? node.textValue() : node.toString());
         }
     }
 
@@ -139,4 +155,85 @@ public class QueryStringMapper {
             target.add(entryToAdd);
         }
     }
+
+    private abstract static class ScalarPlan {
+        private static final ScalarPlan NONE = new ScalarPlan() {
+            @Override
+            String apply(Object value) {
+                return null;
+            }
+        };
+
+        private static final ScalarPlan STRING = new ScalarPlan() {
+            @Override
+            String apply(Object value) {
+                return (String) value;
+            }
+        };
+
+        // also covers the generated string enums, whose @JsonValue is their toString()
+        private static final ScalarPlan TO_STRING = new ScalarPlan() {
+            @Override
+            String apply(Object value) {
+                return value.toString();
+            }
+        };
+
+        /**
+         * @return the parameter value, or {@code null} to convert {@code value} to a JSON tree instead.
+         */
+        abstract String apply(Object value);
+
+        static ScalarPlan of(Class<?> type) {
+            if (type == String.class) {
+                return STRING;
+            }
+            if (type == Integer.class
+                    || type == Long.class
+                    || type == Short.class
+                    || type == Byte.class
+                    || type == BigInteger.class
+                    || type == Boolean.class) {
+                return TO_STRING;
+            }
+            if (type.isEnum()) {
+                return ofEnum(type);
+            }
+            try {
+                Method toString = type.getMethod("toString");
+                JsonValue jsonValue = toString.getAnnotation(JsonValue.class);
+                if (jsonValue != null && jsonValue.value() && !hasSerializationAnnotations(type)) {
+                    return TO_STRING;
+                }
+            } catch (NoSuchMethodException e) {
+                // every class has a public toString()
+            }
+            return NONE;
+        }
+
+        /**
+         * Serializes every constant once, which honors {@code @JsonValue}, {@code @JsonProperty} and the mapper
+         * configuration just as converting each value would.
+         */
+        private static ScalarPlan ofEnum(Class<?> type) {
+            Map<Object, String> values = new HashMap<>();
+            for (Object constant : type.getEnumConstants()) {
+                JsonNode node = MAPPER.valueToTree(constant);
+                if (node == null || node.isContainerNode()) {
+                    return NONE;
+                }
+                values.put(constant, node.isTextual() ? node.textValue() : node.toString());
+            }
+            return new ScalarPlan() {
+                @Override
+                String apply(Object value) {
+                    return values.get(value);
+                }
+            };
+        }
+
+        private static boolean hasSerializationAnnotations(Class<?> type) {
+            return type.isAnnotationPresent(JsonSerialize.class) || type.isAnnotationPresent(JsonFormat.class);
+        }
+    }
 }
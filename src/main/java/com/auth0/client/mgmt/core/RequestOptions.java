@@ -9,6 +9,7 @@ package com.auth0.client.mgmt.core;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
@@ -125,19 +126,43 @@ public final class RequestOptions {
      * @throws OAuthTokenException if OAuth token fetching fails
      */
     public Map<String, String> getHeaders() {
-        Map<String, String> headers = new HashMap<>();
+        if (hasClientCredentials() && baseUrl != null) {
+            return buildHeaders(tokenSupplier().get());
+        }
+        return buildHeaders(this.token);
+    }
 
+    /**
+     * Gets the HTTP headers for this request without blocking on per-request OAuth credentials.
+     *
+     * <p>When per-request OAuth credentials are configured, the returned future completes once the access token
+     * is available, or exceptionally with {@link OAuthTokenException} if fetching it fails. Otherwise it is
+     * already completed.
+     *
+     * @return Future of the map of HTTP header names to values
+     */
+    public CompletableFuture<Map<String, String>> getHeadersAsync() {
         if (hasClientCredentials() && baseUrl != null) {
-            if (cachedTokenSupplier == null) {
-                synchronized (this) {
-                    if (cachedTokenSupplier == null) {
-                        cachedTokenSupplier = new OAuthTokenSupplier(clientId, clientSecret, baseUrl, audience);
-                    }
+            return tokenSupplier().getAsync().thenApply(this::buildHeaders);
+        }
+        return CompletableFuture.completedFuture(buildHeaders(this.token));
+    }
+
+    private OAuthTokenSupplier tokenSupplier() {
+        if (cachedTokenSupplier == null) {
+            synchronized (this) {
+                if (cachedTokenSupplier == null) {
+                    cachedTokenSupplier = new OAuthTokenSupplier(clientId, clientSecret, baseUrl, audience);
                 }
             }
-            headers.put("Authorization", "Bearer " + cachedTokenSupplier.get());
-        } else if (this.token != null) {
-            headers.put("Authorization", "Bearer " + this.token);
+        }
+        return cachedTokenSupplier;
+    }
+
+    private Map<String, String> buildHeaders(String bearerToken) {
+        Map<String, String> headers = new HashMap<>();
+        if (bearerToken != null) {
+            headers.put("Authorization", "Bearer " + bearerToken);
         }
 
         headers.putAll(this.headers);
@@ -263,6 +288,15 @@ public final class RequestOptions {
             return this;
         }
 
+        /**
+         * Sends this request even if its response is cached, see {@link ResponseCache}. The fresh response
+         * replaces the cached one.
+         */
+        public Builder bypassCache() {
+            this.headers.put("Cache-Control", "no-cache");
+            return this;
+        }
+
         public Builder addQueryParameter(String key, String value) {
             this.queryParameters.put(key, value);
             return this;
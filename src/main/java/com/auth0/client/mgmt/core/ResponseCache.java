@@ -0,0 +1,287 @@
+package com.auth0.client.mgmt.core;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.LongSupplier;
+import okhttp3.HttpUrl;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+/**
+ * In-process cache of Management API {@code GET} responses for read-mostly resources, such as tenant settings,
+ * resource servers, roles, connections, branding or prompts.
+ *
+ * <p>Each resource is cached for its own time to live, configured by its path relative to the API version, such
+ * as {@code /tenants/settings} or {@code /roles}; a path applies to every path below it, and the longest matching
+ * path wins. Resources without a time to live are not cached. Once the cache holds {@code maxEntries} responses,
+ * the least recently used one is evicted.
+ *
+ * <p>When a cached response has expired and carries an {@code ETag} or {@code Last-Modified} header, it is
+ * revalidated with a conditional request; a {@code 304 Not Modified} renews it without transferring the body
+ * again. Any other request made through the same client to a resource, such as an update or a delete under
+ * {@code /roles}, removes every cached response of that resource. A single request can skip the cache with
+ * {@link RequestOptions.Builder#bypassCache()}.
+ *
+ * <pre>{@code
+ * ResponseCache cache = ResponseCache.builder()
+ *         .ttl("/tenants/settings", Duration.ofMinutes(10))
+ *         .ttl("/roles", Duration.ofMinutes(5))
+ *         .ttl("/connections", Duration.ofMinutes(5))
+ *         .build();
+ * }</pre>
+ *
+ * <p>Only successful JSON responses of at most 1 MiB are cached. Responses are cached per URL and
+ * {@code Authorization} header.
+ *
+ * <p>Defaults:
+ * <ul>
+ *   <li>maxEntries: 1000</li>
+ *   <li>defaultTtl: {@link Duration#ZERO}, only resources with a time to live are cached</li>
+ * </ul>
+ */
+public final class ResponseCache {
+
+    static final long MAX_CACHED_BODY_BYTES = 1024 * 1024;
+
+    private final int maxEntries;
+    private final long defaultTtlMillis;
+    private final TreeMap<String, Long> ttlMillis;
+    private final LongSupplier clock;
+
+    // guarded by itself; iteration order is the access order, least recently used first
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    // guarded by entries; the number of invalidations so far, and the last one of the whole cache and of each
+    // resource, so that a response fetched before an invalidation is not cached after it
+    private long invalidations;
+    private long allInvalidatedAt;
+    private final Map<String, Long> resourceInvalidatedAt = new HashMap<>();
+
+    private ResponseCache(Builder builder) {
+        this.maxEntries = builder.maxEntries;
+        this.defaultTtlMillis = builder.defaultTtl.toMillis();
+        this.ttlMillis = new TreeMap<>(builder.ttlMillis);
+        this.clock = builder.clock;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return the number of cached responses.
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Removes every cached response.
+     */
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+            allInvalidatedAt = ++invalidations;
+        }
+    }
+
+    /**
+     * Removes the cached responses of the resource that {@code path} belongs to, such as every response under
+     * {@code /roles} for {@code /roles/rol_1/permissions}.
+     *
+     * @param path a path relative to the API version, or an absolute URL path
+     */
+    public void invalidate(String path) {
+        invalidateResource(
+                resourceOf(relativePath(HttpUrl.get("https://localhost/").resolve(path))));
+    }
+
+    long ttlMillis(String relativePath) {
+        Map.Entry<String, Long> match = ttlMillis.floorEntry(relativePath);
+        while (match != null) {
+            String prefix = match.getKey();
+            if (relativePath.equals(prefix) || relativePath.startsWith(prefix + "/")) {
+                return match.getValue();
+            }
+            match = ttlMillis.lowerEntry(prefix);
+        }
+        return defaultTtlMillis;
+    }
+
+    Entry get(String key) {
+        synchronized (entries) {
+            return entries.get(key);
+        }
+    }
+
+    /**
+     * @return the current generation of the cache, to pass to {@link #put(String, Entry, long)} once the response
+     * read after it is received.
+     */
+    long generation() {
+        synchronized (entries) {
+            return invalidations;
+        }
+    }
+
+    /**
+     * Caches {@code entry}, unless its resource was invalidated since {@code generation}: its response may then
+     * predate an update made while it was in flight.
+     */
+    void put(String key, Entry entry, long generation) {
+        synchronized (entries) {
+            if (allInvalidatedAt > generation || resourceInvalidatedAt.getOrDefault(entry.resource, 0L) > generation) {
+                return;
+            }
+            entries.put(key, entry);
+            Iterator<Entry> eldest = entries.values().iterator();
+            while (entries.size() > maxEntries && eldest.hasNext()) {
+                eldest.next();
+                eldest.remove();
+            }
+        }
+    }
+
+    void invalidateResource(String resource) {
+        synchronized (entries) {
+            entries.values().removeIf(entry -> entry.resource.equals(resource));
+            resourceInvalidatedAt.put(resource, ++invalidations);
+        }
+    }
+
+    long now() {
+        return clock.getAsLong();
+    }
+
+    /**
+     * The path of {@code url} after its API version segment, such as {@code /roles/rol_1} for
+     * {@code /api/v2/roles/rol_1}, or its full path if it has none.
+     */
+    static String relativePath(HttpUrl url) {
+        List<String> segments = url.pathSegments();
+        int start = 0;
+        for (int i = 0; i < segments.size(); i++) {
+            if (segments.get(i).matches("v\\d+")) {
+                start = i + 1;
+                break;
+            }
+        }
+        StringBuilder path = new StringBuilder();
+        for (int i = start; i < segments.size(); i++) {
+            if (!segments.get(i).isEmpty()) {
+                path.append('/').append(segments.get(i));
+            }
+        }
+        return path.length() == 0 ? "/" : path.toString();
+    }
+
+    /**
+     * The first segment of a relative path, such as {@code /roles} for {@code /roles/rol_1/permissions}.
+     */
+    static String resourceOf(String relativePath) {
+        int end = relativePath.indexOf('/', 1);
+        return end < 0 ? relativePath : relativePath.substring(0, end);
+    }
+
+    static final class Entry {
+        final Response response;
+        final byte[] body;
+        final MediaType contentType;
+        final String resource;
+        final long expiresAt;
+
+        Entry(Response response, byte[] body, MediaType contentType, String resource, long expiresAt) {
+            this.response = response;
+            this.body = body;
+            this.contentType = contentType;
+            this.resource = resource;
+            this.expiresAt = expiresAt;
+        }
+
+        Entry renew(long expiresAt) {
+            return new Entry(response, body, contentType, resource, expiresAt);
+        }
+
+        String validator(String header) {
+            return response.header(header);
+        }
+
+        Response copyFor(Request request) {
+            return response.newBuilder()
+                    .request(request)
+                    .body(ResponseBody.create(body, contentType))
+                    .build();
+        }
+    }
+
+    public static final class Builder {
+        private int maxEntries = 1000;
+        private Duration defaultTtl = Duration.ZERO;
+        private final Map<String, Long> ttlMillis = new TreeMap<>();
+        private LongSupplier clock = System::currentTimeMillis;
+
+        private Builder() {}
+
+        /**
+         * Sets the maximum number of cached responses, above which the least recently used one is evicted.
+         */
+        public Builder maxEntries(int maxEntries) {
+            this.maxEntries = maxEntries;
+            return this;
+        }
+
+        /**
+         * Sets the time to live of the resources without one of their own. {@link Duration#ZERO} disables caching
+         * of those resources.
+         */
+        public Builder defaultTtl(Duration defaultTtl) {
+            this.defaultTtl = defaultTtl;
+            return this;
+        }
+
+        /**
+         * Caches the responses of {@code path} and of every path below it for {@code ttl}.
+         *
+         * @param path a path relative to the API version, such as {@code /tenants/settings}
+         * @param ttl the time to live; {@link Duration#ZERO} excludes the path from caching
+         */
+        public Builder ttl(String path, Duration ttl) {
+            if (path == null || !path.startsWith("/")) {
+                throw new IllegalArgumentException("path must start with '/'.");
+            }
+            if (ttl == null || ttl.isNegative()) {
+                throw new IllegalArgumentException("ttl must not be negative.");
+            }
+            String normalized = path.length() > 1 && path.endsWith("/") ? path.substring(0, path.length() - 1) : path;
+            this.ttlMillis.put(normalized, ttl.toMillis());
+            return this;
+        }
+
+        /**
+         * Visible for testing purposes only.
+         */
+        Builder clock(LongSupplier clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        public ResponseCache build() {
+            if (maxEntries < 1) {
+                throw new IllegalArgumentException("maxEntries must be at least 1.");
+            }
+            if (defaultTtl == null || defaultTtl.isNegative()) {
+                throw new IllegalArgumentException("defaultTtl must not be negative.");
+            }
+            return new ResponseCache(this);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.auth0.client.mgmt.core;
+
+import java.io.IOException;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+/**
+ * OkHttp interceptor serving {@code GET} requests from a {@link ResponseCache}, revalidating expired responses
+ * and invalidating the responses of a resource when it is modified through the same client.
+ */
+final class ResponseCacheInterceptor implements Interceptor {
+
+    private final ResponseCache cache;
+
+    ResponseCacheInterceptor(ResponseCache cache) {
+        this.cache = cache;
+    }
+
+    ResponseCache cache() {
+        return cache;
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        String relativePath = ResponseCache.relativePath(request.url());
+        String resource = ResponseCache.resourceOf(relativePath);
+
+        if ("HEAD".equals(request.method())) {
+            return chain.proceed(request);
+        }
+        if (!"GET".equals(request.method())) {
+            try {
+                return chain.proceed(request);
+            } finally {
+                cache.invalidateResource(resource);
+            }
+        }
+
+        long ttl = cache.ttlMillis(relativePath);
+        if (ttl <= 0) {
+            return chain.proceed(request);
+        }
+
+        String key = request.url() + "\n" + request.header("Authorization");
+        ResponseCache.Entry entry = bypass(request) ? null : cache.get(key);
+        if (entry != null && entry.expiresAt > cache.now()) {
+            return entry.copyFor(request);
+        }
+
+        Request sent = request;
+        if (entry != null) {
+            String etag = entry.validator("ETag");
+            String lastModified = entry.validator("Last-Modified");
+            if (etag != null || lastModified != null) {
+                Request.Builder conditional = request.newBuilder();
+                if (etag != null) {
+                    conditional.header("If-None-Match", etag);
+                }
+                if (lastModified != null) {
+                    conditional.header("If-Modified-Since", lastModified);
+                }
+                sent = conditional.build();
+            }
+        }
+
+        // a write to the resource while this request is in flight keeps its response out of the cache
+        long generation = cache.generation();
+        Response response = chain.proceed(sent);
+        if (response.code() == 304 && entry != null && sent != request) {
+            response.close();
+            ResponseCache.Entry renewed = entry.renew(cache.now() + ttl);
+            cache.put(key, renewed, generation);
+            return renewed.copyFor(request);
+        }
+        if (response.code() != 200) {
+            return response;
+        }
+
+        ResponseBody body = response.body();
+        MediaType contentType = body != null ? body.contentType() : null;
+        if (contentType == null
+                || !"json".equals(contentType.subtype())
+                || body.contentLength() > ResponseCache.MAX_CACHED_BODY_BYTES) {
+            return response;
+        }
+        if (body.contentLength() < 0
+                && response.peekBody(ResponseCache.MAX_CACHED_BODY_BYTES + 1).contentLength()
+                        > ResponseCache.MAX_CACHED_BODY_BYTES) {
+            return response;
+        }
+        byte[] bytes;
+        try (ResponseBody closeable = body) {
+            bytes = closeable.bytes();
+        }
+        ResponseCache.Entry stored = new ResponseCache.Entry(response, bytes, contentType, resource, cache.now() + ttl);
+        cache.put(key, stored, generation);
+        return stored.copyFor(request);
+    }
+
+    private static boolean bypass(Request request) {
+        for (String value : request.headers("Cache-Control")) {
+            if (value.toLowerCase().contains("no-cache")) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -3,6 +3,8 @@
  */
 package com.auth0.client.mgmt.core;
 
+import com.auth0.net.HttpMetrics;
+import com.auth0.net.MetricsInterceptor;
 import java.io.IOException;
 import java.time.Duration;
 import java.time.ZonedDateTime;
@@ -21,10 +23,20 @@ public class RetryInterceptor implements Interceptor {
     private static final double JITTER_FACTOR = 0.2;
 
     private final int maxRetries;
+    private final HttpMetrics metrics;
     private final Random random = new Random();
 
     public RetryInterceptor(int maxRetries) {
+        this(maxRetries, HttpMetrics.NONE);
+    }
+
+    /**
+     * Creates an interceptor that reports every retry, including those scheduled by {@link AsyncRetryCallback},
+     * to {@code metrics}.
+     */
+    public RetryInterceptor(int maxRetries, HttpMetrics metrics) {
         this.maxRetries = maxRetries;
+        this.metrics = metrics != null ? metrics : HttpMetrics.NONE;
     }
 
     @Override
@@ -40,6 +52,14 @@ public class RetryInterceptor implements Interceptor {
         return response;
     }
 
+    /**
+     * Starts the backoff sequence for a request that is retried outside of this interceptor, such as by
+     * {@link AsyncRetryCallback}. Delays are computed exactly as for retries done by the interceptor itself.
+     */
+    ExponentialBackoff newBackoff(Request request) {
+        return new ExponentialBackoff(resolveMaxRetries(request));
+    }
+
     private int resolveMaxRetries(Request request) {
         MaxRetriesOverride override = request.tag(MaxRetriesOverride.class);
         return override != null ? override.getValue() : this.maxRetries;
@@ -55,7 +75,7 @@ public class RetryInterceptor implements Interceptor {
                 throw new IOException("Interrupted while trying request", e);
             }
             response.close();
-            response = chain.proceed(chain.request());
+            response = chain.proceed(RetryCount.tag(chain.request(), backoff.retryNumber()));
             if (shouldRetry(response.code())) {
                 nextBackoff = backoff.nextBackoff(response);
             } else {
@@ -162,7 +182,7 @@ public class RetryInterceptor implements Interceptor {
         return (long) (delayMs * jitterMultiplier);
     }
 
-    private static boolean shouldRetry(int statusCode) {
+    static boolean shouldRetry(int statusCode) {
         return statusCode == 408 || statusCode == 429 || statusCode >= 500;
     }
 
@@ -183,7 +203,37 @@ public class RetryInterceptor implements Interceptor {
         }
     }
 
-    private final class ExponentialBackoff {
+    /**
+     * The number of retries made before an attempt, carried on the OkHttp {@link Request} of every retry as a tag
+     * so that interceptors running inside this one, such as {@link LoggingInterceptor}, can report it.
+     */
+    public static final class RetryCount {
+        private final int value;
+
+        private RetryCount(int value) {
+            this.value = value;
+        }
+
+        public int getValue() {
+            return value;
+        }
+
+        /**
+         * @return the number of retries made before {@code request}, 0 for a first attempt.
+         */
+        public static int of(Request request) {
+            RetryCount count = request.tag(RetryCount.class);
+            return count != null ? count.value : 0;
+        }
+
+        static Request tag(Request request, int retryCount) {
+            return request.newBuilder()
+                    .tag(RetryCount.class, new RetryCount(retryCount))
+                    .build();
+        }
+    }
+
+    final class ExponentialBackoff {
 
         private final int maxNumRetries;
 
@@ -193,6 +243,10 @@ public class RetryInterceptor implements Interceptor {
             this.maxNumRetries = maxNumRetries;
         }
 
+        int retryNumber() {
+            return retryNumber;
+        }
+
         public Optional<Duration> nextBackoff(Response response) {
             if (retryNumber >= maxNumRetries) {
                 return Optional.empty();
@@ -200,6 +254,11 @@ public class RetryInterceptor implements Interceptor {
 
             Duration delay = getRetryDelayFromHeaders(response, retryNumber);
             retryNumber += 1;
+            if (metrics != HttpMetrics.NONE) {
+                Request request = response.request();
+                metrics.recordRetry(
+                        request.method(), MetricsInterceptor.endpoint(request.url()), response.code(), retryNumber);
+            }
             return Optional.of(delay);
         }
     }
@@ -0,0 +1,216 @@
+package com.auth0.client.mgmt.core;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import okhttp3.Call;
+import okhttp3.Headers;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+/**
+ * OkHttp interceptor that coalesces concurrent identical {@code GET} requests into a single call. While a request
+ * is in flight, requests for the same URL with the same headers wait for it and receive a copy of its response
+ * instead of being sent, so a burst of lookups for the same user or role after a cache expiry costs one request
+ * against the rate limit.
+ *
+ * <p>Only JSON responses of at most {@value #MAX_SHARED_BODY_BYTES} bytes are shared; their body is buffered. When
+ * a response cannot be shared, such as a file download, the waiting requests are sent on their own. A failure of
+ * the shared call is reported to every waiting request, except when the call was canceled or timed out, which only
+ * concerns the request that made it: the waiting requests then start a new call. Waiting requests still honour
+ * their own cancellation and call timeout. Per-request headers listed as ignored, by default {@code X-Request-ID},
+ * do not prevent requests from being coalesced, while requests with different
+ * {@link RetryInterceptor.MaxRetriesOverride retry limits} are not coalesced.
+ *
+ * <p>Installed with {@link ClientOptions.Builder#coalesceGetRequests(boolean)}.
+ */
+public final class SingleFlightInterceptor implements Interceptor {
+
+    static final long MAX_SHARED_BODY_BYTES = 1024 * 1024;
+
+    private static final long POLL_INTERVAL_MILLIS = 50;
+
+    /**
+     * Completes a flight whose call was canceled or timed out, telling the waiting requests to start a new one.
+     */
+    private static final SharedResponse ABANDONED = new SharedResponse(null, null, null);
+
+    private final ConcurrentMap<String, CompletableFuture<SharedResponse>> inFlight = new ConcurrentHashMap<>();
+    private final Set<String> ignoredHeaders;
+
+    public SingleFlightInterceptor() {
+        this("X-Request-ID");
+    }
+
+    /**
+     * @param ignoredHeaders headers whose values may differ between requests that are coalesced
+     */
+    public SingleFlightInterceptor(String... ignoredHeaders) {
+        Set<String> names = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        names.addAll(Arrays.asList(ignoredHeaders));
+        this.ignoredHeaders = Collections.unmodifiableSet(names);
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        if (!"GET".equals(request.method())) {
+            return chain.proceed(request);
+        }
+
+        String key = key(request);
+        CompletableFuture<SharedResponse> flight = new CompletableFuture<>();
+        long deadlineNanos = deadlineNanos(chain.call());
+        CompletableFuture<SharedResponse> existing;
+        while ((existing = inFlight.putIfAbsent(key, flight)) != null) {
+            SharedResponse shared = await(existing, chain.call(), deadlineNanos);
+            if (shared != ABANDONED) {
+                return shared != null ? shared.copyFor(request) : chain.proceed(request);
+            }
+        }
+
+        Response response;
+        try {
+            response = chain.proceed(request);
+        } catch (IOException | RuntimeException | Error e) {
+            inFlight.remove(key, flight);
+            if (e instanceof InterruptedIOException || chain.call().isCanceled()) {
+                flight.complete(ABANDONED);
+            } else {
+                flight.completeExceptionally(e);
+            }
+            throw e;
+        }
+
+        SharedResponse shared = null;
+        try {
+            shared = share(response);
+        } finally {
+            // later requests start a new flight rather than receiving a response that is already complete
+            inFlight.remove(key, flight);
+            flight.complete(shared);
+        }
+        return shared != null ? shared.copyFor(request) : response;
+    }
+
+    /**
+     * Buffers the body of {@code response} if it can be shared, in which case {@code response} is closed.
+     *
+     * @return the shared response, or {@code null} if {@code response} is returned as is
+     */
+    private static SharedResponse share(Response response) throws IOException {
+        ResponseBody body = response.body();
+        MediaType contentType = body != null ? body.contentType() : null;
+        if (contentType == null
+                || !"json".equals(contentType.subtype())
+                || body.contentLength() > MAX_SHARED_BODY_BYTES) {
+            return null;
+        }
+        if (body.contentLength() < 0
+                && response.peekBody(MAX_SHARED_BODY_BYTES + 1).contentLength() > MAX_SHARED_BODY_BYTES) {
+            return null;
+        }
+        byte[] bytes;
+        try (ResponseBody closeable = body) {
+            bytes = closeable.bytes();
+        }
+        return new SharedResponse(response, bytes, contentType);
+    }
+
+    /**
+     * @return the {@link System#nanoTime()} at which the call times out, or {@code Long.MAX_VALUE} if it has no call
+     *     timeout
+     */
+    private static long deadlineNanos(Call call) {
+        long timeoutNanos = call.timeout().timeoutNanos();
+        return timeoutNanos > 0 ? System.nanoTime() + timeoutNanos : Long.MAX_VALUE;
+    }
+
+    /**
+     * Waits for the response of {@code flight}, giving up when {@code call} is canceled or reaches its deadline.
+     */
+    private static SharedResponse await(CompletableFuture<SharedResponse> flight, Call call, long deadlineNanos)
+            throws IOException {
+        try {
+            while (true) {
+                if (call.isCanceled()) {
+                    throw new IOException("Canceled");
+                }
+                long remainingNanos = deadlineNanos - System.nanoTime();
+                if (remainingNanos <= 0) {
+                    throw new InterruptedIOException("timeout");
+                }
+                try {
+                    return flight.get(
+                            Math.min(remainingNanos, TimeUnit.MILLISECONDS.toNanos(POLL_INTERVAL_MILLIS)),
+                            TimeUnit.NANOSECONDS);
+                } catch (TimeoutException e) {
+                    // check the call again
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a coalesced request");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    private String key(Request request) {
+        StringBuilder key = new StringBuilder(256).append(request.url());
+        RetryInterceptor.MaxRetriesOverride maxRetries = request.tag(RetryInterceptor.MaxRetriesOverride.class);
+        if (maxRetries != null) {
+            // the retries of the shared call are made on behalf of every waiting request
+            key.append("\nmaxRetries=").append(maxRetries.getValue());
+        }
+        Headers headers = request.headers();
+        for (int i = 0; i < headers.size(); i++) {
+            String name = headers.name(i);
+            if (!ignoredHeaders.contains(name)) {
+                key.append('\n').append(name).append(':').append(headers.value(i));
+            }
+        }
+        return key.toString();
+    }
+
+    private static final class SharedResponse {
+        private final Response response;
+        private final byte[] body;
+        private final MediaType contentType;
+
+        private SharedResponse(Response response, byte[] body, MediaType contentType) {
+            this.response = response;
+            this.body = body;
+            this.contentType = contentType;
+        }
+
+        private Response copyFor(Request request) {
+            return response.newBuilder()
+                    .request(request)
+                    .body(ResponseBody.create(body, contentType))
+                    .build();
+        }
+    }
+}
@@ -8,6 +8,10 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -28,6 +32,32 @@ public class SyncPagingIterable<T> extends SyncPage<T> implements Iterable<T> {
         return StreamSupport.stream(this.spliterator(), false);
     }
 
+    /**
+     * Streams all items like {@link #streamItems()}, but with following pages prefetched as described in
+     * {@link #prefetchingIterator(int, Executor)}.
+     */
+    public Stream<T> streamItems(int prefetchDepth, Executor executor) {
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(
+                        prefetchingIterator(prefetchDepth, executor), Spliterator.ORDERED | Spliterator.NONNULL),
+                false);
+    }
+
+    /**
+     * Returns an iterator over all items that fetches up to {@code depth} following pages on {@code executor}
+     * while the current page is being consumed. At most {@code depth} pages are buffered ahead of the caller.
+     *
+     * <p>Page requests are blocking calls, so {@code executor} should allow blocking work. The OkHttp
+     * dispatcher's executor ({@code httpClient.dispatcher().executorService()}) is a suitable choice.
+     *
+     * @param depth number of pages to keep in flight ahead of the current page, at least 1
+     * @param executor executor that runs the page requests
+     */
+    public Iterator<T> prefetchingIterator(int depth, Executor executor) {
+        return new PrefetchingPageIterator<>(
+                this, depth, page -> CompletableFuture.supplyAsync(page::nextPage, executor));
+    }
+
     @Override
     public Iterator<T> iterator() {
         return new Iterator<T>() {
@@ -0,0 +1,157 @@
+package com.auth0.client.mgmt.core;
+
+import java.time.Duration;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * Configuration for proactive, background refresh of client credentials tokens by {@link OAuthTokenSupplier}.
+ *
+ * <p>With a refresh configuration, a new token is requested in the background once {@code refreshFraction} of
+ * the token's {@code expires_in} has elapsed, give or take {@code jitterFraction}. The current token keeps being
+ * served while the refresh is in flight. Failed refreshes are retried with exponential backoff between
+ * {@code minBackoff} and {@code maxBackoff}, and request threads only wait on the token endpoint when no
+ * valid token is left.
+ *
+ * <pre>{@code
+ * OAuthTokenSupplier tokenSupplier = new OAuthTokenSupplier(
+ *     "clientId", "clientSecret", "https://your-tenant.auth0.com", null,
+ *     TokenRefreshConfig.builder()
+ *         .refreshFraction(0.75)
+ *         .build());
+ * ManagementApi client = ManagementApi.builder()
+ *     .domain("your-tenant.auth0.com")
+ *     .tokenSupplier(tokenSupplier)
+ *     .build();
+ * // once the client is no longer used
+ * tokenSupplier.close();
+ * }</pre>
+ *
+ * <p>The supplier keeps refreshing until it is closed, so it is created and closed by the caller rather than by
+ * the client builders.
+ *
+ * <p>Defaults:
+ * <ul>
+ *   <li>{@code refreshFraction} — {@code 0.8}</li>
+ *   <li>{@code jitterFraction} — {@code 0.05}</li>
+ *   <li>{@code minBackoff} — 1 second</li>
+ *   <li>{@code maxBackoff} — 60 seconds</li>
+ *   <li>{@code scheduler} — a single daemon thread owned by the supplier</li>
+ * </ul>
+ */
+public final class TokenRefreshConfig {
+
+    private final double refreshFraction;
+    private final double jitterFraction;
+    private final Duration minBackoff;
+    private final Duration maxBackoff;
+    private final ScheduledExecutorService scheduler;
+
+    private TokenRefreshConfig(
+            double refreshFraction,
+            double jitterFraction,
+            Duration minBackoff,
+            Duration maxBackoff,
+            ScheduledExecutorService scheduler) {
+        this.refreshFraction = refreshFraction;
+        this.jitterFraction = jitterFraction;
+        this.minBackoff = minBackoff;
+        this.maxBackoff = maxBackoff;
+        this.scheduler = scheduler;
+    }
+
+    public double refreshFraction() {
+        return refreshFraction;
+    }
+
+    public double jitterFraction() {
+        return jitterFraction;
+    }
+
+    public Duration minBackoff() {
+        return minBackoff;
+    }
+
+    public Duration maxBackoff() {
+        return maxBackoff;
+    }
+
+    /**
+     * The scheduler running background refreshes, or {@code null} to let the supplier create its own.
+     */
+    public ScheduledExecutorService scheduler() {
+        return scheduler;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static final class Builder {
+        private double refreshFraction = 0.8;
+        private double jitterFraction = 0.05;
+        private Duration minBackoff = Duration.ofSeconds(1);
+        private Duration maxBackoff = Duration.ofSeconds(60);
+        private ScheduledExecutorService scheduler = null;
+
+        private Builder() {}
+
+        /**
+         * Fraction of {@code expires_in} after which the token is refreshed. Must be greater than 0 and at most 1.
+         * Defaults to {@code 0.8}.
+         */
+        public Builder refreshFraction(double refreshFraction) {
+            this.refreshFraction = refreshFraction;
+            return this;
+        }
+
+        /**
+         * Random spread applied to the refresh time, as a fraction of {@code expires_in}, so that many clients
+         * started together do not refresh at the same instant. Defaults to {@code 0.05}.
+         */
+        public Builder jitterFraction(double jitterFraction) {
+            this.jitterFraction = jitterFraction;
+            return this;
+        }
+
+        /**
+         * Delay before the first retry of a failed refresh. Defaults to 1 second.
+         */
+        public Builder minBackoff(Duration minBackoff) {
+            this.minBackoff = minBackoff;
+            return this;
+        }
+
+        /**
+         * Upper bound for the delay between retries of a failed refresh. Defaults to 60 seconds.
+         */
+        public Builder maxBackoff(Duration maxBackoff) {
+            this.maxBackoff = maxBackoff;
+            return this;
+        }
+
+        /**
+         * Scheduler used for background refreshes. Defaults to a single daemon thread owned by the supplier, and
+         * shut down by {@link OAuthTokenSupplier#close()}. A scheduler supplied here is left running.
+         */
+        public Builder scheduler(ScheduledExecutorService scheduler) {
+            this.scheduler = scheduler;
+            return this;
+        }
+
+        public TokenRefreshConfig build() {
+            if (!(refreshFraction > 0 && refreshFraction <= 1)) {
+                throw new IllegalArgumentException("refreshFraction must be greater than 0 and at most 1");
+            }
+            if (jitterFraction < 0 || jitterFraction >= 1) {
+                throw new IllegalArgumentException("jitterFraction must be at least 0 and less than 1");
+            }
+            if (minBackoff == null
+                    || maxBackoff == null
+                    || minBackoff.isNegative()
+                    || maxBackoff.compareTo(minBackoff) < 0) {
+                throw new IllegalArgumentException("maxBackoff must be at least minBackoff, and both non-negative");
+            }
+            return new TokenRefreshConfig(refreshFraction, jitterFraction, minBackoff, maxBackoff, scheduler);
+        }
+    }
+}
@@ -107,10 +107,9 @@ public class RawDeliveriesClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
-                ListEventStreamDeliveriesResponseContent parsedResponse = ObjectMappers.JSON_MAPPER.readValue(
-                        responseBodyString, ListEventStreamDeliveriesResponseContent.class);
+                ListEventStreamDeliveriesResponseContent parsedResponse =
+                        ObjectMappers.readValue(responseBody, ListEventStreamDeliveriesResponseContent.class);
                 Optional<String> startingAfter = parsedResponse.getNext();
                 ListEventStreamDeliveriesRequestParameters nextRequest =
                         ListEventStreamDeliveriesRequestParameters.builder()
@@ -125,6 +124,7 @@ public class RawDeliveriesClient {
                                         .body()),
                         response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -195,13 +195,12 @@ public class RawDeliveriesClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
                 return new ManagementApiHttpResponse<>(
-                        ObjectMappers.JSON_MAPPER.readValue(
-                                responseBodyString, GetEventStreamDeliveryHistoryResponseContent.class),
+                        ObjectMappers.readValue(responseBody, GetEventStreamDeliveryHistoryResponseContent.class),
                         response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 401:
@@ -95,10 +95,9 @@ public class RawExecutionsClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
-                ListFlowExecutionsPaginatedResponseContent parsedResponse = ObjectMappers.JSON_MAPPER.readValue(
-                        responseBodyString, ListFlowExecutionsPaginatedResponseContent.class);
+                ListFlowExecutionsPaginatedResponseContent parsedResponse =
+                        ObjectMappers.readValue(responseBody, ListFlowExecutionsPaginatedResponseContent.class);
                 Optional<String> startingAfter = parsedResponse.getNext();
                 ListFlowExecutionsRequestParameters nextRequest = ListFlowExecutionsRequestParameters.builder()
                         .from(request)
@@ -113,6 +112,7 @@ public class RawExecutionsClient {
                                         .body()),
                         response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -201,12 +201,11 @@ public class RawExecutionsClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
                 return new ManagementApiHttpResponse<>(
-                        ObjectMappers.JSON_MAPPER.readValue(responseBodyString, GetFlowExecutionResponseContent.class),
-                        response);
+                        ObjectMappers.readValue(responseBody, GetFlowExecutionResponseContent.class), response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
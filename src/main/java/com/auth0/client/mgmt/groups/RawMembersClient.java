@@ -109,10 +109,9 @@ public class RawMembersClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
                 GetGroupMembersResponseContent parsedResponse =
-                        ObjectMappers.JSON_MAPPER.readValue(responseBodyString, GetGroupMembersResponseContent.class);
+                        ObjectMappers.readValue(responseBody, GetGroupMembersResponseContent.class);
                 Optional<String> startingAfter = parsedResponse.getNext();
                 GetGroupMembersRequestParameters nextRequest = GetGroupMembersRequestParameters.builder()
                         .from(request)
@@ -126,6 +125,7 @@ public class RawMembersClient {
                                         .body()),
                         response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
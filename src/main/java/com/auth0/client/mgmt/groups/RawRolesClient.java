@@ -105,10 +105,9 @@ public class RawRolesClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
                 ListGroupRolesResponseContent parsedResponse =
-                        ObjectMappers.JSON_MAPPER.readValue(responseBodyString, ListGroupRolesResponseContent.class);
+                        ObjectMappers.readValue(responseBody, ListGroupRolesResponseContent.class);
                 Optional<String> startingAfter = parsedResponse.getNext();
                 ListGroupRolesRequestParameters nextRequest = ListGroupRolesRequestParameters.builder()
                         .from(request)
@@ -121,6 +120,7 @@ public class RawRolesClient {
                                 .body()),
                         response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
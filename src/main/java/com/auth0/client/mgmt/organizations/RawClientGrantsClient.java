@@ -107,11 +107,9 @@ public class RawClientGrantsClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
-                ListOrganizationClientGrantsOffsetPaginatedResponseContent parsedResponse =
-                        ObjectMappers.JSON_MAPPER.readValue(
-                                responseBodyString, ListOrganizationClientGrantsOffsetPaginatedResponseContent.class);
+                ListOrganizationClientGrantsOffsetPaginatedResponseContent parsedResponse = ObjectMappers.readValue(
+                        responseBody, ListOrganizationClientGrantsOffsetPaginatedResponseContent.class);
                 int newPageNumber =
                         request.getPage().map((Integer page) -> page + 1).orElse(1);
                 ListOrganizationClientGrantsRequestParameters nextRequest =
@@ -127,6 +125,7 @@ public class RawClientGrantsClient {
                                         .body()),
                         response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -201,13 +200,12 @@ public class RawClientGrantsClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
                 return new ManagementApiHttpResponse<>(
-                        ObjectMappers.JSON_MAPPER.readValue(
-                                responseBodyString, AssociateOrganizationClientGrantResponseContent.class),
+                        ObjectMappers.readValue(responseBody, AssociateOrganizationClientGrantResponseContent.class),
                         response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -131,10 +131,9 @@ public class RawClientsClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
-                ListOrganizationClientsResponseContent parsedResponse = ObjectMappers.JSON_MAPPER.readValue(
-                        responseBodyString, ListOrganizationClientsResponseContent.class);
+                ListOrganizationClientsResponseContent parsedResponse =
+                        ObjectMappers.readValue(responseBody, ListOrganizationClientsResponseContent.class);
                 Optional<String> startingAfter = parsedResponse.getNext();
                 ListOrganizationClientsRequestParameters nextRequest =
                         ListOrganizationClientsRequestParameters.builder()
@@ -149,6 +148,7 @@ public class RawClientsClient {
                                         .body()),
                         response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -232,13 +232,12 @@ public class RawClientsClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
                 return new ManagementApiHttpResponse<>(
-                        ObjectMappers.JSON_MAPPER.readValue(
-                                responseBodyString, new TypeReference<List<OrganizationClient>>() {}),
+                        ObjectMappers.readValue(responseBody, new TypeReference<List<OrganizationClient>>() {}),
                         response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -403,13 +402,11 @@ public class RawClientsClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
                 return new ManagementApiHttpResponse<>(
-                        ObjectMappers.JSON_MAPPER.readValue(
-                                responseBodyString, GetOrganizationClientResponseContent.class),
-                        response);
+                        ObjectMappers.readValue(responseBody, GetOrganizationClientResponseContent.class), response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -511,13 +508,11 @@ public class RawClientsClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
                 return new ManagementApiHttpResponse<>(
-                        ObjectMappers.JSON_MAPPER.readValue(
-                                responseBodyString, UpdateOrganizationClientResponseContent.class),
-                        response);
+                        ObjectMappers.readValue(responseBody, UpdateOrganizationClientResponseContent.class), response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -117,10 +117,9 @@ public class RawDiscoveryDomainsClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
-                ListOrganizationDiscoveryDomainsResponseContent parsedResponse = ObjectMappers.JSON_MAPPER.readValue(
-                        responseBodyString, ListOrganizationDiscoveryDomainsResponseContent.class);
+                ListOrganizationDiscoveryDomainsResponseContent parsedResponse =
+                        ObjectMappers.readValue(responseBody, ListOrganizationDiscoveryDomainsResponseContent.class);
                 Optional<String> startingAfter = parsedResponse.getNext();
                 ListOrganizationDiscoveryDomainsRequestParameters nextRequest =
                         ListOrganizationDiscoveryDomainsRequestParameters.builder()
@@ -135,6 +134,7 @@ public class RawDiscoveryDomainsClient {
                                         .body()),
                         response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -218,13 +218,12 @@ public class RawDiscoveryDomainsClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
                 return new ManagementApiHttpResponse<>(
-                        ObjectMappers.JSON_MAPPER.readValue(
-                                responseBodyString, CreateOrganizationDiscoveryDomainResponseContent.class),
+                        ObjectMappers.readValue(responseBody, CreateOrganizationDiscoveryDomainResponseContent.class),
                         response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -306,13 +305,13 @@ public class RawDiscoveryDomainsClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
                 return new ManagementApiHttpResponse<>(
-                        ObjectMappers.JSON_MAPPER.readValue(
-                                responseBodyString, GetOrganizationDiscoveryDomainByNameResponseContent.class),
+                        ObjectMappers.readValue(
+                                responseBody, GetOrganizationDiscoveryDomainByNameResponseContent.class),
                         response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -391,13 +390,12 @@ public class RawDiscoveryDomainsClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
                 return new ManagementApiHttpResponse<>(
-                        ObjectMappers.JSON_MAPPER.readValue(
-                                responseBodyString, GetOrganizationDiscoveryDomainResponseContent.class),
+                        ObjectMappers.readValue(responseBody, GetOrganizationDiscoveryDomainResponseContent.class),
                         response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -583,13 +581,12 @@ public class RawDiscoveryDomainsClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
                 return new ManagementApiHttpResponse<>(
-                        ObjectMappers.JSON_MAPPER.readValue(
-                                responseBodyString, UpdateOrganizationDiscoveryDomainResponseContent.class),
+                        ObjectMappers.readValue(responseBody, UpdateOrganizationDiscoveryDomainResponseContent.class),
                         response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -107,10 +107,9 @@ public class RawGroupsClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
-                ListOrganizationGroupsResponseContent parsedResponse = ObjectMappers.JSON_MAPPER.readValue(
-                        responseBodyString, ListOrganizationGroupsResponseContent.class);
+                ListOrganizationGroupsResponseContent parsedResponse =
+                        ObjectMappers.readValue(responseBody, ListOrganizationGroupsResponseContent.class);
                 Optional<String> startingAfter = parsedResponse.getNext();
                 ListOrganizationGroupsRequestParameters nextRequest = ListOrganizationGroupsRequestParameters.builder()
                         .from(request)
@@ -123,6 +122,7 @@ public class RawGroupsClient {
                                 .body()),
                         response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -169,10 +169,9 @@ public class RawMembersClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
-                ListOrganizationMembersPaginatedResponseContent parsedResponse = ObjectMappers.JSON_MAPPER.readValue(
-                        responseBodyString, ListOrganizationMembersPaginatedResponseContent.class);
+                ListOrganizationMembersPaginatedResponseContent parsedResponse =
+                        ObjectMappers.readValue(responseBody, ListOrganizationMembersPaginatedResponseContent.class);
                 Optional<String> startingAfter = parsedResponse.getNext();
                 ListOrganizationMembersRequestParameters nextRequest =
                         ListOrganizationMembersRequestParameters.builder()
@@ -187,6 +186,7 @@ public class RawMembersClient {
                                         .body()),
                         response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
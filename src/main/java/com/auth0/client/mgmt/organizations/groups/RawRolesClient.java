@@ -119,10 +119,9 @@ public class RawRolesClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
-                ListOrganizationGroupRolesResponseContent parsedResponse = ObjectMappers.JSON_MAPPER.readValue(
-                        responseBodyString, ListOrganizationGroupRolesResponseContent.class);
+                ListOrganizationGroupRolesResponseContent parsedResponse =
+                        ObjectMappers.readValue(responseBody, ListOrganizationGroupRolesResponseContent.class);
                 Optional<String> startingAfter = parsedResponse.getNext();
                 ListOrganizationGroupRolesRequestParameters nextRequest =
                         ListOrganizationGroupRolesRequestParameters.builder()
@@ -136,6 +135,7 @@ public class RawRolesClient {
                                 .body()),
                         response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -28,7 +28,6 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import okhttp3.Call;
 import okhttp3.Callback;
-import okhttp3.Headers;
 import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
@@ -99,11 +98,8 @@ public class AsyncRawEffectiveRolesClient {
                 httpUrl.addQueryParameter(_key, _value);
             });
         }
-        Request.Builder _requestBuilder = new Request.Builder()
-                .url(httpUrl.build())
-                .method("GET", null)
-                .headers(Headers.of(clientOptions.headers(requestOptions)))
-                .addHeader("Accept", "application/json");
+        Request.Builder _requestBuilder =
+                new Request.Builder().url(httpUrl.build()).method("GET", null).addHeader("Accept", "application/json");
         Request okhttpRequest = _requestBuilder.build();
         OkHttpClient client = clientOptions.httpClient();
         if (requestOptions != null && requestOptions.getTimeout().isPresent()) {
@@ -120,15 +116,13 @@ public class AsyncRawEffectiveRolesClient {
         }
         CompletableFuture<ManagementApiHttpResponse<SyncPagingIterable<OrganizationMemberEffectiveRole>>> future =
                 new CompletableFuture<>();
-        client.newCall(okhttpRequest).enqueue(new Callback() {
+        clientOptions.enqueue(client, okhttpRequest, requestOptions, future, new Callback() {
             @Override
             public void onResponse(@NotNull Call call, @NotNull Response response) throws IOException {
                 try (ResponseBody responseBody = response.body()) {
-                    String responseBodyString = responseBody != null ? responseBody.string() : "{}";
                     if (response.isSuccessful()) {
-                        ListOrganizationMemberEffectiveRolesResponseContent parsedResponse =
-                                ObjectMappers.JSON_MAPPER.readValue(
-                                        responseBodyString, ListOrganizationMemberEffectiveRolesResponseContent.class);
+                        ListOrganizationMemberEffectiveRolesResponseContent parsedResponse = ObjectMappers.readValue(
+                                responseBody, ListOrganizationMemberEffectiveRolesResponseContent.class);
                         Optional<String> startingAfter = parsedResponse.getNext();
                         ListOrganizationMemberEffectiveRolesRequestParameters nextRequest =
                                 ListOrganizationMemberEffectiveRolesRequestParameters.builder()
@@ -150,6 +144,7 @@ public class AsyncRawEffectiveRolesClient {
                                 response));
                         return;
                     }
+                    String responseBodyString = responseBody != null ? responseBody.string() : "{}";
                     try {
                         switch (response.code()) {
                             case 400:
@@ -115,11 +115,9 @@ public class RawEffectiveRolesClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
-                ListOrganizationMemberEffectiveRolesResponseContent parsedResponse =
-                        ObjectMappers.JSON_MAPPER.readValue(
-                                responseBodyString, ListOrganizationMemberEffectiveRolesResponseContent.class);
+                ListOrganizationMemberEffectiveRolesResponseContent parsedResponse = ObjectMappers.readValue(
+                        responseBody, ListOrganizationMemberEffectiveRolesResponseContent.class);
                 Optional<String> startingAfter = parsedResponse.getNext();
                 ListOrganizationMemberEffectiveRolesRequestParameters nextRequest =
                         ListOrganizationMemberEffectiveRolesRequestParameters.builder()
@@ -134,6 +132,7 @@ public class RawEffectiveRolesClient {
                                         .body()),
                         response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -127,11 +127,9 @@ public class RawRolesClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
-                ListOrganizationMemberRolesOffsetPaginatedResponseContent parsedResponse =
-                        ObjectMappers.JSON_MAPPER.readValue(
-                                responseBodyString, ListOrganizationMemberRolesOffsetPaginatedResponseContent.class);
+                ListOrganizationMemberRolesOffsetPaginatedResponseContent parsedResponse = ObjectMappers.readValue(
+                        responseBody, ListOrganizationMemberRolesOffsetPaginatedResponseContent.class);
                 int newPageNumber =
                         request.getPage().map((Integer page) -> page + 1).orElse(1);
                 ListOrganizationMemberRolesRequestParameters nextRequest =
@@ -146,6 +144,7 @@ public class RawRolesClient {
                                         .body()),
                         response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -94,11 +94,9 @@ public class RawGroupsClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
-                ListOrganizationMemberRoleSourceGroupsResponseContent parsedResponse =
-                        ObjectMappers.JSON_MAPPER.readValue(
-                                responseBodyString, ListOrganizationMemberRoleSourceGroupsResponseContent.class);
+                ListOrganizationMemberRoleSourceGroupsResponseContent parsedResponse = ObjectMappers.readValue(
+                        responseBody, ListOrganizationMemberRoleSourceGroupsResponseContent.class);
                 Optional<String> startingAfter = parsedResponse.getNext();
                 ListOrganizationMemberRoleSourceGroupsRequestParameters nextRequest =
                         ListOrganizationMemberRoleSourceGroupsRequestParameters.builder()
@@ -112,6 +110,7 @@ public class RawGroupsClient {
                                 .body()),
                         response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -114,10 +114,9 @@ public class RawGroupsClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
-                ListOrganizationRoleGroupsResponseContent parsedResponse = ObjectMappers.JSON_MAPPER.readValue(
-                        responseBodyString, ListOrganizationRoleGroupsResponseContent.class);
+                ListOrganizationRoleGroupsResponseContent parsedResponse =
+                        ObjectMappers.readValue(responseBody, ListOrganizationRoleGroupsResponseContent.class);
                 Optional<String> startingAfter = parsedResponse.getNext();
                 ListOrganizationRoleGroupsRequestParameters nextRequest =
                         ListOrganizationRoleGroupsRequestParameters.builder()
@@ -131,6 +130,7 @@ public class RawGroupsClient {
                                 .body()),
                         response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
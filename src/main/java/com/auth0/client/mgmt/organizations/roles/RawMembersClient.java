@@ -140,10 +140,9 @@ public class RawMembersClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
-                ListOrganizationRoleMembersResponseContent parsedResponse = ObjectMappers.JSON_MAPPER.readValue(
-                        responseBodyString, ListOrganizationRoleMembersResponseContent.class);
+                ListOrganizationRoleMembersResponseContent parsedResponse =
+                        ObjectMappers.readValue(responseBody, ListOrganizationRoleMembersResponseContent.class);
                 Optional<String> startingAfter = parsedResponse.getNext();
                 ListOrganizationRoleMembersRequestParameters nextRequest =
                         ListOrganizationRoleMembersRequestParameters.builder()
@@ -158,6 +157,7 @@ public class RawMembersClient {
                                         .body()),
                         response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -104,10 +104,9 @@ public class RawGroupsClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
                 ListRoleGroupsResponseContent parsedResponse =
-                        ObjectMappers.JSON_MAPPER.readValue(responseBodyString, ListRoleGroupsResponseContent.class);
+                        ObjectMappers.readValue(responseBody, ListRoleGroupsResponseContent.class);
                 Optional<String> startingAfter = parsedResponse.getNext();
                 ListRoleGroupsParameters nextRequest = ListRoleGroupsParameters.builder()
                         .from(request)
@@ -120,6 +119,7 @@ public class RawGroupsClient {
                                 .body()),
                         response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
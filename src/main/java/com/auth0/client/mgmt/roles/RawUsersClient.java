@@ -163,10 +163,9 @@ public class RawUsersClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
-                ListRoleUsersPaginatedResponseContent parsedResponse = ObjectMappers.JSON_MAPPER.readValue(
-                        responseBodyString, ListRoleUsersPaginatedResponseContent.class);
+                ListRoleUsersPaginatedResponseContent parsedResponse =
+                        ObjectMappers.readValue(responseBody, ListRoleUsersPaginatedResponseContent.class);
                 Optional<String> startingAfter = parsedResponse.getNext();
                 ListRoleUsersRequestParameters nextRequest = ListRoleUsersRequestParameters.builder()
                         .from(request)
@@ -179,6 +178,7 @@ public class RawUsersClient {
                                 .body()),
                         response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -28,7 +28,6 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import okhttp3.Call;
 import okhttp3.Callback;
-import okhttp3.Headers;
 import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
@@ -73,11 +72,8 @@ public class AsyncRawEffectivePermissionsClient {
                 httpUrl.addQueryParameter(_key, _value);
             });
         }
-        Request.Builder _requestBuilder = new Request.Builder()
-                .url(httpUrl.build())
-                .method("GET", null)
-                .headers(Headers.of(clientOptions.headers(requestOptions)))
-                .addHeader("Accept", "application/json");
+        Request.Builder _requestBuilder =
+                new Request.Builder().url(httpUrl.build()).method("GET", null).addHeader("Accept", "application/json");
         Request okhttpRequest = _requestBuilder.build();
         OkHttpClient client = clientOptions.httpClient();
         if (requestOptions != null && requestOptions.getTimeout().isPresent()) {
@@ -94,15 +90,13 @@ public class AsyncRawEffectivePermissionsClient {
         }
         CompletableFuture<ManagementApiHttpResponse<SyncPagingIterable<UserEffectivePermissionResponseContent>>>
                 future = new CompletableFuture<>();
-        client.newCall(okhttpRequest).enqueue(new Callback() {
+        clientOptions.enqueue(client, okhttpRequest, requestOptions, future, new Callback() {
             @Override
             public void onResponse(@NotNull Call call, @NotNull Response response) throws IOException {
                 try (ResponseBody responseBody = response.body()) {
-                    String responseBodyString = responseBody != null ? responseBody.string() : "{}";
                     if (response.isSuccessful()) {
-                        ListUserEffectivePermissionsResponseContent parsedResponse =
-                                ObjectMappers.JSON_MAPPER.readValue(
-                                        responseBodyString, ListUserEffectivePermissionsResponseContent.class);
+                        ListUserEffectivePermissionsResponseContent parsedResponse = ObjectMappers.readValue(
+                                responseBody, ListUserEffectivePermissionsResponseContent.class);
                         Optional<String> startingAfter = parsedResponse.getNext();
                         ListUserEffectivePermissionsRequestParameters nextRequest =
                                 ListUserEffectivePermissionsRequestParameters.builder()
@@ -124,6 +118,7 @@ public class AsyncRawEffectivePermissionsClient {
                                 response));
                         return;
                     }
+                    String responseBodyString = responseBody != null ? responseBody.string() : "{}";
                     try {
                         switch (response.code()) {
                             case 400:
@@ -102,10 +102,9 @@ public class RawConnectedAccountsClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
-                ListUserConnectedAccountsResponseContent parsedResponse = ObjectMappers.JSON_MAPPER.readValue(
-                        responseBodyString, ListUserConnectedAccountsResponseContent.class);
+                ListUserConnectedAccountsResponseContent parsedResponse =
+                        ObjectMappers.readValue(responseBody, ListUserConnectedAccountsResponseContent.class);
                 Optional<String> startingAfter = parsedResponse.getNext();
                 GetUserConnectedAccountsRequestParameters nextRequest =
                         GetUserConnectedAccountsRequestParameters.builder()
@@ -120,6 +119,7 @@ public class RawConnectedAccountsClient {
                                         .body()),
                         response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
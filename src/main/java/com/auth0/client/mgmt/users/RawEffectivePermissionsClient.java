@@ -89,10 +89,9 @@ public class RawEffectivePermissionsClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
-                ListUserEffectivePermissionsResponseContent parsedResponse = ObjectMappers.JSON_MAPPER.readValue(
-                        responseBodyString, ListUserEffectivePermissionsResponseContent.class);
+                ListUserEffectivePermissionsResponseContent parsedResponse =
+                        ObjectMappers.readValue(responseBody, ListUserEffectivePermissionsResponseContent.class);
                 Optional<String> startingAfter = parsedResponse.getNext();
                 ListUserEffectivePermissionsRequestParameters nextRequest =
                         ListUserEffectivePermissionsRequestParameters.builder()
@@ -107,6 +106,7 @@ public class RawEffectivePermissionsClient {
                                         .body()),
                         response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
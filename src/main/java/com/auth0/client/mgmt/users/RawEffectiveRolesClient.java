@@ -102,10 +102,9 @@ public class RawEffectiveRolesClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
-                ListUserEffectiveRolesResponseContent parsedResponse = ObjectMappers.JSON_MAPPER.readValue(
-                        responseBodyString, ListUserEffectiveRolesResponseContent.class);
+                ListUserEffectiveRolesResponseContent parsedResponse =
+                        ObjectMappers.readValue(responseBody, ListUserEffectiveRolesResponseContent.class);
                 Optional<String> startingAfter = parsedResponse.getNext();
                 ListUserEffectiveRolesRequestParameters nextRequest = ListUserEffectiveRolesRequestParameters.builder()
                         .from(request)
@@ -119,6 +118,7 @@ public class RawEffectiveRolesClient {
                                         .body()),
                         response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -112,10 +112,9 @@ public class RawGroupsClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
-                GetUserGroupsPaginatedResponseContent parsedResponse = ObjectMappers.JSON_MAPPER.readValue(
-                        responseBodyString, GetUserGroupsPaginatedResponseContent.class);
+                GetUserGroupsPaginatedResponseContent parsedResponse =
+                        ObjectMappers.readValue(responseBody, GetUserGroupsPaginatedResponseContent.class);
                 Optional<String> startingAfter = parsedResponse.getNext();
                 GetUserGroupsRequestParameters nextRequest = GetUserGroupsRequestParameters.builder()
                         .from(request)
@@ -129,6 +128,7 @@ public class RawGroupsClient {
                                         .body()),
                         response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -115,10 +115,9 @@ public class RawLogsClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
-                UserListLogOffsetPaginatedResponseContent parsedResponse = ObjectMappers.JSON_MAPPER.readValue(
-                        responseBodyString, UserListLogOffsetPaginatedResponseContent.class);
+                UserListLogOffsetPaginatedResponseContent parsedResponse =
+                        ObjectMappers.readValue(responseBody, UserListLogOffsetPaginatedResponseContent.class);
                 int newPageNumber =
                         request.getPage().map((Integer page) -> page + 1).orElse(1);
                 ListUserLogsRequestParameters nextRequest = ListUserLogsRequestParameters.builder()
@@ -132,6 +131,7 @@ public class RawLogsClient {
                                         .body()),
                         response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -105,10 +105,9 @@ public class RawRefreshTokenClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
-                ListRefreshTokensPaginatedResponseContent parsedResponse = ObjectMappers.JSON_MAPPER.readValue(
-                        responseBodyString, ListRefreshTokensPaginatedResponseContent.class);
+                ListRefreshTokensPaginatedResponseContent parsedResponse =
+                        ObjectMappers.readValue(responseBody, ListRefreshTokensPaginatedResponseContent.class);
                 Optional<String> startingAfter = parsedResponse.getNext();
                 ListRefreshTokensRequestParameters nextRequest = ListRefreshTokensRequestParameters.builder()
                         .from(request)
@@ -123,6 +122,7 @@ public class RawRefreshTokenClient {
                                         .body()),
                         response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 401:
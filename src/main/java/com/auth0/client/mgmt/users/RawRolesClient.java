@@ -112,10 +112,9 @@ public class RawRolesClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
-                ListUserRolesOffsetPaginatedResponseContent parsedResponse = ObjectMappers.JSON_MAPPER.readValue(
-                        responseBodyString, ListUserRolesOffsetPaginatedResponseContent.class);
+                ListUserRolesOffsetPaginatedResponseContent parsedResponse =
+                        ObjectMappers.readValue(responseBody, ListUserRolesOffsetPaginatedResponseContent.class);
                 int newPageNumber =
                         request.getPage().map((Integer page) -> page + 1).orElse(1);
                 ListUserRolesRequestParameters nextRequest = ListUserRolesRequestParameters.builder()
@@ -129,6 +128,7 @@ public class RawRolesClient {
                                         .body()),
                         response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -105,10 +105,9 @@ public class RawSessionsClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
-                ListUserSessionsPaginatedResponseContent parsedResponse = ObjectMappers.JSON_MAPPER.readValue(
-                        responseBodyString, ListUserSessionsPaginatedResponseContent.class);
+                ListUserSessionsPaginatedResponseContent parsedResponse =
+                        ObjectMappers.readValue(responseBody, ListUserSessionsPaginatedResponseContent.class);
                 Optional<String> startingAfter = parsedResponse.getNext();
                 ListUserSessionsRequestParameters nextRequest = ListUserSessionsRequestParameters.builder()
                         .from(request)
@@ -123,6 +122,7 @@ public class RawSessionsClient {
                                         .body()),
                         response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 401:
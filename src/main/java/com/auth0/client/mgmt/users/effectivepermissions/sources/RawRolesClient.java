@@ -91,11 +91,9 @@ public class RawRolesClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
-                ListUserEffectivePermissionRoleSourcesResponseContent parsedResponse =
-                        ObjectMappers.JSON_MAPPER.readValue(
-                                responseBodyString, ListUserEffectivePermissionRoleSourcesResponseContent.class);
+                ListUserEffectivePermissionRoleSourcesResponseContent parsedResponse = ObjectMappers.readValue(
+                        responseBody, ListUserEffectivePermissionRoleSourcesResponseContent.class);
                 Optional<String> startingAfter = parsedResponse.getNext();
                 ListUserEffectivePermissionRoleSourceRequestParameters nextRequest =
                         ListUserEffectivePermissionRoleSourceRequestParameters.builder()
@@ -110,6 +108,7 @@ public class RawRolesClient {
                                         .body()),
                         response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -89,10 +89,9 @@ public class RawGroupsClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
-                ListUserRoleSourceGroupsResponseContent parsedResponse = ObjectMappers.JSON_MAPPER.readValue(
-                        responseBodyString, ListUserRoleSourceGroupsResponseContent.class);
+                ListUserRoleSourceGroupsResponseContent parsedResponse =
+                        ObjectMappers.readValue(responseBody, ListUserRoleSourceGroupsResponseContent.class);
                 Optional<String> startingAfter = parsedResponse.getNext();
                 ListUserRoleSourceGroupsRequestParameters nextRequest =
                         ListUserRoleSourceGroupsRequestParameters.builder()
@@ -106,6 +105,7 @@ public class RawGroupsClient {
                                 .body()),
                         response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
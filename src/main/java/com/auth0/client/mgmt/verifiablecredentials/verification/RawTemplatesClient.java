@@ -108,11 +108,9 @@ public class RawTemplatesClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
-                ListVerifiableCredentialTemplatesPaginatedResponseContent parsedResponse =
-                        ObjectMappers.JSON_MAPPER.readValue(
-                                responseBodyString, ListVerifiableCredentialTemplatesPaginatedResponseContent.class);
+                ListVerifiableCredentialTemplatesPaginatedResponseContent parsedResponse = ObjectMappers.readValue(
+                        responseBody, ListVerifiableCredentialTemplatesPaginatedResponseContent.class);
                 String startingAfter = parsedResponse.getNext().orElse(null);
                 ListVerifiableCredentialTemplatesRequestParameters nextRequest =
                         ListVerifiableCredentialTemplatesRequestParameters.builder()
@@ -128,6 +126,7 @@ public class RawTemplatesClient {
                                         .body()),
                         response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -206,13 +205,12 @@ public class RawTemplatesClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
                 return new ManagementApiHttpResponse<>(
-                        ObjectMappers.JSON_MAPPER.readValue(
-                                responseBodyString, CreateVerifiableCredentialTemplateResponseContent.class),
+                        ObjectMappers.readValue(responseBody, CreateVerifiableCredentialTemplateResponseContent.class),
                         response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -286,13 +284,12 @@ public class RawTemplatesClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
                 return new ManagementApiHttpResponse<>(
-                        ObjectMappers.JSON_MAPPER.readValue(
-                                responseBodyString, GetVerifiableCredentialTemplateResponseContent.class),
+                        ObjectMappers.readValue(responseBody, GetVerifiableCredentialTemplateResponseContent.class),
                         response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -465,13 +462,12 @@ public class RawTemplatesClient {
         }
         try (Response response = client.newCall(okhttpRequest).execute()) {
             ResponseBody responseBody = response.body();
-            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             if (response.isSuccessful()) {
                 return new ManagementApiHttpResponse<>(
-                        ObjectMappers.JSON_MAPPER.readValue(
-                                responseBodyString, UpdateVerifiableCredentialTemplateResponseContent.class),
+                        ObjectMappers.readValue(responseBody, UpdateVerifiableCredentialTemplateResponseContent.class),
                         response);
             }
+            String responseBodyString = responseBody != null ? responseBody.string() : "{}";
             try {
                 switch (response.code()) {
                     case 400:
@@ -0,0 +1,327 @@
+package com.auth0.net;
+
+import com.auth0.client.mgmt.core.ClientOptions;
+import com.auth0.net.client.DefaultHttpClient;
+import com.auth0.utils.HttpResponseHeadersUtils;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+import okhttp3.HttpUrl;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * An OkHttp {@linkplain Interceptor} that paces outgoing requests so that they stay within the rate limits
+ * reported by Auth0, instead of reacting to 429 responses after the fact.
+ * <p>
+ * For every host, a token bucket is learned for the Management API, under {@code /api/v2}, and another for the
+ * Authentication API, from the {@code x-ratelimit-limit}, {@code x-ratelimit-remaining} and
+ * {@code x-ratelimit-reset} response headers: the limit is the bucket size, the remaining count the tokens
+ * currently available, and the bucket is assumed to refill steadily until it is full at the reset time. Each
+ * request takes a token, and waits for one to be refilled when the bucket is empty. Until an API has reported
+ * its limits, requests to it are not delayed.
+ * </p>
+ * <p>
+ * The client and organization quotas reported on token responses by the {@code auth0-client-quota-limit} and
+ * {@code auth0-organization-quota-limit} headers are honoured too: once the hourly or daily quota of an
+ * endpoint is used up, further requests to it wait until the quota resets.
+ * </p>
+ * <p>
+ * A request never waits longer than the configured maximum delay; if the limits call for more, it is sent
+ * anyway and the retry handling of the client deals with a rejection. The same instance can be installed in
+ * {@link DefaultHttpClient.Builder#withRateLimiter(AdaptiveRateLimitInterceptor)} and
+ * {@link ClientOptions.Builder#addInterceptor(Interceptor)}; each API keeps its own limits, shared by every client
+ * calling it.
+ * </p>
+ * <p>
+ * The wait happens on the thread running the request. For asynchronous Management API requests, configure
+ * {@link ClientOptions.Builder#asyncRetryScheduler(ScheduledExecutorService)}: requests are then held back on
+ * that scheduler, through {@link #reserve(Request)}, instead of on an OkHttp dispatcher thread. Asynchronous
+ * requests of the Authentication API, and of Management API clients without that scheduler, wait on the
+ * dispatcher thread.
+ * </p>
+ */
+public class AdaptiveRateLimitInterceptor implements Interceptor {
+
+    static final Duration DEFAULT_MAX_DELAY = Duration.ofSeconds(60);
+
+    private static final String LIMIT_HEADER = "x-ratelimit-limit";
+    private static final String REMAINING_HEADER = "x-ratelimit-remaining";
+    private static final String RESET_HEADER = "x-ratelimit-reset";
+    private static final String CLIENT_QUOTA_HEADER = "auth0-client-quota-limit";
+    private static final String ORGANIZATION_QUOTA_HEADER = "auth0-organization-quota-limit";
+
+    private final long maxDelayMillis;
+    private final LongSupplier clock;
+    private final Sleeper sleeper;
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final Map<String, Long> quotaBlockedUntil = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a new instance that delays requests by at most 60 seconds.
+     */
+    public AdaptiveRateLimitInterceptor() {
+        this(DEFAULT_MAX_DELAY);
+    }
+
+    /**
+     * Constructs a new instance.
+     * @param maxDelay the longest time a single request is held back. Must not be negative.
+     */
+    public AdaptiveRateLimitInterceptor(Duration maxDelay) {
+        this(maxDelay, System::currentTimeMillis, Thread::sleep);
+    }
+
+    /**
+     * Visible for testing purposes only.
+     * @param maxDelay the longest time a single request is held back.
+     * @param clock the source of the current time, in epoch milliseconds.
+     * @param sleeper the function used to wait.
+     */
+    AdaptiveRateLimitInterceptor(Duration maxDelay, LongSupplier clock, Sleeper sleeper) {
+        if (maxDelay == null || maxDelay.isNegative()) {
+            throw new IllegalArgumentException("maxDelay must not be negative.");
+        }
+        this.maxDelayMillis = maxDelay.toMillis();
+        this.clock = clock;
+        this.sleeper = sleeper;
+    }
+
+    /**
+     * Takes a token for {@code request} without waiting for it, so that an asynchronous caller can delay sending
+     * the request by {@link Reservation#delayMillis()} instead of holding a thread. The request of the returned
+     * reservation is not delayed again by this interceptor. If it is never sent, the reservation must be
+     * {@linkplain Reservation#release() released}.
+     *
+     * @param request the request about to be sent.
+     * @return the reservation of a token for the request.
+     */
+    public Reservation reserve(Request request) {
+        Reservation reservation = new Reservation(this, buckets.get(bucketKey(request.url())));
+        reservation.delayMillis = delayFor(request, reservation.bucket);
+        reservation.request =
+                request.newBuilder().tag(Reservation.class, reservation).build();
+        return reservation;
+    }
+
+    @NotNull
+    @Override
+    public Response intercept(@NotNull Chain chain) throws IOException {
+        Request request = chain.request();
+        Reservation reservation = request.tag(Reservation.class);
+        if (reservation == null || reservation.owner != this) {
+            reservation = new Reservation(this, buckets.get(bucketKey(request.url())));
+            long delay = delayFor(request, reservation.bucket);
+            if (delay > 0) {
+                try {
+                    sleeper.sleep(delay);
+                } catch (InterruptedException e) {
+                    reservation.release();
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while waiting for the rate limit");
+                }
+            }
+        }
+
+        Response response;
+        try {
+            response = chain.proceed(request);
+        } finally {
+            reservation.release();
+        }
+        learnRateLimit(bucketKey(request.url()), response);
+        learnQuota(endpointOf(request.url()), response);
+        return response;
+    }
+
+    /**
+     * Takes a token from {@code bucket}, if any, and returns how long the request must wait for it and for the
+     * quota of its endpoint, or zero if it must not wait at all.
+     */
+    private long delayFor(Request request, Bucket bucket) {
+        String endpoint = endpointOf(request.url());
+        long now = clock.getAsLong();
+        long delay = 0;
+        Long blockedUntil = quotaBlockedUntil.get(endpoint);
+        if (blockedUntil != null) {
+            if (blockedUntil > now) {
+                delay = blockedUntil - now;
+            } else {
+                quotaBlockedUntil.remove(endpoint, blockedUntil);
+            }
+        }
+        if (bucket != null) {
+            delay = Math.max(delay, bucket.acquire(now));
+        }
+        return delay <= maxDelayMillis ? delay : 0;
+    }
+
+    /**
+     * The Management API and the Authentication API of a tenant report separate limits, so each gets a bucket.
+     */
+    private static String bucketKey(HttpUrl url) {
+        String path = url.encodedPath();
+        return path.equals("/api/v2") || path.startsWith("/api/v2/") ? url.host() + "/api/v2" : url.host();
+    }
+
+    private static String endpointOf(HttpUrl url) {
+        return url.host() + url.encodedPath();
+    }
+
+    private void learnRateLimit(String bucketKey, Response response) {
+        long limit = parseLong(response.header(LIMIT_HEADER));
+        long remaining = parseLong(response.header(REMAINING_HEADER));
+        long reset = parseLong(response.header(RESET_HEADER));
+        if (limit <= 0 || remaining < 0) {
+            return;
+        }
+        buckets.computeIfAbsent(bucketKey, key -> new Bucket()).update(limit, remaining, reset, clock.getAsLong());
+    }
+
+    private void learnQuota(String endpoint, Response response) {
+        long resetAfterSeconds = Math.max(
+                exhaustedFor(response.header(CLIENT_QUOTA_HEADER)),
+                exhaustedFor(response.header(ORGANIZATION_QUOTA_HEADER)));
+        if (resetAfterSeconds > 0) {
+            quotaBlockedUntil.put(endpoint, clock.getAsLong() + resetAfterSeconds * 1000);
+        }
+    }
+
+    /**
+     * @return the seconds until the exhausted quota with the latest reset frees up, or zero if none is exhausted.
+     */
+    private static long exhaustedFor(String quotaHeader) {
+        if (quotaHeader == null) {
+            return 0;
+        }
+        TokenQuotaBucket quota;
+        try {
+            quota = HttpResponseHeadersUtils.parseQuota(quotaHeader);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+        if (quota == null) {
+            return 0;
+        }
+        long resetAfter = 0;
+        for (TokenQuotaLimit limit : new TokenQuotaLimit[] {quota.getPerHour(), quota.getPerDay()}) {
+            if (limit != null && limit.getRemaining() <= 0) {
+                resetAfter = Math.max(resetAfter, limit.getResetAfter());
+            }
+        }
+        return resetAfter;
+    }
+
+    private static long parseLong(String value) {
+        if (value == null) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * A token taken for a request by {@link #reserve(Request)}, and the time the request must be held back.
+     */
+    public static final class Reservation {
+        private final AdaptiveRateLimitInterceptor owner;
+        private final Bucket bucket;
+        private final AtomicBoolean released = new AtomicBoolean();
+        private Request request;
+        private long delayMillis;
+
+        private Reservation(AdaptiveRateLimitInterceptor owner, Bucket bucket) {
+            this.owner = owner;
+            this.bucket = bucket;
+        }
+
+        /**
+         * @return the request to send, carrying this reservation.
+         */
+        public Request request() {
+            return request;
+        }
+
+        /**
+         * @return the time to wait before sending the request, in milliseconds.
+         */
+        public long delayMillis() {
+            return delayMillis;
+        }
+
+        /**
+         * Ends the reservation once the request completed, or if it will not be sent. Calling it again has no
+         * effect.
+         */
+        public void release() {
+            if (bucket != null && released.compareAndSet(false, true)) {
+                bucket.release();
+            }
+        }
+    }
+
+    /**
+     * Waits for the given number of milliseconds.
+     */
+    interface Sleeper {
+        void sleep(long millis) throws InterruptedException;
+    }
+
+    /**
+     * Token bucket mirroring the server-side limit of one API of a host. Tokens may go negative: each request
+     * reserves a token up front and waits for as long as it takes to refill its reservation.
+     */
+    private static final class Bucket {
+        private double capacity;
+        private double tokens;
+        private double refillPerMilli;
+        private long lastRefill;
+        private int inFlight;
+
+        synchronized long acquire(long now) {
+            refill(now);
+            inFlight++;
+            tokens -= 1;
+            if (tokens >= 0 || refillPerMilli <= 0) {
+                return 0;
+            }
+            return (long) Math.ceil(-tokens / refillPerMilli);
+        }
+
+        synchronized void update(long limit, long remaining, long resetEpochSeconds, long now) {
+            refill(now);
+            capacity = limit;
+            long untilFull = resetEpochSeconds * 1000 - now;
+            if (remaining < limit && untilFull > 0) {
+                refillPerMilli = (double) (limit - remaining) / untilFull;
+            } else if (refillPerMilli <= 0) {
+                // nothing to learn the refill rate from yet; assume the whole bucket refills within a second
+                refillPerMilli = limit / 1000.0;
+            }
+            // the server has not yet counted the requests still in flight, but their tokens are already taken
+            tokens = remaining - inFlight;
+            lastRefill = now;
+        }
+
+        synchronized void release() {
+            inFlight--;
+        }
+
+        private void refill(long now) {
+            if (now > lastRefill) {
+                tokens = Math.min(capacity, tokens + (now - lastRefill) * refillPerMilli);
+                lastRefill = now;
+            }
+        }
+    }
+}
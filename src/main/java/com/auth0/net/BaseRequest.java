@@ -11,6 +11,7 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.type.MapType;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -124,8 +125,9 @@ public class BaseRequest<T> implements Request<T> {
      * @throws IOException if an error is raised during the parsing of the body.
      */
     protected T readResponseBody(Auth0HttpResponse response) throws IOException {
-        String payload = response.getBody();
-        return mapper.readValue(payload, tType);
+        try (InputStream payload = response.getBodyStream()) {
+            return mapper.readValue(payload, tType);
+        }
     }
 
     protected Map<String, Object> getParameters() {
@@ -0,0 +1,81 @@
+package com.auth0.net;
+
+import com.auth0.client.mgmt.core.ClientOptions;
+import com.auth0.net.client.DefaultHttpClient;
+
+/**
+ * Receives metrics about the HTTP requests sent by the Authentication and Management API clients, so that they
+ * can be forwarded to a metrics library such as Micrometer or Dropwizard Metrics without this library depending
+ * on it.
+ * <p>
+ * Every method has an empty default implementation, so implementations only override what they record. Methods
+ * are called on the threads sending the requests and must return quickly without throwing. Endpoints are
+ * reported as templates such as {@code /api/v2/users/{id}}, see {@link MetricsInterceptor#endpoint(okhttp3.HttpUrl)}.
+ * </p>
+ * <p>
+ * Install an instance with {@link DefaultHttpClient.Builder#withMetrics(HttpMetrics)},
+ * {@link ClientOptions.Builder#metrics(HttpMetrics)},
+ * {@link com.auth0.client.mgmt.ManagementApiBuilder#metrics(HttpMetrics)} or
+ * {@link com.auth0.client.mgmt.AsyncManagementApiBuilder#metrics(HttpMetrics)}. The same instance can be shared by
+ * several clients.
+ * </p>
+ */
+public interface HttpMetrics {
+
+    /**
+     * An instance that records nothing.
+     */
+    HttpMetrics NONE = new HttpMetrics() {};
+
+    /**
+     * Called when a request is sent. Together with {@link #recordRequest(String, String, int, long)}, which is
+     * called exactly once for every request started, this allows tracking the number of requests in flight.
+     *
+     * @param method   the HTTP method.
+     * @param endpoint the endpoint template.
+     */
+    default void recordRequestStarted(String method, String endpoint) {}
+
+    /**
+     * Called when a request completed, once its final response headers were received or it failed.
+     *
+     * @param method        the HTTP method.
+     * @param endpoint      the endpoint template.
+     * @param statusCode    the status code of the final response, or -1 if the request failed without one.
+     * @param durationNanos the time spent on the request, including retries and rate limiting delays. When the
+     *                      retries of async requests run on a retry scheduler instead, each attempt is reported
+     *                      as a separate request with its own duration, and the backoff between attempts is not
+     *                      included.
+     */
+    default void recordRequest(String method, String endpoint, int statusCode, long durationNanos) {}
+
+    /**
+     * Called when a response is going to be retried. Rate limited responses are reported here with status code
+     * 429 when they are retried, and through {@link #recordRequest(String, String, int, long)} once retries are
+     * exhausted.
+     *
+     * @param method     the HTTP method.
+     * @param endpoint   the endpoint template.
+     * @param statusCode the status code of the response being retried.
+     * @param attempt    the number of the retry about to be made, starting at 1.
+     */
+    default void recordRetry(String method, String endpoint, int statusCode, int attempt) {}
+
+    /**
+     * Called when a response reports the rate limit of its endpoint through the {@code x-ratelimit-*} headers.
+     *
+     * @param endpoint         the endpoint template.
+     * @param limit            the number of requests allowed in the rate limit window.
+     * @param remaining        the number of requests remaining in the current window.
+     * @param resetEpochSecond when the window resets, in seconds since the epoch, or -1 if not reported.
+     */
+    default void recordRateLimit(String endpoint, long limit, long remaining, long resetEpochSecond) {}
+
+    /**
+     * Called when an access token was requested for the Management API with client credentials.
+     *
+     * @param durationNanos the time spent fetching the token.
+     * @param successful    whether a token was obtained.
+     */
+    default void recordTokenFetch(long durationNanos, boolean successful) {}
+}
@@ -0,0 +1,124 @@
+package com.auth0.net;
+
+import com.auth0.client.mgmt.core.ClientOptions;
+import com.auth0.net.client.DefaultHttpClient;
+import com.auth0.utils.Asserts;
+import java.io.IOException;
+import java.util.List;
+import okhttp3.HttpUrl;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * An OkHttp {@linkplain Interceptor} that reports request latencies, status codes and rate limits to an
+ * {@link HttpMetrics}. It is installed as the outermost interceptor by
+ * {@link DefaultHttpClient.Builder#withMetrics(HttpMetrics)} and {@link ClientOptions.Builder#metrics(HttpMetrics)},
+ * so the reported latency of a request includes the retries made inside the interceptor chain. Async requests whose
+ * retries run on {@link ClientOptions.Builder#asyncRetryScheduler(java.util.concurrent.ScheduledExecutorService)}
+ * pass through it once per attempt, so each attempt is reported separately.
+ * <p>
+ * <strong>Note: This class is not intended for general use or extension, and may change at any time.</strong>
+ * </p>
+ */
+public class MetricsInterceptor implements Interceptor {
+
+    private static final int MAX_LITERAL_SEGMENT_LENGTH = 40;
+
+    private final HttpMetrics metrics;
+
+    /**
+     * Constructs a new instance reporting to the given metrics.
+     * @param metrics the metrics to report to.
+     */
+    public MetricsInterceptor(HttpMetrics metrics) {
+        Asserts.assertNotNull(metrics, "metrics");
+        this.metrics = metrics;
+    }
+
+    @NotNull
+    @Override
+    public Response intercept(@NotNull Chain chain) throws IOException {
+        Request request = chain.request();
+        String method = request.method();
+        String endpoint = endpoint(request.url());
+
+        metrics.recordRequestStarted(method, endpoint);
+        long start = System.nanoTime();
+        int statusCode = -1;
+        try {
+            Response response = chain.proceed(request);
+            statusCode = response.code();
+            recordRateLimit(endpoint, response);
+            return response;
+        } finally {
+            metrics.recordRequest(method, endpoint, statusCode, System.nanoTime() - start);
+        }
+    }
+
+    private void recordRateLimit(String endpoint, Response response) {
+        long limit = parseLong(response.header("x-ratelimit-limit"));
+        long remaining = parseLong(response.header("x-ratelimit-remaining"));
+        if (limit >= 0 && remaining >= 0) {
+            metrics.recordRateLimit(endpoint, limit, remaining, parseLong(response.header("x-ratelimit-reset")));
+        }
+    }
+
+    private static long parseLong(String value) {
+        if (value == null) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Returns the endpoint template of a URL, replacing the path segments that hold identifiers with
+     * {@code {id}}, so that for instance {@code /api/v2/users/auth0|123/roles} becomes
+     * {@code /api/v2/users/{id}/roles}. A segment is kept as is when it only contains lower case letters, dashes
+     * and dots, as the fixed segments of the Auth0 APIs do, or is a version such as {@code v2}; other segments
+     * are considered identifiers. Identifiers that look like fixed segments, such as an organization name, are
+     * kept.
+     *
+     * @param url the request URL.
+     * @return the endpoint template.
+     */
+    public static String endpoint(HttpUrl url) {
+        List<String> segments = url.pathSegments();
+        StringBuilder template = new StringBuilder(url.encodedPath().length());
+        for (String segment : segments) {
+            if (segment.isEmpty()) {
+                continue;
+            }
+            template.append('/').append(isLiteral(segment) ? segment : "{id}");
+        }
+        return template.length() == 0 ? "/" : template.toString();
+    }
+
+    private static boolean isLiteral(String segment) {
+        int length = segment.length();
+        if (length > MAX_LITERAL_SEGMENT_LENGTH) {
+            return false;
+        }
+        if (length > 1 && segment.charAt(0) == 'v') {
+            boolean version = true;
+            for (int i = 1; i < length && version; i++) {
+                version = Character.isDigit(segment.charAt(i));
+            }
+            if (version) {
+                return true;
+            }
+        }
+        for (int i = 0; i < length; i++) {
+            char c = segment.charAt(i);
+            if ((c < 'a' || c > 'z') && c != '-' && c != '.') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
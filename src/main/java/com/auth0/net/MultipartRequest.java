@@ -8,6 +8,7 @@ import com.auth0.net.client.*;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.HashMap;
 
 /**
@@ -70,8 +71,9 @@ public class MultipartRequest<T> extends BaseRequest<T> {
 
     @Override
     protected T readResponseBody(Auth0HttpResponse response) throws IOException {
-        String payload = response.getBody();
-        return mapper.readValue(payload, tType);
+        try (InputStream payload = response.getBodyStream()) {
+            return mapper.readValue(payload, tType);
+        }
     }
 
     @Override
@@ -24,6 +24,7 @@ import org.jetbrains.annotations.NotNull;
 public class RateLimitInterceptor implements Interceptor {
 
     private final int maxRetries;
+    private final HttpMetrics metrics;
     private final CheckedConsumer<? extends ExecutionAttemptedEvent<Response>> retryListener;
 
     static final Long INITIAL_INTERVAL = 100L;
@@ -35,7 +36,16 @@ public class RateLimitInterceptor implements Interceptor {
      * @param maxRetries the maximum number of consecutive retries to attempt.
      */
     public RateLimitInterceptor(int maxRetries) {
-        this(maxRetries, null);
+        this(maxRetries, HttpMetrics.NONE, null);
+    }
+
+    /**
+     * Constructs a new instance with the maximum number of allowed retries, reporting retries to the given metrics.
+     * @param maxRetries the maximum number of consecutive retries to attempt.
+     * @param metrics the metrics to report retry attempts to.
+     */
+    public RateLimitInterceptor(int maxRetries, HttpMetrics metrics) {
+        this(maxRetries, metrics, null);
     }
 
     /**
@@ -44,7 +54,15 @@ public class RateLimitInterceptor implements Interceptor {
      * @param retryListener a listener to call prior to a retry attempt.
      */
     RateLimitInterceptor(int maxRetries, CheckedConsumer<? extends ExecutionAttemptedEvent<Response>> retryListener) {
+        this(maxRetries, HttpMetrics.NONE, retryListener);
+    }
+
+    private RateLimitInterceptor(
+            int maxRetries,
+            HttpMetrics metrics,
+            CheckedConsumer<? extends ExecutionAttemptedEvent<Response>> retryListener) {
         this.maxRetries = maxRetries;
+        this.metrics = metrics != null ? metrics : HttpMetrics.NONE;
         this.retryListener = retryListener;
     }
 
@@ -71,6 +89,14 @@ public class RateLimitInterceptor implements Interceptor {
         // For testing purposes only, allow test to hook into retry listener to enable verification of retry backoff
         if (retryListener != null) {
             retryPolicy.onRetry(retryListener);
+        } else if (metrics != HttpMetrics.NONE) {
+            okhttp3.Request request = chain.request();
+            String endpoint = MetricsInterceptor.endpoint(request.url());
+            retryPolicy.onRetry(event -> metrics.recordRetry(
+                    request.method(),
+                    endpoint,
+                    event.getLastResult() != null ? event.getLastResult().code() : -1,
+                    event.getAttemptCount()));
         }
 
         try {
@@ -1,22 +1,49 @@
 package com.auth0.net.client;
 
 import com.auth0.utils.Asserts;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
-
+import okhttp3.Headers;
+
+/**
+ * An HTTP response as returned by an {@link Auth0HttpClient}.
+ * <p>
+ * The body can be provided as a {@code String}, as bytes, or as an {@code InputStream} that is read once when the
+ * response is parsed. Bytes and streams are parsed directly, without first decoding the body into a
+ * {@code String}; a {@code String} view of them is only created, as UTF-8, if {@link #getBody()} is called.
+ * </p>
+ * <p>
+ * Headers provided as OkHttp {@link Headers} are exposed through a read-only, case-insensitive view instead of
+ * being copied.
+ * </p>
+ */
 public class Auth0HttpResponse {
 
     private final int code;
-    private final String body;
-
     private final Map<String, String> headers;
 
+    private String body;
+    private byte[] bodyBytes;
+    private InputStream bodyStream;
+
     private Auth0HttpResponse(Builder builder) {
         Asserts.assertNotNull(builder.code, "response code");
-        Asserts.assertNotNull(builder.headers, "response headers");
         this.code = builder.code;
         this.body = builder.body;
-        this.headers = new HashMap<>(builder.headers);
+        this.bodyBytes = builder.bodyBytes;
+        this.bodyStream = builder.bodyStream;
+        if (builder.okHeaders != null) {
+            this.headers = new HeadersMap(builder.okHeaders);
+        } else {
+            Asserts.assertNotNull(builder.headers, "response headers");
+            this.headers = new HashMap<>(builder.headers);
+        }
     }
 
     public static Builder newBuilder() {
@@ -27,10 +54,58 @@ public class Auth0HttpResponse {
         return code >= 200 && code <= 299;
     }
 
-    public String getBody() {
+    /**
+     * @return the body as a {@code String}, or {@code null} if the response has no body. A body provided as a stream
+     * is read fully and closed.
+     */
+    public synchronized String getBody() {
+        if (body == null) {
+            byte[] bytes = getBodyBytes();
+            if (bytes != null) {
+                body = new String(bytes, StandardCharsets.UTF_8);
+            }
+        }
         return body;
     }
 
+    /**
+     * @return the body as bytes, or {@code null} if the response has no body. A body provided as a stream is read
+     * fully and closed.
+     */
+    public synchronized byte[] getBodyBytes() {
+        if (bodyBytes == null) {
+            if (bodyStream != null) {
+                try (InputStream in = bodyStream) {
+                    bodyBytes = readAll(in);
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Failed to read the response body", e);
+                } finally {
+                    bodyStream = null;
+                }
+            } else if (body != null) {
+                bodyBytes = body.getBytes(StandardCharsets.UTF_8);
+            }
+        }
+        return bodyBytes;
+    }
+
+    /**
+     * Returns the body as a stream, to be closed by the caller. A body provided as a stream is handed out as is the
+     * first time; afterwards, and for bodies provided in any other form, a new stream over the buffered body is
+     * returned.
+     *
+     * @return the body, or {@code null} if the response has no body.
+     */
+    public synchronized InputStream getBodyStream() {
+        if (bodyStream != null) {
+            InputStream stream = bodyStream;
+            bodyStream = null;
+            return stream;
+        }
+        byte[] bytes = getBodyBytes();
+        return bytes != null ? new ByteArrayInputStream(bytes) : null;
+    }
+
     public int getCode() {
         return code;
     }
@@ -44,14 +119,28 @@ public class Auth0HttpResponse {
     }
 
     public String getHeader(String header, String defaultValue) {
-        return headers.get(header) != null ? headers.get(header) : defaultValue;
+        String value = headers.get(header);
+        return value != null ? value : defaultValue;
+    }
+
+    private static byte[] readAll(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+        return out.toByteArray();
     }
 
     public static class Builder {
         private int code;
         private String body;
+        private byte[] bodyBytes;
+        private InputStream bodyStream;
 
         private Map<String, String> headers = new HashMap<>();
+        private Headers okHeaders;
 
         private Builder() {}
 
@@ -62,11 +151,53 @@ public class Auth0HttpResponse {
 
         public Builder withBody(String body) {
             this.body = body;
+            this.bodyBytes = null;
+            this.bodyStream = null;
+            return this;
+        }
+
+        /**
+         * Sets the body as bytes, which are parsed without being decoded into a {@code String} first.
+         *
+         * @param body the body, encoded as UTF-8.
+         * @return this builder.
+         */
+        public Builder withBody(byte[] body) {
+            this.body = null;
+            this.bodyBytes = body;
+            this.bodyStream = null;
+            return this;
+        }
+
+        /**
+         * Sets the body as a stream, which is parsed as it is read and closed afterwards.
+         *
+         * @param body the body, encoded as UTF-8.
+         * @return this builder.
+         */
+        public Builder withBodyStream(InputStream body) {
+            this.body = null;
+            this.bodyBytes = null;
+            this.bodyStream = body;
             return this;
         }
 
         public Builder withHeaders(Map<String, String> headers) {
             this.headers = headers;
+            this.okHeaders = null;
+            return this;
+        }
+
+        /**
+         * Sets the headers from an OkHttp response. They are exposed through a read-only, case-insensitive view
+         * instead of being copied.
+         *
+         * @param headers the response headers.
+         * @return this builder.
+         */
+        public Builder withHeaders(Headers headers) {
+            Asserts.assertNotNull(headers, "response headers");
+            this.okHeaders = headers;
             return this;
         }
 
@@ -1,13 +1,16 @@
 package com.auth0.net.client;
 
+import com.auth0.client.ConnectionOptions;
 import com.auth0.client.LoggingOptions;
 import com.auth0.client.ProxyOptions;
+import com.auth0.net.AdaptiveRateLimitInterceptor;
+import com.auth0.net.HttpMetrics;
+import com.auth0.net.MetricsInterceptor;
 import com.auth0.net.RateLimitInterceptor;
 import com.auth0.net.Telemetry;
 import com.auth0.net.TelemetryInterceptor;
 import com.auth0.utils.Asserts;
 import java.io.IOException;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
@@ -58,13 +61,28 @@ public class DefaultHttpClient implements Auth0HttpClient {
         okhttp3.OkHttpClient.Builder clientBuilder = new okhttp3.OkHttpClient.Builder();
         clientBuilder.readTimeout(sanitizeTimeout(builder.readTimeout), TimeUnit.SECONDS);
         clientBuilder.connectTimeout(sanitizeTimeout(builder.connectTimeout), TimeUnit.SECONDS);
+        if (builder.metrics != null) {
+            // outermost, so that the reported latency includes retries and rate limiting delays
+            clientBuilder.addInterceptor(new MetricsInterceptor(builder.metrics));
+        }
         clientBuilder.addInterceptor(getLoggingInterceptor(builder.loggingOptions));
         clientBuilder.addInterceptor(getTelemetryInterceptor(builder.telemetryEnabled, builder.telemetry));
-        clientBuilder.addInterceptor(getRateLimitInterceptor(builder.maxRetries));
-        clientBuilder.dispatcher(getDispatcher(builder.maxRequests, builder.maxRequestsPerHost));
+        clientBuilder.addInterceptor(getRateLimitInterceptor(builder.maxRetries, builder.metrics));
+        if (builder.rateLimiter != null) {
+            // inside the retry interceptor, so that retries are paced as well
+            clientBuilder.addInterceptor(builder.rateLimiter);
+        }
+        if (builder.connectionOptions != null) {
+            builder.connectionOptions.configure(clientBuilder);
+        } else {
+            clientBuilder.dispatcher(getDispatcher(builder.maxRequests, builder.maxRequestsPerHost));
+        }
 
         configureProxy(clientBuilder, builder.proxyOptions);
         this.client = clientBuilder.build();
+        if (builder.connectionOptions != null) {
+            builder.connectionOptions.prewarm(this.client, null);
+        }
     }
 
     /**
@@ -131,23 +149,17 @@ public class DefaultHttpClient implements Auth0HttpClient {
      * @throws IOException if there is an issue reading the OkHttp response body.
      */
     private Auth0HttpResponse buildResponse(Response okResponse) throws IOException {
-        Headers okHeaders = okResponse.headers();
-        Map<String, String> headers = new HashMap<>();
-
-        for (int i = 0; i < okHeaders.size(); i++) {
-            headers.put(okHeaders.name(i), okHeaders.value(i));
-        }
-
+        // the body is kept as bytes and the headers as a view, both are only decoded or copied when asked for
         ResponseBody responseBody = okResponse.body();
-        String content = null;
+        byte[] content = null;
 
         if (Objects.nonNull(responseBody)) {
-            content = responseBody.string();
+            content = responseBody.bytes();
         }
         return Auth0HttpResponse.newBuilder()
                 .withStatusCode(okResponse.code())
                 .withBody(content)
-                .withHeaders(headers)
+                .withHeaders(okResponse.headers())
                 .build();
     }
 
@@ -254,11 +266,11 @@ public class DefaultHttpClient implements Auth0HttpClient {
         return interceptor;
     }
 
-    private RateLimitInterceptor getRateLimitInterceptor(int maxRetries) {
+    private RateLimitInterceptor getRateLimitInterceptor(int maxRetries, HttpMetrics metrics) {
         if (maxRetries < 0 || maxRetries > 10) {
             throw new IllegalArgumentException("Retries must be between zero and ten.");
         }
-        return new RateLimitInterceptor(maxRetries);
+        return new RateLimitInterceptor(maxRetries, metrics);
     }
 
     private Dispatcher getDispatcher(int maxRequests, int maxRequestsPerHost) {
@@ -288,6 +300,9 @@ public class DefaultHttpClient implements Auth0HttpClient {
         private int maxRetries = 3;
         private int maxRequests = 64;
         private int maxRequestsPerHost = 5;
+        private AdaptiveRateLimitInterceptor rateLimiter;
+        private HttpMetrics metrics;
+        private ConnectionOptions connectionOptions;
 
         /**
          * Sets the value of the read timeout, in seconds. Defaults to ten seconds. A value of zero results in no read timeout.
@@ -398,6 +413,44 @@ public class DefaultHttpClient implements Auth0HttpClient {
             return this;
         }
 
+        /**
+         * Paces requests so that they stay within the rate limits and token quotas reported by Auth0, rather than
+         * only retrying once a request was rejected. Asynchronous requests are held back on an OkHttp dispatcher
+         * thread. Not enabled by default.
+         *
+         * @param rateLimiter the rate limiter to install. Can be shared with other clients to share its learned limits.
+         * @return this builder instance.
+         */
+        public Builder withRateLimiter(AdaptiveRateLimitInterceptor rateLimiter) {
+            this.rateLimiter = rateLimiter;
+            return this;
+        }
+
+        /**
+         * Configures the connection pool, concurrency limits and protocols of this client. The options replace
+         * {@link #withMaxRequests(int)} and {@link #withMaxRequestsPerHost(int)}, and their pool and dispatcher
+         * are shared with every other client configured with the same instance, including
+         * {@link com.auth0.client.mgmt.ManagementApi} clients. Not set by default.
+         *
+         * @param connectionOptions the connection options.
+         * @return this builder instance.
+         */
+        public Builder withConnectionOptions(ConnectionOptions connectionOptions) {
+            this.connectionOptions = connectionOptions;
+            return this;
+        }
+
+        /**
+         * Reports request latencies, retries and rate limits to the given metrics. Not enabled by default.
+         *
+         * @param metrics the metrics to report to. Can be shared with other clients.
+         * @return this builder instance.
+         */
+        public Builder withMetrics(HttpMetrics metrics) {
+            this.metrics = metrics;
+            return this;
+        }
+
         /**
          * Create a {@code DefaultHttpClient} from this configured builder.
          * @return the created {@code DefaultHttpClient}.
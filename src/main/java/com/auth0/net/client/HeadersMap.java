@@ -0,0 +1,66 @@
+package com.auth0.net.client;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Set;
+import okhttp3.Headers;
+
+/**
+ * Read-only, case-insensitive {@code Map} view over OkHttp {@link Headers}. Lookups delegate to the headers
+ * directly; when a header appears more than once, its last value is returned. The entry set is only materialized
+ * when iterated.
+ */
+final class HeadersMap extends AbstractMap<String, String> {
+    private final Headers headers;
+    private Set<Entry<String, String>> entries;
+
+    HeadersMap(Headers headers) {
+        this.headers = headers;
+    }
+
+    @Override
+    public String get(Object key) {
+        return key instanceof String ? headers.get((String) key) : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public int size() {
+        return headers.names().size();
+    }
+
+    @Override
+    public Set<Entry<String, String>> entrySet() {
+        if (entries == null) {
+            entries = new AbstractSet<Entry<String, String>>() {
+                @Override
+                public Iterator<Entry<String, String>> iterator() {
+                    Iterator<String> names = headers.names().iterator();
+                    return new Iterator<Entry<String, String>>() {
+                        @Override
+                        public boolean hasNext() {
+                            return names.hasNext();
+                        }
+
+                        @Override
+                        public Entry<String, String> next() {
+                            String name = names.next();
+                            return new SimpleImmutableEntry<>(name, headers.get(name));
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return HeadersMap.this.size();
+                }
+            };
+        }
+        return entries;
+    }
+}
@@ -3,39 +3,65 @@ package com.auth0.utils.tokens;
 import com.auth0.exception.IdTokenValidationException;
 import com.auth0.jwt.interfaces.DecodedJWT;
 import com.auth0.utils.Asserts;
-import java.util.Calendar;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 /**
  * Provides utility methods for validating an OIDC-compliant ID token.
  * See the <a href="https://openid.net/specs/openid-connect-core-1_0-final.html#IDTokenValidation">OIDC Specification</a> for more information.
  * <p>
- * This class is not thread-safe:
- * It makes use of {@link Date} and {@link Calendar} classes to verify time sensitive claims.
+ * The expected claims are normalized once, when the verifier is built, and time sensitive claims are checked with
+ * epoch arithmetic, so an instance can be shared and verify tokens from many threads at once.
+ * <p>
+ * This class is thread-safe.
  */
 public final class IdTokenVerifier {
 
     private static final Integer DEFAULT_LEEWAY = 60; // 1 min = 60 sec
 
+    // below this size, splitting the batch costs more than the signature checks it parallelizes
+    private static final int PARALLEL_BATCH_THRESHOLD = 16;
+
     private static final String NONCE_CLAIM = "nonce";
     private static final String AZP_CLAIM = "azp";
     private static final String AUTH_TIME_CLAIM = "auth_time";
 
     private final String issuer;
     private final String audience;
-    private final Integer leeway;
+    private final long leewayMillis;
     private final Date clock;
     private final SignatureVerifier signatureVerifier;
     private final String organization;
+    private final boolean organizationIsId;
+    private final String expectedOrganization;
+    private final VerifiedTokenCache verifiedTokens;
 
     private IdTokenVerifier(Builder builder) {
         this.issuer = builder.issuer;
         this.audience = builder.audience;
-        this.leeway = builder.leeway;
+        this.leewayMillis = (builder.leeway != null ? builder.leeway : DEFAULT_LEEWAY) * 1000L;
         this.signatureVerifier = builder.signatureVerifier;
         this.clock = builder.clock;
         this.organization = builder.organization;
+        if (builder.organization != null) {
+            String org = builder.organization.trim();
+            this.organizationIsId = org.startsWith("org_");
+            // org IDs are compared as given, org names are case-insensitive and issued in lower case
+            this.expectedOrganization = this.organizationIsId ? builder.organization : org.toLowerCase();
+        } else {
+            this.organizationIsId = false;
+            this.expectedOrganization = null;
+        }
+        this.verifiedTokens = builder.cacheMaxEntries > 0
+                ? new VerifiedTokenCache(builder.cacheMaxEntries, builder.cacheTtl.toMillis())
+                : null;
     }
 
     /**
@@ -114,7 +140,13 @@ public final class IdTokenVerifier {
             throw new IdTokenValidationException("ID token is required but missing");
         }
 
-        DecodedJWT decoded = this.signatureVerifier.verifySignature(token);
+        final long now = this.clock != null ? this.clock.getTime() : System.currentTimeMillis();
+
+        DecodedJWT decoded = this.verifiedTokens != null ? this.verifiedTokens.get(token, now) : null;
+        final boolean cached = decoded != null;
+        if (!cached) {
+            decoded = this.signatureVerifier.verifySignature(token);
+        }
 
         if (isEmpty(decoded.getIssuer())) {
             throw new IdTokenValidationException("Issuer (iss) claim must be a string present in the ID token");
@@ -141,28 +173,25 @@ public final class IdTokenVerifier {
         }
 
         // Org verification
-        if (this.organization != null) {
-            String org = this.organization.trim();
-            if (org.startsWith("org_")) {
-                // org ID
+        if (this.expectedOrganization != null) {
+            if (this.organizationIsId) {
                 String orgClaim = decoded.getClaim("org_id").asString();
                 if (isEmpty(orgClaim)) {
                     throw new IdTokenValidationException(
                             "Organization Id (org_id) claim must be a string present in the ID token");
                 }
-                if (!this.organization.equals(orgClaim)) {
+                if (!this.expectedOrganization.equals(orgClaim)) {
                     throw new IdTokenValidationException(String.format(
                             "Organization (org_id) claim mismatch in the ID token; expected \"%s\" but found \"%s\"",
                             this.organization, orgClaim));
                 }
             } else {
-                // org name
                 String orgNameClaim = decoded.getClaim("org_name").asString();
                 if (isEmpty(orgNameClaim)) {
                     throw new IdTokenValidationException(
                             "Organization name (org_name) claim must be a string present in the ID token");
                 }
-                if (!org.toLowerCase().equals(orgNameClaim)) {
+                if (!this.expectedOrganization.equals(orgNameClaim)) {
                     throw new IdTokenValidationException(String.format(
                             "Organization (org_name) claim mismatch in the ID token; expected \"%s\" but found \"%s\"",
                             this.organization, orgNameClaim));
@@ -170,32 +199,23 @@ public final class IdTokenVerifier {
             }
         }
 
-        final Calendar cal = Calendar.getInstance();
-        final Date now = this.clock != null ? this.clock : cal.getTime();
-        final int clockSkew = this.leeway != null ? this.leeway : DEFAULT_LEEWAY;
-
-        if (decoded.getExpiresAt() == null) {
+        final Instant expiresAt = decoded.getExpiresAtAsInstant();
+        if (expiresAt == null) {
             throw new IdTokenValidationException(
                     "Expiration Time (exp) claim must be a number present in the ID token");
         }
 
-        cal.setTime(decoded.getExpiresAt());
-        cal.add(Calendar.SECOND, clockSkew);
-        Date expDate = cal.getTime();
-
-        if (now.after(expDate)) {
+        final long expiresAtWithLeeway = expiresAt.toEpochMilli() + this.leewayMillis;
+        if (now > expiresAtWithLeeway) {
             throw new IdTokenValidationException(String.format(
                     "Expiration Time (exp) claim error in the ID token; current time (%d) is after expiration time (%d)",
-                    now.getTime() / 1000, expDate.getTime() / 1000));
+                    now / 1000, expiresAtWithLeeway / 1000));
         }
 
-        if (decoded.getIssuedAt() == null) {
+        if (decoded.getIssuedAtAsInstant() == null) {
             throw new IdTokenValidationException("Issued At (iat) claim must be a number present in the ID token");
         }
 
-        cal.setTime(decoded.getIssuedAt());
-        cal.add(Calendar.SECOND, -1 * clockSkew);
-
         if (nonce != null) {
             String nonceClaim = decoded.getClaim(NONCE_CLAIM).asString();
             if (isEmpty(nonceClaim)) {
@@ -222,23 +242,45 @@ public final class IdTokenVerifier {
         }
 
         if (maxAuthenticationAge != null) {
-            Date authTime = decoded.getClaim(AUTH_TIME_CLAIM).asDate();
+            Instant authTime = decoded.getClaim(AUTH_TIME_CLAIM).asInstant();
             if (authTime == null) {
                 throw new IdTokenValidationException(
                         "Authentication Time (auth_time) claim must be a number present in the ID token when Max Age (max_age) is specified");
             }
 
-            cal.setTime(authTime);
-            cal.add(Calendar.SECOND, maxAuthenticationAge);
-            cal.add(Calendar.SECOND, clockSkew);
-            Date authTimeDate = cal.getTime();
-
-            if (now.after(authTimeDate)) {
+            long authTimeWithLeeway = authTime.toEpochMilli() + maxAuthenticationAge * 1000L + this.leewayMillis;
+            if (now > authTimeWithLeeway) {
                 throw new IdTokenValidationException(String.format(
                         "Authentication Time (auth_time) claim in the ID token indicates that too much time has passed since the last end-user authentication. Current time (%d) is after last auth at (%d)",
-                        now.getTime() / 1000, authTimeDate.getTime() / 1000));
+                        now / 1000, authTimeWithLeeway / 1000));
             }
         }
+
+        if (!cached && this.verifiedTokens != null) {
+            this.verifiedTokens.put(token, decoded, now, expiresAtWithLeeway);
+        }
+    }
+
+    /**
+     * Verifies a batch of ID tokens, as {@link #verify(String)} does, without a nonce or maximum authentication age.
+     * Large batches are verified in parallel on the common fork-join pool, spreading the signature checks across
+     * cores.
+     *
+     * @param tokens the ID tokens to verify. Must not be null.
+     * @return the tokens that failed verification, mapped to the reason; empty if every token is valid.
+     */
+    public Map<String, IdTokenValidationException> verifyAll(Collection<String> tokens) {
+        Asserts.assertNotNull(tokens, "tokens");
+        Map<String, IdTokenValidationException> failures = Collections.synchronizedMap(new LinkedHashMap<>());
+        Stream<String> stream = tokens.size() >= PARALLEL_BATCH_THRESHOLD ? tokens.parallelStream() : tokens.stream();
+        stream.forEach(token -> {
+            try {
+                verify(token, null, null);
+            } catch (IdTokenValidationException e) {
+                failures.put(token, e);
+            }
+        });
+        return failures;
     }
 
     private boolean isEmpty(String value) {
@@ -257,6 +299,8 @@ public final class IdTokenVerifier {
         private Integer leeway;
         private Date clock;
         private String organization;
+        private int cacheMaxEntries;
+        private Duration cacheTtl;
 
         /**
          * Create a new Builder instance.
@@ -299,6 +343,28 @@ public final class IdTokenVerifier {
             return this;
         }
 
+        /**
+         * Cache the tokens that pass verification, so that verifying the same token again skips the signature
+         * check, the most expensive step. The claims, including the time-based ones and the nonce, are still
+         * checked on every call. A token is kept for {@code ttl} or until it expires, whichever comes first; once
+         * {@code maxEntries} tokens are cached, the least recently used one is evicted. Not enabled by default.
+         *
+         * @param maxEntries the maximum number of cached tokens. Must be one or greater.
+         * @param ttl        how long a token is cached. Must be positive.
+         * @return this Builder instance.
+         */
+        public Builder withVerifiedTokenCache(int maxEntries, Duration ttl) {
+            if (maxEntries < 1) {
+                throw new IllegalArgumentException("maxEntries must be one or greater.");
+            }
+            if (ttl == null || ttl.isNegative() || ttl.isZero()) {
+                throw new IllegalArgumentException("ttl must be positive.");
+            }
+            this.cacheMaxEntries = maxEntries;
+            this.cacheTtl = ttl;
+            return this;
+        }
+
         /**
          * Specify a custom clock to use as the current time when validating time-based claims. Exposed for testing
          * purposes only.
@@ -0,0 +1,394 @@
+package com.auth0.utils.tokens;
+
+import com.auth0.exception.PublicKeyProviderException;
+import com.auth0.json.ObjectMapperProvider;
+import com.auth0.jwk.InvalidPublicKeyException;
+import com.auth0.jwk.Jwk;
+import com.auth0.net.client.Auth0HttpClient;
+import com.auth0.net.client.Auth0HttpRequest;
+import com.auth0.net.client.Auth0HttpResponse;
+import com.auth0.net.client.DefaultHttpClient;
+import com.auth0.net.client.HttpMethod;
+import com.auth0.utils.Asserts;
+import com.fasterxml.jackson.core.type.TypeReference;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.PublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * A {@link PublicKeyProvider} that obtains the public keys of a tenant from its JSON Web Key Set, published at
+ * {@code https://{YOUR_DOMAIN}/.well-known/jwks.json}, and keeps them in memory.
+ * <p>
+ * Keys are looked up in memory, so verifying ID tokens does not wait on the network once the key set was fetched:
+ * </p>
+ * <ul>
+ *   <li>When the cached key set is older than {@code cacheTtl}, its keys are still returned while a fresh key set
+ *   is fetched in the background.</li>
+ *   <li>When a token is signed with a key that is not cached, as happens after a signing key rotation, the key set
+ *   is fetched again before the lookup fails. Such fetches are made at most once per {@code minRefreshInterval}
+ *   after a successful fetch, and at most once per second after a failed one, so tokens with made-up key IDs cannot
+ *   flood the tenant with requests.</li>
+ *   <li>Concurrent lookups that need the key set share a single request for it.</li>
+ * </ul>
+ * <p>
+ * Call {@link #prewarm()} at startup to fetch the key set before the first token is verified.
+ * </p>
+ * <pre>{@code
+ * JwksPublicKeyProvider keys = JwksPublicKeyProvider.newBuilder("{YOUR_DOMAIN}").build();
+ * keys.prewarm();
+ * IdTokenVerifier verifier = IdTokenVerifier.init("https://{YOUR_DOMAIN}/", "{YOUR_CLIENT_ID}",
+ *         SignatureVerifier.forRS256(keys)).build();
+ * }</pre>
+ * <p>
+ * Defaults:
+ * </p>
+ * <ul>
+ *   <li>cacheTtl: 10 minutes</li>
+ *   <li>minRefreshInterval: 30 seconds</li>
+ *   <li>maxKeys: 20, further keys of the key set are ignored</li>
+ *   <li>timeout: 10 seconds, the time a lookup waits for the key set to be fetched</li>
+ * </ul>
+ * <p>
+ * This class is thread-safe.
+ * </p>
+ */
+public final class JwksPublicKeyProvider implements PublicKeyProvider {
+
+    private static final TypeReference<Map<String, Object>> JWKS_TYPE = new TypeReference<Map<String, Object>>() {};
+    private static final long FAILURE_BACKOFF_MILLIS = 1000;
+
+    private final String jwksUrl;
+    private final Auth0HttpClient httpClient;
+    private final long cacheTtlMillis;
+    private final long minRefreshIntervalMillis;
+    private final int maxKeys;
+    private final long timeoutMillis;
+    private final LongSupplier clock;
+
+    private volatile KeySet keySet = KeySet.EMPTY;
+    private volatile long nextRefreshAllowedAt = Long.MIN_VALUE;
+    private volatile Throwable lastFailure;
+    private final AtomicReference<CompletableFuture<KeySet>> inFlight = new AtomicReference<>();
+
+    private JwksPublicKeyProvider(Builder builder) {
+        this.jwksUrl = builder.jwksUrl;
+        this.httpClient = builder.httpClient != null
+                ? builder.httpClient
+                : DefaultHttpClient.newBuilder().build();
+        this.cacheTtlMillis = builder.cacheTtl.toMillis();
+        this.minRefreshIntervalMillis = builder.minRefreshInterval.toMillis();
+        this.maxKeys = builder.maxKeys;
+        this.timeoutMillis = builder.timeout.toMillis();
+        this.clock = builder.clock;
+    }
+
+    /**
+     * Initialize a new {@link Builder} to configure and create an instance.
+     *
+     * @param domain the tenant's domain, such as {@code my-tenant.auth0.com} or {@code https://login.example.com}.
+     * @return a Builder for further configuration.
+     */
+    public static Builder newBuilder(String domain) {
+        return new Builder(domain);
+    }
+
+    @Override
+    public RSAPublicKey getPublicKeyById(String keyId) throws PublicKeyProviderException {
+        long now = clock.getAsLong();
+        KeySet current = this.keySet;
+        RSAPublicKey key = current.keys.get(keyId);
+        if (key != null) {
+            if (now >= current.expiresAt && now >= nextRefreshAllowedAt) {
+                // failures are ignored: the cached keys keep being used until a fetch succeeds
+                refresh();
+            }
+            return key;
+        }
+
+        CompletableFuture<KeySet> pending = inFlight.get();
+        if (pending == null) {
+            // a fetch may have completed since the key set was read
+            key = this.keySet.keys.get(keyId);
+            if (key != null) {
+                return key;
+            }
+            if (now < nextRefreshAllowedAt) {
+                Throwable failure = lastFailure;
+                if (failure != null) {
+                    throw new PublicKeyProviderException(
+                            String.format(
+                                    "No public key found for Key ID (kid) \"%s\"; fetching the key set from %s failed"
+                                            + " less than %d ms ago",
+                                    keyId, jwksUrl, failureBackoffMillis()),
+                            failure);
+                }
+                throw new PublicKeyProviderException(String.format(
+                        "No public key found for Key ID (kid) \"%s\"; the key set was fetched less than %d ms ago",
+                        keyId, minRefreshIntervalMillis));
+            }
+            pending = refresh();
+        }
+        key = await(pending).keys.get(keyId);
+        if (key == null) {
+            throw new PublicKeyProviderException(
+                    String.format("No public key found for Key ID (kid) \"%s\" at %s", keyId, jwksUrl));
+        }
+        return key;
+    }
+
+    /**
+     * Fetches the key set now, regardless of {@code minRefreshInterval}, and waits for it. Call it at startup so
+     * that verifying the first ID tokens does not wait for the key set.
+     *
+     * @throws PublicKeyProviderException if the key set could not be fetched.
+     */
+    public void prewarm() throws PublicKeyProviderException {
+        await(refresh());
+    }
+
+    /**
+     * @return the IDs of the keys currently cached.
+     */
+    public Set<String> getCachedKeyIds() {
+        return keySet.keys.keySet();
+    }
+
+    /**
+     * Starts fetching the key set unless a fetch is already in flight, in which case that one is returned. Once the
+     * fetch completes, lookups of unknown keys do not fetch the key set again for {@code minRefreshInterval}, or for
+     * a shorter backoff if the fetch failed, so that a failure does not block key rotation for the whole interval.
+     */
+    private CompletableFuture<KeySet> refresh() {
+        CompletableFuture<KeySet> flight = new CompletableFuture<>();
+        while (true) {
+            CompletableFuture<KeySet> existing = inFlight.get();
+            if (existing != null) {
+                return existing;
+            }
+            if (inFlight.compareAndSet(null, flight)) {
+                break;
+            }
+        }
+        CompletableFuture<Auth0HttpResponse> response;
+        try {
+            response = httpClient.sendRequestAsync(
+                    Auth0HttpRequest.newBuilder(jwksUrl, HttpMethod.GET).build());
+        } catch (RuntimeException e) {
+            response = new CompletableFuture<>();
+            response.completeExceptionally(e);
+        }
+        response.whenComplete((res, error) -> {
+            KeySet fetched = null;
+            Throwable failure = error;
+            if (failure == null) {
+                try {
+                    fetched = parse(res);
+                    this.keySet = fetched;
+                } catch (PublicKeyProviderException | RuntimeException e) {
+                    failure = e;
+                }
+            }
+            lastFailure = failure;
+            nextRefreshAllowedAt =
+                    clock.getAsLong() + (failure == null ? minRefreshIntervalMillis : failureBackoffMillis());
+            // cleared before completing, so that callers seeing the result start a new fetch if they need one
+            inFlight.compareAndSet(flight, null);
+            if (failure != null) {
+                flight.completeExceptionally(failure);
+            } else {
+                flight.complete(fetched);
+            }
+        });
+        return flight;
+    }
+
+    private long failureBackoffMillis() {
+        return Math.min(minRefreshIntervalMillis, FAILURE_BACKOFF_MILLIS);
+    }
+
+    private KeySet parse(Auth0HttpResponse response) throws PublicKeyProviderException {
+        if (!response.isSuccessful()) {
+            throw new PublicKeyProviderException(
+                    String.format("Failed to fetch the key set from %s: status code %d", jwksUrl, response.getCode()));
+        }
+        Map<String, Object> jwks;
+        try (InputStream body = response.getBodyStream()) {
+            jwks = ObjectMapperProvider.getMapper().readValue(body, JWKS_TYPE);
+        } catch (IOException e) {
+            throw new PublicKeyProviderException("Failed to parse the key set from " + jwksUrl, e);
+        }
+        Object values = jwks.get("keys");
+        if (!(values instanceof List)) {
+            throw new PublicKeyProviderException("The key set from " + jwksUrl + " has no keys");
+        }
+
+        Map<String, RSAPublicKey> keys = new HashMap<>();
+        for (Object value : (List<?>) values) {
+            if (keys.size() == maxKeys) {
+                break;
+            }
+            if (!(value instanceof Map)) {
+                continue;
+            }
+            @SuppressWarnings("unchecked")
+            Jwk jwk = Jwk.fromValues((Map<String, Object>) value);
+            if (jwk.getId() == null || !"RSA".equals(jwk.getType())) {
+                continue;
+            }
+            if (jwk.getUsage() != null && !"sig".equals(jwk.getUsage())) {
+                continue;
+            }
+            try {
+                PublicKey key = jwk.getPublicKey();
+                keys.put(jwk.getId(), (RSAPublicKey) key);
+            } catch (InvalidPublicKeyException ignored) {
+                // skip malformed keys rather than rejecting the other keys of the set
+            }
+        }
+        return new KeySet(Collections.unmodifiableMap(keys), clock.getAsLong() + cacheTtlMillis);
+    }
+
+    private KeySet await(CompletableFuture<KeySet> flight) throws PublicKeyProviderException {
+        try {
+            return flight.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PublicKeyProviderException("Interrupted while fetching the key set from " + jwksUrl, e);
+        } catch (TimeoutException e) {
+            throw new PublicKeyProviderException("Timed out fetching the key set from " + jwksUrl, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof PublicKeyProviderException) {
+                throw (PublicKeyProviderException) e.getCause();
+            }
+            throw new PublicKeyProviderException("Failed to fetch the key set from " + jwksUrl, e.getCause());
+        }
+    }
+
+    private static final class KeySet {
+        static final KeySet EMPTY = new KeySet(Collections.emptyMap(), Long.MIN_VALUE);
+
+        final Map<String, RSAPublicKey> keys;
+        final long expiresAt;
+
+        KeySet(Map<String, RSAPublicKey> keys, long expiresAt) {
+            this.keys = keys;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    /**
+     * Builder for {@link JwksPublicKeyProvider} instances.
+     */
+    public static final class Builder {
+        private final String jwksUrl;
+        private Auth0HttpClient httpClient;
+        private Duration cacheTtl = Duration.ofMinutes(10);
+        private Duration minRefreshInterval = Duration.ofSeconds(30);
+        private int maxKeys = 20;
+        private Duration timeout = Duration.ofSeconds(10);
+        private LongSupplier clock = System::currentTimeMillis;
+
+        private Builder(String domain) {
+            Asserts.assertNotNull(domain, "domain");
+            String url = domain.startsWith("https://") || domain.startsWith("http://") ? domain : "https://" + domain;
+            Asserts.assertValidUrl(url, "domain");
+            this.jwksUrl = (url.endsWith("/") ? url : url + "/") + ".well-known/jwks.json";
+        }
+
+        /**
+         * Sets the HTTP client used to fetch the key set, such as the one shared with the {@code AuthAPI}.
+         * Defaults to a new {@link DefaultHttpClient}.
+         *
+         * @param httpClient the HTTP client.
+         * @return this builder instance.
+         */
+        public Builder withHttpClient(Auth0HttpClient httpClient) {
+            Asserts.assertNotNull(httpClient, "http client");
+            this.httpClient = httpClient;
+            return this;
+        }
+
+        /**
+         * Sets how long a fetched key set is used before it is fetched again in the background.
+         *
+         * @param cacheTtl the time to live of the key set. Must be positive.
+         * @return this builder instance.
+         */
+        public Builder withCacheTtl(Duration cacheTtl) {
+            this.cacheTtl = cacheTtl;
+            return this;
+        }
+
+        /**
+         * Sets the minimum time between a successful fetch of the key set and the next one, other than
+         * {@link #prewarm()}. After a failed fetch, the key set is fetched again after one second, or after this
+         * interval if it is shorter.
+         *
+         * @param minRefreshInterval the minimum interval. Must not be negative.
+         * @return this builder instance.
+         */
+        public Builder withMinRefreshInterval(Duration minRefreshInterval) {
+            this.minRefreshInterval = minRefreshInterval;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of keys kept from the key set.
+         *
+         * @param maxKeys the maximum number of keys. Must be one or greater.
+         * @return this builder instance.
+         */
+        public Builder withMaxKeys(int maxKeys) {
+            this.maxKeys = maxKeys;
+            return this;
+        }
+
+        /**
+         * Sets how long a lookup waits for the key set to be fetched before failing.
+         *
+         * @param timeout the timeout. Must be positive.
+         * @return this builder instance.
+         */
+        public Builder withTimeout(Duration timeout) {
+            this.timeout = timeout;
+            return this;
+        }
+
+        /**
+         * Visible for testing purposes only.
+         */
+        Builder withClock(LongSupplier clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        public JwksPublicKeyProvider build() {
+            if (cacheTtl == null || cacheTtl.isNegative() || cacheTtl.isZero()) {
+                throw new IllegalArgumentException("cacheTtl must be positive.");
+            }
+            if (minRefreshInterval == null || minRefreshInterval.isNegative()) {
+                throw new IllegalArgumentException("minRefreshInterval must not be negative.");
+            }
+            if (maxKeys < 1) {
+                throw new IllegalArgumentException("maxKeys must be one or greater.");
+            }
+            if (timeout == null || timeout.isNegative() || timeout.isZero()) {
+                throw new IllegalArgumentException("timeout must be positive.");
+            }
+            return new JwksPublicKeyProvider(this);
+        }
+    }
+}
@@ -6,7 +6,8 @@ import java.security.interfaces.RSAPublicKey;
 /**
  * The interface to obtain a public key. This is used to configure signature verification for tokens signed
  * with the RS256 asymmetric signing algorithm.
- * Developers should provide an implementation of this interface when verifying a RS256 ID token.
+ * Developers should provide an implementation of this interface when verifying a RS256 ID token, such as
+ * {@link JwksPublicKeyProvider}, which fetches and caches the public keys of the tenant.
  *
  * <p>The following example demonstrates using the {@code JwkProviderBuilder} from the
  * <a href="https://github.com/auth0/jwks-rsa-java">jwks-rsa-java library</a> to fetch the public key.</p>
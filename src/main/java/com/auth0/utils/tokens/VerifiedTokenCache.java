@@ -0,0 +1,96 @@
+package com.auth0.utils.tokens;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A bounded cache of tokens whose signature was verified, used by {@link IdTokenVerifier} to skip the signature
+ * check when the same token is verified again. Tokens are keyed by their SHA-256 digest, and kept until their
+ * time to live elapses or they expire, whichever comes first. Once full, the least recently used token is evicted.
+ * <p>
+ * This class is thread-safe.
+ */
+final class VerifiedTokenCache {
+
+    private final int maxEntries;
+    private final long ttlMillis;
+
+    // guarded by itself; iteration order is the access order, least recently used first
+    private final LinkedHashMap<String, VerifiedToken> entries;
+
+    VerifiedTokenCache(int maxEntries, long ttlMillis) {
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttlMillis;
+        this.entries = new LinkedHashMap<String, VerifiedToken>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, VerifiedToken> eldest) {
+                return size() > VerifiedTokenCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * @return the decoded token if it was verified and has not expired from the cache at {@code now}, or
+     * {@code null}.
+     */
+    DecodedJWT get(String token, long now) {
+        String key = key(token);
+        synchronized (entries) {
+            VerifiedToken entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (now >= entry.expiresAt) {
+                entries.remove(key);
+                return null;
+            }
+            return entry.decoded;
+        }
+    }
+
+    /**
+     * Caches a token whose signature was verified at {@code now}, until its time to live elapses or
+     * {@code expiresAt}, whichever comes first.
+     */
+    void put(String token, DecodedJWT decoded, long now, long expiresAt) {
+        long until = Math.min(now + ttlMillis, expiresAt);
+        if (until <= now) {
+            return;
+        }
+        String key = key(token);
+        synchronized (entries) {
+            entries.put(key, new VerifiedToken(decoded, until));
+        }
+    }
+
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private static String key(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class VerifiedToken {
+        final DecodedJWT decoded;
+        final long expiresAt;
+
+        VerifiedToken(DecodedJWT decoded, long expiresAt) {
+            this.decoded = decoded;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.auth0.client;
+
+import com.auth0.client.mgmt.core.ClientOptions;
+import com.auth0.client.mgmt.core.Environment;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ConnectionOptionsTest {
+    private MockWebServer server;
+
+    @BeforeEach
+    public void setup() throws Exception {
+        server = new MockWebServer();
+        server.start();
+    }
+
+    @AfterEach
+    public void teardown() throws Exception {
+        server.shutdown();
+    }
+
+    private ClientOptions clientOptions(ConnectionOptions connections) {
+        return ClientOptions.builder()
+                .environment(Environment.custom(server.url("/api/v2").toString()))
+                .connectionOptions(connections)
+                .build();
+    }
+
+    @Test
+    public void testClientsShareConnectionPoolAndDispatcher() {
+        ConnectionOptions connections = ConnectionOptions.builder()
+                .maxRequests(100)
+                .maxRequestsPerHost(32)
+                .maxIdleConnections(10)
+                .keepAlive(Duration.ofMinutes(1))
+                .preferHttp2(false)
+                .build();
+
+        OkHttpClient first = clientOptions(connections).httpClient();
+        OkHttpClient second = clientOptions(connections).httpClient();
+
+        Assertions.assertSame(first.connectionPool(), second.connectionPool());
+        Assertions.assertSame(connections.getDispatcher(), first.dispatcher());
+        Assertions.assertSame(first.dispatcher(), second.dispatcher());
+        Assertions.assertEquals(32, first.dispatcher().getMaxRequestsPerHost());
+        Assertions.assertEquals(100, first.dispatcher().getMaxRequests());
+        Assertions.assertEquals(Collections.singletonList(Protocol.HTTP_1_1), first.protocols());
+    }
+
+    @Test
+    public void testPrewarmsEachOriginOnce() throws Exception {
+        for (int i = 0; i < 4; i++) {
+            server.enqueue(new MockResponse().setResponseCode(404));
+        }
+        ConnectionOptions connections =
+                ConnectionOptions.builder().prewarmConnections(2).build();
+
+        clientOptions(connections);
+        clientOptions(connections);
+
+        RecordedRequest first = server.takeRequest(5, TimeUnit.SECONDS);
+        RecordedRequest second = server.takeRequest(5, TimeUnit.SECONDS);
+        Assertions.assertEquals("HEAD", first.getMethod());
+        Assertions.assertEquals("/api/v2", first.getPath());
+        Assertions.assertEquals("HEAD", second.getMethod());
+        Assertions.assertNull(server.takeRequest(200, TimeUnit.MILLISECONDS));
+        Assertions.assertNull(first.getHeader("Authorization"));
+    }
+
+    @Test
+    public void testDoesNotPrewarmByDefault() throws Exception {
+        clientOptions(ConnectionOptions.builder().build());
+
+        Assertions.assertNull(server.takeRequest(200, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testRejectsInvalidSettings() {
+        Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> ConnectionOptions.builder().maxRequestsPerHost(0).build());
+        Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> ConnectionOptions.builder().keepAlive(Duration.ZERO).build());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ConnectionOptions.builder()
+                .addPrewarmUrl("not a url"));
+    }
+}
@@ -0,0 +1,185 @@
+package com.auth0.client.auth;
+
+import static com.auth0.AssertsUtil.verifyThrows;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+public class PresignedClientAssertionSignerTest {
+
+    private static final class CountingSigner implements ClientAssertionSigner {
+        final AtomicInteger signed = new AtomicInteger();
+        final long lifetimeSeconds;
+
+        CountingSigner(long lifetimeSeconds) {
+            this.lifetimeSeconds = lifetimeSeconds;
+        }
+
+        @Override
+        public String createSignedClientAssertion(String issuer, String audience, String subject) {
+            signed.incrementAndGet();
+            Instant now = Instant.now();
+            return JWT.create()
+                    .withIssuer(issuer)
+                    .withAudience(audience)
+                    .withSubject(subject)
+                    .withIssuedAt(now)
+                    .withExpiresAt(now.plusSeconds(lifetimeSeconds))
+                    .withClaim("jti", UUID.randomUUID().toString())
+                    .sign(Algorithm.HMAC256("secret"));
+        }
+    }
+
+    /**
+     * Runs the background signing only when asked to, so the tests control when the pool is refilled.
+     */
+    private static final class ManualExecutor extends AbstractExecutorService {
+        final List<Runnable> tasks = new ArrayList<>();
+        boolean shutdown;
+
+        void runAll() {
+            List<Runnable> pending = new ArrayList<>(tasks);
+            tasks.clear();
+            pending.forEach(Runnable::run);
+        }
+
+        @Override
+        public void execute(Runnable task) {
+            if (shutdown) {
+                throw new RejectedExecutionException();
+            }
+            tasks.add(task);
+        }
+
+        @Override
+        public void shutdown() {
+            shutdown = true;
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            shutdown = true;
+            return Collections.emptyList();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return shutdown;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return shutdown;
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return shutdown;
+        }
+    }
+
+    @Test
+    public void servesEachPresignedAssertionOnce() {
+        CountingSigner delegate = new CountingSigner(180);
+        ManualExecutor executor = new ManualExecutor();
+        try (PresignedClientAssertionSigner signer =
+                new PresignedClientAssertionSigner(delegate, 4, Duration.ofSeconds(60), executor)) {
+            Set<String> jtis = new HashSet<>();
+            String first = signer.createSignedClientAssertion("client", "https://tenant/", "client");
+            jtis.add(JWT.decode(first).getId());
+            assertThat(JWT.decode(first).getIssuer(), is("client"));
+
+            // the first call signs on the calling thread and schedules the pool to be filled
+            assertThat(delegate.signed.get(), is(1));
+            assertThat(executor.tasks.size(), is(4));
+            executor.runAll();
+            assertThat(delegate.signed.get(), is(5));
+
+            for (int i = 0; i < 4; i++) {
+                jtis.add(JWT.decode(signer.createSignedClientAssertion("client", "https://tenant/", "client"))
+                        .getId());
+            }
+            assertThat(jtis.size(), is(5));
+            // taken from the pool, with one refill scheduled for each
+            assertThat(delegate.signed.get(), is(5));
+            assertThat(executor.tasks.size(), is(4));
+            executor.runAll();
+            assertThat(delegate.signed.get(), is(9));
+        }
+    }
+
+    @Test
+    public void keepsPoolFullWhileRefillsAreInFlight() {
+        CountingSigner delegate = new CountingSigner(180);
+        ManualExecutor executor = new ManualExecutor();
+        try (PresignedClientAssertionSigner signer =
+                new PresignedClientAssertionSigner(delegate, 2, Duration.ofSeconds(60), executor)) {
+            signer.createSignedClientAssertion("client", "aud", "client");
+            signer.createSignedClientAssertion("client", "aud", "client");
+            // refills already scheduled are not scheduled again
+            assertThat(executor.tasks.size(), is(2));
+
+            executor.runAll();
+            signer.createSignedClientAssertion("client", "aud", "client");
+            assertThat(executor.tasks.size(), is(1));
+            executor.runAll();
+            signer.createSignedClientAssertion("client", "aud", "client");
+            signer.createSignedClientAssertion("client", "aud", "client");
+            // both taken from the pool, whose two refills are scheduled
+            assertThat(delegate.signed.get(), is(5));
+            assertThat(executor.tasks.size(), is(2));
+        }
+    }
+
+    @Test
+    public void discardsAssertionsCloseToExpiry() {
+        CountingSigner delegate = new CountingSigner(30);
+        ManualExecutor executor = new ManualExecutor();
+        try (PresignedClientAssertionSigner signer =
+                new PresignedClientAssertionSigner(delegate, 2, Duration.ofSeconds(60), executor)) {
+            signer.createSignedClientAssertion("client", "aud", "client");
+            executor.runAll();
+            assertThat(delegate.signed.get(), is(3));
+
+            signer.createSignedClientAssertion("client", "aud", "client");
+            // both pooled assertions were discarded, and this one was signed on the calling thread
+            assertThat(delegate.signed.get(), is(4));
+            executor.runAll();
+            assertThat(delegate.signed.get(), is(6));
+        }
+    }
+
+    @Test
+    public void signsOnCallingThreadOnceClosed() {
+        CountingSigner delegate = new CountingSigner(180);
+        PresignedClientAssertionSigner signer = new PresignedClientAssertionSigner(delegate);
+        signer.close();
+
+        signer.createSignedClientAssertion("client", "aud", "client");
+        signer.createSignedClientAssertion("client", "aud", "client");
+        assertThat(delegate.signed.get(), is(2));
+    }
+
+    @Test
+    public void throwsOnInvalidPoolSize() {
+        verifyThrows(
+                IllegalArgumentException.class,
+                () -> new PresignedClientAssertionSigner(new CountingSigner(180), 0, Duration.ofSeconds(60)),
+                "poolSize must be one or greater.");
+    }
+}
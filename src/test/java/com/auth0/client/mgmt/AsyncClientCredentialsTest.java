@@ -0,0 +1,116 @@
+package com.auth0.client.mgmt;
+
+import com.auth0.client.mgmt.core.OAuthTokenException;
+import com.auth0.client.mgmt.types.GetUserResponseContent;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for client credentials authentication on {@link AsyncManagementApi}.
+ */
+public class AsyncClientCredentialsTest {
+    private MockWebServer server;
+    private final AtomicInteger tokenRequests = new AtomicInteger();
+    private volatile int tokenStatus = 200;
+
+    @BeforeEach
+    public void setup() throws Exception {
+        server = new MockWebServer();
+        server.setDispatcher(new Dispatcher() {
+            @NotNull
+            @Override
+            public MockResponse dispatch(@NotNull RecordedRequest request) throws InterruptedException {
+                if (request.getPath().equals("/oauth/token")) {
+                    tokenRequests.incrementAndGet();
+                    // slow enough for concurrent requests to find the token request in flight
+                    Thread.sleep(200);
+                    if (tokenStatus != 200) {
+                        return new MockResponse().setResponseCode(tokenStatus);
+                    }
+                    return new MockResponse()
+                            .setResponseCode(200)
+                            .setBody("{\"access_token\":\"fetched-token\",\"expires_in\":86400}");
+                }
+                return new MockResponse().setResponseCode(200).setBody("{\"user_id\":\"user_1\"}");
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    public void teardown() throws Exception {
+        server.shutdown();
+    }
+
+    private AsyncManagementApi client(OkHttpClient httpClient) {
+        AsyncManagementApiBuilder builder = AsyncManagementApi.builder()
+                .url(server.url("/api/v2").toString())
+                .clientCredentials("id", "secret");
+        if (httpClient != null) {
+            builder.httpClient(httpClient);
+        }
+        return builder.build();
+    }
+
+    @Test
+    public void testConcurrentRequestsShareOneTokenFetch() throws Exception {
+        AsyncManagementApi client = client(null);
+
+        CompletableFuture<GetUserResponseContent> first = client.users().get("user_1");
+        CompletableFuture<GetUserResponseContent> second = client.users().get("user_1");
+
+        Assertions.assertEquals(
+                "user_1", first.get(5, TimeUnit.SECONDS).getUserId().get());
+        Assertions.assertEquals(
+                "user_1", second.get(5, TimeUnit.SECONDS).getUserId().get());
+        Assertions.assertEquals(1, tokenRequests.get());
+        Assertions.assertEquals(3, server.getRequestCount());
+        server.takeRequest();
+        Assertions.assertEquals("Bearer fetched-token", server.takeRequest().getHeader("Authorization"));
+        Assertions.assertEquals("Bearer fetched-token", server.takeRequest().getHeader("Authorization"));
+
+        client.users().get("user_1").get(5, TimeUnit.SECONDS);
+        Assertions.assertEquals(1, tokenRequests.get(), "the cached token should be reused");
+    }
+
+    @Test
+    public void testTokenFailureFailsRequestWithoutSendingIt() {
+        tokenStatus = 401;
+        AsyncManagementApi client = client(null);
+
+        ExecutionException e = Assertions.assertThrows(
+                ExecutionException.class, () -> client.users().get("user_1").get(5, TimeUnit.SECONDS));
+
+        Assertions.assertInstanceOf(OAuthTokenException.class, e.getCause());
+        Assertions.assertEquals(1, server.getRequestCount());
+    }
+
+    @Test
+    public void testTokenRequestBypassesClientInterceptors() throws Exception {
+        AtomicInteger intercepted = new AtomicInteger();
+        OkHttpClient httpClient = new OkHttpClient.Builder()
+                .addInterceptor(chain -> {
+                    intercepted.incrementAndGet();
+                    return chain.proceed(chain.request());
+                })
+                .build();
+        AsyncManagementApi client = client(httpClient);
+
+        client.users().get("user_1").get(5, TimeUnit.SECONDS);
+
+        Assertions.assertEquals(1, tokenRequests.get());
+        Assertions.assertEquals(1, intercepted.get(), "only the API request should go through the interceptors");
+    }
+}
@@ -0,0 +1,88 @@
+package com.auth0.client.mgmt;
+
+import com.auth0.client.mgmt.core.ClientOptions;
+import com.auth0.client.mgmt.core.Environment;
+import com.auth0.client.mgmt.core.ManagementApiException;
+import com.auth0.client.mgmt.core.RequestOptions;
+import com.auth0.client.mgmt.types.GetUserResponseContent;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for retries scheduled outside of the OkHttp dispatcher on {@link AsyncManagementApi}.
+ */
+public class AsyncRetryTest {
+    private MockWebServer server;
+    private ScheduledExecutorService scheduler;
+    private ClientOptions clientOptions;
+    private AsyncManagementApi client;
+
+    @BeforeEach
+    public void setup() throws Exception {
+        server = new MockWebServer();
+        server.start();
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+        clientOptions = ClientOptions.builder()
+                .environment(Environment.custom(server.url("/").toString()))
+                .addHeader("Authorization", "Bearer test-token")
+                .asyncRetryScheduler(scheduler)
+                .build();
+        client = new AsyncManagementApi(clientOptions);
+    }
+
+    @AfterEach
+    public void teardown() throws Exception {
+        scheduler.shutdownNow();
+        server.shutdown();
+    }
+
+    @Test
+    public void testRetryDoesNotHoldDispatcherDuringBackoff() throws Exception {
+        server.enqueue(new MockResponse().setResponseCode(503));
+        server.enqueue(new MockResponse().setResponseCode(200).setBody("{\"user_id\":\"user_1\"}"));
+
+        CompletableFuture<GetUserResponseContent> future = client.users().get("user_1");
+
+        // the first backoff is about a second
+        Thread.sleep(300);
+        Assertions.assertEquals(1, server.getRequestCount());
+        Assertions.assertFalse(future.isDone());
+        Assertions.assertEquals(0, clientOptions.httpClient().dispatcher().runningCallsCount());
+
+        Assertions.assertEquals(
+                "user_1", future.get(5, TimeUnit.SECONDS).getUserId().get());
+        Assertions.assertEquals(2, server.getRequestCount());
+    }
+
+    @Test
+    public void testReportsLastResponseOnceRetriesAreExhausted() {
+        server.enqueue(new MockResponse().setResponseCode(503));
+        server.enqueue(new MockResponse().setResponseCode(503));
+
+        ExecutionException e = Assertions.assertThrows(ExecutionException.class, () -> client.users()
+                .get("user_1", RequestOptions.builder().maxRetries(1).build())
+                .get(5, TimeUnit.SECONDS));
+
+        Assertions.assertInstanceOf(ManagementApiException.class, e.getCause());
+        Assertions.assertEquals(503, ((ManagementApiException) e.getCause()).statusCode());
+        Assertions.assertEquals(2, server.getRequestCount());
+    }
+
+    @Test
+    public void testDoesNotRetryClientErrors() {
+        server.enqueue(new MockResponse().setResponseCode(404));
+
+        Assertions.assertThrows(
+                ExecutionException.class, () -> client.users().get("user_1").get(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(1, server.getRequestCount());
+    }
+}
@@ -0,0 +1,159 @@
+package com.auth0.client.mgmt;
+
+import com.auth0.client.mgmt.types.Log;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class LogTailerTest {
+    private MockWebServer server;
+    private ManagementApi client;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    public void setup() throws Exception {
+        server = new MockWebServer();
+        server.start();
+        client = ManagementApi.builder()
+                .url(server.url("/").toString())
+                .token("test-token")
+                .build();
+    }
+
+    @AfterEach
+    public void teardown() throws Exception {
+        server.shutdown();
+    }
+
+    private static MockResponse logs(String... ids) {
+        StringBuilder body = new StringBuilder("[");
+        for (int i = 0; i < ids.length; i++) {
+            if (i > 0) {
+                body.append(',');
+            }
+            body.append("{\"log_id\":\"").append(ids[i]).append("\",\"type\":\"s\"}");
+        }
+        return new MockResponse().setResponseCode(200).setBody(body.append(']').toString());
+    }
+
+    private LogTailer.Builder tailer(Path checkpoint) {
+        return LogTailer.builder(client.logs())
+                .checkpointStore(LogCheckpointStore.file(checkpoint))
+                .take(2)
+                .minPollInterval(Duration.ofMillis(10))
+                .maxPollInterval(Duration.ofMillis(100));
+    }
+
+    @Test
+    public void testFollowsCheckpointAndPersistsIt() throws Exception {
+        Path checkpoint = tempDir.resolve("checkpoint");
+        server.enqueue(logs("log_1", "log_2"));
+        server.enqueue(logs("log_3"));
+
+        LogTailer tailer = tailer(checkpoint).from("log_0").build();
+        List<String> delivered = new ArrayList<>();
+
+        Assertions.assertEquals(
+                2,
+                tailer.poll(batch ->
+                        batch.forEach(log -> delivered.add(log.getLogId().get()))));
+        Assertions.assertEquals(
+                1,
+                tailer.poll(batch ->
+                        batch.forEach(log -> delivered.add(log.getLogId().get()))));
+
+        Assertions.assertEquals(Arrays.asList("log_1", "log_2", "log_3"), delivered);
+        Assertions.assertEquals("/logs?from=log_0&take=2", server.takeRequest().getPath());
+        Assertions.assertEquals("/logs?from=log_2&take=2", server.takeRequest().getPath());
+        Assertions.assertEquals("log_3", new String(Files.readAllBytes(checkpoint), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testResumesFromSavedCheckpoint() throws Exception {
+        Path checkpoint = tempDir.resolve("checkpoint");
+        Files.write(checkpoint, "log_7".getBytes(StandardCharsets.UTF_8));
+        server.enqueue(logs());
+
+        LogTailer tailer = tailer(checkpoint).from("log_0").build();
+
+        Assertions.assertEquals(0, tailer.poll(batch -> Assertions.fail("empty batches are not delivered")));
+        Assertions.assertEquals("/logs?from=log_7&take=2", server.takeRequest().getPath());
+    }
+
+    @Test
+    public void testDoesNotAdvanceCheckpointWhenConsumerFails() throws Exception {
+        Path checkpoint = tempDir.resolve("checkpoint");
+        server.enqueue(logs("log_1"));
+        server.enqueue(logs("log_1"));
+
+        LogTailer tailer = tailer(checkpoint).build();
+        Assertions.assertThrows(
+                IllegalStateException.class,
+                () -> tailer.poll(batch -> {
+                    throw new IllegalStateException("SIEM unavailable");
+                }));
+        tailer.poll(batch -> {});
+
+        Assertions.assertEquals("/logs?take=2", server.takeRequest().getPath());
+        Assertions.assertEquals("/logs?take=2", server.takeRequest().getPath());
+        Assertions.assertEquals("log_1", tailer.checkpoint());
+    }
+
+    @Test
+    public void testAdaptsDelayToBatchFill() {
+        LogTailer tailer = LogTailer.builder(client.logs())
+                .checkpointStore(LogCheckpointStore.file(tempDir.resolve("checkpoint")))
+                .take(100)
+                .minPollInterval(Duration.ofSeconds(1))
+                .maxPollInterval(Duration.ofSeconds(30))
+                .build();
+
+        Assertions.assertEquals(0, tailer.nextDelay(100));
+        Assertions.assertEquals(15_000, tailer.nextDelay(50));
+        Assertions.assertEquals(1_000, tailer.nextDelay(99));
+        Assertions.assertEquals(1_000, tailer.nextDelay(0));
+    }
+
+    @Test
+    public void testRunStopsWhenRequested() throws Exception {
+        server.enqueue(logs("log_1", "log_2"));
+        server.enqueue(logs("log_3"));
+        for (int i = 0; i < 20; i++) {
+            server.enqueue(logs());
+        }
+        LogTailer tailer = tailer(tempDir.resolve("checkpoint")).build();
+        List<Log> delivered = new CopyOnWriteArrayList<>();
+
+        CompletableFuture<Void> running = CompletableFuture.runAsync(() -> tailer.run(delivered::addAll));
+        while (delivered.size() < 3) {
+            Thread.sleep(10);
+        }
+        tailer.stop();
+        running.get(5, TimeUnit.SECONDS);
+
+        Assertions.assertEquals(3, delivered.size());
+    }
+
+    @Test
+    public void testRejectsTakeAboveApiLimit() {
+        Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> LogTailer.builder(client.logs()).take(101).build());
+    }
+}
@@ -0,0 +1,235 @@
+package com.auth0.client.mgmt;
+
+import com.auth0.client.mgmt.core.OAuthTokenException;
+import com.auth0.client.mgmt.core.OAuthTokenSupplier;
+import com.auth0.client.mgmt.core.TokenRefreshConfig;
+import com.auth0.net.HttpMetrics;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for background token refresh in {@link OAuthTokenSupplier}.
+ */
+public class OAuthTokenSupplierRefreshTest {
+    private MockWebServer server;
+
+    @BeforeEach
+    public void setup() throws Exception {
+        server = new MockWebServer();
+        server.start();
+    }
+
+    @AfterEach
+    public void teardown() throws Exception {
+        server.shutdown();
+    }
+
+    private static MockResponse token(String accessToken) {
+        return new MockResponse()
+                .setResponseCode(200)
+                .setBody("{\"access_token\":\"" + accessToken + "\",\"expires_in\":1000,\"token_type\":\"Bearer\"}");
+    }
+
+    private OAuthTokenSupplier supplier() {
+        return supplier(TokenRefreshConfig.builder());
+    }
+
+    private OAuthTokenSupplier supplier(TokenRefreshConfig.Builder config) {
+        // refresh after 0.5s of the 1000s lifetime
+        config.refreshFraction(0.0005)
+                .jitterFraction(0)
+                .minBackoff(Duration.ofMillis(100))
+                .maxBackoff(Duration.ofMillis(200));
+        return new OAuthTokenSupplier("id", "secret", server.url("/").toString(), null, config.build());
+    }
+
+    @Test
+    public void testRefreshesInBackground() throws Exception {
+        server.enqueue(token("first"));
+        server.enqueue(token("second"));
+        OAuthTokenSupplier supplier = supplier();
+
+        Assertions.assertEquals("first", supplier.get());
+        Assertions.assertNotNull(server.takeRequest(5, TimeUnit.SECONDS));
+        Assertions.assertNotNull(server.takeRequest(5, TimeUnit.SECONDS), "background refresh should run");
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!"second".equals(supplier.get()) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        Assertions.assertEquals("second", supplier.get());
+    }
+
+    @Test
+    public void testKeepsServingTokenWhileRefreshFails() throws Exception {
+        server.enqueue(token("first"));
+        server.enqueue(new MockResponse().setResponseCode(503));
+        server.enqueue(new MockResponse().setResponseCode(503));
+        server.enqueue(token("second"));
+        OAuthTokenSupplier supplier = supplier();
+
+        Assertions.assertEquals("first", supplier.get());
+        server.takeRequest(5, TimeUnit.SECONDS);
+        server.takeRequest(5, TimeUnit.SECONDS);
+        Assertions.assertEquals("first", supplier.get());
+        server.takeRequest(5, TimeUnit.SECONDS);
+        Assertions.assertNotNull(server.takeRequest(5, TimeUnit.SECONDS), "failed refresh should be retried");
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!"second".equals(supplier.get()) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        Assertions.assertEquals("second", supplier.get());
+    }
+
+    @Test
+    public void testBacksOffAfterFailureWithoutToken() throws Exception {
+        server.enqueue(new MockResponse().setResponseCode(500));
+        OAuthTokenSupplier supplier = supplier();
+
+        Assertions.assertThrows(OAuthTokenException.class, supplier::get);
+        Assertions.assertThrows(OAuthTokenException.class, supplier::get);
+        Assertions.assertEquals(1, server.getRequestCount(), "callers within the backoff must not hit the endpoint");
+    }
+
+    @Test
+    public void testKeepsSingleRefreshScheduledAfterRequestPathFetch() throws Exception {
+        server.enqueue(new MockResponse().setResponseCode(500));
+        server.enqueue(token("first"));
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1);
+        scheduler.setRemoveOnCancelPolicy(true);
+        // keep the scheduler thread busy, so scheduled refreshes stay queued and can be counted
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        scheduler.execute(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException ignored) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        started.await();
+        try {
+            OAuthTokenSupplier supplier = supplier(TokenRefreshConfig.builder().scheduler(scheduler));
+
+            Assertions.assertThrows(OAuthTokenException.class, supplier::get);
+            Assertions.assertEquals(1, scheduler.getQueue().size(), "a retry should be scheduled");
+
+            Thread.sleep(150);
+            Assertions.assertEquals("first", supplier.get());
+            Assertions.assertEquals(1, scheduler.getQueue().size(), "the refresh should replace the pending retry");
+        } finally {
+            release.countDown();
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testAsyncCallersDoNotWaitOnBackgroundRefresh() throws Exception {
+        // expires_in is below the expiry buffer, so the token is refreshed straight away
+        server.enqueue(new MockResponse()
+                .setResponseCode(200)
+                .setBody("{\"access_token\":\"first\",\"expires_in\":100,\"token_type\":\"Bearer\"}"));
+        server.enqueue(token("second").setHeadersDelay(1, TimeUnit.SECONDS));
+        OAuthTokenSupplier supplier = supplier();
+
+        Assertions.assertEquals("first", supplier.get());
+        server.takeRequest(5, TimeUnit.SECONDS);
+        Assertions.assertNotNull(server.takeRequest(5, TimeUnit.SECONDS), "background refresh should run");
+
+        long start = System.nanoTime();
+        CompletableFuture<String> token = supplier.getAsync();
+        Assertions.assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 500);
+        Assertions.assertFalse(token.isDone(), "the caller should share the background refresh");
+        Assertions.assertEquals("second", token.get(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(2, server.getRequestCount());
+    }
+
+    @Test
+    public void testCompletesTokenRequestsWhenMetricsFail() throws Exception {
+        server.enqueue(new MockResponse().setResponseCode(500));
+        server.enqueue(token("first"));
+        OAuthTokenSupplier supplier =
+                new OAuthTokenSupplier("id", "secret", server.url("/").toString(), null);
+        supplier.useMetrics(new HttpMetrics() {
+            @Override
+            public void recordTokenFetch(long durationNanos, boolean success) {
+                throw new IllegalStateException("metrics failure");
+            }
+        });
+
+        ExecutionException failure = Assertions.assertThrows(
+                ExecutionException.class, () -> supplier.getAsync().get(5, TimeUnit.SECONDS));
+        Assertions.assertTrue(failure.getCause() instanceof OAuthTokenException);
+        Assertions.assertEquals("first", supplier.getAsync().get(5, TimeUnit.SECONDS));
+        Assertions.assertEquals("first", supplier.get());
+        Assertions.assertEquals(2, server.getRequestCount());
+    }
+
+    @Test
+    public void testStopsRefreshingOnceClosed() throws Exception {
+        server.enqueue(token("first"));
+        server.enqueue(token("second"));
+        OAuthTokenSupplier supplier = supplier();
+
+        Assertions.assertEquals("first", supplier.get());
+        supplier.close();
+
+        Thread.sleep(1000);
+        Assertions.assertEquals(1, server.getRequestCount(), "no refresh should run after close");
+        Assertions.assertEquals("first", supplier.get());
+    }
+
+    @Test
+    public void testClientsUseCallerOwnedSupplier() throws Exception {
+        server.setDispatcher(new Dispatcher() {
+            @NotNull
+            @Override
+            public MockResponse dispatch(@NotNull RecordedRequest request) {
+                if (request.getPath().equals("/oauth/token")) {
+                    return token("first");
+                }
+                return new MockResponse().setResponseCode(200).setBody("{\"user_id\":\"user_1\"}");
+            }
+        });
+        OAuthTokenSupplier supplier = supplier();
+        String url = server.url("/api/v2").toString();
+        ManagementApi client =
+                ManagementApi.builder().url(url).tokenSupplier(supplier).build();
+        AsyncManagementApi asyncClient =
+                AsyncManagementApi.builder().url(url).tokenSupplier(supplier).build();
+
+        client.users().get("user_1");
+        asyncClient.users().get("user_1").get(5, TimeUnit.SECONDS);
+        supplier.close();
+
+        Assertions.assertEquals("/oauth/token", server.takeRequest().getPath());
+        Assertions.assertEquals("Bearer first", server.takeRequest().getHeader("Authorization"));
+        Assertions.assertEquals("Bearer first", server.takeRequest().getHeader("Authorization"));
+    }
+
+    @Test
+    public void testInvalidConfiguration() {
+        Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> TokenRefreshConfig.builder().refreshFraction(0).build());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> TokenRefreshConfig.builder()
+                .minBackoff(Duration.ofSeconds(10))
+                .maxBackoff(Duration.ofSeconds(1))
+                .build());
+    }
+}
@@ -0,0 +1,192 @@
+package com.auth0.client.mgmt;
+
+import com.auth0.client.mgmt.core.ManagementException;
+import com.auth0.client.mgmt.jobs.types.CreateExportUsersRequestContent;
+import com.auth0.client.mgmt.types.JobFileFormatEnum;
+import com.auth0.client.mgmt.types.UserResponseSchema;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class UserExportRunnerTest {
+    private MockWebServer server;
+    private ManagementApi client;
+
+    @BeforeEach
+    public void setup() throws Exception {
+        server = new MockWebServer();
+        server.start();
+        client = ManagementApi.builder()
+                .url(server.url("/").toString())
+                .token("test-token")
+                .build();
+    }
+
+    @AfterEach
+    public void teardown() throws Exception {
+        server.shutdown();
+    }
+
+    private UserExportRunner runner(JobFileFormatEnum format) {
+        return UserExportRunner.builder(client.jobs())
+                .request(
+                        CreateExportUsersRequestContent.builder().format(format).build())
+                .minPollInterval(Duration.ofMillis(10))
+                .maxPollInterval(Duration.ofMillis(50))
+                .build();
+    }
+
+    private static MockResponse job(String status, String extra) {
+        return new MockResponse()
+                .setResponseCode(200)
+                .setBody("{\"id\":\"job_1\",\"type\":\"users_export\",\"status\":\"" + status + "\"" + extra + "}");
+    }
+
+    private static MockResponse gzipped(String content) throws IOException {
+        Buffer buffer = new Buffer();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(buffer.outputStream())) {
+            gzip.write(content.getBytes(StandardCharsets.UTF_8));
+        }
+        return new MockResponse().setResponseCode(200).setBody(buffer);
+    }
+
+    @Test
+    public void testStreamsJsonExportOnceJobCompletes() throws Exception {
+        server.enqueue(new MockResponse().setResponseCode(201).setBody("{\"id\":\"job_1\",\"status\":\"pending\"}"));
+        server.enqueue(job("pending", ""));
+        server.enqueue(job("processing", ",\"percentage_done\":50,\"time_left_seconds\":0"));
+        server.enqueue(
+                job("completed", ",\"format\":\"json\",\"location\":\"" + server.url("/exports/job_1.json.gz") + "\""));
+        server.enqueue(gzipped("{\"user_id\":\"auth0|1\",\"email\":\"a@example.com\",\"email_verified\":true}\n"
+                + "\n"
+                + "{\"user_id\":\"auth0|2\",\"logins_count\":3,\"custom\":\"value\"}\n"));
+
+        List<UserResponseSchema> users;
+        try (Stream<UserResponseSchema> stream = runner(JobFileFormatEnum.JSON).stream()) {
+            users = stream.collect(Collectors.toList());
+        }
+
+        Assertions.assertEquals(2, users.size());
+        Assertions.assertEquals("auth0|1", users.get(0).getUserId().get());
+        Assertions.assertTrue(users.get(0).getEmailVerified().get());
+        Assertions.assertEquals(3, users.get(1).getLoginsCount().get());
+        Assertions.assertEquals("value", users.get(1).getAdditionalProperties().get("custom"));
+
+        RecordedRequest create = server.takeRequest();
+        Assertions.assertEquals("/jobs/users-exports", create.getPath());
+        Assertions.assertTrue(create.getBody().readUtf8().contains("\"format\":\"json\""));
+        Assertions.assertEquals("/jobs/job_1", server.takeRequest().getPath());
+        Assertions.assertEquals("/jobs/job_1", server.takeRequest().getPath());
+        Assertions.assertEquals("/jobs/job_1", server.takeRequest().getPath());
+        RecordedRequest download = server.takeRequest();
+        Assertions.assertEquals("/exports/job_1.json.gz", download.getPath());
+    }
+
+    @Test
+    public void testParsesCsvExport() throws Exception {
+        server.enqueue(job("completed", ",\"location\":\"" + server.url("/exports/job_1.csv.gz") + "\""));
+        server.enqueue(gzipped("user_id,email,email_verified,app_metadata,Display Name\r\n"
+                + "auth0|1,a@example.com,true,\"{\"\"plan\"\":\"\"pro\"\"}\",\"Doe, Jane\"\r\n"
+                + "auth0|2,,false,,\"multi\nline\"\r\n"));
+
+        UserExportRunner runner = runner(JobFileFormatEnum.CSV);
+        List<UserResponseSchema> users;
+        try (UserExportReader reader = runner.open(client.jobs().get("job_1"))) {
+            users = reader.stream().collect(Collectors.toList());
+        }
+
+        Assertions.assertEquals(2, users.size());
+        Assertions.assertEquals("a@example.com", users.get(0).getEmail().get());
+        Assertions.assertTrue(users.get(0).getEmailVerified().get());
+        Assertions.assertEquals("pro", users.get(0).getAppMetadata().get().get("plan"));
+        Assertions.assertEquals(
+                "Doe, Jane", users.get(0).getAdditionalProperties().get("Display Name"));
+        Assertions.assertFalse(users.get(1).getEmail().isPresent());
+        Assertions.assertFalse(users.get(1).getEmailVerified().get());
+        Assertions.assertEquals(
+                "multi\nline", users.get(1).getAdditionalProperties().get("Display Name"));
+    }
+
+    @Test
+    public void testDownloadsWithoutApiInterceptors() throws Exception {
+        ManagementApi intercepted = ManagementApi.builder()
+                .url(server.url("/").toString())
+                .token("test-token")
+                .httpClient(new OkHttpClient.Builder()
+                        .addInterceptor(chain -> chain.proceed(chain.request()
+                                .newBuilder()
+                                .header("X-Intercepted", "true")
+                                .build()))
+                        .build())
+                .build();
+        server.enqueue(job("completed", ",\"location\":\"" + server.url("/exports/job_1.json.gz") + "\""));
+        server.enqueue(new MockResponse().setResponseCode(503));
+
+        UserExportRunner runner = UserExportRunner.builder(intercepted.jobs()).build();
+        ManagementException e = Assertions.assertThrows(
+                ManagementException.class, () -> runner.open(intercepted.jobs().get("job_1")));
+        Assertions.assertTrue(e.getMessage().contains("status code 503"));
+
+        Assertions.assertEquals("true", server.takeRequest().getHeader("X-Intercepted"));
+        RecordedRequest download = server.takeRequest();
+        Assertions.assertEquals("/exports/job_1.json.gz", download.getPath());
+        Assertions.assertNull(download.getHeader("X-Intercepted"));
+        Assertions.assertNull(download.getHeader("Authorization"));
+        Assertions.assertEquals(2, server.getRequestCount(), "the download must not be retried");
+    }
+
+    @Test
+    public void testReadsUncompressedInput() throws Exception {
+        byte[] content = "{\"user_id\":\"auth0|1\"}\n".getBytes(StandardCharsets.UTF_8);
+        try (UserExportReader reader =
+                UserExportReader.open(new ByteArrayInputStream(content), JobFileFormatEnum.JSON)) {
+            Assertions.assertEquals("auth0|1", reader.next().getUserId().get());
+            Assertions.assertFalse(reader.hasNext());
+        }
+    }
+
+    @Test
+    public void testFailedJobThrows() {
+        server.enqueue(new MockResponse().setResponseCode(201).setBody("{\"id\":\"job_1\",\"status\":\"pending\"}"));
+        server.enqueue(job("failed", ",\"status_details\":\"connection not found\""));
+
+        ManagementException e = Assertions.assertThrows(
+                ManagementException.class, () -> runner(JobFileFormatEnum.CSV).awaitCompletion());
+        Assertions.assertTrue(e.getMessage().contains("connection not found"));
+    }
+
+    @Test
+    public void testGivesUpAfterTimeout() {
+        server.enqueue(job("processing", ",\"time_left_seconds\":600"));
+
+        UserExportRunner runner = UserExportRunner.builder(client.jobs())
+                .minPollInterval(Duration.ofMillis(10))
+                .timeout(Duration.ofSeconds(5))
+                .build();
+
+        Assertions.assertThrows(ManagementException.class, () -> runner.awaitCompletion("job_1"));
+        Assertions.assertEquals(1, server.getRequestCount(), "the next poll would already exceed the timeout");
+    }
+
+    @Test
+    public void testRejectsInvalidPollIntervals() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> UserExportRunner.builder(client.jobs())
+                .minPollInterval(Duration.ofSeconds(10))
+                .maxPollInterval(Duration.ofSeconds(1))
+                .build());
+    }
+}
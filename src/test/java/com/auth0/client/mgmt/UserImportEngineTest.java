@@ -0,0 +1,171 @@
+package com.auth0.client.mgmt;
+
+import com.auth0.client.mgmt.jobs.types.CreateImportUsersRequestContent;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class UserImportEngineTest {
+    private MockWebServer server;
+    private ManagementApi client;
+    private final List<String> uploads = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicInteger maxRunning = new AtomicInteger();
+    private final Map<String, AtomicInteger> polls = new HashMap<>();
+    private volatile int rejectFirstUploads;
+
+    @BeforeEach
+    public void setup() throws Exception {
+        server = new MockWebServer();
+        server.setDispatcher(new Dispatcher() {
+            @NotNull
+            @Override
+            public MockResponse dispatch(@NotNull RecordedRequest request) {
+                String path = request.getPath();
+                if (path.equals("/jobs/users-imports")) {
+                    if (rejectFirstUploads > 0) {
+                        rejectFirstUploads--;
+                        return new MockResponse().setResponseCode(429).setBody("{}");
+                    }
+                    uploads.add(request.getBody().readUtf8());
+                    String id = "job_" + uploads.size();
+                    synchronized (polls) {
+                        polls.put(id, new AtomicInteger());
+                    }
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    return new MockResponse()
+                            .setResponseCode(201)
+                            .setBody("{\"status\":\"pending\",\"type\":\"users_import\",\"created_at\":\"\","
+                                    + "\"id\":\"" + id + "\",\"connection_id\":\"con_1\"}");
+                }
+                if (path.endsWith("/errors")) {
+                    return new MockResponse()
+                            .setResponseCode(200)
+                            .setBody("[{\"user\":{\"email\":\"bad@example.com\"},"
+                                    + "\"errors\":[{\"code\":\"INVALID_FORMAT\",\"message\":\"bad email\"}]}]");
+                }
+                String id = path.substring("/jobs/".length());
+                int count;
+                synchronized (polls) {
+                    count = polls.get(id).incrementAndGet();
+                }
+                if (count < 2) {
+                    return new MockResponse()
+                            .setResponseCode(200)
+                            .setBody("{\"id\":\"" + id + "\",\"type\":\"users_import\",\"status\":\"processing\"}");
+                }
+                running.decrementAndGet();
+                int failed = id.equals("job_2") ? 1 : 0;
+                return new MockResponse()
+                        .setResponseCode(200)
+                        .setBody("{\"id\":\"" + id + "\",\"type\":\"users_import\",\"status\":\"completed\","
+                                + "\"summary\":{\"failed\":" + failed + ",\"inserted\":" + (2 - failed)
+                                + ",\"updated\":0,\"total\":2}}");
+            }
+        });
+        server.start();
+        client = ManagementApi.builder()
+                .url(server.url("/").toString())
+                .token("test-token")
+                .maxRetries(0)
+                .build();
+    }
+
+    @AfterEach
+    public void teardown() throws Exception {
+        server.shutdown();
+    }
+
+    private static Iterator<Map<String, Object>> users(int count) {
+        List<Map<String, Object>> users = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Map<String, Object> user = new HashMap<>();
+            user.put("email", "user" + i + "@example.com");
+            users.add(user);
+        }
+        return users.iterator();
+    }
+
+    private UserImportEngine.Builder engine() {
+        return UserImportEngine.builder(
+                        client.jobs(),
+                        CreateImportUsersRequestContent.builder()
+                                .connectionId("con_1")
+                                .upsert(true)
+                                .build())
+                .pollInterval(Duration.ofMillis(10))
+                // two users of 29 bytes each per chunk
+                .maxChunkBytes(64);
+    }
+
+    @Test
+    public void testSplitsUsersIntoBoundedChunksAndAggregatesResults() {
+        UserImportReport report = engine().build().run(users(6));
+
+        Assertions.assertEquals(3, uploads.size());
+        for (String upload : uploads) {
+            Assertions.assertTrue(upload.contains("[{\"email\":\"user"), upload);
+            Assertions.assertTrue(upload.contains("name=\"connection_id\""));
+            Assertions.assertTrue(upload.contains("name=\"upsert\""));
+        }
+        Assertions.assertTrue(maxRunning.get() <= 2, "never more than two jobs at a time");
+        Assertions.assertEquals(3, report.getJobIds().size());
+        Assertions.assertEquals(6, report.getSubmitted());
+        Assertions.assertEquals(5, report.getInserted());
+        Assertions.assertEquals(1, report.getFailed());
+        Assertions.assertEquals(1, report.getRowFailures().size());
+        UserImportReport.RowFailure failure = report.getRowFailures().get(0);
+        Assertions.assertEquals("job_2", failure.getJobId());
+        Assertions.assertEquals("bad@example.com", failure.getUser().get("email"));
+        Assertions.assertEquals(
+                "INVALID_FORMAT", failure.getErrors().get(0).getCode().get());
+        Assertions.assertFalse(report.isSuccessful());
+    }
+
+    @Test
+    public void testBuffersChunksInMemory() {
+        UserImportReport report =
+                engine().inMemory(true).maxConcurrentJobs(1).build().run(users(3));
+
+        Assertions.assertEquals(2, uploads.size());
+        Assertions.assertTrue(uploads.get(1).contains("[{\"email\":\"user2@example.com\"}]"));
+        Assertions.assertTrue(uploads.get(0).contains("name=\"upsert\""));
+        Assertions.assertEquals(1, maxRunning.get());
+        Assertions.assertEquals(3, report.getSubmitted());
+    }
+
+    @Test
+    public void testWaitsWhenTenantJobLimitIsReached() {
+        rejectFirstUploads = 2;
+
+        UserImportReport report = engine().build().run(users(2));
+
+        Assertions.assertEquals(1, uploads.size());
+        Assertions.assertEquals(2, report.getSubmitted());
+        Assertions.assertTrue(report.isSuccessful());
+    }
+
+    @Test
+    public void testRejectsUserLargerThanChunk() {
+        Map<String, Object> user = new HashMap<>();
+        user.put("email", "a-very-long-address-that-does-not-fit-into-a-chunk@example.com");
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> engine().build()
+                .run(Collections.singletonList(user).iterator()));
+        Assertions.assertTrue(uploads.isEmpty());
+    }
+}
@@ -0,0 +1,137 @@
+package com.auth0.client.mgmt.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public final class AsyncPagingIterableTest {
+
+    private static AsyncPagingIterable<Integer> page(List<List<Integer>> pages, int index) {
+        return new AsyncPagingIterable<>(
+                true,
+                pages.get(index),
+                null,
+                () -> CompletableFuture.supplyAsync(() -> index + 1 < pages.size()
+                        ? page(pages, index + 1)
+                        : new AsyncPagingIterable<>(false, Collections.<Integer>emptyList(), null, () -> null)));
+    }
+
+    @Test
+    public void forEachAsyncVisitsAllPagesInOrder() throws Exception {
+        List<List<Integer>> pages = Arrays.asList(Arrays.asList(1, 2), Arrays.asList(3, 4), Arrays.asList(5));
+        List<Integer> seen = Collections.synchronizedList(new ArrayList<>());
+
+        page(pages, 0).forEachAsync(seen::add).get(5, TimeUnit.SECONDS);
+
+        Assertions.assertEquals(Arrays.asList(1, 2, 3, 4, 5), seen);
+    }
+
+    @Test
+    public void forEachPageAsyncDoesNotGrowStackOnCompletedFutures() throws Exception {
+        AtomicInteger pagesSeen = new AtomicInteger();
+        AsyncPagingIterable<Integer> first = completedChain(0, 20_000);
+
+        first.forEachPageAsync(p -> pagesSeen.incrementAndGet()).get(5, TimeUnit.SECONDS);
+
+        Assertions.assertEquals(20_001, pagesSeen.get());
+    }
+
+    private static AsyncPagingIterable<Integer> completedChain(int index, int last) {
+        return new AsyncPagingIterable<>(
+                index < last,
+                Collections.singletonList(index),
+                null,
+                () -> CompletableFuture.completedFuture(completedChain(index + 1, last)));
+    }
+
+    @Test
+    public void syncIterationStillWorks() {
+        List<List<Integer>> pages = Arrays.asList(Arrays.asList(1, 2), Arrays.asList(3));
+        List<Integer> seen = new ArrayList<>();
+
+        for (Integer item : page(pages, 0)) {
+            seen.add(item);
+        }
+
+        Assertions.assertEquals(Arrays.asList(1, 2, 3), seen);
+    }
+
+    @Test
+    public void prefetchingIteratorReturnsAllItemsInOrder() {
+        List<List<Integer>> pages = Arrays.asList(Arrays.asList(1, 2), Arrays.asList(3), Arrays.asList(4, 5));
+
+        List<Integer> seen = new ArrayList<>();
+        page(pages, 0).prefetchingIterator(2).forEachRemaining(seen::add);
+
+        Assertions.assertEquals(Arrays.asList(1, 2, 3, 4, 5), seen);
+    }
+
+    @Test
+    public void nextPageAsyncFailsOnLastPage() {
+        AsyncPagingIterable<Integer> last = new AsyncPagingIterable<>(false, Arrays.asList(1), null, () -> null);
+
+        ExecutionException e = Assertions.assertThrows(
+                ExecutionException.class, () -> last.nextPageAsync().get());
+        Assertions.assertTrue(e.getCause() instanceof NoSuchElementException);
+    }
+
+    @Test
+    public void forEachAsyncPropagatesPageFailure() {
+        CompletableFuture<AsyncPagingIterable<Integer>> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new ManagementException("boom"));
+        AsyncPagingIterable<Integer> first = new AsyncPagingIterable<>(true, Arrays.asList(1), null, () -> failed);
+
+        ExecutionException e = Assertions.assertThrows(
+                ExecutionException.class, () -> first.forEachAsync(i -> {}).get(5, TimeUnit.SECONDS));
+        Assertions.assertTrue(e.getCause() instanceof ManagementException);
+    }
+
+    @Test
+    public void offsetRequestsFollowingPageNumbers() throws Exception {
+        List<List<Integer>> pages = Arrays.asList(Arrays.asList(1, 2), Arrays.asList(3), Collections.emptyList());
+        List<Integer> requested = Collections.synchronizedList(new ArrayList<>());
+        List<Integer> seen = Collections.synchronizedList(new ArrayList<>());
+
+        AsyncPagingIterable.<Integer>offset(page -> {
+                    requested.add(page);
+                    return CompletableFuture.supplyAsync(
+                            () -> new SyncPagingIterable<>(true, pages.get(page), null, () -> null));
+                })
+                .thenCompose(first -> first.forEachAsync(seen::add))
+                .get(5, TimeUnit.SECONDS);
+
+        Assertions.assertEquals(Arrays.asList(1, 2, 3), seen);
+        Assertions.assertEquals(Arrays.asList(0, 1, 2), requested);
+    }
+
+    @Test
+    public void cursorRequestsPagesWithPreviousCursor() throws Exception {
+        List<String> requested = Collections.synchronizedList(new ArrayList<>());
+        List<Integer> seen = Collections.synchronizedList(new ArrayList<>());
+
+        AsyncPagingIterable.<Integer, String>cursor(
+                        cursor -> {
+                            requested.add(cursor);
+                            // the envelope is the cursor of the following page, null on the last page
+                            String next = cursor == null ? "b" : null;
+                            List<Integer> items = cursor == null ? Arrays.asList(1, 2) : Arrays.asList(3);
+                            return CompletableFuture.supplyAsync(
+                                    () -> new SyncPagingIterable<>(next != null, items, next, () -> null));
+                        },
+                        Optional::of)
+                .thenCompose(first -> first.forEachAsync(seen::add))
+                .get(5, TimeUnit.SECONDS);
+
+        Assertions.assertEquals(Arrays.asList(1, 2, 3), seen);
+        Assertions.assertEquals(Arrays.asList(null, "b"), requested);
+    }
+}
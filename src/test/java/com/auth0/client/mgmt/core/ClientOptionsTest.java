@@ -0,0 +1,88 @@
+package com.auth0.client.mgmt.core;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public final class ClientOptionsTest {
+    private final ClientOptions clientOptions = ClientOptions.builder()
+            .environment(Environment.custom("https://tenant.auth0.com/api/v2"))
+            .build();
+
+    @Test
+    public void httpClientWithTimeoutReusesClientForSameTimeout() {
+        OkHttpClient first = clientOptions.httpClientWithTimeout(
+                RequestOptions.builder().timeout(10).build());
+        OkHttpClient second = clientOptions.httpClientWithTimeout(
+                RequestOptions.builder().timeout(10_000, TimeUnit.MILLISECONDS).build());
+
+        Assertions.assertSame(first, second);
+        Assertions.assertEquals(10_000, first.callTimeoutMillis());
+        Assertions.assertEquals(0, first.readTimeoutMillis());
+    }
+
+    @Test
+    public void httpClientWithTimeoutSharesPoolAndDispatcher() {
+        OkHttpClient base = clientOptions.httpClient();
+        OkHttpClient fast = clientOptions.httpClientWithTimeout(
+                RequestOptions.builder().timeout(1).build());
+        OkHttpClient slow = clientOptions.httpClientWithTimeout(
+                RequestOptions.builder().timeout(30).build());
+
+        Assertions.assertNotSame(fast, slow);
+        Assertions.assertEquals(1_000, fast.callTimeoutMillis());
+        Assertions.assertEquals(30_000, slow.callTimeoutMillis());
+        Assertions.assertSame(base.connectionPool(), fast.connectionPool());
+        Assertions.assertSame(base.dispatcher(), slow.dispatcher());
+    }
+
+    @Test
+    public void enqueueFailsFutureOnNonAsciiHeaderValue() {
+        assertEnqueueFails(() -> "caf\u00e9", IllegalArgumentException.class);
+    }
+
+    @Test
+    public void enqueueFailsFutureOnNullHeaderValue() {
+        assertEnqueueFails(() -> null, NullPointerException.class);
+    }
+
+    private static void assertEnqueueFails(Supplier<String> headerValue, Class<? extends Throwable> expected) {
+        ClientOptions options = ClientOptions.builder()
+                .environment(Environment.custom("https://tenant.auth0.com/api/v2"))
+                .addHeader("X-Custom", headerValue)
+                .build();
+        CompletableFuture<Void> future = new CompletableFuture<>();
+
+        options.enqueue(
+                options.httpClient(),
+                new Request.Builder()
+                        .url("https://tenant.auth0.com/api/v2/users")
+                        .build(),
+                null,
+                future,
+                new Callback() {
+                    @Override
+                    public void onResponse(@NotNull Call call, @NotNull Response response) {
+                        future.completeExceptionally(new AssertionError("the request should not be sent"));
+                    }
+
+                    @Override
+                    public void onFailure(@NotNull Call call, @NotNull IOException e) {
+                        future.completeExceptionally(new AssertionError("the request should not be sent"));
+                    }
+                });
+
+        ExecutionException e = Assertions.assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        Assertions.assertInstanceOf(expected, e.getCause());
+    }
+}
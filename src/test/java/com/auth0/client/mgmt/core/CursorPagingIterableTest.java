@@ -0,0 +1,120 @@
+package com.auth0.client.mgmt.core;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class CursorPagingIterableTest {
+    // cursor -> items of that page; the next cursor is the last item of the page
+    private final Map<String, List<String>> pages = new HashMap<>();
+    private final List<String> requestedCursors = new ArrayList<>();
+    private final List<Integer> requestedTakes = new ArrayList<>();
+
+    {
+        pages.put(null, Arrays.asList("a", "b"));
+        pages.put("b", Arrays.asList("c", "d"));
+        pages.put("d", Arrays.asList("e"));
+    }
+
+    private synchronized BasePage<String> fetch(String cursor, int take) {
+        requestedCursors.add(cursor);
+        requestedTakes.add(take);
+        List<String> items = pages.get(cursor);
+        String next = cursor == null || !cursor.equals("d") ? items.get(items.size() - 1) : null;
+        return new SyncPagingIterable<>(next != null, items, Optional.ofNullable(next), () -> null);
+    }
+
+    private CursorPagingIterable.Builder<String> builder() {
+        return CursorPagingIterable.builder(this::fetch, (Optional<String> next) -> next);
+    }
+
+    @Test
+    public void testFollowsCursorsToTheLastPage() {
+        List<String> items = builder().take(2).build().streamItems().collect(Collectors.toList());
+
+        Assertions.assertEquals(Arrays.asList("a", "b", "c", "d", "e"), items);
+        Assertions.assertEquals(Arrays.asList(null, "b", "d"), requestedCursors);
+        Assertions.assertEquals(Arrays.asList(2, 2, 2), requestedTakes);
+    }
+
+    @Test
+    public void testCursorResumesWithoutSkippingItems() {
+        CursorPagingIterable.CursorIterator<String> iterator = builder().build().iterator();
+        Assertions.assertNull(iterator.cursor());
+
+        Assertions.assertEquals("a", iterator.next());
+        Assertions.assertNull(iterator.cursor(), "the first page is not fully consumed yet");
+        Assertions.assertEquals("b", iterator.next());
+        Assertions.assertEquals("b", iterator.cursor());
+        Assertions.assertEquals("c", iterator.next());
+        String saved = iterator.cursor();
+
+        requestedCursors.clear();
+        List<String> resumed = builder().from(saved).build().streamItems().collect(Collectors.toList());
+        Assertions.assertEquals(Arrays.asList("c", "d", "e"), resumed);
+        Assertions.assertEquals("b", requestedCursors.get(0));
+    }
+
+    @Test
+    public void testPrefetchesNextPage() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            CursorPagingIterable.CursorIterator<String> iterator =
+                    builder().prefetch(executor).build().iterator();
+            Assertions.assertEquals("a", iterator.next());
+
+            List<String> rest = new ArrayList<>();
+            iterator.forEachRemaining(rest::add);
+            Assertions.assertEquals(Arrays.asList("b", "c", "d", "e"), rest);
+            Assertions.assertEquals(3, requestedCursors.size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testAdaptsTakeToLatency() {
+        CursorPagingIterable.CursorIterator<String> fast = builder()
+                .take(10)
+                .adaptiveTake(5, 40, Duration.ofSeconds(10))
+                .build()
+                .iterator();
+        fast.forEachRemaining(item -> {});
+        Assertions.assertEquals(Arrays.asList(10, 20, 40), requestedTakes);
+        Assertions.assertEquals(40, fast.take());
+
+        requestedTakes.clear();
+        CursorPagingIterable.CursorIterator<String> slow = CursorPagingIterable.<String, Optional<String>>builder(
+                        (cursor, take) -> {
+                            try {
+                                Thread.sleep(20);
+                            } catch (InterruptedException e) {
+                                throw new RuntimeException(e);
+                            }
+                            return fetch(cursor, take);
+                        },
+                        next -> next)
+                .take(40)
+                .adaptiveTake(5, 40, Duration.ofMillis(1))
+                .build()
+                .iterator();
+        slow.forEachRemaining(item -> {});
+        Assertions.assertEquals(Arrays.asList(40, 20, 10), requestedTakes);
+    }
+
+    @Test
+    public void testRejectsInvalidAdaptiveBounds() {
+        Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> builder().adaptiveTake(50, 10, Duration.ofMillis(100)).build());
+    }
+}
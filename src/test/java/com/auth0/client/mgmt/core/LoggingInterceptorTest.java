@@ -0,0 +1,167 @@
+package com.auth0.client.mgmt.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class LoggingInterceptorTest {
+    private MockWebServer server;
+    private final List<LogLevel> levels = new ArrayList<>();
+    private final List<HttpLogEvent> events = new ArrayList<>();
+    private final List<String> messages = new ArrayList<>();
+
+    private final ILogger structuredLogger = new RecordingLogger() {
+        @Override
+        public void log(LogLevel level, HttpLogEvent event) {
+            levels.add(level);
+            events.add(event);
+        }
+    };
+
+    @BeforeEach
+    public void setup() throws Exception {
+        server = new MockWebServer();
+        server.start();
+    }
+
+    @AfterEach
+    public void teardown() throws Exception {
+        server.shutdown();
+    }
+
+    private OkHttpClient client(ILogger logger, LogLevel level, int sampleRate) {
+        return new OkHttpClient.Builder()
+                .addInterceptor(new RetryInterceptor(1))
+                .addInterceptor(new LoggingInterceptor(new Logger(level, logger, false), sampleRate))
+                .build();
+    }
+
+    private void get(OkHttpClient client, String path) throws Exception {
+        try (Response response = client.newCall(new Request.Builder()
+                        .url(server.url(path))
+                        .header("AUTHORIZATION", "Bearer secret")
+                        .header("X-Request-ID", "req-1")
+                        .build())
+                .execute()) {
+            response.code();
+        }
+    }
+
+    @Test
+    public void testLogsExchangeAsStructuredEvent() throws Exception {
+        server.enqueue(new MockResponse()
+                .setResponseCode(200)
+                .addHeader("x-auth0-requestid", "abc123")
+                .addHeader("Set-Cookie", "session=1"));
+
+        get(client(structuredLogger, LogLevel.DEBUG, 1), "/api/v2/users/auth0%7C1");
+
+        Assertions.assertEquals(1, events.size());
+        HttpLogEvent event = events.get(0);
+        Assertions.assertEquals(LogLevel.DEBUG, levels.get(0));
+        Assertions.assertEquals("GET", event.method());
+        Assertions.assertEquals("/api/v2/users/{id}", event.endpoint());
+        Assertions.assertEquals(200, event.statusCode());
+        Assertions.assertEquals(0, event.retryCount());
+        Assertions.assertEquals("abc123", event.requestId());
+        Assertions.assertTrue(event.durationNanos() > 0);
+        Assertions.assertEquals("[REDACTED]", event.requestHeaders().get("AUTHORIZATION"));
+        Assertions.assertEquals("[REDACTED]", event.responseHeaders().get("Set-Cookie"));
+    }
+
+    @Test
+    public void testReportsRetryCountOfRetriedAttempts() throws Exception {
+        server.enqueue(new MockResponse().setResponseCode(503));
+        server.enqueue(new MockResponse().setResponseCode(200));
+
+        get(client(structuredLogger, LogLevel.DEBUG, 1), "/api/v2/users");
+
+        Assertions.assertEquals(2, events.size());
+        Assertions.assertEquals(LogLevel.ERROR, levels.get(0));
+        Assertions.assertEquals(503, events.get(0).statusCode());
+        Assertions.assertEquals(0, events.get(0).retryCount());
+        Assertions.assertEquals(1, events.get(1).retryCount());
+        Assertions.assertEquals("req-1", events.get(1).requestId());
+    }
+
+    @Test
+    public void testSamplesSuccessfulExchangesButNotErrors() throws Exception {
+        for (int i = 0; i < 6; i++) {
+            server.enqueue(new MockResponse().setResponseCode(200));
+        }
+        server.enqueue(new MockResponse().setResponseCode(404));
+        OkHttpClient client = client(structuredLogger, LogLevel.DEBUG, 3);
+
+        for (int i = 0; i < 7; i++) {
+            get(client, "/api/v2/users");
+        }
+
+        Assertions.assertEquals(3, events.size());
+        Assertions.assertEquals(404, events.get(2).statusCode());
+    }
+
+    @Test
+    public void testErrorLevelOnlyLogsErrorsWithoutHeaders() throws Exception {
+        server.enqueue(new MockResponse().setResponseCode(200));
+        server.enqueue(new MockResponse().setResponseCode(400));
+        OkHttpClient client = client(structuredLogger, LogLevel.ERROR, 1);
+
+        get(client, "/api/v2/users");
+        get(client, "/api/v2/roles");
+
+        Assertions.assertEquals(1, events.size());
+        Assertions.assertEquals("/api/v2/roles", events.get(0).endpoint());
+        Assertions.assertTrue(events.get(0).requestHeaders().isEmpty());
+    }
+
+    @Test
+    public void testFormatsEventsForMessageLoggers() throws Exception {
+        server.enqueue(new MockResponse().setResponseCode(200));
+
+        get(client(new RecordingLogger(), LogLevel.DEBUG, 1), "/api/v2/users");
+
+        Assertions.assertEquals(1, messages.size());
+        String message = messages.get(0);
+        Assertions.assertTrue(message.startsWith("HTTP Exchange: GET http://"), message);
+        Assertions.assertTrue(message.contains("status=200"), message);
+        Assertions.assertTrue(message.contains("AUTHORIZATION=[REDACTED]"), message);
+        Assertions.assertFalse(message.contains("secret"), message);
+    }
+
+    @Test
+    public void testRejectsInvalidSampleRate() {
+        Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> LogConfig.builder().sampleRate(0).build());
+    }
+
+    private class RecordingLogger implements ILogger {
+        @Override
+        public void debug(String message) {
+            messages.add(message);
+        }
+
+        @Override
+        public void info(String message) {
+            messages.add(message);
+        }
+
+        @Override
+        public void warn(String message) {
+            messages.add(message);
+        }
+
+        @Override
+        public void error(String message) {
+            messages.add(message);
+        }
+    }
+}
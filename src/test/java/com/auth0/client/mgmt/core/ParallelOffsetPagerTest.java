@@ -0,0 +1,234 @@
+package com.auth0.client.mgmt.core;
+
+import com.auth0.client.mgmt.AsyncManagementApi;
+import com.auth0.client.mgmt.types.ListUsersOffsetPaginatedResponseContent;
+import com.auth0.client.mgmt.types.ListUsersRequestParameters;
+import com.auth0.client.mgmt.types.UserResponseSchema;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import okhttp3.Headers;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ParallelOffsetPagerTest {
+    private static final int TOTAL = 23;
+    private static final int PER_PAGE = 5;
+    private static final long NOW = 1_700_000_000_000L;
+
+    private MockWebServer server;
+    private AsyncManagementApi client;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    @BeforeEach
+    public void setup() throws Exception {
+        server = new MockWebServer();
+        server.setDispatcher(new Dispatcher() {
+            @NotNull
+            @Override
+            public MockResponse dispatch(@NotNull RecordedRequest request) throws InterruptedException {
+                int current = inFlight.incrementAndGet();
+                maxInFlight.accumulateAndGet(current, Math::max);
+                try {
+                    int page = Integer.parseInt(request.getRequestUrl().queryParameter("page"));
+                    // slow enough for pages to overlap
+                    Thread.sleep(50);
+                    return new MockResponse().setResponseCode(200).setBody(pageBody(page));
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+            }
+        });
+        server.start();
+        client = AsyncManagementApi.builder()
+                .url(server.url("/").toString())
+                .token("test-token")
+                .build();
+    }
+
+    @AfterEach
+    public void teardown() throws Exception {
+        server.shutdown();
+    }
+
+    private static String pageBody(int page) {
+        String users = IntStream.range(page * PER_PAGE, Math.min(TOTAL, (page + 1) * PER_PAGE))
+                .mapToObj(i -> "{\"user_id\":\"user_" + i + "\"}")
+                .collect(Collectors.joining(","));
+        return "{\"start\":" + page * PER_PAGE + ",\"limit\":" + PER_PAGE + ",\"total\":" + TOTAL + ",\"users\":["
+                + users + "]}";
+    }
+
+    private List<String> listUserIds(int maxConcurrency) {
+        ParallelOffsetPager<UserResponseSchema> pager = ParallelOffsetPager.<UserResponseSchema>builder()
+                .perPage(PER_PAGE)
+                .maxConcurrency(maxConcurrency)
+                .build();
+        return pager.stream(
+                        page -> client.users()
+                                .withRawResponse()
+                                .list(ListUsersRequestParameters.builder()
+                                        .page(page)
+                                        .perPage(PER_PAGE)
+                                        .includeTotals(true)
+                                        .build()),
+                        (ListUsersOffsetPaginatedResponseContent response) ->
+                                response.getTotal().orElse(0.0))
+                .map(user -> user.getUserId().get())
+                .collect(Collectors.toList());
+    }
+
+    private static List<String> expectedIds() {
+        return IntStream.range(0, TOTAL).mapToObj(i -> "user_" + i).collect(Collectors.toList());
+    }
+
+    private static List<String> idsOfPages(int... pages) {
+        return Arrays.stream(pages)
+                .boxed()
+                .flatMap(page -> IntStream.range(page * PER_PAGE, Math.min(TOTAL, (page + 1) * PER_PAGE))
+                        .mapToObj(i -> "user_" + i))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * A page answered without going through a client, carrying the given response headers.
+     */
+    private static ManagementApiHttpResponse<SyncPagingIterable<String>> page(int page, String... headers) {
+        Response raw = new Response.Builder()
+                .request(new Request.Builder()
+                        .url("https://tenant.auth0.com/api/v2/users?page=" + page)
+                        .build())
+                .protocol(Protocol.HTTP_1_1)
+                .code(200)
+                .message("OK")
+                .headers(Headers.of(headers))
+                .build();
+        return new ManagementApiHttpResponse<>(
+                new SyncPagingIterable<>(true, idsOfPages(page), TOTAL, () -> null), raw);
+    }
+
+    private static Stream<String> stream(
+            ParallelOffsetPager.Builder<String> builder,
+            IntFunction<CompletableFuture<ManagementApiHttpResponse<SyncPagingIterable<String>>>> pageFetcher) {
+        return builder.perPage(PER_PAGE).build().stream(pageFetcher, (Integer total) -> total);
+    }
+
+    @Test
+    public void testOrderedFanOut() {
+        List<String> ids = listUserIds(3);
+
+        Assertions.assertEquals(expectedIds(), ids);
+        Assertions.assertEquals(5, server.getRequestCount());
+        Assertions.assertTrue(maxInFlight.get() > 1, "pages should be requested concurrently");
+        Assertions.assertTrue(maxInFlight.get() <= 3, "concurrency cap should be respected");
+    }
+
+    @Test
+    public void testUnorderedFanOut() {
+        Map<Integer, CompletableFuture<ManagementApiHttpResponse<SyncPagingIterable<String>>>> pending =
+                new HashMap<>();
+
+        List<String> ids = stream(
+                        ParallelOffsetPager.<String>builder().maxConcurrency(4).ordered(false), page -> {
+                            if (page == 0) {
+                                return CompletableFuture.completedFuture(page(0));
+                            }
+                            if (page == 4) {
+                                // pages 3, 2 and 1 answer in reverse order once the last page is requested, then page 4
+                                for (int earlier = 3; earlier >= 1; earlier--) {
+                                    pending.get(earlier).complete(page(earlier));
+                                }
+                                return CompletableFuture.completedFuture(page(4));
+                            }
+                            CompletableFuture<ManagementApiHttpResponse<SyncPagingIterable<String>>> response =
+                                    new CompletableFuture<>();
+                            pending.put(page, response);
+                            return response;
+                        })
+                .collect(Collectors.toList());
+
+        Assertions.assertEquals(idsOfPages(0, 3, 2, 1, 4), ids);
+    }
+
+    @Test
+    public void testPausesUntilRateLimitResets() {
+        AtomicLong now = new AtomicLong(NOW);
+        List<Long> sleeps = new ArrayList<>();
+        List<Long> requestedAt = new ArrayList<>();
+        ParallelOffsetPager.Builder<String> builder = ParallelOffsetPager.<String>builder()
+                .maxConcurrency(2)
+                .clock(now::get, millis -> {
+                    sleeps.add(millis);
+                    now.addAndGet(millis);
+                });
+
+        List<String> ids = stream(builder, page -> {
+                    requestedAt.add(now.get());
+                    // the first page uses up the quota, which resets two seconds later
+                    return CompletableFuture.completedFuture(
+                            page == 0
+                                    ? page(
+                                            0,
+                                            "x-ratelimit-remaining",
+                                            "0",
+                                            "x-ratelimit-reset",
+                                            String.valueOf(NOW / 1000 + 2))
+                                    : page(page));
+                })
+                .collect(Collectors.toList());
+
+        Assertions.assertEquals(expectedIds(), ids);
+        Assertions.assertEquals(Collections.singletonList(2000L), sleeps);
+        Assertions.assertEquals(Arrays.asList(NOW, NOW + 2000, NOW + 2000, NOW + 2000, NOW + 2000), requestedAt);
+    }
+
+    @Test
+    public void testPausesForOneSecondWithoutReset() {
+        AtomicLong now = new AtomicLong(NOW);
+        List<Long> sleeps = new ArrayList<>();
+        ParallelOffsetPager.Builder<String> builder = ParallelOffsetPager.<String>builder()
+                .maxConcurrency(2)
+                .clock(now::get, millis -> {
+                    sleeps.add(millis);
+                    now.addAndGet(millis);
+                });
+
+        List<String> ids = stream(
+                        builder,
+                        page -> CompletableFuture.completedFuture(
+                                page == 0 ? page(0, "x-ratelimit-remaining", "0") : page(page)))
+                .collect(Collectors.toList());
+
+        Assertions.assertEquals(expectedIds(), ids);
+        Assertions.assertEquals(Collections.singletonList(1000L), sleeps);
+    }
+
+    @Test
+    public void testSequentialWhenConcurrencyIsOne() {
+        List<String> ids = listUserIds(1);
+
+        Assertions.assertEquals(expectedIds(), ids);
+        Assertions.assertEquals(1, maxInFlight.get());
+    }
+}
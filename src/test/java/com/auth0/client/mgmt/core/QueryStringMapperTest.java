@@ -3,11 +3,17 @@
  */
 package com.auth0.client.mgmt.core;
 
+import com.auth0.client.mgmt.types.ActionBuildStatusEnum;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JsonNode;
+import java.math.BigInteger;
 import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import okhttp3.HttpUrl;
@@ -330,6 +336,77 @@ public final class QueryStringMapperTest {
         Assertions.assertEquals(expectedQueryString, actualQueryString);
     }
 
+    private enum SortOrder {
+        @JsonProperty("asc")
+        ASCENDING,
+        DESCENDING
+    }
+
+    @Test
+    public void testScalars_matchJsonTree() {
+        List<Object> values = new ArrayList<>();
+        values.add("created_at:1");
+        values.add(3);
+        values.add(Long.MAX_VALUE);
+        values.add((short) 7);
+        values.add(new BigInteger("123456789012345678901234567890"));
+        values.add(true);
+        values.add(2.5);
+        values.add(ActionBuildStatusEnum.BUILT);
+        values.add(ActionBuildStatusEnum.valueOf("unknown_status"));
+        values.add(SortOrder.ASCENDING);
+        values.add(SortOrder.DESCENDING);
+
+        for (Object value : values) {
+            JsonNode node = ObjectMappers.JSON_MAPPER.valueToTree(value);
+            String expected = "value="
+                    + HttpUrl.parse("http://www.fakewebsite.com/")
+                            .newBuilder()
+                            .addQueryParameter("value", node.isTextual() ? node.textValue() : node.toString())
+                            .build()
+                            .encodedQuery()
+                            .substring("value=".length());
+
+            Assertions.assertEquals(
+                    expected,
+                    queryString(
+                            new HashMap<String, Object>() {
+                                {
+                                    put("value", value);
+                                }
+                            },
+                            false),
+                    String.valueOf(value));
+        }
+    }
+
+    @Test
+    public void testObjectWithScalarsAndNestedArrays_arraysAsRepeats() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("page", 2);
+        map.put("fields", Arrays.asList("email", Arrays.asList("name", "nickname")));
+
+        Assertions.assertEquals(
+                "q%5Bpage%5D=2&q%5Bfields%5D=email&q%5Bfields%5D=name&q%5Bfields%5D=nickname",
+                queryString(
+                        new HashMap<String, Object>() {
+                            {
+                                put("q", map);
+                            }
+                        },
+                        true));
+        Assertions.assertEquals(
+                "q%5Bpage%5D=2&q%5Bfields%5D%5B0%5D=email&q%5Bfields%5D%5B1%5D%5B0%5D=name"
+                        + "&q%5Bfields%5D%5B1%5D%5B1%5D=nickname",
+                queryString(
+                        new HashMap<String, Object>() {
+                            {
+                                put("q", map);
+                            }
+                        },
+                        false));
+    }
+
     private static String queryString(Map<String, Object> params, boolean arraysAsRepeats) {
         HttpUrl.Builder httpUrl = HttpUrl.parse("http://www.fakewebsite.com/").newBuilder();
         params.forEach((paramName, paramValue) ->
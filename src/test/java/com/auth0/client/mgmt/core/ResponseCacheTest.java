@@ -0,0 +1,178 @@
+package com.auth0.client.mgmt.core;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ResponseCacheTest {
+    private MockWebServer server;
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+    private ResponseCache cache;
+    private OkHttpClient client;
+
+    @BeforeEach
+    public void setup() throws Exception {
+        server = new MockWebServer();
+        server.start();
+        cache = ResponseCache.builder()
+                .ttl("/tenants/settings", Duration.ofMinutes(10))
+                .ttl("/roles", Duration.ofMinutes(5))
+                .ttl("/roles/permissions", Duration.ZERO)
+                .maxEntries(2)
+                .clock(now::get)
+                .build();
+        client = new OkHttpClient.Builder()
+                .addInterceptor(new ResponseCacheInterceptor(cache))
+                .build();
+    }
+
+    @AfterEach
+    public void teardown() throws Exception {
+        server.shutdown();
+    }
+
+    private static MockResponse json(String body) {
+        return new MockResponse()
+                .setResponseCode(200)
+                .addHeader("Content-Type", "application/json")
+                .setBody(body);
+    }
+
+    private String get(String path, String... headers) throws Exception {
+        Request.Builder builder = new Request.Builder().url(server.url(path)).header("Authorization", "Bearer token");
+        for (int i = 0; i < headers.length; i += 2) {
+            builder.header(headers[i], headers[i + 1]);
+        }
+        try (Response response = client.newCall(builder.build()).execute()) {
+            return response.body().string();
+        }
+    }
+
+    @Test
+    public void servesCachedResponsesUntilTheyExpire() throws Exception {
+        server.enqueue(json("{\"name\":\"one\"}"));
+        server.enqueue(json("{\"name\":\"two\"}"));
+
+        Assertions.assertEquals("{\"name\":\"one\"}", get("/api/v2/tenants/settings"));
+        Assertions.assertEquals("{\"name\":\"one\"}", get("/api/v2/tenants/settings"));
+        Assertions.assertEquals(1, server.getRequestCount());
+
+        now.addAndGet(TimeUnit.MINUTES.toMillis(11));
+        Assertions.assertEquals("{\"name\":\"two\"}", get("/api/v2/tenants/settings"));
+        Assertions.assertEquals(2, server.getRequestCount());
+    }
+
+    @Test
+    public void revalidatesExpiredResponsesWithTheirETag() throws Exception {
+        server.enqueue(json("{\"name\":\"admin\"}").addHeader("ETag", "\"v1\""));
+        server.enqueue(new MockResponse().setResponseCode(304));
+
+        Assertions.assertEquals("{\"name\":\"admin\"}", get("/api/v2/roles/rol_1"));
+        now.addAndGet(TimeUnit.MINUTES.toMillis(6));
+        Assertions.assertEquals("{\"name\":\"admin\"}", get("/api/v2/roles/rol_1"));
+
+        server.takeRequest();
+        RecordedRequest revalidation = server.takeRequest();
+        Assertions.assertEquals("\"v1\"", revalidation.getHeader("If-None-Match"));
+
+        // renewed by the 304
+        Assertions.assertEquals("{\"name\":\"admin\"}", get("/api/v2/roles/rol_1"));
+        Assertions.assertEquals(2, server.getRequestCount());
+    }
+
+    @Test
+    public void invalidatesResourceOnWrite() throws Exception {
+        server.enqueue(json("{\"name\":\"admin\"}"));
+        server.enqueue(json("{\"name\":\"settings\"}"));
+        server.enqueue(json("{}"));
+        server.enqueue(json("{\"name\":\"renamed\"}"));
+
+        get("/api/v2/roles/rol_1");
+        get("/api/v2/tenants/settings");
+        Request patch = new Request.Builder()
+                .url(server.url("/api/v2/roles/rol_1"))
+                .patch(RequestBody.create(new byte[0], null))
+                .build();
+        client.newCall(patch).execute().close();
+
+        Assertions.assertEquals(1, cache.size());
+        Assertions.assertEquals("{\"name\":\"renamed\"}", get("/api/v2/roles/rol_1"));
+        Assertions.assertEquals("{\"name\":\"settings\"}", get("/api/v2/tenants/settings"));
+        Assertions.assertEquals(4, server.getRequestCount());
+    }
+
+    @Test
+    public void doesNotCacheResponseOfGetInFlightDuringWrite() throws Exception {
+        server.enqueue(json("{}"));
+        server.enqueue(json("{\"name\":\"admin\"}"));
+        server.enqueue(json("{\"name\":\"renamed\"}"));
+        Request patch = new Request.Builder()
+                .url(server.url("/api/v2/roles/rol_1"))
+                .patch(RequestBody.create(new byte[0], null))
+                .build();
+        AtomicBoolean writeDuringGet = new AtomicBoolean(true);
+        AtomicReference<OkHttpClient> racing = new AtomicReference<>();
+        racing.set(new OkHttpClient.Builder()
+                .addInterceptor(new ResponseCacheInterceptor(cache))
+                .addInterceptor(chain -> {
+                    if ("GET".equals(chain.request().method()) && writeDuringGet.getAndSet(false)) {
+                        // the role is updated once the GET has passed the cache
+                        racing.get().newCall(patch).execute().close();
+                    }
+                    return chain.proceed(chain.request());
+                })
+                .build());
+        client = racing.get();
+
+        Assertions.assertEquals("{\"name\":\"admin\"}", get("/api/v2/roles/rol_1"));
+        Assertions.assertEquals(0, cache.size());
+        Assertions.assertEquals("{\"name\":\"renamed\"}", get("/api/v2/roles/rol_1"));
+        Assertions.assertEquals(3, server.getRequestCount());
+    }
+
+    @Test
+    public void skipsUncachedPathsBypassAndEvictsLeastRecentlyUsed() throws Exception {
+        for (int i = 0; i < 6; i++) {
+            server.enqueue(json("{\"n\":" + i + "}"));
+        }
+
+        get("/api/v2/roles/permissions");
+        get("/api/v2/roles/permissions");
+        get("/api/v2/users/auth0|1");
+        Assertions.assertEquals(3, server.getRequestCount());
+        Assertions.assertEquals(0, cache.size());
+
+        get("/api/v2/roles/rol_1");
+        Assertions.assertEquals("{\"n\":4}", get("/api/v2/roles/rol_1", "Cache-Control", "no-cache"));
+        Assertions.assertEquals("{\"n\":4}", get("/api/v2/roles/rol_1"));
+        Assertions.assertEquals(5, server.getRequestCount());
+
+        get("/api/v2/tenants/settings");
+        get("/api/v2/roles/rol_1");
+        server.enqueue(json("{\"n\":6}"));
+        get("/api/v2/roles/rol_2");
+        Assertions.assertEquals(2, cache.size());
+        // settings was the least recently used entry and got evicted
+        server.enqueue(json("{\"n\":7}"));
+        Assertions.assertEquals("{\"n\":7}", get("/api/v2/tenants/settings"));
+    }
+
+    @Test
+    public void bypassCacheAddsNoCacheHeader() {
+        RequestOptions options = RequestOptions.builder().bypassCache().build();
+        Assertions.assertEquals("no-cache", options.getHeaders().get("Cache-Control"));
+    }
+}
@@ -0,0 +1,229 @@
+package com.auth0.client.mgmt.core;
+
+import com.auth0.client.mgmt.ManagementApi;
+import com.auth0.client.mgmt.types.GetUserResponseContent;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import okhttp3.Call;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class SingleFlightInterceptorTest {
+    private MockWebServer server;
+    private ExecutorService executor;
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicInteger requests = new AtomicInteger();
+    private String contentType = "application/json";
+
+    @BeforeEach
+    public void setup() throws Exception {
+        server = new MockWebServer();
+        server.setDispatcher(new Dispatcher() {
+            @NotNull
+            @Override
+            public MockResponse dispatch(@NotNull RecordedRequest request) throws InterruptedException {
+                requests.incrementAndGet();
+                release.await(5, TimeUnit.SECONDS);
+                return new MockResponse()
+                        .setResponseCode(200)
+                        .addHeader("Content-Type", contentType)
+                        .setBody("{\"user_id\":\"auth0|1\",\"path\":\"" + request.getPath() + "\"}");
+            }
+        });
+        server.start();
+        executor = Executors.newFixedThreadPool(8);
+    }
+
+    @AfterEach
+    public void teardown() throws Exception {
+        executor.shutdownNow();
+        server.shutdown();
+    }
+
+    private OkHttpClient client() {
+        return new OkHttpClient.Builder()
+                .addInterceptor(new SingleFlightInterceptor())
+                .build();
+    }
+
+    private List<Future<String>> send(OkHttpClient client, int count, String path, String method) {
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            String requestId = "req-" + i;
+            results.add(executor.submit(() -> {
+                Request.Builder builder = new Request.Builder()
+                        .url(server.url(path))
+                        .header("Authorization", "Bearer token")
+                        .header("X-Request-ID", requestId);
+                if (method.equals("POST")) {
+                    builder.post(okhttp3.RequestBody.create(new byte[0], null));
+                }
+                try (Response response = client.newCall(builder.build()).execute()) {
+                    return response.body().string();
+                }
+            }));
+        }
+        return results;
+    }
+
+    private void awaitFirstRequest() throws InterruptedException {
+        while (requests.get() == 0) {
+            Thread.sleep(5);
+        }
+        // give the other callers time to join the flight
+        Thread.sleep(100);
+    }
+
+    @Test
+    public void testCoalescesConcurrentIdenticalGets() throws Exception {
+        List<Future<String>> results = send(client(), 5, "/api/v2/users/1", "GET");
+        awaitFirstRequest();
+        release.countDown();
+
+        for (Future<String> result : results) {
+            Assertions.assertTrue(result.get(5, TimeUnit.SECONDS).contains("/api/v2/users/1"));
+        }
+        Assertions.assertEquals(1, requests.get());
+    }
+
+    @Test
+    public void testDoesNotCoalesceDifferentUrlsOrPosts() throws Exception {
+        OkHttpClient client = client();
+        List<Future<String>> results = new ArrayList<>();
+        results.addAll(send(client, 1, "/api/v2/users/1", "GET"));
+        results.addAll(send(client, 1, "/api/v2/users/2", "GET"));
+        results.addAll(send(client, 2, "/api/v2/users/1", "POST"));
+        release.countDown();
+
+        for (Future<String> result : results) {
+            result.get(5, TimeUnit.SECONDS);
+        }
+        Assertions.assertEquals(4, requests.get());
+    }
+
+    @Test
+    public void testSendsWaitingRequestsWhenResponseCannotBeShared() throws Exception {
+        contentType = "application/octet-stream";
+        List<Future<String>> results = send(client(), 3, "/export.gz", "GET");
+        awaitFirstRequest();
+        release.countDown();
+
+        for (Future<String> result : results) {
+            result.get(5, TimeUnit.SECONDS);
+        }
+        Assertions.assertEquals(3, requests.get());
+    }
+
+    private Future<String> send(Call call) {
+        return executor.submit(() -> {
+            try (Response response = call.execute()) {
+                return response.body().string();
+            }
+        });
+    }
+
+    private Request get(String path) {
+        return new Request.Builder()
+                .url(server.url(path))
+                .header("Authorization", "Bearer token")
+                .build();
+    }
+
+    @Test
+    public void testDoesNotCoalesceRequestsWithDifferentRetryLimits() throws Exception {
+        OkHttpClient client = client();
+        List<Future<String>> results = new ArrayList<>();
+        results.add(send(client.newCall(get("/api/v2/users/1"))));
+        results.add(send(client.newCall(get("/api/v2/users/1")
+                .newBuilder()
+                .tag(RetryInterceptor.MaxRetriesOverride.class, new RetryInterceptor.MaxRetriesOverride(0))
+                .build())));
+        awaitFirstRequest();
+        release.countDown();
+
+        for (Future<String> result : results) {
+            result.get(5, TimeUnit.SECONDS);
+        }
+        Assertions.assertEquals(2, requests.get());
+    }
+
+    @Test
+    public void testWaitingRequestHonoursItsOwnCallTimeout() throws Exception {
+        OkHttpClient client = client();
+        Future<String> leader = send(client.newCall(get("/api/v2/users/1")));
+        awaitFirstRequest();
+
+        Call waiter = client.newCall(get("/api/v2/users/1"));
+        waiter.timeout().timeout(200, TimeUnit.MILLISECONDS);
+        ExecutionException failure = Assertions.assertThrows(
+                ExecutionException.class, () -> send(waiter).get(1, TimeUnit.SECONDS));
+        Assertions.assertTrue(failure.getCause() instanceof InterruptedIOException);
+
+        release.countDown();
+        Assertions.assertTrue(leader.get(5, TimeUnit.SECONDS).contains("/api/v2/users/1"));
+        Assertions.assertEquals(1, requests.get());
+    }
+
+    @Test
+    public void testWaitingRequestsStartNewCallWhenSharedCallIsCanceled() throws Exception {
+        OkHttpClient client = client();
+        Call leader = client.newCall(get("/api/v2/users/1"));
+        Future<String> leaderResult = send(leader);
+        awaitFirstRequest();
+        List<Future<String>> results = send(client, 3, "/api/v2/users/1", "GET");
+        Thread.sleep(100);
+
+        leader.cancel();
+        ExecutionException failure =
+                Assertions.assertThrows(ExecutionException.class, () -> leaderResult.get(5, TimeUnit.SECONDS));
+        Assertions.assertTrue(failure.getCause() instanceof IOException);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            Assertions.assertTrue(result.get(5, TimeUnit.SECONDS).contains("/api/v2/users/1"));
+        }
+        Assertions.assertEquals(2, requests.get());
+    }
+
+    @Test
+    public void testManagementApiCoalescesLookups() throws Exception {
+        ManagementApi client = ManagementApi.builder()
+                .url(server.url("/api/v2").toString())
+                .token("test-token")
+                .coalesceGetRequests(true)
+                .build();
+
+        List<CompletableFuture<GetUserResponseContent>> results = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            results.add(CompletableFuture.supplyAsync(() -> client.users().get("auth0|1"), executor));
+        }
+        awaitFirstRequest();
+        release.countDown();
+
+        for (CompletableFuture<GetUserResponseContent> result : results) {
+            Assertions.assertEquals(
+                    "auth0|1", result.get(5, TimeUnit.SECONDS).getUserId().get());
+        }
+        Assertions.assertEquals(1, requests.get());
+    }
+}
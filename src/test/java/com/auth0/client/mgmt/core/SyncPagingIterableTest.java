@@ -0,0 +1,96 @@
+package com.auth0.client.mgmt.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public final class SyncPagingIterableTest {
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void setup() {
+        executor = Executors.newCachedThreadPool();
+    }
+
+    @AfterEach
+    public void teardown() {
+        executor.shutdownNow();
+    }
+
+    private static SyncPagingIterable<Integer> page(List<List<Integer>> pages, int index, AtomicInteger fetches) {
+        List<Integer> items = index < pages.size() ? pages.get(index) : Collections.<Integer>emptyList();
+        return new SyncPagingIterable<>(true, items, null, () -> {
+            fetches.incrementAndGet();
+            return page(pages, index + 1, fetches);
+        });
+    }
+
+    @Test
+    public void prefetchingIteratorReturnsAllItemsInOrder() {
+        List<List<Integer>> pages = Arrays.asList(Arrays.asList(1, 2), Arrays.asList(3), Arrays.asList(4, 5, 6));
+
+        List<Integer> items =
+                page(pages, 0, new AtomicInteger()).streamItems(2, executor).collect(Collectors.toList());
+
+        Assertions.assertEquals(Arrays.asList(1, 2, 3, 4, 5, 6), items);
+    }
+
+    @Test
+    public void prefetchingIteratorFetchesAheadOfConsumption() throws Exception {
+        CountDownLatch secondPageRequested = new CountDownLatch(1);
+        SyncPagingIterable<Integer> first = new SyncPagingIterable<>(true, Arrays.asList(1), null, () -> {
+            secondPageRequested.countDown();
+            return new SyncPagingIterable<>(false, Arrays.asList(2), null, () -> null);
+        });
+
+        Iterator<Integer> iterator = first.prefetchingIterator(1, executor);
+
+        Assertions.assertTrue(secondPageRequested.await(5, TimeUnit.SECONDS));
+        List<Integer> items = new ArrayList<>();
+        iterator.forEachRemaining(items::add);
+        Assertions.assertEquals(Arrays.asList(1, 2), items);
+    }
+
+    @Test
+    public void prefetchingIteratorStopsAtLastPage() {
+        AtomicInteger fetches = new AtomicInteger();
+        List<List<Integer>> pages = Arrays.asList(Arrays.asList(1), Arrays.asList(2));
+
+        List<Integer> items = page(pages, 0, fetches).streamItems(4, executor).collect(Collectors.toList());
+
+        Assertions.assertEquals(Arrays.asList(1, 2), items);
+        // the empty third page ends the chain; nothing past it is requested
+        Assertions.assertEquals(2, fetches.get());
+    }
+
+    @Test
+    public void prefetchingIteratorPropagatesFailures() {
+        SyncPagingIterable<Integer> first = new SyncPagingIterable<>(true, Arrays.asList(1), null, () -> {
+            throw new ManagementException("boom");
+        });
+
+        Iterator<Integer> iterator = first.prefetchingIterator(1, executor);
+
+        Assertions.assertEquals(1, iterator.next());
+        Assertions.assertThrows(ManagementException.class, iterator::hasNext);
+    }
+
+    @Test
+    public void prefetchingIteratorRejectsInvalidDepth() {
+        SyncPagingIterable<Integer> first = new SyncPagingIterable<>(false, Arrays.asList(1), null, () -> null);
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> first.prefetchingIterator(0, executor));
+    }
+}
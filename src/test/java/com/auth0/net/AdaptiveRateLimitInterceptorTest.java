@@ -0,0 +1,206 @@
+package com.auth0.net;
+
+import com.auth0.client.mgmt.core.ClientOptions;
+import com.auth0.client.mgmt.core.Environment;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class AdaptiveRateLimitInterceptorTest {
+    private static final long NOW = 1_700_000_000_000L;
+
+    private MockWebServer server;
+    private final List<Long> sleeps = Collections.synchronizedList(new ArrayList<>());
+    private AdaptiveRateLimitInterceptor interceptor;
+    private OkHttpClient client;
+
+    @BeforeEach
+    public void setup() throws Exception {
+        server = new MockWebServer();
+        server.start();
+        interceptor = new AdaptiveRateLimitInterceptor(Duration.ofSeconds(60), () -> NOW, sleeps::add);
+        client = new OkHttpClient.Builder().addInterceptor(interceptor).build();
+    }
+
+    @AfterEach
+    public void teardown() throws Exception {
+        server.shutdown();
+    }
+
+    private void get(String path) throws Exception {
+        try (Response response = client.newCall(
+                        new Request.Builder().url(server.url(path)).build())
+                .execute()) {
+            Assertions.assertEquals(200, response.code());
+        }
+    }
+
+    private static MockResponse rateLimited(long limit, long remaining, long resetInSeconds) {
+        return new MockResponse()
+                .setResponseCode(200)
+                .addHeader("X-RateLimit-Limit", limit)
+                .addHeader("X-RateLimit-Remaining", remaining)
+                .addHeader("X-RateLimit-Reset", NOW / 1000 + resetInSeconds);
+    }
+
+    @Test
+    public void testDoesNotDelayUntilLimitsAreKnown() throws Exception {
+        server.enqueue(new MockResponse().setResponseCode(200));
+        server.enqueue(new MockResponse().setResponseCode(200));
+
+        get("/api/v2/users");
+        get("/api/v2/users");
+
+        Assertions.assertTrue(sleeps.isEmpty());
+    }
+
+    @Test
+    public void testDoesNotDelayWhileTokensRemain() throws Exception {
+        server.enqueue(rateLimited(10, 8, 2));
+        server.enqueue(rateLimited(10, 7, 3));
+        server.enqueue(new MockResponse().setResponseCode(200));
+
+        get("/api/v2/users");
+        get("/api/v2/users");
+        get("/api/v2/users");
+
+        Assertions.assertTrue(sleeps.isEmpty());
+    }
+
+    @Test
+    public void testWaitsForRefillWhenBucketIsEmpty() throws Exception {
+        // 10 tokens refill over 10 seconds, so the next one is due in a second
+        server.enqueue(rateLimited(10, 0, 10));
+        server.enqueue(new MockResponse().setResponseCode(200));
+
+        get("/api/v2/users");
+        get("/api/v2/roles");
+
+        Assertions.assertEquals(1, sleeps.size());
+        Assertions.assertEquals(1000L, sleeps.get(0));
+    }
+
+    @Test
+    public void testDoesNotWaitLongerThanMaxDelay() throws Exception {
+        // one token per 100 seconds
+        server.enqueue(rateLimited(10, 0, 1000));
+        server.enqueue(new MockResponse().setResponseCode(200));
+
+        get("/api/v2/users");
+        get("/api/v2/users");
+
+        Assertions.assertTrue(sleeps.isEmpty());
+    }
+
+    @Test
+    public void testWaitsForExhaustedQuotaOnSameEndpoint() throws Exception {
+        server.enqueue(new MockResponse()
+                .setResponseCode(200)
+                .addHeader("auth0-client-quota-limit", "b=per_hour;q=10;r=0;t=30,b=per_day;q=100;r=50;t=3600"));
+        server.enqueue(new MockResponse().setResponseCode(200));
+        server.enqueue(new MockResponse().setResponseCode(200));
+
+        get("/oauth/token");
+        get("/userinfo");
+        Assertions.assertTrue(sleeps.isEmpty(), "other endpoints are not limited by the quota");
+
+        get("/oauth/token");
+        Assertions.assertEquals(1, sleeps.size());
+        Assertions.assertEquals(30_000L, sleeps.get(0));
+    }
+
+    @Test
+    public void testKeepsSeparateLimitsPerApi() throws Exception {
+        server.enqueue(rateLimited(10, 0, 10));
+        server.enqueue(new MockResponse().setResponseCode(200));
+        server.enqueue(new MockResponse().setResponseCode(200));
+
+        get("/userinfo");
+        get("/api/v2/users");
+        Assertions.assertTrue(sleeps.isEmpty(), "the Management API is not limited by the Authentication API");
+
+        get("/oauth/token");
+        Assertions.assertEquals(Collections.singletonList(1000L), sleeps);
+    }
+
+    @Test
+    public void testReservedRequestIsNotDelayedAgain() throws Exception {
+        server.enqueue(rateLimited(10, 0, 10));
+        server.enqueue(new MockResponse().setResponseCode(200));
+        get("/api/v2/users");
+
+        AdaptiveRateLimitInterceptor.Reservation reservation = interceptor.reserve(
+                new Request.Builder().url(server.url("/api/v2/users")).build());
+        Assertions.assertEquals(1000L, reservation.delayMillis());
+        client.newCall(reservation.request()).execute().close();
+
+        Assertions.assertTrue(sleeps.isEmpty());
+    }
+
+    @Test
+    public void testAsyncManagementRequestsWaitOnRetryScheduler() throws Exception {
+        server.enqueue(rateLimited(10, 0, 10));
+        server.enqueue(new MockResponse().setResponseCode(200));
+        List<Long> scheduled = Collections.synchronizedList(new ArrayList<>());
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1) {
+            @Override
+            public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+                scheduled.add(unit.toMillis(delay));
+                return super.schedule(command, 0, unit);
+            }
+        };
+        try {
+            ClientOptions options = ClientOptions.builder()
+                    .environment(Environment.custom(server.url("/api/v2").toString()))
+                    .addInterceptor(interceptor)
+                    .asyncRetryScheduler(scheduler)
+                    .build();
+            Request request =
+                    new Request.Builder().url(server.url("/api/v2/users")).build();
+            options.httpClient().newCall(request).execute().close();
+
+            CompletableFuture<Integer> status = new CompletableFuture<>();
+            options.enqueue(options.httpClient(), request, null, status, new Callback() {
+                @Override
+                public void onResponse(Call call, Response response) {
+                    response.close();
+                    status.complete(response.code());
+                }
+
+                @Override
+                public void onFailure(Call call, IOException e) {
+                    status.completeExceptionally(e);
+                }
+            });
+
+            Assertions.assertEquals(200, status.get(5, TimeUnit.SECONDS));
+            Assertions.assertEquals(Collections.singletonList(1000L), scheduled);
+            Assertions.assertTrue(sleeps.isEmpty(), "no dispatcher thread should wait for the rate limit");
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testRejectsNegativeMaxDelay() {
+        Assertions.assertThrows(
+                IllegalArgumentException.class, () -> new AdaptiveRateLimitInterceptor(Duration.ofSeconds(-1)));
+    }
+}
@@ -0,0 +1,142 @@
+package com.auth0.net;
+
+import com.auth0.client.mgmt.ManagementApi;
+import com.auth0.net.client.Auth0HttpRequest;
+import com.auth0.net.client.DefaultHttpClient;
+import com.auth0.net.client.HttpMethod;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import okhttp3.HttpUrl;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class MetricsInterceptorTest {
+    private MockWebServer server;
+    private final RecordingMetrics metrics = new RecordingMetrics();
+
+    @BeforeEach
+    public void setup() throws Exception {
+        server = new MockWebServer();
+        server.start();
+    }
+
+    @AfterEach
+    public void teardown() throws Exception {
+        server.shutdown();
+    }
+
+    @Test
+    public void testTemplatesIdentifierSegments() {
+        Assertions.assertEquals(
+                "/api/v2/users/{id}/roles",
+                MetricsInterceptor.endpoint(HttpUrl.get("https://tenant.auth0.com/api/v2/users/auth0%7C123/roles")));
+        Assertions.assertEquals(
+                "/api/v2/connections/{id}",
+                MetricsInterceptor.endpoint(HttpUrl.get("https://tenant.auth0.com/api/v2/connections/con_AbC1")));
+        Assertions.assertEquals(
+                "/api/v2/users-by-email",
+                MetricsInterceptor.endpoint(HttpUrl.get("https://tenant.auth0.com/api/v2/users-by-email?email=a@b.c")));
+        Assertions.assertEquals(
+                "/.well-known/jwks.json",
+                MetricsInterceptor.endpoint(HttpUrl.get("https://tenant.auth0.com/.well-known/jwks.json")));
+        Assertions.assertEquals("/", MetricsInterceptor.endpoint(HttpUrl.get("https://tenant.auth0.com/")));
+    }
+
+    @Test
+    public void testDefaultHttpClientReportsRequestsRetriesAndRateLimits() throws Exception {
+        server.enqueue(new MockResponse().setResponseCode(429));
+        server.enqueue(new MockResponse()
+                .setResponseCode(200)
+                .addHeader("x-ratelimit-limit", "50")
+                .addHeader("x-ratelimit-remaining", "49")
+                .addHeader("x-ratelimit-reset", "1700000000")
+                .setBody("{}"));
+        DefaultHttpClient client =
+                DefaultHttpClient.newBuilder().withMetrics(metrics).build();
+
+        client.sendRequest(Auth0HttpRequest.newBuilder(server.url("/userinfo").toString(), HttpMethod.GET)
+                .build());
+
+        Assertions.assertEquals(Collections.singletonList("GET /userinfo"), metrics.started);
+        Assertions.assertEquals(Collections.singletonList("GET /userinfo 200"), metrics.requests);
+        Assertions.assertEquals(Collections.singletonList("GET /userinfo 429 #1"), metrics.retries);
+        Assertions.assertEquals(Collections.singletonList("/userinfo 49/50 1700000000"), metrics.rateLimits);
+        Assertions.assertTrue(metrics.durations.get(0) > 0);
+    }
+
+    @Test
+    public void testManagementApiReportsRetriesAndFailures() throws Exception {
+        server.enqueue(new MockResponse().setResponseCode(503));
+        server.enqueue(new MockResponse().setResponseCode(404).setBody("{}"));
+        ManagementApi client = ManagementApi.builder()
+                .url(server.url("/api/v2").toString())
+                .token("test-token")
+                .maxRetries(1)
+                .metrics(metrics)
+                .build();
+
+        Assertions.assertThrows(RuntimeException.class, () -> client.users().get("auth0|123"));
+
+        Assertions.assertEquals(Collections.singletonList("GET /api/v2/users/{id}"), metrics.started);
+        Assertions.assertEquals(Collections.singletonList("GET /api/v2/users/{id} 404"), metrics.requests);
+        Assertions.assertEquals(Collections.singletonList("GET /api/v2/users/{id} 503 #1"), metrics.retries);
+    }
+
+    @Test
+    public void testManagementApiReportsTokenFetches() throws Exception {
+        server.enqueue(
+                new MockResponse().setResponseCode(200).setBody("{\"access_token\":\"token\",\"expires_in\":86400}"));
+        server.enqueue(new MockResponse().setResponseCode(200).setBody("{\"user_id\":\"auth0|123\"}"));
+        ManagementApi client = ManagementApi.builder()
+                .url(server.url("/api/v2").toString())
+                .clientCredentials("client-id", "client-secret")
+                .metrics(metrics)
+                .build();
+
+        client.users().get("auth0|123");
+
+        Assertions.assertEquals(Collections.singletonList(true), metrics.tokenFetches);
+        // token requests are reported as token fetches only, not as API requests
+        Assertions.assertEquals(Collections.singletonList("GET /api/v2/users/{id} 200"), metrics.requests);
+    }
+
+    private static final class RecordingMetrics implements HttpMetrics {
+        private final List<String> started = new ArrayList<>();
+        private final List<String> requests = new ArrayList<>();
+        private final List<Long> durations = new ArrayList<>();
+        private final List<String> retries = new ArrayList<>();
+        private final List<String> rateLimits = new ArrayList<>();
+        private final List<Boolean> tokenFetches = new ArrayList<>();
+
+        @Override
+        public synchronized void recordRequestStarted(String method, String endpoint) {
+            started.add(method + " " + endpoint);
+        }
+
+        @Override
+        public synchronized void recordRequest(String method, String endpoint, int statusCode, long durationNanos) {
+            requests.add(method + " " + endpoint + " " + statusCode);
+            durations.add(durationNanos);
+        }
+
+        @Override
+        public synchronized void recordRetry(String method, String endpoint, int statusCode, int attempt) {
+            retries.add(method + " " + endpoint + " " + statusCode + " #" + attempt);
+        }
+
+        @Override
+        public synchronized void recordRateLimit(String endpoint, long limit, long remaining, long resetEpochSecond) {
+            rateLimits.add(endpoint + " " + remaining + "/" + limit + " " + resetEpochSecond);
+        }
+
+        @Override
+        public synchronized void recordTokenFetch(long durationNanos, boolean successful) {
+            tokenFetches.add(successful);
+        }
+    }
+}
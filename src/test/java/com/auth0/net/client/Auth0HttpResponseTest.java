@@ -0,0 +1,95 @@
+package com.auth0.net.client;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+import okhttp3.Headers;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class Auth0HttpResponseTest {
+
+    @Test
+    public void testDecodesByteBodyOnlyWhenRequested() {
+        byte[] bytes = "{\"name\":\"Zoë\"}".getBytes(StandardCharsets.UTF_8);
+        Auth0HttpResponse response = Auth0HttpResponse.newBuilder()
+                .withStatusCode(200)
+                .withBody(bytes)
+                .build();
+
+        Assertions.assertSame(bytes, response.getBodyBytes());
+        Assertions.assertEquals("{\"name\":\"Zoë\"}", response.getBody());
+    }
+
+    @Test
+    public void testHandsOutBodyStreamOnceThenBuffers() throws Exception {
+        AtomicBoolean closed = new AtomicBoolean();
+        InputStream stream = new ByteArrayInputStream("{}".getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public void close() {
+                closed.set(true);
+            }
+        };
+        Auth0HttpResponse response = Auth0HttpResponse.newBuilder()
+                .withStatusCode(200)
+                .withBodyStream(stream)
+                .build();
+
+        Assertions.assertEquals("{}", response.getBody());
+        Assertions.assertTrue(closed.get());
+        try (InputStream again = response.getBodyStream()) {
+            Assertions.assertEquals('{', again.read());
+        }
+    }
+
+    @Test
+    public void testStringBodyStillSupported() {
+        Auth0HttpResponse response = Auth0HttpResponse.newBuilder()
+                .withStatusCode(200)
+                .withBody("ok")
+                .build();
+
+        Assertions.assertArrayEquals("ok".getBytes(StandardCharsets.UTF_8), response.getBodyBytes());
+        Assertions.assertNull(
+                Auth0HttpResponse.newBuilder().withStatusCode(204).build().getBodyStream());
+    }
+
+    @Test
+    public void testOkHttpHeadersAreReadCaseInsensitively() {
+        Auth0HttpResponse response = Auth0HttpResponse.newBuilder()
+                .withStatusCode(200)
+                .withHeaders(Headers.of("X-RateLimit-Limit", "10", "Retry-After", "1", "retry-after", "2"))
+                .build();
+
+        Assertions.assertEquals("10", response.getHeader("x-ratelimit-limit"));
+        Assertions.assertEquals("2", response.getHeader("Retry-After"));
+        Assertions.assertEquals("none", response.getHeader("x-missing", "none"));
+        Assertions.assertEquals(2, response.getHeaders().size());
+        Assertions.assertThrows(
+                UnsupportedOperationException.class, () -> response.getHeaders().put("x-other", "1"));
+    }
+
+    @Test
+    public void testDefaultHttpClientKeepsBodyAsBytes() throws Exception {
+        MockWebServer server = new MockWebServer();
+        server.start();
+        try {
+            server.enqueue(new MockResponse()
+                    .setResponseCode(200)
+                    .addHeader("X-RateLimit-Remaining", "9")
+                    .setBody("{\"ok\":true}"));
+            Auth0HttpResponse response = DefaultHttpClient.newBuilder()
+                    .build()
+                    .sendRequest(Auth0HttpRequest.newBuilder(server.url("/").toString(), HttpMethod.GET)
+                            .build());
+
+            Assertions.assertEquals("9", response.getHeader("x-ratelimit-remaining"));
+            Assertions.assertArrayEquals("{\"ok\":true}".getBytes(StandardCharsets.UTF_8), response.getBodyBytes());
+        } finally {
+            server.shutdown();
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.auth0.utils.tokens;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.auth0.exception.IdTokenValidationException;
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTCreator;
+import com.auth0.jwt.algorithms.Algorithm;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+public class IdTokenVerifierTest {
+    private static final String ISSUER = "https://tenant.auth0.com/";
+    private static final String AUDIENCE = "client-id";
+    private static final String SECRET = "a-secret-that-is-long-enough-for-hs256";
+    private static final long NOW = 1_700_000_000_000L;
+
+    private static JWTCreator.Builder token() {
+        return JWT.create()
+                .withIssuer(ISSUER)
+                .withSubject("auth0|1")
+                .withAudience(AUDIENCE)
+                .withIssuedAt(new Date(NOW))
+                .withExpiresAt(new Date(NOW + TimeUnit.HOURS.toMillis(1)));
+    }
+
+    private static String sign(JWTCreator.Builder token) {
+        return token.sign(Algorithm.HMAC256(SECRET));
+    }
+
+    private static IdTokenVerifier.Builder verifier() {
+        return IdTokenVerifier.init(ISSUER, AUDIENCE, SignatureVerifier.forHS256(SECRET))
+                .withClock(new Date(NOW));
+    }
+
+    @Test
+    public void shouldAcceptValidToken() {
+        assertDoesNotThrow(() -> verifier()
+                .build()
+                .verify(sign(token().withClaim("nonce", "n").withClaim("auth_time", new Date(NOW))), "n", 60));
+    }
+
+    @Test
+    public void shouldApplyLeewayToExpiration() {
+        String token = sign(token().withExpiresAt(new Date(NOW - TimeUnit.SECONDS.toMillis(30))));
+
+        assertDoesNotThrow(() -> verifier().build().verify(token));
+        IdTokenValidationException e = assertThrows(
+                IdTokenValidationException.class,
+                () -> verifier().withLeeway(10).build().verify(token));
+        assertThat(
+                e.getMessage(),
+                is(String.format(
+                        "Expiration Time (exp) claim error in the ID token; current time (%d) is after expiration time (%d)",
+                        NOW / 1000, NOW / 1000 - 20)));
+    }
+
+    @Test
+    public void shouldRejectMissingIssuedAt() {
+        String token = sign(JWT.create()
+                .withIssuer(ISSUER)
+                .withSubject("auth0|1")
+                .withAudience(AUDIENCE)
+                .withExpiresAt(new Date(NOW + TimeUnit.HOURS.toMillis(1))));
+
+        IdTokenValidationException e = assertThrows(
+                IdTokenValidationException.class, () -> verifier().build().verify(token));
+        assertThat(e.getMessage(), containsString("Issued At (iat)"));
+    }
+
+    @Test
+    public void shouldRejectStaleAuthenticationTime() {
+        String token = sign(token().withClaim("auth_time", new Date(NOW - TimeUnit.MINUTES.toMillis(10))));
+
+        assertDoesNotThrow(() -> verifier().build().verify(token, null, 600));
+        IdTokenValidationException e = assertThrows(
+                IdTokenValidationException.class, () -> verifier().build().verify(token, null, 500));
+        assertThat(e.getMessage(), containsString("Authentication Time (auth_time)"));
+    }
+
+    @Test
+    public void shouldNormalizeOrganizationName() {
+        IdTokenVerifier verifier = verifier().withOrganization(" Acme ").build();
+
+        assertDoesNotThrow(() -> verifier.verify(sign(token().withClaim("org_name", "acme"))));
+        IdTokenValidationException e = assertThrows(
+                IdTokenValidationException.class, () -> verifier.verify(sign(token().withClaim("org_name", "other"))));
+        assertThat(e.getMessage(), containsString("expected \" Acme \" but found \"other\""));
+    }
+
+    @Test
+    public void shouldVerifyOrganizationId() {
+        IdTokenVerifier verifier = verifier().withOrganization("org_123").build();
+
+        assertDoesNotThrow(() -> verifier.verify(sign(token().withClaim("org_id", "org_123"))));
+        assertThrows(
+                IdTokenValidationException.class, () -> verifier.verify(sign(token().withClaim("org_id", "org_456"))));
+    }
+
+    @Test
+    public void shouldReportFailuresOfBatch() {
+        List<String> tokens = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            tokens.add(sign(token().withSubject("auth0|" + i)));
+        }
+        String wrongAudience = sign(token().withAudience("other"));
+        String badSignature = token().sign(Algorithm.HMAC256("another-secret-that-is-long-enough"));
+        tokens.add(wrongAudience);
+        tokens.add(badSignature);
+
+        Map<String, IdTokenValidationException> failures = verifier().build().verifyAll(tokens);
+
+        assertThat(failures.size(), is(2));
+        assertThat(failures.get(wrongAudience).getMessage(), containsString("Audience (aud) claim mismatch"));
+        assertThat(failures.get(badSignature).getMessage(), is("Invalid ID token signature"));
+    }
+
+    @Test
+    public void shouldSkipSignatureCheckOfCachedTokens() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        KeyPair keyPair = generator.generateKeyPair();
+        AtomicInteger keyLookups = new AtomicInteger();
+        SignatureVerifier signatureVerifier = SignatureVerifier.forRS256(keyId -> {
+            keyLookups.incrementAndGet();
+            return (RSAPublicKey) keyPair.getPublic();
+        });
+        Algorithm rs256 = Algorithm.RSA256((RSAPublicKey) keyPair.getPublic(), (RSAPrivateKey) keyPair.getPrivate());
+        String token = token().withClaim("nonce", "n").sign(rs256);
+        String other = token().withSubject("auth0|2").sign(rs256);
+
+        IdTokenVerifier.Builder builder = IdTokenVerifier.init(ISSUER, AUDIENCE, signatureVerifier)
+                .withVerifiedTokenCache(1, Duration.ofMinutes(5))
+                .withClock(new Date(NOW));
+        IdTokenVerifier verifier = builder.build();
+        verifier.verify(token, "n");
+        verifier.verify(token, "n");
+        assertThat(keyLookups.get(), is(1));
+
+        // claims are still checked for cached tokens
+        IdTokenValidationException e =
+                assertThrows(IdTokenValidationException.class, () -> verifier.verify(token, "other"));
+        assertThat(e.getMessage(), containsString("Nonce (nonce) claim mismatch"));
+
+        // the least recently used token is evicted
+        verifier.verify(other);
+        verifier.verify(token, "n");
+        assertThat(keyLookups.get(), is(3));
+
+        // an expired token is rejected even though it was cached
+        IdTokenVerifier later =
+                builder.withClock(new Date(NOW + TimeUnit.HOURS.toMillis(2))).build();
+        assertThrows(IdTokenValidationException.class, () -> later.verify(token, "n"));
+    }
+
+    @Test
+    public void shouldValidateVerifiedTokenCacheSettings() {
+        assertThrows(IllegalArgumentException.class, () -> verifier().withVerifiedTokenCache(0, Duration.ofMinutes(1)));
+        assertThrows(IllegalArgumentException.class, () -> verifier().withVerifiedTokenCache(10, Duration.ZERO));
+    }
+}
@@ -0,0 +1,170 @@
+package com.auth0.utils.tokens;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.auth0.exception.PublicKeyProviderException;
+import java.math.BigInteger;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPublicKey;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class JwksPublicKeyProviderTest {
+    private MockWebServer server;
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+    private RSAPublicKey key1;
+    private RSAPublicKey key2;
+
+    @BeforeEach
+    public void setup() throws Exception {
+        server = new MockWebServer();
+        server.start();
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        key1 = (RSAPublicKey) generator.generateKeyPair().getPublic();
+        key2 = (RSAPublicKey) generator.generateKeyPair().getPublic();
+    }
+
+    @AfterEach
+    public void teardown() throws Exception {
+        server.shutdown();
+    }
+
+    private JwksPublicKeyProvider provider() {
+        return JwksPublicKeyProvider.newBuilder(server.url("/").toString())
+                .withClock(now::get)
+                .build();
+    }
+
+    private static String jwk(String kid, RSAPublicKey key) {
+        return String.format(
+                "{\"kty\":\"RSA\",\"use\":\"sig\",\"alg\":\"RS256\",\"kid\":\"%s\",\"n\":\"%s\",\"e\":\"%s\"}",
+                kid, base64(key.getModulus()), base64(key.getPublicExponent()));
+    }
+
+    private static String base64(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        if (bytes[0] == 0) {
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private static MockResponse jwks(String... keys) {
+        return new MockResponse()
+                .setResponseCode(200)
+                .addHeader("Content-Type", "application/json")
+                .setBody("{\"keys\":[" + String.join(",", keys) + "]}");
+    }
+
+    @Test
+    public void shouldFetchOnceAndServeKeysFromMemory() throws Exception {
+        server.enqueue(jwks(jwk("k1", key1), jwk("k2", key2)));
+        JwksPublicKeyProvider provider = provider();
+        provider.prewarm();
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(provider.getPublicKeyById("k1").getModulus(), is(key1.getModulus()));
+            assertThat(provider.getPublicKeyById("k2").getModulus(), is(key2.getModulus()));
+        }
+        assertThat(server.getRequestCount(), is(1));
+        assertThat(server.takeRequest().getPath(), is("/.well-known/jwks.json"));
+    }
+
+    @Test
+    public void shouldRefreshOnUnknownKeyIdAtMostOncePerInterval() throws Exception {
+        server.enqueue(jwks(jwk("k1", key1)));
+        server.enqueue(jwks(jwk("k1", key1), jwk("k2", key2)));
+        JwksPublicKeyProvider provider = provider();
+        provider.prewarm();
+
+        now.addAndGet(TimeUnit.SECONDS.toMillis(31));
+        assertThat(provider.getPublicKeyById("k2").getModulus(), is(key2.getModulus()));
+
+        PublicKeyProviderException e =
+                assertThrows(PublicKeyProviderException.class, () -> provider.getPublicKeyById("unknown"));
+        assertThat(e.getMessage(), containsString("fetched less than"));
+        assertThat(server.getRequestCount(), is(2));
+    }
+
+    @Test
+    public void shouldServeExpiredKeysWhileRefreshingInBackground() throws Exception {
+        server.enqueue(jwks(jwk("k1", key1)));
+        server.enqueue(jwks(jwk("k2", key2)));
+        JwksPublicKeyProvider provider = provider();
+        provider.prewarm();
+
+        now.addAndGet(TimeUnit.MINUTES.toMillis(11));
+        assertThat(provider.getPublicKeyById("k1").getModulus(), is(key1.getModulus()));
+
+        server.takeRequest();
+        server.takeRequest(5, TimeUnit.SECONDS);
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!provider.getCachedKeyIds().contains("k2") && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(provider.getCachedKeyIds().contains("k2"), is(true));
+        assertThat(provider.getCachedKeyIds().contains("k1"), is(false));
+    }
+
+    @Test
+    public void shouldShareFetchBetweenConcurrentLookups() throws Exception {
+        server.enqueue(jwks(jwk("k1", key1)).setBodyDelay(200, TimeUnit.MILLISECONDS));
+        JwksPublicKeyProvider provider = provider();
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<RSAPublicKey>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> provider.getPublicKeyById("k1")));
+            }
+            for (Future<RSAPublicKey> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS).getModulus(), is(key1.getModulus()));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(server.getRequestCount(), is(1));
+    }
+
+    @Test
+    public void shouldRetryShortlyAfterFailedFetch() throws Exception {
+        server.enqueue(new MockResponse().setResponseCode(503));
+        server.enqueue(jwks(jwk("k1", key1)));
+        JwksPublicKeyProvider provider = provider();
+
+        assertThrows(PublicKeyProviderException.class, () -> provider.getPublicKeyById("k1"));
+        PublicKeyProviderException e =
+                assertThrows(PublicKeyProviderException.class, () -> provider.getPublicKeyById("k1"));
+        assertThat(e.getMessage(), containsString("failed less than 1000 ms ago"));
+        assertThat(server.getRequestCount(), is(1));
+
+        now.addAndGet(TimeUnit.SECONDS.toMillis(1));
+        assertThat(provider.getPublicKeyById("k1").getModulus(), is(key1.getModulus()));
+        assertThat(server.getRequestCount(), is(2));
+    }
+
+    @Test
+    public void shouldFailOnErrorResponse() {
+        server.enqueue(new MockResponse().setResponseCode(404));
+        JwksPublicKeyProvider provider = provider();
+
+        PublicKeyProviderException e = assertThrows(PublicKeyProviderException.class, provider::prewarm);
+        assertThat(e.getMessage(), containsString("status code 404"));
+    }
+}